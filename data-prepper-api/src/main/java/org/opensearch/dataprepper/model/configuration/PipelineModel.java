@@ -53,6 +53,10 @@ public class PipelineModel {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private final Integer readBatchDelay;
 
+    @JsonProperty("max_in_flight_batches")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer maxInFlightBatches;
+
     /**
      * @since 2.0
      * @param source Deserialized source plugin configuration
@@ -63,6 +67,28 @@ public class PipelineModel {
      * @param workers Deserialized workers plugin configuration, nullable
      * @param delay Deserialized delay plugin configuration, nullable
      */
+    public PipelineModel(
+            final PluginModel source,
+            final PluginModel buffer,
+            final List<PluginModel> processors,
+            final List<ConditionalRoute> routes,
+            final List<SinkModel> sinks,
+            final Integer workers,
+            final Integer delay) {
+        this(source, buffer, processors, routes, sinks, workers, delay, null);
+    }
+
+    /**
+     * @since 2.5
+     * @param source Deserialized source plugin configuration
+     * @param buffer Deserialized buffer configuration
+     * @param processors Deserialized processors plugin configuration, nullable
+     * @param routes Deserialized routes configuration, nullable
+     * @param sinks Deserialized sinks plugin configuration
+     * @param workers Deserialized workers plugin configuration, nullable
+     * @param delay Deserialized delay plugin configuration, nullable
+     * @param maxInFlightBatches Deserialized maximum number of batches each worker may have in flight to the sinks, nullable
+     */
     @JsonCreator
     public PipelineModel(
             @JsonProperty("source") final PluginModel source,
@@ -71,7 +97,8 @@ public class PipelineModel {
             @JsonProperty("route")@JsonAlias("routes") final List<ConditionalRoute> routes,
             @JsonProperty("sink") final List<SinkModel> sinks,
             @JsonProperty("workers") final Integer workers,
-            @JsonProperty("delay") final Integer delay) {
+            @JsonProperty("delay") final Integer delay,
+            @JsonProperty("max_in_flight_batches") final Integer maxInFlightBatches) {
         checkArgument(Objects.nonNull(source), "Source must not be null");
         checkArgument(Objects.nonNull(sinks), "Sinks must not be null");
         checkArgument(sinks.size() > 0, "PipelineModel must include at least 1 sink");
@@ -84,6 +111,7 @@ public class PipelineModel {
         this.sinks = sinks;
         this.workers = workers;
         this.readBatchDelay = delay;
+        this.maxInFlightBatches = maxInFlightBatches;
     }
 
     public PluginModel getSource() {
@@ -111,4 +139,8 @@ public class PipelineModel {
     public Integer getReadBatchDelay() {
         return readBatchDelay;
     }
+
+    public Integer getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
 }
@@ -45,6 +45,63 @@ public interface Event extends Serializable {
      */
     <T> T get(String key, Class<T> clazz);
 
+    /**
+     * Adds or updates the key with a given value in the Event
+     *
+     * @param key   where the value will be set
+     * @param value value to set the key to
+     * @since 2.5
+     */
+    default void put(EventKey key, Object value) {
+        put(key.getKey(), value);
+    }
+
+    /**
+     * Retrieves the given key from the Event
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of the value
+     * @param <T>   The type
+     * @return T a clazz object from the key
+     * @since 2.5
+     */
+    default <T> T get(EventKey key, Class<T> clazz) {
+        return get(key.getKey(), clazz);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a String
+     *
+     * @param key the value to retrieve from
+     * @return the String value, or null if the key does not exist
+     * @since 2.5
+     */
+    default String getString(EventKey key) {
+        return get(key, String.class);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a Long
+     *
+     * @param key the value to retrieve from
+     * @return the Long value, or null if the key does not exist
+     * @since 2.5
+     */
+    default Long getLong(EventKey key) {
+        return get(key, Long.class);
+    }
+
+    /**
+     * Retrieves the given key from the Event as a Double
+     *
+     * @param key the value to retrieve from
+     * @return the Double value, or null if the key does not exist
+     * @since 2.5
+     */
+    default Double getDouble(EventKey key) {
+        return get(key, Double.class);
+    }
+
     /**
      * Retrieves the given key from the Event as a List
      *
@@ -64,6 +121,16 @@ public interface Event extends Serializable {
      */
     void delete(String key);
 
+    /**
+     * Deletes the given key from the Event
+     *
+     * @param key the field to be deleted
+     * @since 2.5
+     */
+    default void delete(EventKey key) {
+        delete(key.getKey());
+    }
+
     /**
      * Generates a serialized Json string of the entire Event
      *
@@ -98,6 +165,17 @@ public interface Event extends Serializable {
      */
     boolean containsKey(String key);
 
+    /**
+     * Checks if the key exists.
+     *
+     * @param key the key to look for
+     * @return returns true if the key exists, otherwise false
+     * @since 2.5
+     */
+    default boolean containsKey(EventKey key) {
+        return containsKey(key.getKey());
+    }
+
     /**
      * Checks if the value stored for the key is list
      *
@@ -0,0 +1,157 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import com.fasterxml.jackson.core.JsonPointer;
+
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A key into an {@link Event} which is validated and parsed once. Plugins should create an EventKey when they are
+ * configured and pass it to the {@link Event} methods which accept one, instead of passing the same String key for
+ * every event.
+ * <p>
+ * An EventKey accepts the same keys as the String methods of {@link Event}, for example "/fizz/buzz" or "fizz/buzz".
+ *
+ * @since 2.5
+ */
+public final class EventKey {
+    static final int MAX_KEY_LENGTH = 2048;
+
+    private static final String SEPARATOR = "/";
+
+    private final String key;
+    private final String trimmedKey;
+    private final String[] keyParts;
+    private final JsonPointer jsonPointer;
+    private final JsonPointer parentJsonPointer;
+    private final String leafKey;
+
+    private EventKey(final String key) {
+        checkKey(key);
+        this.key = key;
+        this.trimmedKey = trimKey(key);
+        this.keyParts = trimmedKey.split(SEPARATOR);
+        this.jsonPointer = toJsonPointer(trimmedKey);
+
+        final int index = trimmedKey.lastIndexOf(SEPARATOR);
+        if (index != -1) {
+            this.parentJsonPointer = toJsonPointer(trimmedKey.substring(0, index));
+            this.leafKey = trimmedKey.substring(index + 1);
+        } else {
+            this.parentJsonPointer = null;
+            this.leafKey = trimmedKey;
+        }
+    }
+
+    /**
+     * Creates an EventKey from a String key.
+     *
+     * @param key the key in the event
+     * @return a new EventKey
+     * @throws NullPointerException if the key is null
+     * @throws IllegalArgumentException if the key is not a valid key
+     * @since 2.5
+     */
+    public static EventKey of(final String key) {
+        return new EventKey(key);
+    }
+
+    /**
+     * @return the key which this EventKey was created from
+     * @since 2.5
+     */
+    public String getKey() {
+        return key;
+    }
+
+    String getTrimmedKey() {
+        return trimmedKey;
+    }
+
+    String[] getKeyParts() {
+        return keyParts;
+    }
+
+    JsonPointer getJsonPointer() {
+        return jsonPointer;
+    }
+
+    /**
+     * @return the pointer to the parent of the key, or null if the key is at the root of the event
+     */
+    JsonPointer getParentJsonPointer() {
+        return parentJsonPointer;
+    }
+
+    String getLeafKey() {
+        return leafKey;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        return trimmedKey.equals(((EventKey) other).trimmedKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(trimmedKey);
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+
+    static JsonPointer toJsonPointer(final String trimmedKey) {
+        return JsonPointer.compile(SEPARATOR + trimmedKey);
+    }
+
+    static void checkKey(final String key) {
+        checkNotNull(key, "key cannot be null");
+        checkArgument(!key.isEmpty(), "key cannot be an empty string");
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("key cannot be longer than " + MAX_KEY_LENGTH + " characters");
+        }
+        if (!isValidKey(key)) {
+            throw new IllegalArgumentException("key " + key + " must contain only alphanumeric chars with .-_ and must follow JsonPointer (ie. 'field/to/key')");
+        }
+    }
+
+    static String trimKey(final String key) {
+
+        final String trimmedLeadingSlash = key.startsWith(SEPARATOR) ? key.substring(1) : key;
+        return trimmedLeadingSlash.endsWith(SEPARATOR) ? trimmedLeadingSlash.substring(0, trimmedLeadingSlash.length() - 2) : trimmedLeadingSlash;
+    }
+
+    private static boolean isValidKey(final String key) {
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+
+            if (!(c >= 48 && c <= 57
+                    || c >= 65 && c <= 90
+                    || c >= 97 && c <= 122
+                    || c == '.'
+                    || c == '-'
+                    || c == '_'
+                    || c == '@'
+                    || c == '/')) {
+
+                return false;
+            }
+        }
+        return true;
+    }
+}
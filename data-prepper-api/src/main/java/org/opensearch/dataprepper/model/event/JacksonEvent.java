@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonPointer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -12,6 +13,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
@@ -25,16 +27,13 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.StringJoiner;
 
-import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -70,9 +69,15 @@ public class JacksonEvent implements Event {
 
     private EventHandle eventHandle;
 
-    private final JsonNode jsonNode;
+    private JsonNode jsonNode;
 
-    static final int MAX_KEY_LENGTH = 2048;
+    /**
+     * True while the {@link #jsonNode} may be shared with another event created by {@link #copyOnWrite()}. It is only
+     * changed together with the {@link #jsonNode} while holding the lock of this event.
+     */
+    private volatile boolean jsonNodeShared;
+
+    static final int MAX_KEY_LENGTH = EventKey.MAX_KEY_LENGTH;
 
     static final String MESSAGE_KEY = "message";
 
@@ -90,11 +95,31 @@ public class JacksonEvent implements Event {
             this.eventMetadata = builder.eventMetadata;
         }
 
-        this.jsonNode = getInitialJsonNode(builder.data);
+        this.jsonNode = builder.copyData ? getInitialJsonNode(builder.data) : (JsonNode) builder.data;
     }
 
     protected JacksonEvent(final JacksonEvent otherEvent) {
-        this.jsonNode = otherEvent.jsonNode.deepCopy();
+        this(otherEvent, false);
+    }
+
+    /**
+     * Creates a copy of another event. When the {@link JsonNode} is shared, both events copy it before they are
+     * next modified.
+     *
+     * @param otherEvent    the event to copy
+     * @param shareJsonNode true to share the {@link JsonNode} with the other event, false to copy it now
+     * @since 2.5
+     */
+    protected JacksonEvent(final JacksonEvent otherEvent, final boolean shareJsonNode) {
+        if (shareJsonNode) {
+            synchronized (otherEvent) {
+                otherEvent.jsonNodeShared = true;
+                this.jsonNode = otherEvent.jsonNode;
+            }
+            this.jsonNodeShared = true;
+        } else {
+            this.jsonNode = otherEvent.jsonNode.deepCopy();
+        }
         this.eventMetadata = DefaultEventMetadata.fromEventMetadata(otherEvent.eventMetadata);
     }
 
@@ -123,6 +148,44 @@ public class JacksonEvent implements Event {
         return jsonNode;
     }
 
+    /**
+     * Returns a parser which reads the data of this event without copying it, such as to serialize the event with a
+     * {@link com.fasterxml.jackson.core.JsonGenerator} of another format.
+     *
+     * @return a parser over the data of this event
+     * @since 2.5
+     */
+    public JsonParser traverseData() {
+        return jsonNode.traverse(mapper);
+    }
+
+    /**
+     * Creates a copy of this event which shares the same data until either event is modified. The first
+     * {@link #put(String, Object)} or {@link #delete(String)} on either event copies the data for that event, so
+     * that events which are only read, such as by sinks, never copy it. The copy does not have an
+     * {@link EventHandle}.
+     * <p>
+     * This event must not be modified by another thread while the copy is created; create all copies of an event
+     * before handing any of them to other threads.
+     *
+     * @return a copy of this event
+     * @since 2.5
+     */
+    public JacksonEvent copyOnWrite() {
+        return new JacksonEvent(this, true);
+    }
+
+    private void prepareForWrite() {
+        if (jsonNodeShared) {
+            synchronized (this) {
+                if (jsonNodeShared) {
+                    jsonNode = jsonNode.deepCopy();
+                    jsonNodeShared = false;
+                }
+            }
+        }
+    }
+
     /**
      * Adds or updates the key with a given value in the Event.
      *
@@ -135,20 +198,36 @@ public class JacksonEvent implements Event {
 
         final String trimmedKey = checkAndTrimKey(key);
 
-        final LinkedList<String> keys = new LinkedList<>(Arrays.asList(trimmedKey.split(SEPARATOR)));
+        putNode(trimmedKey.split(SEPARATOR), value);
+    }
 
+    /**
+     * Adds or updates the key with a given value in the Event, without parsing the key.
+     *
+     * @param key   where the value will be set
+     * @param value value to set the key to
+     * @since 2.5
+     */
+    @Override
+    public void put(final EventKey key, final Object value) {
+        putNode(key.getKeyParts(), value);
+    }
+
+    private void putNode(final String[] keyParts, final Object value) {
+        if (keyParts.length == 0) {
+            return;
+        }
+
+        prepareForWrite();
         JsonNode parentNode = jsonNode;
 
-        while (!keys.isEmpty()) {
-            if (keys.size() == 1) {
-                setNode(parentNode, keys.removeFirst(), value);
-            } else {
-                final String childKey = keys.removeFirst();
-                if (!childKey.isEmpty()) {
-                    parentNode = getOrCreateNode(parentNode, childKey);
-                }
+        final int leafIndex = keyParts.length - 1;
+        for (int i = 0; i < leafIndex; i++) {
+            if (!keyParts[i].isEmpty()) {
+                parentNode = getOrCreateNode(parentNode, keyParts[i]);
             }
         }
+        setNode(parentNode, keyParts[leafIndex], value);
     }
 
     public void setEventHandle(EventHandle handle) {
@@ -161,7 +240,7 @@ public class JacksonEvent implements Event {
     }
 
     private void setNode(final JsonNode parentNode, final String leafKey, final Object value) {
-        final JsonNode valueNode = mapper.valueToTree(value);
+        final JsonNode valueNode = toJsonNode(value);
         if (StringUtils.isNumeric(leafKey)) {
             ((ArrayNode) parentNode).set(Integer.parseInt(leafKey), valueNode);
         } else {
@@ -169,6 +248,29 @@ public class JacksonEvent implements Event {
         }
     }
 
+    /**
+     * Converts common scalar values directly to their nodes, which is what {@link ObjectMapper#valueToTree(Object)}
+     * produces for them, without going through a serializer.
+     *
+     * @param value the value to convert
+     * @return the node of the value
+     * @since 2.5
+     */
+    protected static JsonNode toJsonNode(final Object value) {
+        if (value instanceof String) {
+            return JsonNodeFactory.instance.textNode((String) value);
+        } else if (value instanceof Integer) {
+            return JsonNodeFactory.instance.numberNode((Integer) value);
+        } else if (value instanceof Long) {
+            return JsonNodeFactory.instance.numberNode((Long) value);
+        } else if (value instanceof Double) {
+            return JsonNodeFactory.instance.numberNode((Double) value);
+        } else if (value instanceof Boolean) {
+            return JsonNodeFactory.instance.booleanNode((Boolean) value);
+        }
+        return mapper.valueToTree(value);
+    }
+
     private JsonNode getOrCreateNode(final JsonNode node, final String key) {
         JsonNode childNode = node.get(key);
         if (childNode == null) {
@@ -200,12 +302,93 @@ public class JacksonEvent implements Event {
         return mapNodeToObject(key, node, clazz);
     }
 
+    /**
+     * Retrieves the value of type clazz from the key, without parsing the key.
+     *
+     * @param key   the value to retrieve from
+     * @param clazz the return type of the value
+     * @return the value
+     * @throws RuntimeException if it is unable to map the value to the provided clazz
+     * @since 2.5
+     */
+    @Override
+    public <T> T get(final EventKey key, final Class<T> clazz) {
+        final JsonNode node = jsonNode.at(key.getJsonPointer());
+        if (node.isMissingNode()) {
+            return null;
+        }
+
+        return mapNodeToObject(key.getKey(), node, clazz);
+    }
+
+    /**
+     * Retrieves the value for the key as a String. Text values are read directly from the node.
+     *
+     * @param key the value to retrieve from
+     * @return the String value, or null if the key does not exist or is null
+     * @since 2.5
+     */
+    @Override
+    public String getString(final EventKey key) {
+        final JsonNode node = jsonNode.at(key.getJsonPointer());
+        if (node.isTextual()) {
+            return node.textValue();
+        } else if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        return mapNodeToObject(key.getKey(), node, String.class);
+    }
+
+    /**
+     * Retrieves the value for the key as a Long. Integral values are read directly from the node.
+     *
+     * @param key the value to retrieve from
+     * @return the Long value, or null if the key does not exist or is null
+     * @since 2.5
+     */
+    @Override
+    public Long getLong(final EventKey key) {
+        final JsonNode node = jsonNode.at(key.getJsonPointer());
+        if (node.isIntegralNumber() && node.canConvertToLong()) {
+            return node.longValue();
+        } else if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        return mapNodeToObject(key.getKey(), node, Long.class);
+    }
+
+    /**
+     * Retrieves the value for the key as a Double. Numeric values are read directly from the node.
+     *
+     * @param key the value to retrieve from
+     * @return the Double value, or null if the key does not exist or is null
+     * @since 2.5
+     */
+    @Override
+    public Double getDouble(final EventKey key) {
+        final JsonNode node = jsonNode.at(key.getJsonPointer());
+        if (node.isNumber()) {
+            return node.doubleValue();
+        } else if (node.isMissingNode() || node.isNull()) {
+            return null;
+        }
+        return mapNodeToObject(key.getKey(), node, Double.class);
+    }
+
     private JsonNode getNode(final String key) {
         final JsonPointer jsonPointer = toJsonPointer(key);
         return jsonNode.at(jsonPointer);
     }
 
+    /**
+     * Maps the node to the given class. A container node which is requested as a {@link JsonNode} type is copied, because
+     * the node of this event may be shared with other events created by {@link #copyOnWrite()}, and changes to the
+     * returned node must not reach them or this event. A request for {@link Object} still maps the node to Java types.
+     */
     private <T> T mapNodeToObject(final String key, final JsonNode node, final Class<T> clazz) {
+        if (node.isContainerNode() && clazz != Object.class && JsonNode.class.isAssignableFrom(clazz)) {
+            return clazz.cast(node.deepCopy());
+        }
         try {
             return mapper.treeToValue(node, clazz);
         } catch (final JsonProcessingException e) {
@@ -247,8 +430,7 @@ public class JacksonEvent implements Event {
     }
 
     private JsonPointer toJsonPointer(final String key) {
-        String jsonPointerExpression = SEPARATOR + key;
-        return JsonPointer.compile(jsonPointerExpression);
+        return EventKey.toJsonPointer(key);
     }
 
     /**
@@ -262,6 +444,8 @@ public class JacksonEvent implements Event {
         final String trimmedKey = checkAndTrimKey(key);
         final int index = trimmedKey.lastIndexOf(SEPARATOR);
 
+        prepareForWrite();
+
         JsonNode baseNode = jsonNode;
         String leafKey = trimmedKey;
 
@@ -276,6 +460,22 @@ public class JacksonEvent implements Event {
         }
     }
 
+    /**
+     * Deletes the key from the event, without parsing the key.
+     *
+     * @param key the field to be deleted
+     * @since 2.5
+     */
+    @Override
+    public void delete(final EventKey key) {
+        prepareForWrite();
+        final JsonNode baseNode = key.getParentJsonPointer() == null ? jsonNode : jsonNode.at(key.getParentJsonPointer());
+
+        if (!baseNode.isMissingNode()) {
+            ((ObjectNode) baseNode).remove(key.getLeafKey());
+        }
+    }
+
     @Override
     public String toJsonString() {
         return jsonNode.toString();
@@ -368,6 +568,11 @@ public class JacksonEvent implements Event {
         return !node.isMissingNode();
     }
 
+    @Override
+    public boolean containsKey(final EventKey key) {
+        return !jsonNode.at(key.getJsonPointer()).isMissingNode();
+    }
+
     @Override
     public boolean isValueAList(final String key) {
         final String trimmedKey = checkAndTrimKey(key);
@@ -388,39 +593,11 @@ public class JacksonEvent implements Event {
     }
 
     private void checkKey(final String key) {
-        checkNotNull(key, "key cannot be null");
-        checkArgument(!key.isEmpty(), "key cannot be an empty string");
-        if (key.length() > MAX_KEY_LENGTH) {
-            throw new IllegalArgumentException("key cannot be longer than " + MAX_KEY_LENGTH + " characters");
-        }
-        if (!isValidKey(key)) {
-            throw new IllegalArgumentException("key " + key + " must contain only alphanumeric chars with .-_ and must follow JsonPointer (ie. 'field/to/key')");
-        }
+        EventKey.checkKey(key);
     }
 
     private String trimKey(final String key) {
-
-        final String trimmedLeadingSlash = key.startsWith(SEPARATOR) ? key.substring(1) : key;
-        return trimmedLeadingSlash.endsWith(SEPARATOR) ? trimmedLeadingSlash.substring(0, trimmedLeadingSlash.length() - 2) : trimmedLeadingSlash;
-    }
-
-    private boolean isValidKey(final String key) {
-        for (int i = 0; i < key.length(); i++) {
-            char c = key.charAt(i);
-
-            if (!(c >= 48 && c <= 57
-                    || c >= 65 && c <= 90
-                    || c >= 97 && c <= 122
-                    || c == '.'
-                    || c == '-'
-                    || c == '_'
-                    || c == '@'
-                    || c == '/')) {
-
-                return false;
-            }
-        }
-        return true;
+        return EventKey.trimKey(key);
     }
 
     /**
@@ -462,6 +639,7 @@ public class JacksonEvent implements Event {
 
         private EventMetadata eventMetadata;
         private Object data;
+        private boolean copyData = true;
         private String eventType;
         private Instant timeReceived;
         private Map<String, Object> eventMetadataAttributes;
@@ -525,6 +703,22 @@ public class JacksonEvent implements Event {
          */
         public Builder<T> withData(final Object data) {
             this.data = data;
+            this.copyData = true;
+            return this;
+        }
+
+        /**
+         * Sets the data of the event to a {@link JsonNode} which the event uses directly instead of copying it. This
+         * is only for nodes which nothing else references, such as nodes just decoded by a codec; the caller must not
+         * keep or modify the node afterwards.
+         *
+         * @param data the data
+         * @return returns the builder
+         * @since 2.5
+         */
+        public Builder<T> withUncopiedData(final JsonNode data) {
+            this.data = checkNotNull(data, "data cannot be null");
+            this.copyData = false;
             return this;
         }
 
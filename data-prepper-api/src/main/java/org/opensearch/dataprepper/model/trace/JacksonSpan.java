@@ -9,6 +9,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.opensearch.dataprepper.model.event.EventMetadata;
@@ -72,6 +73,21 @@ public class JacksonSpan extends JacksonEvent implements Span {
         super(otherSpan);
     }
 
+    private JacksonSpan(final JacksonSpan otherSpan, final boolean shareJsonNode) {
+        super(otherSpan, shareJsonNode);
+    }
+
+    /**
+     * Creates a copy of this span which shares the same data until either span is modified.
+     *
+     * @return a copy of this span
+     * @since 2.5
+     */
+    @Override
+    public JacksonSpan copyOnWrite() {
+        return new JacksonSpan(this, true);
+    }
+
     @Override
     public String getTraceId() {
         return this.get(TRACE_ID_KEY, String.class);
@@ -212,6 +228,7 @@ public class JacksonSpan extends JacksonEvent implements Span {
     public static class Builder extends JacksonEvent.Builder<Builder> {
 
         private final Map<String, Object> data;
+        private ObjectNode uncopiedData;
 
         public Builder() {
             data = new HashMap();
@@ -251,6 +268,25 @@ public class JacksonSpan extends JacksonEvent implements Span {
             return this;
         }
 
+        /**
+         * Sets the data of the event to an {@link ObjectNode} which the span uses directly instead of copying it. The
+         * required fields are validated on the node when the span is built, and fields which are set on this builder
+         * are added to the node. The caller must not keep or modify the node afterwards.
+         *
+         * @param data the data
+         * @return returns the builder
+         * @since 2.5
+         */
+        @Override
+        public Builder withUncopiedData(final JsonNode data) {
+            checkNotNull(data, "data cannot be null");
+            if (!data.isObject()) {
+                return withData(data);
+            }
+            uncopiedData = (ObjectNode) data;
+            return this;
+        }
+
         /**
          * Sets the metadata.
          *
@@ -372,6 +408,20 @@ public class JacksonSpan extends JacksonEvent implements Span {
             return this;
         }
 
+        /**
+         * Optional - sets the attributes for {@link JacksonSpan} from a node which was already built, for example
+         * while decoding the span. The node becomes part of the span without being copied, so the caller must not
+         * modify it afterwards.
+         *
+         * @param attributes the attributes to associate with this event.
+         * @return returns the builder
+         * @since 2.5
+         */
+        public Builder withAttributesNode(final ObjectNode attributes) {
+            data.put(ATTRIBUTES_KEY, attributes);
+            return this;
+        }
+
         /**
          * Optional - sets the dropped attribute count for {@link JacksonSpan}. Default is 0.
          *
@@ -488,9 +538,17 @@ public class JacksonSpan extends JacksonEvent implements Span {
          */
         @Override
         public JacksonSpan build() {
+            if (uncopiedData != null) {
+                setFields(uncopiedData, data);
+                validateParameters(uncopiedData);
+                checkAndSetDefaultValues(uncopiedData);
+                super.withUncopiedData(uncopiedData);
+                this.withEventType(EventType.TRACE.toString());
+                return new JacksonSpan(this);
+            }
             validateParameters();
             checkAndSetDefaultValues();
-            super.withData(data);
+            super.withUncopiedData(toObjectNode(data));
             this.withEventType(EventType.TRACE.toString());
             return new JacksonSpan(this);
         }
@@ -512,6 +570,47 @@ public class JacksonSpan extends JacksonEvent implements Span {
             });
         }
 
+        private static void validateParameters(final ObjectNode node) {
+            REQUIRED_KEYS.forEach(key -> {
+                checkState(node.has(key), key + " need to be assigned");
+            });
+
+            REQUIRED_NON_EMPTY_KEYS.forEach(key -> {
+                final JsonNode value = checkNotNull(getNonNull(node, key), key + " cannot be null");
+                checkArgument(!value.asText().isEmpty(), key + " cannot be an empty string");
+            });
+
+            REQUIRED_NON_NULL_KEYS.forEach(key -> {
+                checkNotNull(getNonNull(node, key), key + " cannot be null");
+            });
+        }
+
+        private static JsonNode getNonNull(final ObjectNode node, final String key) {
+            final JsonNode value = node.get(key);
+            return value == null || value.isNull() ? null : value;
+        }
+
+        private static void checkAndSetDefaultValues(final ObjectNode node) {
+            if (!node.hasNonNull(ATTRIBUTES_KEY)) {
+                node.putObject(ATTRIBUTES_KEY);
+            }
+            if (!node.hasNonNull(DROPPED_ATTRIBUTES_COUNT_KEY)) {
+                node.put(DROPPED_ATTRIBUTES_COUNT_KEY, 0);
+            }
+            if (!node.hasNonNull(LINKS_KEY)) {
+                node.putArray(LINKS_KEY);
+            }
+            if (!node.hasNonNull(DROPPED_LINKS_COUNT_KEY)) {
+                node.put(DROPPED_LINKS_COUNT_KEY, 0);
+            }
+            if (!node.hasNonNull(EVENTS_KEY)) {
+                node.putArray(EVENTS_KEY);
+            }
+            if (!node.hasNonNull(DROPPED_EVENTS_COUNT_KEY)) {
+                node.put(DROPPED_EVENTS_COUNT_KEY, 0);
+            }
+        }
+
         private void checkAndSetDefaultValues() {
             data.computeIfAbsent(ATTRIBUTES_KEY, k -> new HashMap<>());
             data.putIfAbsent(DROPPED_ATTRIBUTES_COUNT_KEY, 0);
@@ -521,5 +620,28 @@ public class JacksonSpan extends JacksonEvent implements Span {
             data.putIfAbsent(DROPPED_EVENTS_COUNT_KEY, 0);
         }
 
+        /**
+         * Builds the root node of the span field by field, so that nodes which were already built, such as the
+         * attributes, are not serialized and parsed again.
+         */
+        private static ObjectNode toObjectNode(final Map<String, Object> data) {
+            final ObjectNode root = JsonNodeFactory.instance.objectNode();
+            setFields(root, data);
+            return root;
+        }
+
+        private static void setFields(final ObjectNode root, final Map<String, Object> data) {
+            for (final Map.Entry<String, Object> entry : data.entrySet()) {
+                final Object value = entry.getValue();
+                if (value == null) {
+                    root.putNull(entry.getKey());
+                } else if (value instanceof JsonNode) {
+                    root.set(entry.getKey(), (JsonNode) value);
+                } else {
+                    root.set(entry.getKey(), toJsonNode(value));
+                }
+            }
+        }
+
     }
 }
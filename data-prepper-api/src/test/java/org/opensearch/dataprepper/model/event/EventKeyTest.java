@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.apache.commons.lang3.RandomStringUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EventKeyTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "foo, foo, foo",
+            "/foo, foo, foo",
+            "foo/bar, foo/bar, bar",
+            "/foo/bar/baz, foo/bar/baz, baz"
+    })
+    void of_parses_the_key(final String key, final String expectedTrimmedKey, final String expectedLeafKey) {
+        final EventKey eventKey = EventKey.of(key);
+
+        assertThat(eventKey.getKey(), equalTo(key));
+        assertThat(eventKey.toString(), equalTo(key));
+        assertThat(eventKey.getTrimmedKey(), equalTo(expectedTrimmedKey));
+        assertThat(eventKey.getKeyParts(), equalTo(expectedTrimmedKey.split("/")));
+        assertThat(eventKey.getJsonPointer().toString(), equalTo("/" + expectedTrimmedKey));
+        assertThat(eventKey.getLeafKey(), equalTo(expectedLeafKey));
+    }
+
+    @Test
+    void getParentJsonPointer_is_null_for_a_root_key() {
+        assertThat(EventKey.of("foo").getParentJsonPointer(), nullValue());
+    }
+
+    @Test
+    void getParentJsonPointer_points_to_the_parent_of_a_nested_key() {
+        assertThat(EventKey.of("foo/bar/baz").getParentJsonPointer().toString(), equalTo("/foo/bar"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "withSpecialChars*$%", "\\-withEscapeChars", "\\\\/withMultipleEscapeChars",
+            "with,Comma", "with:Colon", "with[Bracket", "with|Brace"})
+    void of_with_invalid_key_throws(final String invalidKey) {
+        assertThrows(IllegalArgumentException.class, () -> EventKey.of(invalidKey));
+    }
+
+    @Test
+    void of_with_key_longer_than_max_length_throws() {
+        final String invalidLengthKey = RandomStringUtils.randomAlphabetic(EventKey.MAX_KEY_LENGTH + 1);
+        assertThrows(IllegalArgumentException.class, () -> EventKey.of(invalidLengthKey));
+    }
+
+    @Test
+    void of_with_null_key_throws() {
+        assertThrows(NullPointerException.class, () -> EventKey.of(null));
+    }
+
+    @Test
+    void equals_and_hashCode_use_the_trimmed_key() {
+        final EventKey eventKey = EventKey.of("foo/bar");
+
+        assertThat(eventKey.equals(eventKey), is(true));
+        assertThat(eventKey, equalTo(EventKey.of("/foo/bar")));
+        assertThat(eventKey.hashCode(), equalTo(EventKey.of("/foo/bar").hashCode()));
+        assertThat(eventKey, not(equalTo(EventKey.of("foo/baz"))));
+        assertThat(eventKey.equals(null), is(false));
+        assertThat(eventKey.equals("foo/bar"), is(false));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventTest {
+    private Event event;
+    private String key;
+    private EventKey eventKey;
+
+    @BeforeEach
+    void setUp() {
+        event = mock(Event.class, CALLS_REAL_METHODS);
+        key = UUID.randomUUID().toString();
+        eventKey = EventKey.of(key);
+    }
+
+    @Test
+    void put_with_EventKey_calls_put_with_String_key() {
+        final Object value = UUID.randomUUID();
+
+        event.put(eventKey, value);
+
+        verify(event).put(key, value);
+    }
+
+    @Test
+    void get_with_EventKey_calls_get_with_String_key() {
+        final String value = UUID.randomUUID().toString();
+        when(event.get(key, String.class)).thenReturn(value);
+
+        assertThat(event.get(eventKey, String.class), equalTo(value));
+    }
+
+    @Test
+    void typed_getters_call_get_with_String_key() {
+        final String stringValue = UUID.randomUUID().toString();
+        when(event.get(key, String.class)).thenReturn(stringValue);
+        when(event.get(key, Long.class)).thenReturn(42L);
+        when(event.get(key, Double.class)).thenReturn(4.2);
+
+        assertThat(event.getString(eventKey), equalTo(stringValue));
+        assertThat(event.getLong(eventKey), equalTo(42L));
+        assertThat(event.getDouble(eventKey), equalTo(4.2));
+    }
+
+    @Test
+    void delete_with_EventKey_calls_delete_with_String_key() {
+        event.delete(eventKey);
+
+        verify(event).delete(key);
+    }
+
+    @Test
+    void containsKey_with_EventKey_calls_containsKey_with_String_key() {
+        when(event.containsKey(key)).thenReturn(true);
+
+        assertThat(event.containsKey(eventKey), equalTo(true));
+    }
+}
@@ -5,6 +5,10 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +18,8 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 
+import java.io.IOException;
+import java.math.BigInteger;
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
@@ -324,6 +330,175 @@ public class JacksonEventTest {
         assertThat(event.isValueAList(key), is(false));
     }
 
+    @ParameterizedTest
+    @ValueSource(strings = {"foo", "foo-bar", "foo_bar", "foo.bar", "/foo", "/foo/", "a1K.k3-01_02", "foo/bar", "/foo/bar/baz"})
+    void testPutAndGet_withEventKey(final String key) {
+        final EventKey eventKey = EventKey.of(key);
+        final UUID value = UUID.randomUUID();
+
+        event.put(eventKey, value);
+
+        assertThat(event.get(eventKey, UUID.class), is(equalTo(value)));
+        assertThat(event.get(key, UUID.class), is(equalTo(value)));
+        assertThat(event.containsKey(eventKey), is(true));
+    }
+
+    @Test
+    void testPut_withStringKey_andGet_withEventKey() {
+        final String key = "foo/bar";
+        final UUID value = UUID.randomUUID();
+
+        event.put(key, value);
+
+        assertThat(event.get(EventKey.of(key), UUID.class), is(equalTo(value)));
+    }
+
+    @Test
+    void testPut_withKeyWithoutParts_doesNotChangeTheEvent() {
+        final String key = "///a/";
+        final String before = event.toJsonString();
+
+        event.put(key, UUID.randomUUID());
+        event.put(EventKey.of(key), UUID.randomUUID());
+
+        assertThat(event.toJsonString(), is(equalTo(before)));
+    }
+
+    @Test
+    void testGet_withEventKey_missingKey() {
+        final EventKey eventKey = EventKey.of("foo/bar");
+
+        assertThat(event.get(eventKey, String.class), is(nullValue()));
+        assertThat(event.getString(eventKey), is(nullValue()));
+        assertThat(event.getLong(eventKey), is(nullValue()));
+        assertThat(event.getDouble(eventKey), is(nullValue()));
+        assertThat(event.containsKey(eventKey), is(false));
+    }
+
+    @Test
+    void testTypedGetters_withNullValue() {
+        final EventKey eventKey = EventKey.of("foo");
+        event.put(eventKey, null);
+
+        assertThat(event.containsKey(eventKey), is(true));
+        assertThat(event.getString(eventKey), is(nullValue()));
+        assertThat(event.getLong(eventKey), is(nullValue()));
+        assertThat(event.getDouble(eventKey), is(nullValue()));
+    }
+
+    @Test
+    void testGetString_withEventKey() {
+        final EventKey eventKey = EventKey.of("foo/bar");
+        final String value = UUID.randomUUID().toString();
+        event.put(eventKey, value);
+
+        assertThat(event.getString(eventKey), is(equalTo(value)));
+    }
+
+    @Test
+    void testGetString_withEventKey_forNonTextValue() {
+        final EventKey eventKey = EventKey.of("foo");
+        event.put(eventKey, 42);
+
+        assertThat(event.getString(eventKey), is(equalTo("42")));
+    }
+
+    @Test
+    void testGetLong_withEventKey() {
+        final EventKey intKey = EventKey.of("int");
+        final EventKey longKey = EventKey.of("long");
+        event.put(intKey, 42);
+        event.put(longKey, Long.MAX_VALUE);
+
+        assertThat(event.getLong(intKey), is(equalTo(42L)));
+        assertThat(event.getLong(longKey), is(equalTo(Long.MAX_VALUE)));
+        assertThat(event.get(longKey, Long.class), is(equalTo(Long.MAX_VALUE)));
+    }
+
+    @Test
+    void testGetLong_withEventKey_forNonIntegralValues() {
+        final EventKey textKey = EventKey.of("text");
+        final EventKey doubleKey = EventKey.of("double");
+        event.put(textKey, "12");
+        event.put(doubleKey, 1.5);
+
+        assertThat(event.getLong(textKey), is(equalTo(12L)));
+        assertThat(event.getLong(doubleKey), is(equalTo(1L)));
+    }
+
+    @Test
+    void testGetLong_withEventKey_forValueTooLargeForLong_throws() {
+        final EventKey eventKey = EventKey.of("foo");
+        event.put(eventKey, BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE));
+
+        assertThrows(RuntimeException.class, () -> event.getLong(eventKey));
+    }
+
+    @Test
+    void testGetDouble_withEventKey() {
+        final EventKey doubleKey = EventKey.of("double");
+        final EventKey intKey = EventKey.of("int");
+        final EventKey textKey = EventKey.of("text");
+        event.put(doubleKey, 1.5);
+        event.put(intKey, 2);
+        event.put(textKey, "2.5");
+
+        assertThat(event.getDouble(doubleKey), is(equalTo(1.5)));
+        assertThat(event.getDouble(intKey), is(equalTo(2.0)));
+        assertThat(event.getDouble(textKey), is(equalTo(2.5)));
+    }
+
+    @Test
+    void testPut_withScalarValues_matchesPutOfMap() {
+        final Map<String, Object> data = new HashMap<>();
+        data.put("string", UUID.randomUUID().toString());
+        data.put("int", 1);
+        data.put("long", Long.MAX_VALUE);
+        data.put("double", 2.5);
+        data.put("boolean", true);
+
+        for (final Map.Entry<String, Object> entry : data.entrySet()) {
+            event.put(EventKey.of(entry.getKey()), entry.getValue());
+        }
+
+        final Event expectedEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(data)
+                .build();
+        assertThat(event.toMap(), is(equalTo(expectedEvent.toMap())));
+        assertThat(event.get(EventKey.of("boolean"), Boolean.class), is(true));
+    }
+
+    @Test
+    void testDelete_withEventKey() {
+        final EventKey eventKey = EventKey.of("foo");
+        event.put(eventKey, UUID.randomUUID());
+
+        event.delete(eventKey);
+
+        assertThat(event.containsKey(eventKey), is(false));
+    }
+
+    @Test
+    void testDelete_withNestedEventKey() {
+        final EventKey eventKey = EventKey.of("foo/bar");
+        event.put(eventKey, UUID.randomUUID());
+
+        event.delete(eventKey);
+
+        assertThat(event.containsKey(eventKey), is(false));
+        assertThat(event.containsKey(EventKey.of("foo")), is(true));
+    }
+
+    @Test
+    void testDelete_withNonexistentEventKey() {
+        final EventKey eventKey = EventKey.of("foo/bar");
+
+        event.delete(eventKey);
+
+        assertThat(event.containsKey(eventKey), is(false));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"", "withSpecialChars*$%", "\\-withEscapeChars", "\\\\/withMultipleEscapeChars",
             "with,Comma", "with:Colon", "with[Bracket", "with|Brace"})
@@ -632,6 +807,143 @@ public class JacksonEventTest {
         assertThat(createdEvent.getMetadata(), equalTo(originalEvent.getMetadata()));
     }
 
+    @Test
+    void copyOnWrite_shares_the_JsonNode_until_modified() {
+        final Map<String, Object> dataObject = createComplexDataMap();
+
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(dataObject)
+                .build();
+
+        final JacksonEvent copiedEvent = originalEvent.copyOnWrite();
+
+        assertThat(copiedEvent, not(sameInstance(originalEvent)));
+        assertThat(copiedEvent.getJsonNode(), sameInstance(originalEvent.getJsonNode()));
+        assertThat(copiedEvent.toMap(), equalTo(dataObject));
+        assertThat(copiedEvent.getEventHandle(), nullValue());
+        assertThat(copiedEvent.getMetadata(), not(sameInstance(originalEvent.getMetadata())));
+        assertThat(copiedEvent.getMetadata(), equalTo(originalEvent.getMetadata()));
+
+        final String key = UUID.randomUUID().toString();
+        copiedEvent.put(key, UUID.randomUUID().toString());
+
+        assertThat(copiedEvent.getJsonNode(), not(sameInstance(originalEvent.getJsonNode())));
+        assertThat(copiedEvent.containsKey(key), is(true));
+        assertThat(originalEvent.containsKey(key), is(false));
+        assertThat(originalEvent.toMap(), equalTo(dataObject));
+    }
+
+    @Test
+    void copyOnWrite_copies_the_JsonNode_when_the_original_is_modified() {
+        final Map<String, Object> dataObject = createComplexDataMap();
+        final String existingKey = dataObject.keySet().iterator().next();
+
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(dataObject)
+                .build();
+
+        final JacksonEvent copiedEvent = originalEvent.copyOnWrite();
+
+        originalEvent.delete(existingKey);
+
+        assertThat(originalEvent.containsKey(existingKey), is(false));
+        assertThat(copiedEvent.toMap(), equalTo(dataObject));
+
+        final JsonNode originalJsonNode = originalEvent.getJsonNode();
+        originalEvent.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        assertThat(originalEvent.getJsonNode(), sameInstance(originalJsonNode));
+    }
+
+    @Test
+    void copyOnWrite_get_of_a_JsonNode_returns_a_copy_which_does_not_change_the_events() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("nested", Map.of("foo", "bar")))
+                .build();
+        final JacksonEvent copiedEvent = originalEvent.copyOnWrite();
+
+        final ObjectNode nestedNode = (ObjectNode) copiedEvent.get("nested", JsonNode.class);
+        nestedNode.put("foo", "modified");
+        final ObjectNode nestedObjectNode = originalEvent.get(EventKey.of("nested"), ObjectNode.class);
+        nestedObjectNode.put("foo", "modified");
+
+        assertThat(nestedNode, not(sameInstance(originalEvent.getJsonNode().get("nested"))));
+        assertThat(copiedEvent.get("nested/foo", String.class), equalTo("bar"));
+        assertThat(originalEvent.get("nested/foo", String.class), equalTo("bar"));
+    }
+
+    @Test
+    void get_of_a_nested_object_as_an_Object_returns_a_Map() {
+        final JacksonEvent event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("nested", Map.of("foo", "bar")))
+                .build();
+
+        assertThat(event.get("nested", Object.class), equalTo(Map.of("foo", "bar")));
+        assertThat(event.get(EventKey.of("nested"), Object.class), equalTo(Map.of("foo", "bar")));
+    }
+
+    @Test
+    void testBuild_withJsonNodeData_copies_the_node() {
+        final ObjectNode jsonNode = new ObjectMapper().createObjectNode();
+        jsonNode.put("foo", "bar");
+
+        final JacksonEvent event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(jsonNode)
+                .build();
+        jsonNode.put("foo", "modified");
+
+        assertThat(event.getJsonNode(), not(sameInstance(jsonNode)));
+        assertThat(event.get("foo", String.class), equalTo("bar"));
+    }
+
+    @Test
+    void testBuild_withUncopiedData_uses_the_node_without_copying_it() {
+        final ObjectNode jsonNode = new ObjectMapper().createObjectNode();
+        jsonNode.put("foo", "bar");
+
+        final JacksonEvent event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withUncopiedData(jsonNode)
+                .build();
+
+        assertThat(event.getJsonNode(), sameInstance(jsonNode));
+        assertThat(event.get("foo", String.class), equalTo("bar"));
+    }
+
+    @Test
+    void traverseData_reads_the_data_of_the_event() throws IOException {
+        final Map<String, Object> dataObject = createComplexDataMap();
+        final JacksonEvent event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(dataObject)
+                .build();
+
+        try (final JsonParser parser = event.traverseData()) {
+            assertThat(new ObjectMapper().readValue(parser, Map.class), equalTo(event.toMap()));
+        }
+    }
+
+    @Test
+    void copyOnWrite_copies_the_JsonNode_when_deleting_with_an_EventKey() {
+        final Map<String, Object> dataObject = createComplexDataMap();
+        final String existingKey = dataObject.keySet().iterator().next();
+
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(dataObject)
+                .build();
+
+        final JacksonEvent copiedEvent = originalEvent.copyOnWrite();
+        copiedEvent.delete(EventKey.of(existingKey));
+
+        assertThat(copiedEvent.containsKey(existingKey), is(false));
+        assertThat(originalEvent.toMap(), equalTo(dataObject));
+    }
+
     @Test
     void fromEvent_with_a_non_JacksonEvent() {
         final Map<String, Object> dataObject = createComplexDataMap();
@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.model.trace;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -175,6 +176,22 @@ public class JacksonSpanTest {
         );
     }
 
+    @Test
+    public void testGetAttributes_withAttributesNode() {
+        final ObjectNode attributesNode = mapper.createObjectNode();
+        attributesNode.put("key1", 1L);
+        attributesNode.put("key2", UUID.randomUUID().toString());
+
+        final JacksonSpan result = builder.withAttributesNode(attributesNode).build();
+
+        assertThat(result.getAttributes(), is(equalTo(mapper.convertValue(attributesNode, Map.class))));
+        final Map<String, Object> resultWithoutAttributes = result.toMap();
+        resultWithoutAttributes.remove("attributes");
+        final Map<String, Object> expectedWithoutAttributes = jacksonSpan.toMap();
+        expectedWithoutAttributes.remove("attributes");
+        assertThat(resultWithoutAttributes, is(equalTo(expectedWithoutAttributes)));
+    }
+
     @Test
     public void testGetDroppedAttributesCount() {
         final Integer droppedAttributesCount = jacksonSpan.getDroppedAttributesCount();
@@ -232,6 +249,20 @@ public class JacksonSpanTest {
         assertThat(traceGroup, is(equalTo(testTraceGroup)));
     }
 
+    @Test
+    public void testCopyOnWrite_sharesDataUntilModified() {
+        final String originalTraceGroup = jacksonSpan.getTraceGroup();
+        final JacksonSpan copy = jacksonSpan.copyOnWrite();
+
+        assertThat(copy, not(sameInstance(jacksonSpan)));
+        assertThat(copy.toMap(), is(equalTo(jacksonSpan.toMap())));
+
+        copy.setTraceGroup(UUID.randomUUID().toString());
+
+        assertThat(jacksonSpan.getTraceGroup(), is(equalTo(originalTraceGroup)));
+        assertThat(copy.getTraceGroup(), not(equalTo(originalTraceGroup)));
+    }
+
     @Test
     public void testSetAndGetTraceGroupFields() {
         final TraceGroupFields testTraceGroupFields = DefaultTraceGroupFields.builder()
@@ -688,6 +719,71 @@ public class JacksonSpanTest {
             assertThat(jacksonSpan.toMap().get("endTime"), equalTo(endTime));
             assertThat(jacksonSpan.toMap().get("durationInNanos"), equalTo(durationInNanos));
         }
+
+        @Test
+        void testBuilder_withUncopiedData_creates_a_span_from_the_node() throws JsonProcessingException {
+            final ObjectNode data = (ObjectNode) new ObjectMapper().readTree(createJsonData());
+
+            final JacksonSpan jacksonSpan = JacksonSpan.builder()
+                    .withUncopiedData(data)
+                    .withServiceName(TEST_SERVICE_NAME)
+                    .build();
+
+            assertThat(jacksonSpan.getTraceId(), equalTo("414243"));
+            assertThat(jacksonSpan.getServiceName(), equalTo(TEST_SERVICE_NAME));
+            assertThat(jacksonSpan.getAttributes(), equalTo(new HashMap<>()));
+            assertThat(jacksonSpan.getLinks(), equalTo(new LinkedList<>()));
+            assertThat(jacksonSpan.getDroppedEventsCount(), equalTo(0));
+
+        }
+
+        @Test
+        void testBuilder_withUncopiedData_missingTraceGroupKey_throwsIllegalStateException() throws JsonProcessingException {
+            final ObjectNode data = (ObjectNode) new ObjectMapper().readTree(createJsonData());
+            data.remove("traceGroup");
+            final JacksonSpan.Builder builder = JacksonSpan.builder()
+                    .withUncopiedData(data);
+
+            assertThrows(IllegalStateException.class, builder::build);
+        }
+
+        @Test
+        void testBuilder_withUncopiedData_with_empty_string_for_non_empty_key_throwsIllegalArgumentException() throws JsonProcessingException {
+            final ObjectNode data = (ObjectNode) new ObjectMapper().readTree(createJsonData());
+            data.put("spanId", "");
+            final JacksonSpan.Builder builder = JacksonSpan.builder()
+                    .withUncopiedData(data);
+
+            assertThrows(IllegalArgumentException.class, builder::build);
+        }
+
+        @Test
+        void testBuilder_withUncopiedData_with_null_non_null_key_throwsNullPointerException() throws JsonProcessingException {
+            final ObjectNode data = (ObjectNode) new ObjectMapper().readTree(createJsonData());
+            data.putNull("traceGroupFields");
+            final JacksonSpan.Builder builder = JacksonSpan.builder()
+                    .withUncopiedData(data);
+
+            assertThrows(NullPointerException.class, builder::build);
+        }
+
+        private String createJsonData() {
+            return "{\n" +
+                    "  \"traceId\": \"414243\",\n" +
+                    "  \"kind\": \"SPAN_KIND_INTERNAL\",\n" +
+                    "  \"traceGroupFields\": {\n" +
+                    "    \"endTime\": \"1970-01-01T00:00:00Z\",\n" +
+                    "    \"durationInNanos\": 0,\n" +
+                    "    \"statusCode\": 0\n" +
+                    "  },\n" +
+                    "  \"traceGroup\": \"" + TEST_TRACE_GROUP + "\",\n" +
+                    "  \"spanId\": \"313030\",\n" +
+                    "  \"name\": \"FRUITS\",\n" +
+                    "  \"startTime\": \"1970-01-01T00:00:00Z\",\n" +
+                    "  \"endTime\": \"1970-01-01T00:00:00Z\",\n" +
+                    "  \"durationInNanos\": 0\n" +
+                    "}";
+        }
     }
 
     @Test
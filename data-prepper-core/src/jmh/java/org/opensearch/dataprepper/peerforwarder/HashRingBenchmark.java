@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import com.linecorp.armeria.client.Endpoint;
+import org.opensearch.dataprepper.peerforwarder.discovery.PeerListProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Measures {@link HashRing} lookups of trace ids, as done by the peer forwarder for each record, for clusters of
+ * 3, 30 and 300 peers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class HashRingBenchmark {
+    private static final int NUMBER_OF_KEYS = 1024;
+
+    @Param({"3", "30", "300"})
+    private int peerCount;
+
+    private HashRing hashRing;
+    private List<List<String>> identificationKeyValues;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final List<String> peers = new ArrayList<>(peerCount);
+        for (int i = 0; i < peerCount; i++) {
+            peers.add(String.format("10.0.%d.%d", i / 250, i % 250 + 1));
+        }
+        hashRing = new HashRing(new FixedPeerListProvider(peers), PeerForwarderClientFactory.NUM_VIRTUAL_NODES);
+
+        identificationKeyValues = new ArrayList<>(NUMBER_OF_KEYS);
+        for (int i = 0; i < NUMBER_OF_KEYS; i++) {
+            identificationKeyValues.add(List.of(UUID.randomUUID().toString().replace("-", "")));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_KEYS)
+    public void getServerIp(final Blackhole blackhole) {
+        for (final List<String> keyValues : identificationKeyValues) {
+            blackhole.consume(hashRing.getServerIp(keyValues));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(NUMBER_OF_KEYS)
+    public void getServerIpAndIsLocalServer(final Blackhole blackhole) {
+        for (final List<String> keyValues : identificationKeyValues) {
+            blackhole.consume(hashRing.isLocalServer(hashRing.getServerIp(keyValues).get()));
+        }
+    }
+
+    private static class FixedPeerListProvider implements PeerListProvider {
+        private final List<String> peers;
+
+        private FixedPeerListProvider(final List<String> peers) {
+            this.peers = peers;
+        }
+
+        @Override
+        public List<String> getPeerList() {
+            return peers;
+        }
+
+        @Override
+        public void addListener(final Consumer<? super List<Endpoint>> listener) {
+        }
+
+        @Override
+        public void removeListener(final Consumer<?> listener) {
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link JacksonPeerForwarderCodec}, {@link JavaPeerForwarderCodec} and {@link SmilePeerForwarderCodec}
+ * when serializing and deserializing a forwarding batch of logs or spans.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PeerForwarderCodecBenchmark {
+    private static final String PLUGIN_ID = "service-map";
+    private static final String PIPELINE_NAME = "raw-trace-pipeline";
+
+    @Param({"jackson", "java", "smile"})
+    private String codecType;
+
+    @Param({"log", "span"})
+    private String eventType;
+
+    @Param({"48", "1500"})
+    private int batchSize;
+
+    private PeerForwarderCodec codec;
+    private PeerForwardingEvents peerForwardingEvents;
+    private byte[] serializedEvents;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        final PeerForwarderCodecAppConfig appConfig = new PeerForwarderCodecAppConfig();
+        switch (codecType) {
+            case "jackson":
+                codec = new JacksonPeerForwarderCodec(appConfig.objectMapper());
+                break;
+            case "java":
+                codec = new JavaPeerForwarderCodec(appConfig.objectInputFilter(new PeerForwarderConfiguration()));
+                break;
+            default:
+                codec = new SmilePeerForwarderCodec();
+        }
+
+        final List<Event> events = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            events.add("span".equals(eventType) ? createSpan() : createLog(i));
+        }
+        peerForwardingEvents = new PeerForwardingEvents(events, PLUGIN_ID, PIPELINE_NAME);
+        serializedEvents = codec.serialize(peerForwardingEvents);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return codec.serialize(peerForwardingEvents);
+    }
+
+    @Benchmark
+    public PeerForwardingEvents deserialize() throws Exception {
+        return codec.deserialize(serializedEvents);
+    }
+
+    private static Event createLog(final int index) {
+        return JacksonLog.builder()
+                .withData(Map.of(
+                        "message", "GET /api/orders/" + index + " HTTP/1.1 200",
+                        "status", 200,
+                        "bytes", 5123 + index,
+                        "client", Map.of("ip", "10.0.0." + (index % 255), "agent", "Mozilla/5.0")))
+                .build();
+    }
+
+    private static Event createSpan() {
+        final Instant startTime = Instant.now();
+        return JacksonSpan.builder()
+                .withTraceId(UUID.randomUUID().toString().replace("-", ""))
+                .withSpanId(UUID.randomUUID().toString().replace("-", "").substring(16))
+                .withParentSpanId(UUID.randomUUID().toString().replace("-", "").substring(16))
+                .withTraceGroup("GET /api/orders")
+                .withName("SELECT orders")
+                .withKind("SPAN_KIND_CLIENT")
+                .withServiceName("order-service")
+                .withStartTime(startTime.toString())
+                .withEndTime(startTime.plusMillis(12).toString())
+                .withDurationInNanos(12_000_000L)
+                .withAttributes(Map.of(
+                        "db.system", "postgresql",
+                        "db.statement", "SELECT * FROM orders WHERE id = ?",
+                        "net.peer.name", "orders-db",
+                        "net.peer.port", 5432))
+                .withTraceGroupFields(DefaultTraceGroupFields.builder()
+                        .withEndTime(startTime.plusMillis(40).toString())
+                        .withDurationInNanos(40_000_000L)
+                        .withStatusCode(0)
+                        .build())
+                .build();
+    }
+}
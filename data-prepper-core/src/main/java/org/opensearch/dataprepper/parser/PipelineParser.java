@@ -240,7 +240,7 @@ public class PipelineParser {
             final Pipeline pipeline = new Pipeline(pipelineName, source, buffer, decoratedProcessorSets, sinks, router,
                     eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, processorThreads, readBatchDelay,
                     dataPrepperConfiguration.getProcessorShutdownTimeout(), dataPrepperConfiguration.getSinkShutdownTimeout(),
-                    getPeerForwarderDrainTimeout(dataPrepperConfiguration));
+                    getPeerForwarderDrainTimeout(dataPrepperConfiguration), pipelineConfiguration.getMaxInFlightBatches());
             pipelineMap.put(pipelineName, pipeline);
         } catch (Exception ex) {
             //If pipeline construction errors out, we will skip that pipeline and proceed
@@ -10,109 +10,207 @@ import org.opensearch.dataprepper.peerforwarder.discovery.PeerListProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import javax.annotation.concurrent.NotThreadSafe;
-import java.math.BigInteger;
-import java.nio.ByteBuffer;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
+import javax.annotation.concurrent.ThreadSafe;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.TreeMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * Consistent hashing implementation used to map identification keys to Data Prepper hosts.
  * See https://en.wikipedia.org/wiki/Consistent_hashing for more information.
+ * <p>
+ * The ring is an immutable routing table which is only rebuilt when the {@link PeerListProvider} reports a membership
+ * change. It also records whether each host is the local Data Prepper instance, so that addresses are resolved once
+ * per membership change rather than once per batch.
  */
-@NotThreadSafe
+@ThreadSafe
 public class HashRing implements Consumer<List<Endpoint>> {
     private static final Logger LOG = LoggerFactory.getLogger(HashRing.class);
-    private static final String MD5 = "MD5";
     private static final String DELIMITER = ",";
+    private static final String NULL_VALUE = "null";
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
 
     /* Number of virtual nodes per Data Prepper host to be present on the hash ring */
     private final int numVirtualNodes;
 
     private final PeerListProvider peerListProvider;
 
-    private TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+    private volatile RoutingTable routingTable;
 
     public HashRing(final PeerListProvider peerListProvider, final int numVirtualNodes) {
         Objects.requireNonNull(peerListProvider);
         this.peerListProvider = peerListProvider;
         this.numVirtualNodes = numVirtualNodes;
 
-        buildHashServerMap();
+        buildRoutingTable();
 
         peerListProvider.addListener(this);
     }
 
     public Optional<String> getServerIp(final List<String> identificationKeyValues) {
-        if (hashServerMap.isEmpty()) {
-            return Optional.empty();
-        }
-
-        final byte[] identificationKeysInBytes = String.join(DELIMITER, identificationKeyValues).getBytes();
+        return getServerIp(identificationKeyValues, serverIp -> true);
+    }
 
-        final MessageDigest md;
-        try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
+    /**
+     * Maps identification keys to a host using consistent hashing with bounded loads. Starting from the position of
+     * the keys on the ring, returns the first host which has capacity. If no host has capacity, returns the host the
+     * keys would be mapped to without bounded loads.
+     *
+     * @param identificationKeyValues the identification key values
+     * @param hasCapacity             tests whether a host can accept more records
+     * @return the host, or empty if the ring has no hosts
+     */
+    public Optional<String> getServerIp(final List<String> identificationKeyValues, final Predicate<String> hasCapacity) {
+        final RoutingTable currentRoutingTable = routingTable;
+        if (currentRoutingTable.ringHashes.length == 0) {
+            return Optional.empty();
         }
 
-        md.update(identificationKeysInBytes);
-        final BigInteger hashcode = new BigInteger(md.digest());
+        return Optional.of(currentRoutingTable.getServerIp(hash(identificationKeyValues), hasCapacity));
+    }
 
-        // obtain Map.Entry with key greater than the hashcode
-        final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(hashcode);
+    /**
+     * @return the number of hosts on the ring
+     */
+    public int getServerCount() {
+        return routingTable.localServers.size();
+    }
 
-        if (entry == null) {
-            // return first node if no key is greater than the hashcode
-            return Optional.of(hashServerMap.firstEntry().getValue());
-        } else {
-            return Optional.of(entry.getValue());
+    /**
+     * Returns whether an address refers to this Data Prepper instance. The result is cached for the hosts on the ring
+     * and resolved on each call for any other address.
+     *
+     * @param address the host address
+     * @return true if the address is the local host
+     */
+    public boolean isLocalServer(final String address) {
+        final Boolean isLocal = routingTable.localServers.get(address);
+        if (isLocal != null) {
+            return isLocal;
         }
+        return isAddressDefinedLocally(address);
     }
 
     @Override
     public void accept(final List<Endpoint> endpoints) {
-        buildHashServerMap();
+        buildRoutingTable();
     }
 
-    private void buildHashServerMap() {
-        final TreeMap<BigInteger, String> newHashValueMap = new TreeMap<>();
+    private void buildRoutingTable() {
         final List<String> endpoints = peerListProvider.getPeerList();
 
         LOG.info("Building hash ring with endpoints: {}", endpoints);
+        final TreeMap<Long, String> hashServerMap = new TreeMap<>();
+        final Map<String, Boolean> localServers = new HashMap<>();
         for (final String serverIp : endpoints) {
-            addServerIpToHashMap(serverIp, newHashValueMap);
+            addServerIpToHashMap(serverIp, hashServerMap);
+            localServers.put(serverIp, isAddressDefinedLocally(serverIp));
+        }
+
+        this.routingTable = new RoutingTable(hashServerMap, localServers);
+    }
+
+    private void addServerIpToHashMap(final String serverIp, final Map<Long, String> targetMap) {
+        final long serverIpHash = update(FNV_OFFSET_BASIS, serverIp);
+        for (int i = 0; i < numVirtualNodes; i++) {
+            targetMap.putIfAbsent(mix((serverIpHash ^ i) * FNV_PRIME), serverIp);
         }
+    }
 
-        this.hashServerMap = newHashValueMap;
+    /**
+     * Hashes the identification key values with 64-bit FNV-1a followed by the MurmurHash3 finalizer. This is the same
+     * as hashing the values joined by commas, without building the joined string.
+     */
+    static long hash(final List<String> identificationKeyValues) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < identificationKeyValues.size(); i++) {
+            if (i > 0) {
+                hash = update(hash, DELIMITER);
+            }
+            final String value = identificationKeyValues.get(i);
+            hash = update(hash, value == null ? NULL_VALUE : value);
+        }
+        return mix(hash);
     }
 
-    private void addServerIpToHashMap(final String serverIp, final Map<BigInteger, String> targetMap) {
-        final byte[] serverIpInBytes = serverIp.getBytes();
-        final MessageDigest md;
+    private static long update(long hash, final String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
 
+    private static boolean isAddressDefinedLocally(final String address) {
+        final InetAddress inetAddress;
         try {
-            md = MessageDigest.getInstance(MD5);
-        } catch (NoSuchAlgorithmException e) {
-            throw new AssertionError("unreachable", e);
+            inetAddress = InetAddress.getByName(address);
+        } catch (final UnknownHostException e) {
+            return false;
         }
+        if (inetAddress.isAnyLocalAddress() || inetAddress.isLoopbackAddress()) {
+            return true;
+        } else {
+            try {
+                return NetworkInterface.getByInetAddress(inetAddress) != null;
+            } catch (final SocketException e) {
+                return false;
+            }
+        }
+    }
 
-        final ByteBuffer intBuffer = ByteBuffer.allocate(4);
-        for (int i = 0; i < numVirtualNodes; i++) {
-            md.update(serverIpInBytes);
-            intBuffer.putInt(i);
-            md.update(intBuffer.array());
-            final BigInteger hashcode = new BigInteger(md.digest());
-            targetMap.putIfAbsent(hashcode, serverIp);
-            md.reset();
-            intBuffer.clear();
+    private static class RoutingTable {
+        private final long[] ringHashes;
+        private final String[] ringServers;
+        private final Map<String, Boolean> localServers;
+
+        private RoutingTable(final TreeMap<Long, String> hashServerMap, final Map<String, Boolean> localServers) {
+            ringHashes = new long[hashServerMap.size()];
+            ringServers = new String[hashServerMap.size()];
+            int i = 0;
+            for (final Map.Entry<Long, String> entry : hashServerMap.entrySet()) {
+                ringHashes[i] = entry.getKey();
+                ringServers[i] = entry.getValue();
+                i++;
+            }
+            this.localServers = localServers;
+        }
+
+        /**
+         * Returns the server of the first virtual node with a hash greater than the given hash, wrapping around to the
+         * first node, and continues clockwise past servers without capacity.
+         */
+        private String getServerIp(final long hash, final Predicate<String> hasCapacity) {
+            final int searchResult = Arrays.binarySearch(ringHashes, hash);
+            final int insertionIndex = searchResult >= 0 ? searchResult + 1 : -(searchResult + 1);
+            final int startIndex = insertionIndex == ringHashes.length ? 0 : insertionIndex;
+            for (int i = 0; i < ringServers.length; i++) {
+                final String serverIp = ringServers[(startIndex + i) % ringServers.length];
+                if (hasCapacity.test(serverIp)) {
+                    return serverIp;
+                }
+            }
+            return ringServers[startIndex];
         }
     }
 }
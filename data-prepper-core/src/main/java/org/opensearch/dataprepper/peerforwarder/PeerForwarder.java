@@ -28,4 +28,13 @@ public interface PeerForwarder {
      * @return collection of records forwarded by peers
      */
     Collection<Record<Event>> receiveRecords();
+
+    /**
+     * Indicates if all the records forwarded to peers were either received by them or written to the
+     * {@link PeerForwarderReceiveBuffer}, and all the received records were processed. This may wait for the responses
+     * of requests which are in flight for a bounded time.
+     * @return true if the peer forwarder is ready for shutdown
+     * @since 2.5
+     */
+    boolean isReadyForShutdown();
 }
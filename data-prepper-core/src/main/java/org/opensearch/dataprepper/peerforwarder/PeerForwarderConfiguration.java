@@ -8,13 +8,17 @@ package org.opensearch.dataprepper.peerforwarder;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.apache.commons.lang3.StringUtils;
+import org.opensearch.dataprepper.peerforwarder.codec.BinaryCodecFormat;
 import org.opensearch.dataprepper.peerforwarder.discovery.DiscoveryMode;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Class to hold configuration for Core Peer Forwarder in {@link org.opensearch.dataprepper.parser.model.DataPrepperConfiguration},
@@ -63,7 +67,10 @@ public class PeerForwarderConfiguration {
     private Integer forwardingBatchSize = 1500;
     private Integer forwardingBatchQueueDepth = 1;
     private Duration forwardingBatchTimeout = DEFAULT_FORWARDING_BATCH_TIMEOUT;
+    private Integer forwardingMaxInFlightRequests = 16;
+    private Double boundedLoadFactor;
     private boolean binaryCodec = true;
+    private BinaryCodecFormat binaryCodecFormat = BinaryCodecFormat.JAVA;
 
     public PeerForwarderConfiguration() {}
 
@@ -101,7 +108,10 @@ public class PeerForwarderConfiguration {
             @JsonProperty("forwarding_batch_size") final Integer forwardingBatchSize,
             @JsonProperty("forwarding_batch_queue_depth") final Integer forwardingBatchQueueDepth,
             @JsonProperty("forwarding_batch_timeout") final Duration forwardingBatchTimeout,
-            @JsonProperty("binary_codec") final Boolean binaryCodec
+            @JsonProperty("binary_codec") final Boolean binaryCodec,
+            @JsonProperty("binary_codec_format") final String binaryCodecFormat,
+            @JsonProperty("forwarding_max_in_flight_requests") final Integer forwardingMaxInFlightRequests,
+            @JsonProperty("bounded_load_factor") final Double boundedLoadFactor
     ) {
         setServerPort(serverPort);
         setRequestTimeout(requestTimeout);
@@ -136,6 +146,9 @@ public class PeerForwarderConfiguration {
         setForwardingBatchQueueDepth(forwardingBatchQueueDepth);
         setForwardingBatchTimeout(forwardingBatchTimeout);
         setBinaryCodec(binaryCodec == null || binaryCodec);
+        setBinaryCodecFormat(binaryCodecFormat);
+        setForwardingMaxInFlightRequests(forwardingMaxInFlightRequests);
+        setBoundedLoadFactor(boundedLoadFactor);
         checkForCertAndKeyFileInS3();
         validateSslAndAuthentication();
     }
@@ -256,10 +269,22 @@ public class PeerForwarderConfiguration {
         return forwardingBatchTimeout;
     }
 
+    public Integer getForwardingMaxInFlightRequests() {
+        return forwardingMaxInFlightRequests;
+    }
+
+    public Double getBoundedLoadFactor() {
+        return boundedLoadFactor;
+    }
+
     public boolean getBinaryCodec() {
         return binaryCodec;
     }
 
+    public BinaryCodecFormat getBinaryCodecFormat() {
+        return binaryCodecFormat;
+    }
+
     private void setServerPort(final Integer serverPort) {
         if (serverPort != null) {
             if (serverPort < 0 || serverPort > 65535) {
@@ -550,7 +575,42 @@ public class PeerForwarderConfiguration {
         }
     }
 
+    private void setForwardingMaxInFlightRequests(final Integer forwardingMaxInFlightRequests) {
+        if (forwardingMaxInFlightRequests != null) {
+            if (forwardingMaxInFlightRequests <= 0) {
+                throw new IllegalArgumentException("Forwarding max in-flight requests must be a positive integer.");
+            }
+            this.forwardingMaxInFlightRequests = forwardingMaxInFlightRequests;
+        }
+    }
+
+    private void setBoundedLoadFactor(final Double boundedLoadFactor) {
+        if (boundedLoadFactor != null) {
+            if (boundedLoadFactor <= 1.0) {
+                throw new IllegalArgumentException("Bounded load factor must be greater than 1.");
+            }
+            this.boundedLoadFactor = boundedLoadFactor;
+        }
+    }
+
     private void setBinaryCodec(final boolean binaryCodec) {
         this.binaryCodec = binaryCodec;
     }
+
+    private void setBinaryCodecFormat(final String binaryCodecFormat) {
+        if (binaryCodecFormat != null) {
+            if (!binaryCodec) {
+                throw new IllegalArgumentException("Binary codec format cannot be set if binary codec is false.");
+            }
+            try {
+                this.binaryCodecFormat = BinaryCodecFormat.valueOf(binaryCodecFormat.toUpperCase(Locale.ROOT));
+            } catch (final IllegalArgumentException e) {
+                final String validFormats = Arrays.stream(BinaryCodecFormat.values())
+                        .map(format -> format.name().toLowerCase(Locale.ROOT))
+                        .collect(Collectors.joining(", "));
+                throw new IllegalArgumentException(String.format(
+                        "Binary codec format %s is not valid. Valid formats are: %s.", binaryCodecFormat, validFormats));
+            }
+        }
+    }
 }
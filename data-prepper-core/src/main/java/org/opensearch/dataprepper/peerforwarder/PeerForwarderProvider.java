@@ -60,6 +60,8 @@ public class PeerForwarderProvider {
                     peerForwarderConfiguration.getForwardingBatchSize(),
                     peerForwarderConfiguration.getForwardingBatchQueueDepth(),
                     peerForwarderConfiguration.getForwardingBatchTimeout(),
+                    peerForwarderConfiguration.getForwardingMaxInFlightRequests(),
+                    peerForwarderConfiguration.getBoundedLoadFactor(),
                     pipelineWorkerThreads
             );
         }
@@ -95,7 +95,7 @@ public class PeerForwardingProcessorDecorator implements Processor<Record<Event>
 
     @Override
     public boolean isReadyForShutdown() {
-        return innerProcessor.isReadyForShutdown();
+        return innerProcessor.isReadyForShutdown() && peerForwarder.isReadyForShutdown();
     }
 
     @Override
@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Tracks the load of each peer for consistent hashing with bounded loads.
+ * <p>
+ * The load of a peer is the number of records recently routed to it, plus the records waiting to be forwarded to it.
+ * The routed counts are halved every {@link #DECAY_INTERVAL}, so that they follow the current traffic. The pending
+ * records make a slow peer look busier than a fast one, so that new keys move away from it first. A peer has capacity
+ * while its load stays within the load factor times the average load of all peers, rounded up.
+ */
+class PeerLoadTracker {
+    static final String PEER_LOAD_IMBALANCE = "peerLoadImbalance";
+    static final String RECORDS_REDIRECTED_FOR_LOAD = "recordsRedirectedForLoad";
+    static final Duration DECAY_INTERVAL = Duration.ofSeconds(1);
+
+    private final double loadFactor;
+    private final LongSupplier nanoTimeSupplier;
+    private final Counter recordsRedirectedCounter;
+    private final Map<String, AtomicLong> routedRecords;
+    private final AtomicLong totalRoutedRecords;
+    private volatile Map<String, Long> pendingRecords;
+    private volatile long totalPendingRecords;
+    private volatile int peerCount;
+    private long lastDecayNanos;
+
+    PeerLoadTracker(final PluginMetrics pluginMetrics, final double loadFactor) {
+        this(pluginMetrics, loadFactor, System::nanoTime);
+    }
+
+    PeerLoadTracker(final PluginMetrics pluginMetrics, final double loadFactor, final LongSupplier nanoTimeSupplier) {
+        this.loadFactor = loadFactor;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        routedRecords = new ConcurrentHashMap<>();
+        totalRoutedRecords = new AtomicLong();
+        pendingRecords = Collections.emptyMap();
+        lastDecayNanos = nanoTimeSupplier.getAsLong();
+
+        recordsRedirectedCounter = pluginMetrics.counter(RECORDS_REDIRECTED_FOR_LOAD);
+        pluginMetrics.gauge(PEER_LOAD_IMBALANCE, this, PeerLoadTracker::getLoadImbalance);
+    }
+
+    /**
+     * Updates the load feedback before routing a batch of records.
+     *
+     * @param peerCount      the number of peers on the ring
+     * @param pendingRecords the number of records waiting to be forwarded to each peer
+     */
+    void update(final int peerCount, final Map<String, Long> pendingRecords) {
+        this.peerCount = peerCount;
+        this.pendingRecords = pendingRecords;
+        totalPendingRecords = pendingRecords.values().stream().mapToLong(Long::longValue).sum();
+        decayIfIntervalElapsed();
+    }
+
+    /**
+     * @param peer the peer
+     * @return true if routing one more record to the peer keeps its load within the bound
+     */
+    boolean hasCapacity(final String peer) {
+        final int currentPeerCount = Math.max(1, peerCount);
+        final double capacity = Math.ceil(loadFactor * (getTotalLoad() + 1) / currentPeerCount);
+        return getLoad(peer) + 1 <= capacity;
+    }
+
+    /**
+     * Records that a record was routed to a peer.
+     *
+     * @param peer       the peer
+     * @param redirected true if the record was routed past the peer it hashes to because that peer was overloaded
+     */
+    void recordRouted(final String peer, final boolean redirected) {
+        routedRecords.computeIfAbsent(peer, p -> new AtomicLong()).incrementAndGet();
+        totalRoutedRecords.incrementAndGet();
+        if (redirected) {
+            recordsRedirectedCounter.increment();
+        }
+    }
+
+    /**
+     * @return the load of the busiest peer divided by the average load, or 0 if there is no load
+     */
+    double getLoadImbalance() {
+        final int currentPeerCount = Math.max(1, peerCount);
+        final long totalLoad = getTotalLoad();
+        if (totalLoad == 0) {
+            return 0;
+        }
+        long maxLoad = 0;
+        for (final String peer : routedRecords.keySet()) {
+            maxLoad = Math.max(maxLoad, getLoad(peer));
+        }
+        for (final String peer : pendingRecords.keySet()) {
+            maxLoad = Math.max(maxLoad, getLoad(peer));
+        }
+        return (double) maxLoad * currentPeerCount / totalLoad;
+    }
+
+    long getLoad(final String peer) {
+        final AtomicLong routed = routedRecords.get(peer);
+        return (routed == null ? 0 : routed.get()) + pendingRecords.getOrDefault(peer, 0L);
+    }
+
+    private long getTotalLoad() {
+        return totalRoutedRecords.get() + totalPendingRecords;
+    }
+
+    private synchronized void decayIfIntervalElapsed() {
+        final long now = nanoTimeSupplier.getAsLong();
+        if (now - lastDecayNanos < DECAY_INTERVAL.toNanos()) {
+            return;
+        }
+        lastDecayNanos = now;
+
+        long total = 0;
+        for (final AtomicLong routed : routedRecords.values()) {
+            total += routed.updateAndGet(count -> count / 2);
+        }
+        totalRoutedRecords.set(total);
+    }
+}
@@ -17,24 +17,21 @@ import org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.net.InetAddress;
-import java.net.NetworkInterface;
-import java.net.SocketException;
-import java.net.UnknownHostException;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
 class RemotePeerForwarder implements PeerForwarder {
     private static final Logger LOG = LoggerFactory.getLogger(RemotePeerForwarder.class);
@@ -47,6 +44,7 @@ class RemotePeerForwarder implements PeerForwarder {
     static final String RECORDS_MISSING_IDENTIFICATION_KEYS = "recordsMissingIdentificationKeys";
     static final String REQUESTS_FAILED = "requestsFailed";
     static final String REQUESTS_SUCCESSFUL = "requestsSuccessful";
+    static final Duration IN_FLIGHT_REQUESTS_SHUTDOWN_WAIT = Duration.ofSeconds(1);
 
     private final PeerForwarderClient peerForwarderClient;
     private final HashRing hashRing;
@@ -56,6 +54,7 @@ class RemotePeerForwarder implements PeerForwarder {
     private final Set<String> identificationKeys;
     final ConcurrentHashMap<String, LinkedBlockingQueue<Record<Event>>> peerBatchingQueueMap;
     private final ConcurrentHashMap<String, Long> peerBatchingLastFlushTimeMap;
+    private final ConcurrentHashMap<String, Semaphore> peerInFlightRequestsMap;
 
     private final Counter recordsActuallyProcessedLocallyCounter;
     private final Counter recordsToBeProcessedLocallyCounter;
@@ -70,6 +69,8 @@ class RemotePeerForwarder implements PeerForwarder {
     private final Integer forwardingBatchSize;
     private final Integer forwardingBatchQueueDepth;
     private final Duration forwardingBatchTimeout;
+    private final Integer forwardingMaxInFlightRequests;
+    private final PeerLoadTracker peerLoadTracker;
     private final Integer pipelineWorkerThreads;
 
     RemotePeerForwarder(final PeerForwarderClient peerForwarderClient,
@@ -84,6 +85,8 @@ class RemotePeerForwarder implements PeerForwarder {
                         final Integer forwardingBatchSize,
                         final Integer forwardingBatchQueueDepth,
                         final Duration forwardingBatchTimeout,
+                        final Integer forwardingMaxInFlightRequests,
+                        final Double boundedLoadFactor,
                         final Integer pipelineWorkerThreads) {
         this.peerForwarderClient = peerForwarderClient;
         this.hashRing = hashRing;
@@ -96,9 +99,12 @@ class RemotePeerForwarder implements PeerForwarder {
         this.forwardingBatchSize = forwardingBatchSize;
         this.forwardingBatchQueueDepth = forwardingBatchQueueDepth;
         this.forwardingBatchTimeout = forwardingBatchTimeout;
+        this.forwardingMaxInFlightRequests = forwardingMaxInFlightRequests;
+        this.peerLoadTracker = boundedLoadFactor == null ? null : new PeerLoadTracker(pluginMetrics, boundedLoadFactor);
         this.pipelineWorkerThreads = pipelineWorkerThreads;
         peerBatchingQueueMap = new ConcurrentHashMap<>();
         peerBatchingLastFlushTimeMap = new ConcurrentHashMap<>();
+        peerInFlightRequestsMap = new ConcurrentHashMap<>();
         
         recordsActuallyProcessedLocallyCounter = pluginMetrics.counter(RECORDS_ACTUALLY_PROCESSED_LOCALLY);
         recordsToBeProcessedLocallyCounter = pluginMetrics.counter(RECORDS_TO_BE_PROCESSED_LOCALLY);
@@ -117,7 +123,7 @@ class RemotePeerForwarder implements PeerForwarder {
         for (final Map.Entry<String, List<Record<Event>>> entry : groupedRecords.entrySet()) {
             final String destinationIp = entry.getKey();
 
-            if (isAddressDefinedLocally(destinationIp)) {
+            if (hashRing.isLocalServer(destinationIp)) {
                 recordsToProcessLocally.addAll(entry.getValue());
                 recordsToBeProcessedLocallyCounter.increment(entry.getValue().size());
             } else {
@@ -145,17 +151,43 @@ class RemotePeerForwarder implements PeerForwarder {
         return records;
     }
 
+    /**
+     * Waits up to {@link #IN_FLIGHT_REQUESTS_SHUTDOWN_WAIT} for the responses of all requests in flight to peers. The
+     * records of failed requests are written to the receive buffer, and batched records are only sent by later calls to
+     * {@link #forwardRecords(Collection)}, so this is only ready once both are empty too.
+     */
+    public boolean isReadyForShutdown() {
+        final long deadlineNanos = System.nanoTime() + IN_FLIGHT_REQUESTS_SHUTDOWN_WAIT.toNanos();
+        for (final Semaphore inFlightRequests : peerInFlightRequestsMap.values()) {
+            try {
+                final long remainingNanos = Math.max(deadlineNanos - System.nanoTime(), 0);
+                if (!inFlightRequests.tryAcquire(forwardingMaxInFlightRequests, remainingNanos, TimeUnit.NANOSECONDS)) {
+                    return false;
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            inFlightRequests.release(forwardingMaxInFlightRequests);
+        }
+        return peerForwarderReceiveBuffer.isEmpty()
+                && peerBatchingQueueMap.values().stream().allMatch(LinkedBlockingQueue::isEmpty);
+    }
+
     private Map<String, List<Record<Event>>> groupRecordsBasedOnIdentificationKeys(
             final Collection<Record<Event>> records,
             final Set<String> identificationKeys
     ) {
         final Map<String, List<Record<Event>>> groupedRecords = new HashMap<>();
+        if (peerLoadTracker != null) {
+            peerLoadTracker.update(hashRing.getServerCount(), getPendingRecordsPerPeer());
+        }
 
         // group records based on IP address calculated by HashRing
         for (final Record<Event> record : records) {
             final Event event = record.getData();
 
-            final List<String> identificationKeyValues = new LinkedList<>();
+            final List<String> identificationKeyValues = new ArrayList<>(identificationKeys.size());
             int numMissingIdentificationKeys = 0;
             for (final String identificationKey : identificationKeys) {
                 final Object identificationKeyValue = event.get(identificationKey, Object.class);
@@ -171,28 +203,37 @@ class RemotePeerForwarder implements PeerForwarder {
                 identificationKeyValues.clear();
             }
 
-            final String dataPrepperIp = hashRing.getServerIp(identificationKeyValues).orElse(StaticPeerListProvider.LOCAL_ENDPOINT);
+            final String dataPrepperIp = getDestination(identificationKeyValues);
             groupedRecords.computeIfAbsent(dataPrepperIp, x -> new ArrayList<>()).add(record);
         }
         return groupedRecords;
     }
 
-    private boolean isAddressDefinedLocally(final String address) {
-        final InetAddress inetAddress;
-        try {
-            inetAddress = InetAddress.getByName(address);
-        } catch (final UnknownHostException e) {
-            return false;
+    private String getDestination(final List<String> identificationKeyValues) {
+        final Optional<String> serverIp = hashRing.getServerIp(identificationKeyValues);
+        if (peerLoadTracker == null || serverIp.isEmpty()) {
+            return serverIp.orElse(StaticPeerListProvider.LOCAL_ENDPOINT);
         }
-        if (inetAddress.isAnyLocalAddress() || inetAddress.isLoopbackAddress()) {
-            return true;
-        } else {
-            try {
-                return NetworkInterface.getByInetAddress(inetAddress) != null;
-            } catch (final SocketException e) {
-                return false;
-            }
+
+        if (peerLoadTracker.hasCapacity(serverIp.get())) {
+            peerLoadTracker.recordRouted(serverIp.get(), false);
+            return serverIp.get();
         }
+        final String boundedLoadServerIp = hashRing.getServerIp(identificationKeyValues, peerLoadTracker::hasCapacity)
+                .orElse(serverIp.get());
+        peerLoadTracker.recordRouted(boundedLoadServerIp, !boundedLoadServerIp.equals(serverIp.get()));
+        return boundedLoadServerIp;
+    }
+
+    private Map<String, Long> getPendingRecordsPerPeer() {
+        final Map<String, Long> pendingRecords = new HashMap<>();
+        peerBatchingQueueMap.forEach((destinationIp, peerBatchingQueue) -> {
+            final Semaphore inFlightRequests = peerInFlightRequestsMap.get(destinationIp);
+            final long inFlightRecords = inFlightRequests == null ? 0 :
+                    (long) (forwardingMaxInFlightRequests - inFlightRequests.availablePermits()) * forwardingBatchSize;
+            pendingRecords.put(destinationIp, peerBatchingQueue.size() + inFlightRecords);
+        });
+        return pendingRecords;
     }
 
     private List<Record<Event>> batchRecordsForForwarding(final String destinationIp, final List<Record<Event>> records) {
@@ -232,48 +273,43 @@ class RemotePeerForwarder implements PeerForwarder {
     }
 
     private void forwardBatchedRecords() {
-        final Map<CompletableFuture<AggregatedHttpResponse>, List<Record<Event>>> futuresMap = new HashMap<>();
-        peerBatchingQueueMap.forEach((ipAddress, records) -> {
-            futuresMap.putAll(forwardRecordsForIp(ipAddress));
-        });
-
-        final CompletableFuture<Void> compositeFuture = CompletableFuture.allOf(futuresMap.keySet().toArray(CompletableFuture[]::new));
-        try {
-            compositeFuture.get();
-        } catch (final ExecutionException | InterruptedException e) {
-            LOG.debug("Caught exception getting results of composite forwarding future.", e);
-        }
-
-        futuresMap.forEach((key, value) -> {
-            AggregatedHttpResponse httpResponse;
-            try {
-                httpResponse = key.get();
-            } catch (final ExecutionException | InterruptedException e) {
-                LOG.warn("Unable to send request to peer, processing locally.", e);
-                httpResponse = null;
-            }
-
-            processFailedRequestsLocally(httpResponse, value);
-        });
+        peerBatchingQueueMap.keySet().forEach(this::forwardRecordsForIp);
     }
 
-    private Map<CompletableFuture<AggregatedHttpResponse>, List<Record<Event>>> forwardRecordsForIp(final String destinationIp) {
-        final Map<CompletableFuture<AggregatedHttpResponse>, List<Record<Event>>> forwardingRequestsMap = new HashMap<>();
+    /**
+     * Sends the batches which are ready for the peer, up to the peer's limit of in-flight requests, without waiting for
+     * the responses. Batches which do not fit in the window stay in the batching queue until a response frees a slot,
+     * so that a slow peer only holds back the records routed to it.
+     */
+    private void forwardRecordsForIp(final String destinationIp) {
+        final Semaphore inFlightRequests = peerInFlightRequestsMap.computeIfAbsent(destinationIp,
+                ip -> new Semaphore(forwardingMaxInFlightRequests));
+
+        while (inFlightRequests.tryAcquire()) {
+            final List<Record<Event>> recordsToForward = getRecordsToForward(destinationIp);
+            if (recordsToForward.isEmpty()) {
+                inFlightRequests.release();
+                return;
+            }
 
-        List<Record<Event>> recordsToForward = getRecordsToForward(destinationIp);
-        while (!recordsToForward.isEmpty()) {
+            final CompletableFuture<AggregatedHttpResponse> responseFuture;
             try {
-                final CompletableFuture<AggregatedHttpResponse> responseFuture =
-                        peerForwarderClient.serializeRecordsAndSendHttpRequest(recordsToForward, destinationIp, pluginId, pipelineName);
-                forwardingRequestsMap.put(responseFuture, recordsToForward);
+                responseFuture = peerForwarderClient.serializeRecordsAndSendHttpRequest(recordsToForward, destinationIp, pluginId, pipelineName);
             } catch (final Exception e) {
+                inFlightRequests.release();
                 LOG.warn("Unable to submit request for forwarding, processing locally.", e);
                 processFailedRequestsLocally(null, recordsToForward);
+                continue;
             }
-            recordsToForward = getRecordsToForward(destinationIp);
-        }
 
-        return forwardingRequestsMap;
+            responseFuture.whenComplete((httpResponse, throwable) -> {
+                inFlightRequests.release();
+                if (throwable != null) {
+                    LOG.warn("Unable to send request to peer, processing locally.", throwable);
+                }
+                processFailedRequestsLocally(throwable == null ? httpResponse : null, recordsToForward);
+            });
+        }
     }
 
     private List<Record<Event>> getRecordsToForward(final String destinationIp) {
@@ -0,0 +1,23 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+/**
+ * The format which the binary peer forwarder codec writes events in. All peers must use the same format.
+ *
+ * @since 2.5
+ */
+public enum BinaryCodecFormat {
+    /**
+     * Java serialization of the events, using {@link JavaPeerForwarderCodec}.
+     */
+    JAVA,
+
+    /**
+     * Smile encoding of the event trees, using {@link SmilePeerForwarderCodec}.
+     */
+    SMILE
+}
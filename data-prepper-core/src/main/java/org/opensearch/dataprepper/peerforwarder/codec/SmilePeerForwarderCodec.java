@@ -0,0 +1,242 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A {@link PeerForwarderCodec} which writes the events as Smile, a binary encoding of JSON.
+ * <p>
+ * The data of each event is written directly from its {@link JsonNode} and read directly into a new {@link JsonNode},
+ * which the new event uses without copying it again. The data is never converted to a JSON string. Smile
+ * back-references repeated field names and short string values, so the keys which every event in a batch shares are
+ * only written once per request.
+ *
+ * @since 2.5
+ */
+public class SmilePeerForwarderCodec implements PeerForwarderCodec {
+    static final String DESTINATION_PLUGIN_ID = "pluginId";
+    static final String DESTINATION_PIPELINE_NAME = "pipelineName";
+    static final String EVENTS = "events";
+    static final String EVENT_TYPE = "type";
+    static final String TIME_RECEIVED_SECONDS = "timeSeconds";
+    static final String TIME_RECEIVED_NANOS = "timeNanos";
+    static final String ATTRIBUTES = "attributes";
+    static final String TAGS = "tags";
+    static final String DATA = "data";
+
+    private static final String TRACE_EVENT_TYPE = "TRACE";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE = new TypeReference<>() {};
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+
+    private final ObjectMapper smileMapper;
+
+    public SmilePeerForwarderCodec() {
+        final SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        this.smileMapper = new ObjectMapper(smileFactory).registerModule(new JavaTimeModule());
+    }
+
+    @Override
+    public byte[] serialize(final PeerForwardingEvents peerForwardingEvents) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        try (final JsonGenerator generator = smileMapper.createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeStringField(DESTINATION_PLUGIN_ID, peerForwardingEvents.getDestinationPluginId());
+            generator.writeStringField(DESTINATION_PIPELINE_NAME, peerForwardingEvents.getDestinationPipelineName());
+            if (peerForwardingEvents.getEvents() != null) {
+                generator.writeArrayFieldStart(EVENTS);
+                for (final Event event : peerForwardingEvents.getEvents()) {
+                    writeEvent(generator, event);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public PeerForwardingEvents deserialize(final byte[] bytes) throws IOException {
+        try (final JsonParser parser = smileMapper.createParser(bytes)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+            String destinationPluginId = null;
+            String destinationPipelineName = null;
+            List<Event> events = null;
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case DESTINATION_PLUGIN_ID:
+                        destinationPluginId = parser.getValueAsString();
+                        break;
+                    case DESTINATION_PIPELINE_NAME:
+                        destinationPipelineName = parser.getValueAsString();
+                        break;
+                    case EVENTS:
+                        events = readEvents(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            expectToken(parser, token, JsonToken.END_OBJECT);
+            return new PeerForwardingEvents(events, destinationPluginId, destinationPipelineName);
+        }
+    }
+
+    private void writeEvent(final JsonGenerator generator, final Event event) throws IOException {
+        final EventMetadata eventMetadata = event.getMetadata();
+        generator.writeStartObject();
+        generator.writeStringField(EVENT_TYPE, eventMetadata.getEventType());
+        final Instant timeReceived = eventMetadata.getTimeReceived();
+        if (timeReceived != null) {
+            generator.writeNumberField(TIME_RECEIVED_SECONDS, timeReceived.getEpochSecond());
+            generator.writeNumberField(TIME_RECEIVED_NANOS, timeReceived.getNano());
+        }
+        final Map<String, Object> attributes = eventMetadata.getAttributes();
+        if (attributes != null && !attributes.isEmpty()) {
+            generator.writeFieldName(ATTRIBUTES);
+            generator.writeObject(attributes);
+        }
+        final Set<String> tags = eventMetadata.getTags();
+        if (tags != null && !tags.isEmpty()) {
+            generator.writeArrayFieldStart(TAGS);
+            for (final String tag : tags) {
+                generator.writeString(tag);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeFieldName(DATA);
+        writeData(generator, event);
+        generator.writeEndObject();
+    }
+
+    private void writeData(final JsonGenerator generator, final Event event) throws IOException {
+        if (event instanceof JacksonEvent) {
+            try (final JsonParser dataParser = ((JacksonEvent) event).traverseData()) {
+                dataParser.nextToken();
+                generator.copyCurrentStructure(dataParser);
+            }
+            return;
+        }
+        generator.writeTree(smileMapper.valueToTree(event.toMap()));
+    }
+
+    private List<Event> readEvents(final JsonParser parser) throws IOException {
+        expectToken(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        final List<Event> events = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+            events.add(readEvent(parser));
+        }
+        expectToken(parser, token, JsonToken.END_ARRAY);
+        return events;
+    }
+
+    private Event readEvent(final JsonParser parser) throws IOException {
+        String eventType = null;
+        long timeReceivedSeconds = 0;
+        int timeReceivedNanos = 0;
+        boolean hasTimeReceived = false;
+        Map<String, Object> attributes = null;
+        Set<String> tags = null;
+        JsonNode data = null;
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case EVENT_TYPE:
+                    eventType = parser.getValueAsString();
+                    break;
+                case TIME_RECEIVED_SECONDS:
+                    timeReceivedSeconds = parser.getLongValue();
+                    hasTimeReceived = true;
+                    break;
+                case TIME_RECEIVED_NANOS:
+                    timeReceivedNanos = parser.getIntValue();
+                    break;
+                case ATTRIBUTES:
+                    attributes = parser.readValueAs(MAP_TYPE_REFERENCE);
+                    break;
+                case TAGS:
+                    tags = readTags(parser);
+                    break;
+                case DATA:
+                    data = parser.readValueAsTree();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        expectToken(parser, token, JsonToken.END_OBJECT);
+
+        final DefaultEventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(eventType)
+                .withTimeReceived(hasTimeReceived ? Instant.ofEpochSecond(timeReceivedSeconds, timeReceivedNanos) : null)
+                .withAttributes(attributes)
+                .withTags(tags)
+                .build();
+
+        if (TRACE_EVENT_TYPE.equalsIgnoreCase(eventType)) {
+            return JacksonSpan.builder()
+                    .withUncopiedData(data)
+                    .withEventMetadata(eventMetadata)
+                    .build();
+        }
+        return JacksonEvent.builder()
+                .withUncopiedData(data)
+                .withEventMetadata(eventMetadata)
+                .build();
+    }
+
+    private Set<String> readTags(final JsonParser parser) throws IOException {
+        expectToken(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        final Set<String> tags = new HashSet<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.VALUE_STRING) {
+            tags.add(parser.getText());
+        }
+        expectToken(parser, token, JsonToken.END_ARRAY);
+        return tags;
+    }
+
+    private static void expectToken(final JsonParser parser, final JsonToken actualToken, final JsonToken expectedToken)
+            throws JsonParseException {
+        if (actualToken != expectedToken) {
+            throw new JsonParseException(parser, String.format("Expected %s but found %s", expectedToken, actualToken));
+        }
+    }
+}
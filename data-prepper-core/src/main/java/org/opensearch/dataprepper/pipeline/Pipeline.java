@@ -64,6 +64,7 @@ public class Pipeline {
     private final Duration processorShutdownTimeout;
     private final Duration sinkShutdownTimeout;
     private final Duration peerForwarderDrainTimeout;
+    private final int maxInFlightBatches;
     private final ExecutorService processorExecutorService;
     private final ExecutorService sinkExecutorService;
     private final EventFactory eventFactory;
@@ -92,6 +93,8 @@ public class Pipeline {
      * @param processorShutdownTimeout configured or default timeout before forcefully terminating the processor workers
      * @param peerForwarderDrainTimeout configured or default timeout before considering the peer forwarder drained and ready for termination
      * @param sinkShutdownTimeout      configured or default timeout before forcefully terminating the sink workers
+     * @param maxInFlightBatches       configured or default number of batches each {@link ProcessWorker} may have
+     *                                 published to the sinks before waiting on the oldest of them
      */
     public Pipeline(
             @Nonnull final String name,
@@ -107,9 +110,11 @@ public class Pipeline {
             final int readBatchTimeoutInMillis,
             final Duration processorShutdownTimeout,
             final Duration sinkShutdownTimeout,
-            final Duration peerForwarderDrainTimeout) {
+            final Duration peerForwarderDrainTimeout,
+            final int maxInFlightBatches) {
         Preconditions.checkArgument(processorSets.stream().allMatch(
                 processorSet -> Objects.nonNull(processorSet) && (processorSet.size() == 1 || processorSet.size() == processorThreads)));
+        Preconditions.checkArgument(maxInFlightBatches > 0, "maxInFlightBatches must be greater than 0");
         this.name = name;
         this.source = source;
         this.buffer = buffer;
@@ -124,11 +129,14 @@ public class Pipeline {
         this.processorShutdownTimeout = processorShutdownTimeout;
         this.sinkShutdownTimeout = sinkShutdownTimeout;
         this.peerForwarderDrainTimeout = peerForwarderDrainTimeout;
+        this.maxInFlightBatches = maxInFlightBatches;
         this.processorExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
                 new PipelineThreadFactory(format("%s-processor-worker", name)), this);
 
         // TODO: allow this to be configurable as well?
-        this.sinkExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads,
+        // Each process worker may have maxInFlightBatches batches published to the sinks. The pool has a thread for
+        // every batch which may be in flight, as it had one for every worker when the workers waited for each batch.
+        this.sinkExecutorService = PipelineThreadPoolExecutor.newFixedThreadPool(processorThreads * maxInFlightBatches,
                 new PipelineThreadFactory(format("%s-sink-worker", name)), this);
 
         stopRequested = new AtomicBoolean(false);
@@ -188,6 +196,14 @@ public class Pipeline {
         return readBatchTimeoutInMillis;
     }
 
+    /**
+     * @return the number of batches each {@link ProcessWorker} may have published to the sinks without waiting for
+     * the sinks to complete them.
+     */
+    public int getMaxInFlightBatches() {
+        return maxInFlightBatches;
+    }
+
     public boolean isReady() {
         for (final Sink sink: getSinks()) {
             if (!sink.isReady()) {
@@ -318,13 +334,18 @@ public class Pipeline {
     /**
      * Submits the provided collection of records to output to each sink. Collects the future from each sink and returns
      * them as list of futures
+     * <p>
+     * The records of every sink are routed, and so copied, before any sink is submitted. Copies share the data of the
+     * original event until either is modified, so a sink which modifies the original event, such as a
+     * {@link PipelineConnector} to another pipeline, must not start before the last copy is made.
      *
      * @param records records that needs to published to each sink
      * @return List of Future, each future for each sink
      */
     List<Future<Void>> publishToSinks(final Collection<Record> records) {
         final int sinksSize = sinks.size();
-        final List<Future<Void>> sinkFutures = new ArrayList<>(sinksSize);
+        final List<Sink> routedSinks = new ArrayList<>(sinksSize);
+        final List<Collection<Record>> routedRecords = new ArrayList<>(sinksSize);
 
         final RouterGetRecordStrategy getRecordStrategy =
                 new RouterCopyRecordStrategy(eventFactory,
@@ -332,9 +353,17 @@ public class Pipeline {
                     acknowledgementSetManager :
                     InactiveAcknowledgementSetManager.getInstance(),
                 sinks);
-        router.route(records, sinks, getRecordStrategy, (sink, events) ->
-                sinkFutures.add(sinkExecutorService.submit(() -> sink.output(events), null))
-        );
+        router.route(records, sinks, getRecordStrategy, (sink, events) -> {
+            routedSinks.add(sink);
+            routedRecords.add(events);
+        });
+
+        final List<Future<Void>> sinkFutures = new ArrayList<>(routedSinks.size());
+        for (int i = 0; i < routedSinks.size(); i++) {
+            final Sink sink = routedSinks.get(i);
+            final Collection<Record> events = routedRecords.get(i);
+            sinkFutures.add(sinkExecutorService.submit(() -> sink.output(events), null));
+        }
         return sinkFutures;
     }
 }
@@ -14,11 +14,12 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.pipeline.common.FutureHelper;
-import org.opensearch.dataprepper.pipeline.common.FutureHelperResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayDeque;
 import java.util.Collection;
+import java.util.Deque;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.Map;
@@ -39,6 +40,8 @@ public class ProcessWorker implements Runnable {
     private PluginMetrics pluginMetrics;
     private final Counter invalidEventHandlesCounter;
     private boolean acknowledgementsEnabled;
+    private final int maxInFlightBatches;
+    private final Deque<InFlightBatch> inFlightBatches;
 
     public ProcessWorker(
             final Buffer readBuffer,
@@ -50,6 +53,8 @@ public class ProcessWorker implements Runnable {
         this.pluginMetrics = PluginMetrics.fromNames("ProcessWorker", pipeline.getName());
         this.invalidEventHandlesCounter = pluginMetrics.counter(INVALID_EVENT_HANDLES);
         this.acknowledgementsEnabled = pipeline.getSource().areAcknowledgementsEnabled();
+        this.maxInFlightBatches = pipeline.getMaxInFlightBatches();
+        this.inFlightBatches = new ArrayDeque<>(maxInFlightBatches);
     }
 
     @Override
@@ -74,6 +79,7 @@ public class ProcessWorker implements Runnable {
             while (System.currentTimeMillis() < drainTimeoutExpiration) {
                 doRun();
             }
+            awaitInFlightBatches();
             LOG.info("Processor shutdown phase 3 complete.");
 
             // Phase 4 - prepare processors for shutdown
@@ -86,6 +92,7 @@ public class ProcessWorker implements Runnable {
             while (!areComponentsReadyForShutdown()) {
                 doRun();
             }
+            awaitInFlightBatches();
             LOG.info("Processor shutdown phase 5 complete.");
         } catch (final Exception e) {
             LOG.error("Encountered exception during pipeline {} processing", pipeline.getName(), e);
@@ -130,9 +137,7 @@ public class ProcessWorker implements Runnable {
             }
         }
 
-        postToSink(records);
-        // Checkpoint the current batch read from the buffer after being processed by processors and sinks.
-        readBuffer.checkpoint(checkpointState);
+        postToSink(records, checkpointState);
     }
 
     private boolean areComponentsReadyForShutdown() {
@@ -143,13 +148,64 @@ public class ProcessWorker implements Runnable {
 
     /**
      * TODO Add isolator pattern - Fail if one of the Sink fails [isolator Pattern]
-     * Uses the pipeline method to publish to sinks, waits for each of the sink result to be true before attempting to
-     * process more records from buffer.
+     * Uses the pipeline method to publish to sinks without waiting on them. The worker only waits for the sinks once
+     * it has {@link Pipeline#getMaxInFlightBatches()} batches outstanding, and always checkpoints batches in the order
+     * they were read from the buffer. With the default of one batch in flight, this waits for each sink to complete
+     * before attempting to process more records from buffer.
      */
-    private boolean postToSink(final Collection<Record> records) {
+    private void postToSink(final Collection<Record> records, final CheckpointState checkpointState) {
         LOG.debug("Pipeline Worker: Submitting {} processed records to sinks", records.size());
         final List<Future<Void>> sinkFutures = pipeline.publishToSinks(records);
-        final FutureHelperResult<Void> futureResults = FutureHelper.awaitFuturesIndefinitely(sinkFutures);
-        return futureResults.getFailedReasons().size() == 0;
+        inFlightBatches.addLast(new InFlightBatch(sinkFutures, checkpointState));
+
+        checkpointCompletedBatches();
+        while (inFlightBatches.size() >= maxInFlightBatches) {
+            awaitOldestInFlightBatch();
+        }
+    }
+
+    private void checkpointCompletedBatches() {
+        while (!inFlightBatches.isEmpty() && inFlightBatches.peekFirst().isDone()) {
+            awaitOldestInFlightBatch();
+        }
+    }
+
+    private void awaitInFlightBatches() {
+        while (!inFlightBatches.isEmpty()) {
+            awaitOldestInFlightBatch();
+        }
+    }
+
+    /**
+     * Waits for the sinks of the oldest in-flight batch and checkpoints it. A batch is checkpointed even if a sink
+     * failed, since {@link FutureHelper} has already logged the failure and the records cannot be read again.
+     */
+    private void awaitOldestInFlightBatch() {
+        final InFlightBatch inFlightBatch = inFlightBatches.removeFirst();
+        FutureHelper.awaitFuturesIndefinitely(inFlightBatch.getSinkFutures());
+        // Checkpoint the batch read from the buffer after being processed by processors and sinks.
+        readBuffer.checkpoint(inFlightBatch.getCheckpointState());
+    }
+
+    private static class InFlightBatch {
+        private final List<Future<Void>> sinkFutures;
+        private final CheckpointState checkpointState;
+
+        private InFlightBatch(final List<Future<Void>> sinkFutures, final CheckpointState checkpointState) {
+            this.sinkFutures = sinkFutures;
+            this.checkpointState = checkpointState;
+        }
+
+        List<Future<Void>> getSinkFutures() {
+            return sinkFutures;
+        }
+
+        CheckpointState getCheckpointState() {
+            return checkpointState;
+        }
+
+        boolean isDone() {
+            return sinkFutures.stream().allMatch(Future::isDone);
+        }
     }
 }
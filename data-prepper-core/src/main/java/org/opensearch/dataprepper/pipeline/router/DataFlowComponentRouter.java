@@ -9,9 +9,9 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.parser.DataFlowComponent;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Map;
+import java.util.List;
 import java.util.Set;
 import java.util.function.BiConsumer;
 
@@ -22,7 +22,7 @@ import java.util.function.BiConsumer;
 class DataFlowComponentRouter {
     <C> void route(final Collection<Record> allRecords,
                    final DataFlowComponent<C> dataFlowComponent,
-                   final Map<Record, Set<String>> recordsToRoutes,
+                   final RouteMembership routeMembership,
                    final RouterGetRecordStrategy getRecordStrategy,
                    final BiConsumer<C, Collection<Record>> componentRecordsConsumer) {
 
@@ -32,14 +32,11 @@ class DataFlowComponentRouter {
         if (dataFlowComponentRoutes.isEmpty()) {
             recordsForComponent = getRecordStrategy.getAllRecords(allRecords);
         } else {
-            recordsForComponent = new ArrayList<>();
-            for (Record record : allRecords) {
-                final Set<String> routesForEvent = recordsToRoutes
-                        .getOrDefault(record, Collections.emptySet());
-
-                if (routesForEvent.stream().anyMatch(dataFlowComponentRoutes::contains)) {
-                    recordsForComponent.add(getRecordStrategy.getRecord(record));
-                }
+            final List<Record> records = routeMembership.getRecords();
+            final BitSet recordIndexes = routeMembership.getRecordIndexesForRoutes(dataFlowComponentRoutes);
+            recordsForComponent = new ArrayList<>(recordIndexes.cardinality());
+            for (int i = recordIndexes.nextSetBit(0); i >= 0; i = recordIndexes.nextSetBit(i + 1)) {
+                recordsForComponent.add(getRecordStrategy.getRecord(records.get(i)));
             }
         }
         componentRecordsConsumer.accept(dataFlowComponent.getComponent(), recordsForComponent);
@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.router;
+
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A view of an {@link Event} used while evaluating the routes for that event. Values read with
+ * {@link #get(String, Class)} as {@link Object} are remembered, so that when several route conditions
+ * refer to the same key, the key is only read from the underlying event once.
+ */
+class RouteEvaluationEvent implements Event {
+    private final Event event;
+    private Map<String, Object> objectValues;
+
+    RouteEvaluationEvent(final Event event) {
+        this.event = event;
+    }
+
+    Event getEvent() {
+        return event;
+    }
+
+    @Override
+    public void put(final String key, final Object value) {
+        objectValues = null;
+        event.put(key, value);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(final String key, final Class<T> clazz) {
+        if (clazz != Object.class) {
+            return event.get(key, clazz);
+        }
+        if (objectValues == null) {
+            objectValues = new HashMap<>();
+        } else if (objectValues.containsKey(key)) {
+            return (T) objectValues.get(key);
+        }
+        final T value = event.get(key, clazz);
+        objectValues.put(key, value);
+        return value;
+    }
+
+    @Override
+    public <T> List<T> getList(final String key, final Class<T> clazz) {
+        return event.getList(key, clazz);
+    }
+
+    @Override
+    public void delete(final String key) {
+        objectValues = null;
+        event.delete(key);
+    }
+
+    @Override
+    public String toJsonString() {
+        return event.toJsonString();
+    }
+
+    @Override
+    public String getAsJsonString(final String key) {
+        return event.getAsJsonString(key);
+    }
+
+    @Override
+    public EventMetadata getMetadata() {
+        return event.getMetadata();
+    }
+
+    @Override
+    public boolean containsKey(final String key) {
+        return event.containsKey(key);
+    }
+
+    @Override
+    public boolean isValueAList(final String key) {
+        return event.isValueAList(key);
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        return event.toMap();
+    }
+
+    @Override
+    public String formatString(final String format) {
+        return event.formatString(format);
+    }
+
+    @Override
+    public String formatString(final String format, final ExpressionEvaluator expressionEvaluator) {
+        return event.formatString(format, expressionEvaluator);
+    }
+
+    @Override
+    public EventHandle getEventHandle() {
+        return event.getEventHandle();
+    }
+
+    @Override
+    public JsonStringBuilder jsonBuilder() {
+        return event.jsonBuilder();
+    }
+}
@@ -12,12 +12,10 @@ import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
+import java.util.List;
+import java.util.RandomAccess;
 
 class RouteEventEvaluator {
 
@@ -31,22 +29,30 @@ class RouteEventEvaluator {
         this.routes = routes;
     }
 
-    Map<Record, Set<String>> evaluateEventRoutes(final Collection<Record> records) {
-        final Map<Record, Set<String>> recordsToRoutes = new HashMap<>();
+    /**
+     * Evaluates the routes for a batch of records. Each event is evaluated against every route
+     * in turn, and the values read by the route conditions are shared between those evaluations.
+     *
+     * @param records The records to evaluate
+     * @return The {@link RouteMembership} of the records
+     */
+    RouteMembership evaluateEventRoutes(final Collection<Record> records) {
+        final List<Record> recordList = records instanceof List && records instanceof RandomAccess
+                ? (List<Record>) records
+                : new ArrayList<>(records);
+        final RouteMembership routeMembership = new RouteMembership(recordList);
 
         int nonEventRecords = 0;
 
-        for (Record record : records) {
+        for (int recordIndex = 0; recordIndex < recordList.size(); recordIndex++) {
 
-            final Object data = record.getData();
+            final Object data = recordList.get(recordIndex).getData();
 
             if (data instanceof Event) {
-                final Event event = (Event) data;
-                final Set<String> matchedRoutes = findMatchedRoutes(event);
-                recordsToRoutes.put(record, matchedRoutes);
+                final Event event = routes.size() > 1 ? new RouteEvaluationEvent((Event) data) : (Event) data;
+                addMatchedRoutes(event, recordIndex, routeMembership);
             } else {
                 nonEventRecords++;
-                recordsToRoutes.put(record, Collections.emptySet());
             }
         }
 
@@ -54,20 +60,18 @@ class RouteEventEvaluator {
             LOG.warn("Received {} records which are not events. These will have no routes applied.", nonEventRecords);
         }
 
-        return recordsToRoutes;
+        return routeMembership;
     }
 
-    private Set<String> findMatchedRoutes(final Event event) {
-        final Set<String> matchRoutes = new HashSet<>();
+    private void addMatchedRoutes(final Event event, final int recordIndex, final RouteMembership routeMembership) {
         for (ConditionalRoute route : routes) {
             try {
                 if (evaluator.evaluateConditional(route.getCondition(), event)) {
-                    matchRoutes.add(route.getName());
+                    routeMembership.addRecordToRoute(route.getName(), recordIndex);
                 }
             } catch (final Exception ex) {
                 LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
             }
         }
-        return matchRoutes;
     }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.router;
+
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The routes matched by a batch of records. Each route keeps a {@link BitSet} over the index of the records
+ * in the batch, so that the records for a set of routes can be found without per-record lookups.
+ */
+class RouteMembership {
+    private final List<Record> records;
+    private final Map<String, BitSet> routeToRecordIndexes;
+
+    RouteMembership(final List<Record> records) {
+        this.records = records;
+        this.routeToRecordIndexes = new HashMap<>();
+    }
+
+    void addRecordToRoute(final String route, final int recordIndex) {
+        routeToRecordIndexes
+                .computeIfAbsent(route, r -> new BitSet(records.size()))
+                .set(recordIndex);
+    }
+
+    /**
+     * @return The records in the batch, in the order which the record indexes refer to.
+     */
+    List<Record> getRecords() {
+        return records;
+    }
+
+    /**
+     * Gets the indexes of the records which matched any of the given routes.
+     *
+     * @param routes The routes to find records for
+     * @return A new {@link BitSet} with the indexes of the matching records set
+     */
+    BitSet getRecordIndexesForRoutes(final Collection<String> routes) {
+        final BitSet recordIndexes = new BitSet(records.size());
+        for (final String route : routes) {
+            final BitSet routeRecordIndexes = routeToRecordIndexes.get(route);
+            if (routeRecordIndexes != null) {
+                recordIndexes.or(routeRecordIndexes);
+            }
+        }
+        return recordIndexes;
+    }
+}
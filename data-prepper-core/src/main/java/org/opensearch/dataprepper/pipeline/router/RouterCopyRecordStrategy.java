@@ -83,11 +83,15 @@ public class RouterCopyRecordStrategy implements RouterGetRecordStrategy {
             routedRecords.add(record);
             return record;
         }
+        /*
+         * Copies of events share the data of the original event until
+         * either one is modified, so that sinks which only read the
+         * events do not copy them.
+         */
         if (record.getData() instanceof JacksonSpan) {
             // Not supporting acknowledgements for Span initially
             try {
-                final Span spanEvent = (Span) record.getData();
-                Span newSpanEvent = JacksonSpan.fromSpan(spanEvent);
+                final Span newSpanEvent = ((JacksonSpan) record.getData()).copyOnWrite();
                 return new Record<>(newSpanEvent);
             } catch (Exception ex) {
             }
@@ -98,9 +102,13 @@ public class RouterCopyRecordStrategy implements RouterGetRecordStrategy {
                 Record newRecord;
                 DefaultEventHandle eventHandle = (DefaultEventHandle)recordEvent.getEventHandle();
                 if (eventHandle != null) {
-                    final EventMetadata eventMetadata = recordEvent.getMetadata();
-                    final EventBuilder eventBuilder = (EventBuilder) eventFactory.eventBuilder(EventBuilder.class).withEventMetadata(eventMetadata).withData(recordEvent.toMap());
-                    newRecordEvent = (JacksonEvent) eventBuilder.build();
+                    if (recordEvent instanceof JacksonEvent) {
+                        newRecordEvent = ((JacksonEvent) recordEvent).copyOnWrite();
+                    } else {
+                        final EventMetadata eventMetadata = recordEvent.getMetadata();
+                        final EventBuilder eventBuilder = (EventBuilder) eventFactory.eventBuilder(EventBuilder.class).withEventMetadata(eventMetadata).withData(recordEvent.toMap());
+                        newRecordEvent = (JacksonEvent) eventBuilder.build();
+                    }
 
                     eventHandle.getAcknowledgementSet().add(newRecordEvent);
                     newRecord = new Record<>(newRecordEvent);
@@ -108,7 +116,9 @@ public class RouterCopyRecordStrategy implements RouterGetRecordStrategy {
                 } else {
                     // TODO we should have a way to create from factory
                     // even when acknowledgements are not used
-                    newRecordEvent = JacksonEvent.fromEvent(recordEvent);
+                    newRecordEvent = recordEvent instanceof JacksonEvent
+                            ? ((JacksonEvent) recordEvent).copyOnWrite()
+                            : JacksonEvent.fromEvent(recordEvent);
                     newRecord = new Record<>(newRecordEvent);
                 }
                 return newRecord;
@@ -110,6 +110,7 @@ class PipelineConfigurationTests {
         comparePluginSettings(actualSinkPluginSettings.get(0), TestDataProvider.VALID_PLUGIN_SETTING_1);
         assertThat(pipelineConfiguration.getWorkers(), CoreMatchers.is(TestDataProvider.DEFAULT_WORKERS));
         assertThat(pipelineConfiguration.getReadBatchDelay(), CoreMatchers.is(TestDataProvider.DEFAULT_READ_BATCH_DELAY));
+        assertThat(pipelineConfiguration.getMaxInFlightBatches(), CoreMatchers.is(1));
     }
 
     @Test
@@ -203,6 +204,32 @@ class PipelineConfigurationTests {
         assertThat(actual.getMessage(), equalTo("Invalid configuration, delay must be a non-negative integer."));
     }
 
+    @Test
+    void testMaxInFlightBatchesConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(4);
+        final PipelineConfiguration pipelineConfiguration = new PipelineConfiguration(pipelineModel);
+        assertThat(pipelineConfiguration.getMaxInFlightBatches(), equalTo(4));
+    }
+
+    @Test
+    void testInvalidMaxInFlightBatchesConfiguration() {
+        final PipelineModel pipelineModel = mock(PipelineModel.class);
+        when(pipelineModel.getSource()).thenReturn(source);
+        when(pipelineModel.getProcessors()).thenReturn(processors);
+        when(pipelineModel.getSinks()).thenReturn(sinks);
+        when(pipelineModel.getWorkers()).thenReturn(TestDataProvider.TEST_WORKERS);
+        when(pipelineModel.getReadBatchDelay()).thenReturn(TestDataProvider.TEST_DELAY);
+        when(pipelineModel.getMaxInFlightBatches()).thenReturn(0);
+        final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> new PipelineConfiguration(pipelineModel));
+        assertThat(actual.getMessage(), equalTo("Invalid configuration, max_in_flight_batches cannot be 0"));
+    }
+
     @Test
     void testSinksWithRoutes() {
         final List<Collection<String>> orderedSinkRoutes = new ArrayList<>();
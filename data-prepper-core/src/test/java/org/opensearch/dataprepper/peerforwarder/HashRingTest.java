@@ -133,4 +133,75 @@ class HashRingTest {
         // Second call during rebuild
         verify(peerListProvider, times(2)).getPeerList();
     }
-}
\ No newline at end of file
+
+    @Test
+    void testEndpointChangeRoutesToTheNewEndpoints() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        when(peerListProvider.getPeerList()).thenReturn(Collections.singletonList("10.10.0.4"));
+        hashRing.accept(Collections.emptyList());
+
+        Assertions.assertEquals(Optional.of("10.10.0.4"), hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1));
+        Assertions.assertEquals(Optional.of("10.10.0.4"), hashRing.getServerIp(IDENTIFICATION_KEY_LIST_2));
+    }
+
+    @Test
+    void testGetServerIpWithMissingIdentificationKeyValues() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        final Optional<String> result = hashRing.getServerIp(Arrays.asList("key1", null));
+
+        Assertions.assertTrue(result.isPresent());
+        Assertions.assertEquals(result, hashRing.getServerIp(Arrays.asList("key1", null)));
+    }
+
+    @Test
+    void testHashIsTheSameAsHashingTheJoinedValues() {
+        Assertions.assertEquals(HashRing.hash(List.of("key1,key_2")), HashRing.hash(List.of("key1", "key_2")));
+        Assertions.assertEquals(HashRing.hash(List.of("key1,null")), HashRing.hash(Arrays.asList("key1", null)));
+        Assertions.assertNotEquals(HashRing.hash(List.of("key1", "key_2")), HashRing.hash(List.of("key_2", "key1")));
+    }
+
+    @Test
+    void testIsLocalServer() {
+        when(peerListProvider.getPeerList()).thenReturn(Arrays.asList("127.0.0.1", "8.8.8.8"));
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+
+        Assertions.assertTrue(hashRing.isLocalServer("127.0.0.1"));
+        Assertions.assertFalse(hashRing.isLocalServer("8.8.8.8"));
+    }
+
+    @Test
+    void testIsLocalServerWithAddressNotOnTheRing() {
+        hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
+
+        Assertions.assertTrue(hashRing.isLocalServer("127.0.0.2"));
+        Assertions.assertFalse(hashRing.isLocalServer("8.8.4.4"));
+    }
+
+    @Test
+    void testGetServerCount() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        Assertions.assertEquals(SERVER_IPS.size(), hashRing.getServerCount());
+    }
+
+    @Test
+    void testGetServerIpWithBoundedLoadsSkipsServersWithoutCapacity() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+        final String primaryServerIp = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1).get();
+
+        final Optional<String> result = hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1, serverIp -> !serverIp.equals(primaryServerIp));
+
+        Assertions.assertTrue(result.isPresent());
+        Assertions.assertNotEquals(primaryServerIp, result.get());
+        Assertions.assertEquals(result, hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1, serverIp -> !serverIp.equals(primaryServerIp)));
+    }
+
+    @Test
+    void testGetServerIpWithBoundedLoadsReturnsThePrimaryServerWhenNoServerHasCapacity() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT);
+
+        Assertions.assertEquals(hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1), hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1, serverIp -> false));
+    }
+}
@@ -43,4 +43,10 @@ class LocalPeerForwarderTest {
         assertThat(records, is(empty()));
     }
 
+    @Test
+    void isReadyForShutdown_should_return_true() {
+        final LocalPeerForwarder localPeerForwarder = new LocalPeerForwarder();
+
+        assertThat(localPeerForwarder.isReadyForShutdown(), equalTo(true));
+    }
 }
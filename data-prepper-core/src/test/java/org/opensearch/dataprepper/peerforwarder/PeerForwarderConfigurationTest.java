@@ -8,6 +8,7 @@ package org.opensearch.dataprepper.peerforwarder;
 import static org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration.DEFAULT_DRAIN_TIMEOUT;
 
 import org.opensearch.dataprepper.TestDataProvider;
+import org.opensearch.dataprepper.peerforwarder.codec.BinaryCodecFormat;
 import org.opensearch.dataprepper.peerforwarder.discovery.DiscoveryMode;
 import org.opensearch.dataprepper.parser.DataPrepperDurationDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -25,7 +26,9 @@ import java.time.Duration;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.opensearch.dataprepper.peerforwarder.PeerForwarderConfiguration.DEFAULT_FORWARDING_BATCH_TIMEOUT;
@@ -66,7 +69,10 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchSize(), equalTo(1500));
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(1));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(DEFAULT_FORWARDING_BATCH_TIMEOUT));
+        assertThat(peerForwarderConfiguration.getForwardingMaxInFlightRequests(), equalTo(16));
+        assertThat(peerForwarderConfiguration.getBoundedLoadFactor(), equalTo(null));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getBinaryCodecFormat(), equalTo(BinaryCodecFormat.JAVA));
     }
 
     @Test
@@ -99,7 +105,28 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchSize(), equalTo(2500));
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(3));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(Duration.of(5, ChronoUnit.SECONDS)));
+        assertThat(peerForwarderConfiguration.getForwardingMaxInFlightRequests(), equalTo(4));
+        assertThat(peerForwarderConfiguration.getBoundedLoadFactor(), equalTo(1.25));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(false));
+        assertThat(peerForwarderConfiguration.getBinaryCodecFormat(), equalTo(BinaryCodecFormat.JAVA));
+    }
+
+    @Test
+    void testValidPeerForwarderConfig_with_smile_binary_codec() throws IOException {
+        final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig("src/test/resources/valid_peer_forwarder_config_with_smile_binary_codec.yml");
+
+        assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getBinaryCodecFormat(), equalTo(BinaryCodecFormat.SMILE));
+    }
+
+    @Test
+    void testInvalidPeerForwarderConfig_with_unknown_binary_codec_format_lists_the_valid_formats() {
+        final ValueInstantiationException exception = assertThrows(ValueInstantiationException.class,
+                () -> makeConfig("src/test/resources/invalid_peer_forwarder_with_unknown_binary_codec_format.yml"));
+
+        assertThat(exception.getCause(), instanceOf(IllegalArgumentException.class));
+        assertThat(exception.getCause().getMessage(), containsString("cbor"));
+        assertThat(exception.getCause().getMessage(), containsString("java, smile"));
     }
 
     @Test
@@ -186,8 +213,11 @@ class PeerForwarderConfigurationTest {
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_DNS_WITHOUT_DOMAIN_NAME_CONFIG_FILE,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_NEGATIVE_DRAIN_TIMEOUT,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_ZERO_LOCAL_WRITE_TIMEOUT,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_ZERO_FORWARDING_MAX_IN_FLIGHT_REQUESTS,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_BOUNDED_LOAD_FACTOR_OF_ONE,
             "src/test/resources/invalid_peer_forwarder_config_with_many_authentication.yml",
-            "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml"
+            "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml",
+            "src/test/resources/invalid_peer_forwarder_with_binary_codec_format_without_binary_codec.yml"
     })
     void invalid_InvalidPeerForwarderConfig_test(final String filePath) {
         assertThrows(ValueInstantiationException.class, () -> makeConfig(filePath));
@@ -198,6 +198,24 @@ class PeerForwardingProcessingDecoratorTest {
             verify(processor).isReadyForShutdown();
         }
 
+        @Test
+        void PeerForwardingProcessingDecorator_isReadyForShutdown_is_false_while_the_peer_forwarder_is_not_ready() {
+            when(processor.isReadyForShutdown()).thenReturn(true);
+            when(peerForwarder.isReadyForShutdown()).thenReturn(false);
+            final List<Processor> processors = createObjectUnderTesDecoratedProcessors(Collections.singletonList(processor));
+
+            assertThat(processors.get(0).isReadyForShutdown(), equalTo(false));
+        }
+
+        @Test
+        void PeerForwardingProcessingDecorator_isReadyForShutdown_is_true_when_the_processor_and_peer_forwarder_are_ready() {
+            when(processor.isReadyForShutdown()).thenReturn(true);
+            when(peerForwarder.isReadyForShutdown()).thenReturn(true);
+            final List<Processor> processors = createObjectUnderTesDecoratedProcessors(Collections.singletonList(processor));
+
+            assertThat(processors.get(0).isReadyForShutdown(), equalTo(true));
+        }
+
         @Test
         void PeerForwardingProcessingDecorator_shutdown_will_call_inner_processors_shutdown() {
             final List<Processor> processors = createObjectUnderTesDecoratedProcessors(Collections.singletonList(processor));
@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder;
+
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PeerLoadTrackerTest {
+    private static final double LOAD_FACTOR = 1.25;
+    private static final String PEER_A = "10.10.0.1";
+    private static final String PEER_B = "10.10.0.2";
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Counter recordsRedirectedCounter;
+
+    private long nanoTime;
+
+    @BeforeEach
+    void setUp() {
+        when(pluginMetrics.counter(PeerLoadTracker.RECORDS_REDIRECTED_FOR_LOAD)).thenReturn(recordsRedirectedCounter);
+        nanoTime = 0;
+    }
+
+    private PeerLoadTracker createObjectUnderTest() {
+        final PeerLoadTracker peerLoadTracker = new PeerLoadTracker(pluginMetrics, LOAD_FACTOR, () -> nanoTime);
+        peerLoadTracker.update(2, Collections.emptyMap());
+        return peerLoadTracker;
+    }
+
+    @Test
+    void constructor_registers_the_imbalance_gauge() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest();
+
+        verify(pluginMetrics).gauge(eq(PeerLoadTracker.PEER_LOAD_IMBALANCE), eq(objectUnderTest), any());
+    }
+
+    @Test
+    void hasCapacity_is_bounded_by_the_load_factor_times_the_average_load() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.hasCapacity(PEER_A), equalTo(true));
+        objectUnderTest.recordRouted(PEER_A, false);
+        assertThat(objectUnderTest.hasCapacity(PEER_A), equalTo(true));
+        objectUnderTest.recordRouted(PEER_A, false);
+
+        assertThat(objectUnderTest.hasCapacity(PEER_A), equalTo(false));
+        assertThat(objectUnderTest.hasCapacity(PEER_B), equalTo(true));
+    }
+
+    @Test
+    void hasCapacity_includes_the_pending_records_of_each_peer() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.update(2, Map.of(PEER_A, 10L));
+
+        assertThat(objectUnderTest.getLoad(PEER_A), equalTo(10L));
+        assertThat(objectUnderTest.hasCapacity(PEER_A), equalTo(false));
+        assertThat(objectUnderTest.hasCapacity(PEER_B), equalTo(true));
+    }
+
+    @Test
+    void update_halves_the_routed_records_after_the_decay_interval() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest();
+        for (int i = 0; i < 4; i++) {
+            objectUnderTest.recordRouted(PEER_A, false);
+        }
+
+        nanoTime = PeerLoadTracker.DECAY_INTERVAL.toNanos() - 1;
+        objectUnderTest.update(2, Collections.emptyMap());
+        assertThat(objectUnderTest.getLoad(PEER_A), equalTo(4L));
+
+        nanoTime = PeerLoadTracker.DECAY_INTERVAL.toNanos();
+        objectUnderTest.update(2, Collections.emptyMap());
+        assertThat(objectUnderTest.getLoad(PEER_A), equalTo(2L));
+    }
+
+    @Test
+    void recordRouted_counts_redirected_records() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.recordRouted(PEER_A, false);
+        verify(recordsRedirectedCounter, never()).increment();
+
+        objectUnderTest.recordRouted(PEER_B, true);
+        verify(recordsRedirectedCounter).increment();
+    }
+
+    @Test
+    void getLoadImbalance_is_0_without_load() {
+        assertThat(createObjectUnderTest().getLoadImbalance(), equalTo(0.0));
+    }
+
+    @Test
+    void getLoadImbalance_is_the_maximum_load_divided_by_the_average_load() {
+        final PeerLoadTracker objectUnderTest = createObjectUnderTest();
+        objectUnderTest.recordRouted(PEER_A, false);
+        objectUnderTest.recordRouted(PEER_A, false);
+        objectUnderTest.recordRouted(PEER_B, false);
+        objectUnderTest.update(2, Map.of(PEER_A, 1L));
+
+        assertThat(objectUnderTest.getLoadImbalance(), equalTo(1.5));
+    }
+}
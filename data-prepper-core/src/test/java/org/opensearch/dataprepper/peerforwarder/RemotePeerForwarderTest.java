@@ -20,6 +20,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.peerforwarder.client.PeerForwarderClient;
+import org.opensearch.dataprepper.peerforwarder.discovery.StaticPeerListProvider;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
@@ -35,6 +36,8 @@ import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -42,11 +45,15 @@ import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -73,6 +80,7 @@ class RemotePeerForwarderTest {
     private static final int FORWARDING_BATCH_QUEUE_DEPTH = 1;
     private static final Duration FORWARDING_BATCH_TIMEOUT = Duration.of(800, ChronoUnit.MILLIS);
     private static final int PIPELINE_WORKER_THREADS = 3;
+    private static final int FORWARDING_MAX_IN_FLIGHT_REQUESTS = PIPELINE_WORKER_THREADS;
     private static final String PIPELINE_NAME = UUID.randomUUID().toString();
     private static final String PLUGIN_ID = UUID.randomUUID().toString();
 
@@ -129,6 +137,7 @@ class RemotePeerForwarderTest {
         when(pluginMetrics.counter(RECORDS_MISSING_IDENTIFICATION_KEYS)).thenReturn(recordsMissingIdentificationKeys);
         when(pluginMetrics.counter(REQUESTS_FAILED)).thenReturn(requestsFailedCounter);
         when(pluginMetrics.counter(REQUESTS_SUCCESSFUL)).thenReturn(requestsSuccessfulCounter);
+        lenient().when(hashRing.isLocalServer(StaticPeerListProvider.LOCAL_ENDPOINT)).thenReturn(true);
     }
 
     @AfterEach
@@ -145,8 +154,17 @@ class RemotePeerForwarderTest {
     }
 
     private RemotePeerForwarder createObjectUnderTest() {
+        return createObjectUnderTest(FORWARDING_MAX_IN_FLIGHT_REQUESTS);
+    }
+
+    private RemotePeerForwarder createObjectUnderTest(final int forwardingMaxInFlightRequests) {
+        return createObjectUnderTest(forwardingMaxInFlightRequests, null);
+    }
+
+    private RemotePeerForwarder createObjectUnderTest(final int forwardingMaxInFlightRequests, final Double boundedLoadFactor) {
         return new RemotePeerForwarder(peerForwarderClient, hashRing, peerForwarderReceiveBuffer, pipelineName, pluginId, identificationKeys, pluginMetrics,
-                TEST_BATCH_DELAY, TEST_LOCAL_WRITE_TIMEOUT, FORWARDING_BATCH_SIZE, FORWARDING_BATCH_QUEUE_DEPTH, FORWARDING_BATCH_TIMEOUT, PIPELINE_WORKER_THREADS);
+                TEST_BATCH_DELAY, TEST_LOCAL_WRITE_TIMEOUT, FORWARDING_BATCH_SIZE, FORWARDING_BATCH_QUEUE_DEPTH, FORWARDING_BATCH_TIMEOUT,
+                forwardingMaxInFlightRequests, boundedLoadFactor, PIPELINE_WORKER_THREADS);
     }
 
     @Test
@@ -385,6 +403,226 @@ class RemotePeerForwarderTest {
         verify(recordsSuccessfullyForwardedCounter).increment(FORWARDING_BATCH_SIZE);
     }
 
+    @Test
+    void forwardRecords_should_not_wait_for_the_responses_from_peers() {
+        final CompletableFuture<AggregatedHttpResponse> responseFuture = new CompletableFuture<>();
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenReturn(responseFuture);
+
+        final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
+        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest();
+
+        final int recordsSetsToGenerate = FORWARDING_BATCH_SIZE;
+        final Collection<Record<Event>> records = peerForwarder.forwardRecords(generateSetsofBatchRecords(recordsSetsToGenerate, 2));
+
+        assertThat(records.size(), equalTo(recordsSetsToGenerate));
+        verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
+        verifyNoInteractions(requestsSuccessfulCounter, recordsSuccessfullyForwardedCounter);
+
+        final AggregatedHttpResponse aggregatedHttpResponse = mock(AggregatedHttpResponse.class);
+        when(aggregatedHttpResponse.status()).thenReturn(HttpStatus.OK);
+        responseFuture.complete(aggregatedHttpResponse);
+
+        verify(requestsSuccessfulCounter).increment();
+        verify(recordsSuccessfullyForwardedCounter).increment(recordsSetsToGenerate);
+    }
+
+    @Test
+    void forwardRecords_should_keep_batches_queued_while_the_peer_has_the_maximum_requests_in_flight() {
+        final CompletableFuture<AggregatedHttpResponse> firstResponseFuture = new CompletableFuture<>();
+        final AggregatedHttpResponse aggregatedHttpResponse = mock(AggregatedHttpResponse.class);
+        when(aggregatedHttpResponse.status()).thenReturn(HttpStatus.OK);
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenReturn(firstResponseFuture)
+                .thenReturn(CompletableFuture.completedFuture(aggregatedHttpResponse));
+
+        final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
+        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest(1);
+
+        final int recordsSetsToGenerate = 2 * FORWARDING_BATCH_SIZE;
+        peerForwarder.forwardRecords(generateSetsofBatchRecords(recordsSetsToGenerate, 2));
+
+        verify(peerForwarderClient, times(1)).serializeRecordsAndSendHttpRequest(anyList(), anyString(), anyString(), anyString());
+        assertThat(peerForwarder.peerBatchingQueueMap.get(testIps.get(0)).size(), equalTo(FORWARDING_BATCH_SIZE));
+
+        firstResponseFuture.complete(aggregatedHttpResponse);
+        peerForwarder.forwardRecords(Collections.emptyList());
+
+        verify(peerForwarderClient, times(2)).serializeRecordsAndSendHttpRequest(anyList(), anyString(), anyString(), anyString());
+        assertThat(peerForwarder.peerBatchingQueueMap.get(testIps.get(0)).isEmpty(), equalTo(true));
+
+        verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter).increment(0);
+        verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
+        verify(requestsSuccessfulCounter, times(2)).increment();
+        verify(recordsSuccessfullyForwardedCounter, times(2)).increment(FORWARDING_BATCH_SIZE);
+    }
+
+    @Test
+    void forwardRecords_should_process_data_locally_when_a_pending_request_fails() {
+        final CompletableFuture<AggregatedHttpResponse> responseFuture = new CompletableFuture<>();
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenReturn(responseFuture);
+
+        final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
+        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest();
+
+        final int recordsSetsToGenerate = FORWARDING_BATCH_SIZE;
+        final Collection<Record<Event>> inputRecords = generateSetsofBatchRecords(recordsSetsToGenerate, 2);
+        peerForwarder.forwardRecords(inputRecords);
+
+        responseFuture.completeExceptionally(new RuntimeException());
+
+        final Collection<Record<Event>> receivedRecords = peerForwarder.receiveRecords();
+        validateFailedForwardingRecords(receivedRecords, inputRecords, recordsSetsToGenerate);
+
+        verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter, times(2)).increment(recordsSetsToGenerate);
+        verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
+        verify(recordsFailedForwardingCounter).increment(recordsSetsToGenerate);
+        verify(requestsFailedCounter).increment();
+    }
+
+    @Test
+    void isReadyForShutdown_waits_for_the_responses_of_requests_in_flight() {
+        final CompletableFuture<AggregatedHttpResponse> responseFuture = new CompletableFuture<>();
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenReturn(responseFuture);
+
+        final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
+        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest();
+
+        final int recordsSetsToGenerate = FORWARDING_BATCH_SIZE;
+        peerForwarder.forwardRecords(generateSetsofBatchRecords(recordsSetsToGenerate, 2));
+
+        final AggregatedHttpResponse aggregatedHttpResponse = mock(AggregatedHttpResponse.class);
+        when(aggregatedHttpResponse.status()).thenReturn(HttpStatus.OK);
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(() -> responseFuture.complete(aggregatedHttpResponse));
+
+        assertThat(peerForwarder.isReadyForShutdown(), equalTo(true));
+        assertThat(responseFuture.isDone(), equalTo(true));
+
+        verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
+        verify(requestsSuccessfulCounter).increment();
+        verify(recordsSuccessfullyForwardedCounter).increment(recordsSetsToGenerate);
+    }
+
+    @Test
+    void isReadyForShutdown_returns_false_when_a_request_is_still_in_flight_after_the_wait() {
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenReturn(new CompletableFuture<>());
+
+        final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
+        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest();
+
+        final int recordsSetsToGenerate = FORWARDING_BATCH_SIZE;
+        peerForwarder.forwardRecords(generateSetsofBatchRecords(recordsSetsToGenerate, 2));
+
+        final long startNanos = System.nanoTime();
+        assertThat(peerForwarder.isReadyForShutdown(), equalTo(false));
+        assertThat(System.nanoTime() - startNanos, greaterThanOrEqualTo(RemotePeerForwarder.IN_FLIGHT_REQUESTS_SHUTDOWN_WAIT.toNanos()));
+
+        verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
+    }
+
+    @Test
+    void isReadyForShutdown_returns_false_until_the_records_of_failed_requests_are_received() {
+        when(peerForwarderClient.serializeRecordsAndSendHttpRequest(anyCollection(), anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException()));
+
+        final List<String> testIps = List.of("8.8.8.8", "127.0.0.1");
+        lenient().when(hashRing.getServerIp(List.of("value1", "value1"))).thenReturn(Optional.of(testIps.get(0)));
+        lenient().when(hashRing.getServerIp(List.of("value2", "value2"))).thenReturn(Optional.of(testIps.get(1)));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest();
+
+        final int recordsSetsToGenerate = FORWARDING_BATCH_SIZE;
+        peerForwarder.forwardRecords(generateSetsofBatchRecords(recordsSetsToGenerate, 2));
+
+        assertThat(peerForwarder.isReadyForShutdown(), equalTo(false));
+        peerForwarder.receiveRecords();
+        assertThat(peerForwarder.isReadyForShutdown(), equalTo(true));
+
+        verify(recordsToBeProcessedLocallyCounter).increment(recordsSetsToGenerate);
+        verify(recordsActuallyProcessedLocallyCounter, times(2)).increment(recordsSetsToGenerate);
+        verify(recordsToBeForwardedCounter).increment(recordsSetsToGenerate);
+        verify(recordsFailedForwardingCounter).increment(recordsSetsToGenerate);
+        verify(requestsFailedCounter).increment();
+    }
+
+    @Test
+    void forwardRecords_with_bounded_load_factor_redirects_records_from_an_overloaded_peer() {
+        mockPeerForwarderClientResponse();
+        final Counter recordsRedirectedForLoadCounter = mock(Counter.class);
+        when(pluginMetrics.counter(PeerLoadTracker.RECORDS_REDIRECTED_FOR_LOAD)).thenReturn(recordsRedirectedForLoadCounter);
+
+        final String remoteIp = "8.8.8.8";
+        final String localIp = StaticPeerListProvider.LOCAL_ENDPOINT;
+        when(hashRing.getServerCount()).thenReturn(2);
+        when(hashRing.getServerIp(anyList())).thenReturn(Optional.of(remoteIp));
+        when(hashRing.getServerIp(anyList(), any())).thenAnswer(invocation -> {
+            final Predicate<String> hasCapacity = invocation.getArgument(1);
+            return Optional.of(hasCapacity.test(remoteIp) ? remoteIp : localIp);
+        });
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest(FORWARDING_MAX_IN_FLIGHT_REQUESTS, 1.25);
+
+        final Collection<Record<Event>> records = peerForwarder.forwardRecords(generateBatchRecords(10));
+
+        // With 2 peers and a load factor of 1.25, every third record which hashes to the remote peer is redirected
+        assertThat(records.size(), equalTo(3));
+        verify(recordsRedirectedForLoadCounter, times(3)).increment();
+        verify(peerForwarderClient, times(1)).serializeRecordsAndSendHttpRequest(anyList(), eq(remoteIp), anyString(), anyString());
+        assertThat(peerForwarder.peerBatchingQueueMap.get(remoteIp).size(), equalTo(7 - FORWARDING_BATCH_SIZE));
+
+        verify(recordsToBeProcessedLocallyCounter).increment(3);
+        verify(recordsActuallyProcessedLocallyCounter).increment(3);
+        verify(recordsToBeForwardedCounter).increment(7);
+        verify(requestsSuccessfulCounter).increment();
+        verify(recordsSuccessfullyForwardedCounter).increment(FORWARDING_BATCH_SIZE);
+    }
+
+    @Test
+    void forwardRecords_without_bounded_load_factor_does_not_redirect_records() {
+        mockPeerForwarderClientResponse();
+        final String remoteIp = "8.8.8.8";
+        when(hashRing.getServerIp(anyList())).thenReturn(Optional.of(remoteIp));
+
+        final RemotePeerForwarder peerForwarder = createObjectUnderTest();
+
+        final Collection<Record<Event>> records = peerForwarder.forwardRecords(generateBatchRecords(FORWARDING_BATCH_SIZE));
+
+        assertThat(records.size(), equalTo(0));
+        verify(hashRing, never()).getServerIp(anyList(), any());
+
+        verify(recordsActuallyProcessedLocallyCounter).increment(0);
+        verify(recordsToBeForwardedCounter).increment(FORWARDING_BATCH_SIZE);
+        verify(requestsSuccessfulCounter).increment();
+        verify(recordsSuccessfullyForwardedCounter).increment(FORWARDING_BATCH_SIZE);
+    }
+
     @Test
     void test_receiveRecords_should_return_record_from_buffer() throws Exception {
         final Collection<Record<Event>> testRecords = generateBatchRecords(3);
@@ -47,6 +47,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
@@ -163,6 +165,28 @@ class PeerForwarderClientTest {
         verify(peerForwarderClientFactory).setPeerClientPool();
     }
 
+    @Test
+    void serializeRecordsAndSendHttpRequest_returns_before_the_peer_responds() throws ExecutionException, InterruptedException, TimeoutException {
+        final WebClient webClient = mock(WebClient.class);
+        when(peerClientPool.getClient(anyString())).thenReturn(webClient);
+        final CompletableFuture<HttpResponse> pendingResponse = new CompletableFuture<>();
+        when(webClient.post(anyString(), any(byte[].class))).thenReturn(HttpResponse.from(pendingResponse));
+
+        final PeerForwarderClient peerForwarderClient = createObjectUnderTest();
+
+        final CompletableFuture<AggregatedHttpResponse> aggregatedHttpResponseFuture =
+                peerForwarderClient.serializeRecordsAndSendHttpRequest(generateBatchRecords(1), TEST_ADDRESS,
+                        TEST_PLUGIN_ID, TEST_PIPELINE_NAME);
+
+        assertThat(aggregatedHttpResponseFuture.isDone(), equalTo(false));
+        verify(requestsCounter).increment();
+
+        pendingResponse.complete(HttpResponse.of(HttpStatus.OK));
+
+        final AggregatedHttpResponse aggregatedHttpResponse = aggregatedHttpResponseFuture.get(5, TimeUnit.SECONDS);
+        assertThat(aggregatedHttpResponse.status(), equalTo(HttpStatus.OK));
+    }
+
     private Collection<Record<Event>> generateBatchRecords(final int numRecords) {
         final Collection<Record<Event>> results = new ArrayList<>();
         for (int i = 0; i < numRecords; i++) {
@@ -0,0 +1,211 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.peerforwarder.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.peerforwarder.model.PeerForwardingEvents;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SmilePeerForwarderCodecTest {
+    private String pipelineName;
+    private String pluginId;
+
+    @BeforeEach
+    void setUp() {
+        pipelineName = UUID.randomUUID().toString();
+        pluginId = UUID.randomUUID().toString();
+    }
+
+    private SmilePeerForwarderCodec createObjectUnderTest() {
+        return new SmilePeerForwarderCodec();
+    }
+
+    @Test
+    void testCodec() throws IOException {
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(2);
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(objectUnderTest.serialize(inputEvents));
+
+        assertThat(outputEvents.getDestinationPipelineName(), equalTo(pipelineName));
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(pluginId));
+        assertThat(outputEvents.getEvents().size(), equalTo(2));
+        for (int i = 0; i < 2; i++) {
+            final Event inputEvent = inputEvents.getEvents().get(i);
+            final Event outputEvent = outputEvents.getEvents().get(i);
+            assertThat(outputEvent, instanceOf(JacksonEvent.class));
+            assertThat(outputEvent.toMap(), equalTo(inputEvent.toMap()));
+            assertThat(outputEvent.getMetadata().getEventType(), equalTo("LOG"));
+        }
+    }
+
+    @Test
+    void testCodec_preserves_event_metadata() throws IOException {
+        final Instant timeReceived = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType("LOG")
+                .withTimeReceived(timeReceived)
+                .withAttributes(Map.of("attribute", "value", "nested", Map.of("count", 5)))
+                .withTags(Set.of("tag1", "tag2"))
+                .build();
+        final Event event = JacksonLog.builder()
+                .withData(Map.of("message", "hello"))
+                .withEventMetadata(eventMetadata)
+                .build();
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(
+                objectUnderTest.serialize(new PeerForwardingEvents(List.of(event), pluginId, pipelineName)));
+
+        final EventMetadata outputMetadata = outputEvents.getEvents().get(0).getMetadata();
+        assertThat(outputMetadata.getTimeReceived(), equalTo(timeReceived));
+        assertThat(outputMetadata.getAttributes(), equalTo(eventMetadata.getAttributes()));
+        assertThat(outputMetadata.getTags(), equalTo(Set.of("tag1", "tag2")));
+    }
+
+    @Test
+    void testCodec_with_spans_creates_spans() throws IOException {
+        final Span span = JacksonSpan.builder()
+                .withTraceId(UUID.randomUUID().toString())
+                .withTraceGroup(UUID.randomUUID().toString())
+                .withSpanId(UUID.randomUUID().toString())
+                .withName(UUID.randomUUID().toString())
+                .withKind(UUID.randomUUID().toString())
+                .withStartTime(Instant.now().toString())
+                .withEndTime(Instant.now().toString())
+                .withDurationInNanos(100L)
+                .withAttributes(Map.of("http.method", "GET"))
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .build();
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(
+                objectUnderTest.serialize(new PeerForwardingEvents(List.of(span), pluginId, pipelineName)));
+
+        final Event outputEvent = outputEvents.getEvents().get(0);
+        assertThat(outputEvent, instanceOf(JacksonSpan.class));
+        assertThat(((Span) outputEvent).getTraceId(), equalTo(span.getTraceId()));
+        assertThat(((Span) outputEvent).getAttributes(), equalTo(span.getAttributes()));
+        assertThat(outputEvent.toMap(), equalTo(span.toMap()));
+    }
+
+    @Test
+    void testCodec_with_an_Event_which_is_not_a_JacksonEvent() throws IOException {
+        final Event event = mock(Event.class);
+        final EventMetadata eventMetadata = DefaultEventMetadata.builder().withEventType("LOG").build();
+        when(event.getMetadata()).thenReturn(eventMetadata);
+        when(event.toMap()).thenReturn(Map.of("key", "value"));
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(
+                objectUnderTest.serialize(new PeerForwardingEvents(List.of(event), pluginId, pipelineName)));
+
+        assertThat(outputEvents.getEvents().get(0).get("key", String.class), equalTo("value"));
+    }
+
+    @Test
+    void testCodec_with_null_events() throws IOException {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(
+                objectUnderTest.serialize(new PeerForwardingEvents(null, pluginId, pipelineName)));
+
+        assertThat(outputEvents.getEvents(), nullValue());
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(pluginId));
+    }
+
+    @Test
+    void serialize_writes_repeated_keys_once() throws IOException {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        final int oneEventSize = objectUnderTest.serialize(generatePeerForwardingEvents(1)).length;
+        final int twoEventsSize = objectUnderTest.serialize(generatePeerForwardingEvents(2)).length;
+
+        assertThat(twoEventsSize - oneEventSize, lessThan(oneEventSize / 2));
+    }
+
+    @Test
+    void deserialize_ignores_unknown_fields() throws IOException {
+        final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        final byte[] bytes = smileMapper.writeValueAsBytes(Map.of(
+                SmilePeerForwarderCodec.DESTINATION_PLUGIN_ID, pluginId,
+                "unknown", Map.of("a", 1),
+                SmilePeerForwarderCodec.EVENTS, List.of(Map.of(
+                        SmilePeerForwarderCodec.EVENT_TYPE, "LOG",
+                        "unknown", List.of(1, 2),
+                        SmilePeerForwarderCodec.DATA, Map.of("key", "value")))));
+
+        final PeerForwardingEvents outputEvents = createObjectUnderTest().deserialize(bytes);
+
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(pluginId));
+        assertThat(outputEvents.getEvents().get(0).get("key", String.class), equalTo("value"));
+    }
+
+    @Test
+    void testDeserializeException() {
+        final byte[] bytes = new byte[0];
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    @Test
+    void deserialize_throws_when_events_is_not_an_array() throws IOException {
+        final byte[] bytes = new ObjectMapper(new SmileFactory()).writeValueAsBytes(
+                Map.of(SmilePeerForwarderCodec.EVENTS, "not-an-array"));
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    @Test
+    void deserialize_throws_when_tags_contain_values_which_are_not_strings() throws IOException {
+        final byte[] bytes = new ObjectMapper(new SmileFactory()).writeValueAsBytes(Map.of(
+                SmilePeerForwarderCodec.EVENTS, List.of(Map.of(
+                        SmilePeerForwarderCodec.EVENT_TYPE, "LOG",
+                        SmilePeerForwarderCodec.TAGS, List.of(1)))));
+
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest();
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    private PeerForwardingEvents generatePeerForwardingEvents(final int numEvents) {
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            final Map<String, Object> eventData = Map.of(
+                    "key1", "value",
+                    "key2", i,
+                    "nested", Map.of("list", List.of("a", "b"), "double", 1.5));
+            final JacksonEvent event = JacksonLog.builder().withData(eventData).withEventType("LOG").build();
+            events.add(event);
+        }
+        return new PeerForwardingEvents(events, pluginId, pipelineName);
+    }
+}
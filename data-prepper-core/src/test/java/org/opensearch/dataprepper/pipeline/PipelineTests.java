@@ -13,6 +13,7 @@ import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.sink.Sink;
@@ -35,13 +36,17 @@ import org.opensearch.dataprepper.sourcecoordination.SourceCoordinatorFactory;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -70,6 +75,7 @@ import static org.mockito.Mockito.when;
 class PipelineTests {
     private static final int TEST_READ_BATCH_TIMEOUT = 500;
     private static final int TEST_PROCESSOR_THREADS = 1;
+    private static final int TEST_MAX_IN_FLIGHT_BATCHES = 1;
     private static final String TEST_PIPELINE_NAME = "test-pipeline";
 
     private Router router;
@@ -110,7 +116,7 @@ class PipelineTests {
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router, eventFactory, 
                 acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
         assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
         assertThat("Pipeline is expected to have a default buffer", testPipeline.getBuffer(), notNullValue());
         assertTrue("Pipeline processors should be empty", testPipeline.getProcessorSets().isEmpty());
@@ -132,7 +138,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
         assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
         assertThat("Pipeline is expected to have a default buffer", testPipeline.getBuffer(), notNullValue());
         assertEquals("Pipeline processorSets size should be 1", 1, testPipeline.getProcessorSets().size());
@@ -155,7 +161,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
         assertThat("Pipeline isStopRequested is expected to be false", testPipeline.isStopRequested(), is(false));
         assertThat("Pipeline is expected to have a default buffer", testPipeline.getBuffer(), notNullValue());
         assertEquals("Pipeline processorSets size should be 1", 1, testPipeline.getProcessorSets().size());
@@ -179,7 +185,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
         Instant startTime = Instant.now();
         testPipeline.execute();
         assertFalse(testPipeline.isReady());
@@ -207,7 +213,7 @@ class PipelineTests {
                 Collections.singletonList(Collections.singletonList(testProcessor)),
                 Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
         Instant startTime = Instant.now();
         testPipeline.execute();
         assertFalse(testPipeline.isReady());
@@ -232,7 +238,7 @@ class PipelineTests {
             final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                     eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
             testPipeline.execute();
         } catch (Exception ex) {
             assertThat("Incorrect exception message", ex.getMessage().contains("Source is expected to fail"));
@@ -251,7 +257,7 @@ class PipelineTests {
             testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                     eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
             testPipeline.execute();
             Thread.sleep(TEST_READ_BATCH_TIMEOUT);
         } catch (Exception ex) {
@@ -293,7 +299,7 @@ class PipelineTests {
             testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.singletonList(Collections.singletonList(testProcessor)), Collections.singletonList(sinkDataFlowComponent),
                     router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                    TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
             testPipeline.execute();
             Thread.sleep(TEST_READ_BATCH_TIMEOUT);
         } catch (Exception ex) {
@@ -317,7 +323,7 @@ class PipelineTests {
             testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                     Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router, eventFactory,
                     acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
             testPipeline.execute();
             Thread.sleep(TEST_READ_BATCH_TIMEOUT);
         } catch (final InterruptedException e) {
@@ -335,7 +341,7 @@ class PipelineTests {
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                 eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
 
         assertEquals(testSource, testPipeline.getSource());
     }
@@ -349,7 +355,7 @@ class PipelineTests {
         final Pipeline testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent),
                 router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
 
         assertEquals(1, testPipeline.getSinks().size());
         assertEquals(testSink, testPipeline.getSinks().iterator().next());
@@ -387,7 +393,7 @@ class PipelineTests {
         private Pipeline createObjectUnderTest() {
             return new Pipeline(TEST_PIPELINE_NAME, mockSource, mock(Buffer.class), Collections.emptyList(),
                     dataFlowComponents, router, eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS,
-                    TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                    TEST_READ_BATCH_TIMEOUT, processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
         }
 
         @Test
@@ -541,6 +547,56 @@ class PipelineTests {
                 }
             }
         }
+
+        @Test
+        void publishToSinks_copies_Events_for_every_Sink_before_a_PipelineConnector_modifies_them() throws Exception {
+            final PipelineConnector pipelineConnector = mock(PipelineConnector.class);
+            final Sink otherSink = mock(Sink.class);
+            final DataFlowComponent<Sink> connectorDataFlowComponent = mock(DataFlowComponent.class);
+            when(connectorDataFlowComponent.getComponent()).thenReturn(pipelineConnector);
+            final DataFlowComponent<Sink> otherDataFlowComponent = mock(DataFlowComponent.class);
+            when(otherDataFlowComponent.getComponent()).thenReturn(otherSink);
+            dataFlowComponents = Arrays.asList(connectorDataFlowComponent, otherDataFlowComponent);
+
+            final CountDownLatch connectorOutputLatch = new CountDownLatch(1);
+            doAnswer(a -> {
+                final Collection<Record<Event>> connectorRecords = a.getArgument(0);
+                connectorRecords.forEach(record -> record.getData().put("key", "modified by the downstream pipeline"));
+                connectorOutputLatch.countDown();
+                return null;
+            }).when(pipelineConnector).output(anyCollection());
+            final List<Collection<Record<Event>>> otherSinkRecords = new ArrayList<>();
+            doAnswer(a -> otherSinkRecords.add(a.getArgument(0))).when(otherSink).output(anyCollection());
+
+            doAnswer(a -> {
+                final Collection<Record> allRecords = a.getArgument(0);
+                final RouterGetRecordStrategy getRecordStrategy = a.getArgument(2);
+                final BiConsumer<Sink, Collection<Record>> consumer = a.getArgument(3);
+                for (final DataFlowComponent<Sink> dataFlowComponent : dataFlowComponents) {
+                    final List<Record> componentRecords = allRecords.stream()
+                            .map(getRecordStrategy::getRecord)
+                            .collect(Collectors.toList());
+                    consumer.accept(dataFlowComponent.getComponent(), componentRecords);
+                    // give a PipelineConnector which was already submitted the chance to modify the original events
+                    connectorOutputLatch.await(500, TimeUnit.MILLISECONDS);
+                }
+                return null;
+            }).when(router).route(anyCollection(), eq(dataFlowComponents), any(RouterGetRecordStrategy.class), any(BiConsumer.class));
+
+            final List<Record> eventRecords = IntStream.range(0, 10)
+                    .mapToObj(i -> new Record<>(JacksonEvent.builder()
+                            .withEventType("event")
+                            .withData(Collections.singletonMap("key", "original"))
+                            .build()))
+                    .collect(Collectors.toList());
+
+            FutureHelper.awaitFuturesIndefinitely(createObjectUnderTest().publishToSinks(eventRecords));
+
+            assertThat(otherSinkRecords.size(), equalTo(1));
+            for (final Record<Event> record : otherSinkRecords.get(0)) {
+                assertThat(record.getData().get("key", String.class), equalTo("original"));
+            }
+        }
     }
 
     @Test
@@ -552,7 +608,7 @@ class PipelineTests {
         testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                 eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
 
         PipelineObserver pipelineObserver = mock(PipelineObserver.class);
         testPipeline.addShutdownObserver(pipelineObserver);
@@ -575,7 +631,7 @@ class PipelineTests {
         testPipeline = new Pipeline(TEST_PIPELINE_NAME, testSource, new BlockingBuffer(TEST_PIPELINE_NAME),
                 Collections.emptyList(), Collections.singletonList(sinkDataFlowComponent), router,
                 eventFactory, acknowledgementSetManager, sourceCoordinatorFactory, TEST_PROCESSOR_THREADS, TEST_READ_BATCH_TIMEOUT,
-                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout);
+                processorShutdownTimeout, sinkShutdownTimeout, peerForwarderDrainTimeout, TEST_MAX_IN_FLIGHT_BATCHES);
 
         PipelineObserver pipelineObserver = mock(PipelineObserver.class);
         testPipeline.addShutdownObserver(pipelineObserver);
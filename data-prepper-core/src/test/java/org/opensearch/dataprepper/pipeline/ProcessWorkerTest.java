@@ -0,0 +1,192 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.source.Source;
+
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings({"rawtypes", "unchecked"})
+@ExtendWith(MockitoExtension.class)
+class ProcessWorkerTest {
+    @Mock
+    private Buffer readBuffer;
+
+    @Mock
+    private Pipeline pipeline;
+
+    @Mock
+    private Source source;
+
+    private AtomicBoolean stopRequested;
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        stopRequested = new AtomicBoolean(false);
+        executorService = Executors.newSingleThreadExecutor();
+
+        when(pipeline.getName()).thenReturn("test-pipeline");
+        when(pipeline.getSource()).thenReturn(source);
+        when(source.areAcknowledgementsEnabled()).thenReturn(false);
+        lenient().when(pipeline.getReadBatchTimeoutInMillis()).thenReturn(10);
+        lenient().when(pipeline.getPeerForwarderDrainTimeout()).thenReturn(Duration.ZERO);
+        lenient().when(pipeline.isStopRequested()).thenAnswer(invocation -> stopRequested.get());
+        lenient().when(readBuffer.isEmpty()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    private ProcessWorker createObjectUnderTest(final int maxInFlightBatches) {
+        when(pipeline.getMaxInFlightBatches()).thenReturn(maxInFlightBatches);
+        return new ProcessWorker(readBuffer, Collections.emptyList(), pipeline);
+    }
+
+    @Test
+    void run_checkpoints_batches_in_the_order_they_were_read_when_their_sinks_complete_out_of_order() throws Exception {
+        final CompletableFuture<Void> firstSinkFuture = new CompletableFuture<>();
+        final List<CheckpointState> checkpointStates = stubBufferReads(3);
+        when(pipeline.publishToSinks(anyCollection()))
+                .thenReturn(List.of(firstSinkFuture))
+                .thenReturn(List.of(CompletableFuture.completedFuture(null)))
+                .thenAnswer(invocation -> {
+                    stopRequested.set(true);
+                    return List.of(CompletableFuture.completedFuture(null));
+                });
+        final ProcessWorker objectUnderTest = createObjectUnderTest(3);
+
+        final Future<?> runFuture = executorService.submit(objectUnderTest);
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> verify(pipeline, times(3)).publishToSinks(anyCollection()));
+        verify(readBuffer, never()).checkpoint(any());
+
+        firstSinkFuture.complete(null);
+        runFuture.get(2, TimeUnit.SECONDS);
+
+        final InOrder inOrder = inOrder(readBuffer);
+        for (final CheckpointState checkpointState : checkpointStates) {
+            inOrder.verify(readBuffer).checkpoint(checkpointState);
+        }
+    }
+
+    @Test
+    void run_stops_reading_from_the_buffer_while_max_in_flight_batches_are_in_flight() throws Exception {
+        final CompletableFuture<Void> firstSinkFuture = new CompletableFuture<>();
+        final CompletableFuture<Void> secondSinkFuture = new CompletableFuture<>();
+        final List<CheckpointState> checkpointStates = stubBufferReads(3);
+        when(pipeline.publishToSinks(anyCollection()))
+                .thenReturn(List.of(firstSinkFuture))
+                .thenReturn(List.of(secondSinkFuture))
+                .thenAnswer(invocation -> {
+                    stopRequested.set(true);
+                    return List.of(CompletableFuture.completedFuture(null));
+                });
+        final ProcessWorker objectUnderTest = createObjectUnderTest(2);
+
+        final Future<?> runFuture = executorService.submit(objectUnderTest);
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> verify(pipeline, times(2)).publishToSinks(anyCollection()));
+        Thread.sleep(100);
+        verify(readBuffer, times(2)).read(anyInt());
+        verify(readBuffer, never()).checkpoint(any());
+
+        firstSinkFuture.complete(null);
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> verify(readBuffer, times(3)).read(anyInt()));
+        verify(readBuffer).checkpoint(checkpointStates.get(0));
+        assertThat(runFuture.isDone(), equalTo(false));
+
+        secondSinkFuture.complete(null);
+        runFuture.get(2, TimeUnit.SECONDS);
+
+        final InOrder inOrder = inOrder(readBuffer);
+        for (final CheckpointState checkpointState : checkpointStates) {
+            inOrder.verify(readBuffer).checkpoint(checkpointState);
+        }
+    }
+
+    @Test
+    void run_waits_for_all_in_flight_batches_before_completing_shutdown() throws Exception {
+        final CompletableFuture<Void> firstSinkFuture = new CompletableFuture<>();
+        final CompletableFuture<Void> secondSinkFuture = new CompletableFuture<>();
+        final List<CheckpointState> checkpointStates = stubBufferReads(2);
+        when(pipeline.publishToSinks(anyCollection()))
+                .thenReturn(List.of(firstSinkFuture))
+                .thenAnswer(invocation -> {
+                    stopRequested.set(true);
+                    return List.of(secondSinkFuture);
+                });
+        final ProcessWorker objectUnderTest = createObjectUnderTest(4);
+
+        final Future<?> runFuture = executorService.submit(objectUnderTest);
+
+        await().atMost(2, TimeUnit.SECONDS).untilAsserted(() -> verify(pipeline, times(2)).publishToSinks(anyCollection()));
+        Thread.sleep(100);
+        assertThat(runFuture.isDone(), equalTo(false));
+        verify(readBuffer, never()).checkpoint(any());
+
+        secondSinkFuture.complete(null);
+        firstSinkFuture.complete(null);
+        runFuture.get(2, TimeUnit.SECONDS);
+
+        final InOrder inOrder = inOrder(readBuffer);
+        inOrder.verify(readBuffer).checkpoint(checkpointStates.get(0));
+        inOrder.verify(readBuffer).checkpoint(checkpointStates.get(1));
+        verify(readBuffer, times(2)).read(anyInt());
+    }
+
+    private List<CheckpointState> stubBufferReads(final int batchCount) {
+        final List<CheckpointState> checkpointStates = new ArrayList<>(batchCount);
+        final List<Map.Entry<Collection, CheckpointState>> readResults = new ArrayList<>(batchCount);
+        for (int i = 0; i < batchCount; i++) {
+            final CheckpointState checkpointState = new CheckpointState(1);
+            checkpointStates.add(checkpointState);
+            readResults.add(new AbstractMap.SimpleEntry<>(new ArrayList<>(List.of(mock(Record.class))), checkpointState));
+        }
+        when(readBuffer.read(anyInt()))
+                .thenReturn(readResults.get(0), readResults.subList(1, batchCount).toArray(new Map.Entry[0]));
+        return checkpointStates;
+    }
+}
@@ -18,6 +18,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -64,6 +65,17 @@ class DataFlowComponentRouterTest {
         return new DataFlowComponentRouter();
     }
 
+    private RouteMembership createRouteMembership(final Map<Record, Set<String>> recordsToRoutes) {
+        final List<Record> records = new ArrayList<>(recordsIn);
+        final RouteMembership routeMembership = new RouteMembership(records);
+        for (int i = 0; i < records.size(); i++) {
+            for (final String route : recordsToRoutes.getOrDefault(records.get(i), Collections.emptySet())) {
+                routeMembership.addRecordToRoute(route, i);
+            }
+        }
+        return routeMembership;
+    }
+
     @Test
     void route_with_null_strategy_throws() {
         getRecordStrategy = null;
@@ -75,7 +87,7 @@ class DataFlowComponentRouterTest {
         getRecordStrategy = null;
         final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                 .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
-        assertThrows(NullPointerException.class, () -> createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer));
+        assertThrows(NullPointerException.class, () -> createObjectUnderTest().route(recordsIn, dataFlowComponent, createRouteMembership(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer));
     }
 
     @Nested
@@ -95,7 +107,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, createRouteMembership(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -105,7 +117,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> allWithRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, allWithRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, createRouteMembership(allWithRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -116,7 +128,7 @@ class DataFlowComponentRouterTest {
 
             final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, createRouteMembership(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -143,7 +155,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, createRouteMembership(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
@@ -153,7 +165,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, createRouteMembership(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
@@ -164,7 +176,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> allMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(knownRoute)));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, allMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, createRouteMembership(allMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -182,7 +194,7 @@ class DataFlowComponentRouterTest {
                 applyRoute = !applyRoute;
             }
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, someMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, createRouteMembership(someMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, expectedRecords);
         }
@@ -193,7 +205,7 @@ class DataFlowComponentRouterTest {
 
             final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, createRouteMembership(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -221,7 +233,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.emptySet()));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, createRouteMembership(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
@@ -231,7 +243,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> noMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, createRouteMembership(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
         }
@@ -242,7 +254,7 @@ class DataFlowComponentRouterTest {
             final Map<Record, Set<String>> allMatchingRoutes = recordsIn.stream()
                     .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(knownRoute)));
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, allMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, createRouteMembership(allMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -260,7 +272,7 @@ class DataFlowComponentRouterTest {
                 applyRoute = !applyRoute;
             }
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, someMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, createRouteMembership(someMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, expectedRecords);
         }
@@ -271,7 +283,7 @@ class DataFlowComponentRouterTest {
 
             final Map<Record, Set<String>> noMatchingRoutes = Collections.emptyMap();
 
-            createObjectUnderTest().route(recordsIn, dataFlowComponent, noMatchingRoutes, getRecordStrategy, componentRecordsConsumer);
+            createObjectUnderTest().route(recordsIn, dataFlowComponent, createRouteMembership(noMatchingRoutes), getRecordStrategy, componentRecordsConsumer);
 
             verify(componentRecordsConsumer).accept(testComponent, recordsIn);
         }
@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.pipeline.router;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RouteEvaluationEventTest {
+    @Mock
+    private Event event;
+
+    private RouteEvaluationEvent createObjectUnderTest() {
+        return new RouteEvaluationEvent(event);
+    }
+
+    @Test
+    void getEvent_returns_the_Event() {
+        assertThat(createObjectUnderTest().getEvent(), sameInstance(event));
+    }
+
+    @Test
+    void get_Object_reads_each_key_from_the_Event_once() {
+        final String key = UUID.randomUUID().toString();
+        final Object value = UUID.randomUUID().toString();
+        when(event.get(key, Object.class)).thenReturn(value);
+
+        final RouteEvaluationEvent objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.get(key, Object.class), equalTo(value));
+        assertThat(objectUnderTest.get(key, Object.class), equalTo(value));
+
+        verify(event, times(1)).get(key, Object.class);
+    }
+
+    @Test
+    void get_Object_remembers_missing_keys() {
+        final String key = UUID.randomUUID().toString();
+
+        final RouteEvaluationEvent objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.get(key, Object.class), nullValue());
+        assertThat(objectUnderTest.get(key, Object.class), nullValue());
+
+        verify(event, times(1)).get(key, Object.class);
+    }
+
+    @Test
+    void get_with_other_type_reads_from_the_Event_each_time() {
+        final String key = UUID.randomUUID().toString();
+        final String value = UUID.randomUUID().toString();
+        when(event.get(key, String.class)).thenReturn(value);
+
+        final RouteEvaluationEvent objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.get(key, String.class), equalTo(value));
+        assertThat(objectUnderTest.get(key, String.class), equalTo(value));
+
+        verify(event, times(2)).get(key, String.class);
+    }
+
+    @Test
+    void put_clears_remembered_values() {
+        final String key = UUID.randomUUID().toString();
+        final Object value = UUID.randomUUID().toString();
+        final RouteEvaluationEvent objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.get(key, Object.class);
+        objectUnderTest.put(key, value);
+        objectUnderTest.get(key, Object.class);
+
+        verify(event).put(key, value);
+        verify(event, times(2)).get(key, Object.class);
+    }
+
+    @Test
+    void delete_clears_remembered_values() {
+        final String key = UUID.randomUUID().toString();
+        final RouteEvaluationEvent objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.get(key, Object.class);
+        objectUnderTest.delete(key);
+        objectUnderTest.get(key, Object.class);
+
+        verify(event).delete(key);
+        verify(event, times(2)).get(key, Object.class);
+    }
+
+    @Test
+    void read_methods_delegate_to_the_Event() {
+        final String key = UUID.randomUUID().toString();
+        final String format = UUID.randomUUID().toString();
+        final String formatted = UUID.randomUUID().toString();
+        final String json = UUID.randomUUID().toString();
+        final List<String> list = Collections.singletonList(UUID.randomUUID().toString());
+        final Map<String, Object> map = Collections.singletonMap(key, UUID.randomUUID().toString());
+        final EventMetadata eventMetadata = mock(EventMetadata.class);
+        final EventHandle eventHandle = mock(EventHandle.class);
+        final Event.JsonStringBuilder jsonStringBuilder = mock(Event.JsonStringBuilder.class);
+        final ExpressionEvaluator expressionEvaluator = mock(ExpressionEvaluator.class);
+
+        when(event.getList(key, String.class)).thenReturn(list);
+        when(event.toJsonString()).thenReturn(json);
+        when(event.getAsJsonString(key)).thenReturn(json);
+        when(event.getMetadata()).thenReturn(eventMetadata);
+        when(event.containsKey(key)).thenReturn(true);
+        when(event.isValueAList(key)).thenReturn(true);
+        when(event.toMap()).thenReturn(map);
+        when(event.formatString(format)).thenReturn(formatted);
+        when(event.formatString(format, expressionEvaluator)).thenReturn(formatted);
+        when(event.getEventHandle()).thenReturn(eventHandle);
+        when(event.jsonBuilder()).thenReturn(jsonStringBuilder);
+
+        final RouteEvaluationEvent objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getList(key, String.class), equalTo(list));
+        assertThat(objectUnderTest.toJsonString(), equalTo(json));
+        assertThat(objectUnderTest.getAsJsonString(key), equalTo(json));
+        assertThat(objectUnderTest.getMetadata(), sameInstance(eventMetadata));
+        assertThat(objectUnderTest.containsKey(key), equalTo(true));
+        assertThat(objectUnderTest.isValueAList(key), equalTo(true));
+        assertThat(objectUnderTest.toMap(), equalTo(map));
+        assertThat(objectUnderTest.formatString(format), equalTo(formatted));
+        assertThat(objectUnderTest.formatString(format, expressionEvaluator), equalTo(formatted));
+        assertThat(objectUnderTest.getEventHandle(), sameInstance(eventHandle));
+        assertThat(objectUnderTest.jsonBuilder(), sameInstance(jsonStringBuilder));
+    }
+}
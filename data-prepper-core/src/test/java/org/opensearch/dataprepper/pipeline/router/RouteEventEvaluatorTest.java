@@ -19,10 +19,10 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 
-import java.util.Collection;
+import java.util.ArrayDeque;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
@@ -32,11 +32,13 @@ import java.util.stream.IntStream;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.anEmptyMap;
-import static org.hamcrest.Matchers.empty;
-import static org.hamcrest.Matchers.hasKey;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -64,45 +66,29 @@ class RouteEventEvaluatorTest {
         }
 
         @Test
-        void evaluateEventRoutes_with_empty_Records_returns_empty_map() {
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
+        void evaluateEventRoutes_with_empty_Records_returns_empty_membership() {
+            final RouteMembership routeMembership = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
 
-            assertThat(recordsToRoutes, notNullValue());
-            assertThat(recordsToRoutes, is(anEmptyMap()));
+            assertThat(routeMembership, notNullValue());
+            assertThat(routeMembership.getRecords().isEmpty(), is(true));
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_all_empty_routes() {
-            final Collection<Record> records = createEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
+        void evaluateEventRoutes_with_Event_Records_returns_membership_with_all_empty_routes() {
+            final List<Record> records = createEventRecords();
+            final RouteMembership routeMembership = createObjectUnderTest().evaluateEventRoutes(records);
 
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
-            }
+            assertThat(routeMembership, notNullValue());
+            assertThat(routeMembership.getRecords(), sameInstance(records));
         }
 
         @Test
-        void evaluateEventRoutes_with_non_Event_Records_returns_map_with_all_empty_routes() {
-            final Collection<Record> records = createNonEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
+        void evaluateEventRoutes_with_non_Event_Records_returns_membership_with_all_empty_routes() {
+            final List<Record> records = createNonEventRecords();
+            final RouteMembership routeMembership = createObjectUnderTest().evaluateEventRoutes(records);
 
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
-
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
-            }
+            assertThat(routeMembership, notNullValue());
+            assertThat(routeMembership.getRecords(), equalTo(records));
         }
     }
 
@@ -126,115 +112,143 @@ class RouteEventEvaluatorTest {
         }
 
         @Test
-        void evaluateEventRoutes_with_empty_Records_returns_empty_map() {
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
+        void evaluateEventRoutes_with_empty_Records_returns_empty_membership() {
+            final RouteMembership routeMembership = createObjectUnderTest().evaluateEventRoutes(Collections.emptyList());
 
-            assertThat(recordsToRoutes, notNullValue());
-            assertThat(recordsToRoutes, is(anEmptyMap()));
+            assertThat(routeMembership, notNullValue());
+            assertThat(routeMembership.getRecords().isEmpty(), is(true));
+            assertThat(routeMembership.getRecordIndexesForRoutes(allRouteNames).isEmpty(), is(true));
 
             verifyNoInteractions(evaluator);
         }
 
 
         @Test
-        void evaluateEventRoutes_with_non_Event_Records_returns_map_with_all_empty_routes() {
-            final Collection<Record> records = createNonEventRecords();
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
-
-            assertThat(recordsToRoutes, notNullValue());
-
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
+        void evaluateEventRoutes_with_non_Event_Records_returns_membership_with_all_empty_routes() {
+            final List<Record> records = createNonEventRecords();
+            final RouteMembership routeMembership = createObjectUnderTest().evaluateEventRoutes(records);
 
-            for (Set<String> routes : recordsToRoutes.values()) {
-                assertThat(routes, is(empty()));
-            }
+            assertThat(routeMembership, notNullValue());
+            assertThat(routeMembership.getRecords(), equalTo(records));
+            assertThat(routeMembership.getRecordIndexesForRoutes(allRouteNames).isEmpty(), is(true));
 
             verifyNoInteractions(evaluator);
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_matching_routes() {
+        void evaluateEventRoutes_with_Event_Records_returns_membership_with_matching_routes() {
             final List<Record> records = createEventRecords();
 
-            final Record recordMatchingAllRoutes = records.get(1);
             final Event eventMatchingAllRoutes = (Event) records.get(1).getData();
             for (ConditionalRoute route : routes) {
-                when(evaluator.evaluateConditional(route.getCondition(), eventMatchingAllRoutes))
+                when(evaluator.evaluateConditional(eq(route.getCondition()), argThat(e -> isViewOf(e, eventMatchingAllRoutes))))
                         .thenReturn(true);
-
-                for (Record record : records) {
-                    if(recordMatchingAllRoutes == record)
-                        continue;
-
-                    when(evaluator.evaluate(route.getCondition(), (Event) record.getData()))
-                            .thenReturn(false);
-                }
             }
 
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
+            final RouteMembership routeMembership = createObjectUnderTest().evaluateEventRoutes(records);
 
-            assertThat(recordsToRoutes, notNullValue());
+            assertThat(routeMembership, notNullValue());
+            assertThat(routeMembership.getRecords(), equalTo(records));
 
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
-            for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
-            }
-
-            final Set<String> actualRoutes = recordsToRoutes.get(recordMatchingAllRoutes);
-            assertThat(actualRoutes.size(), equalTo(routes.size()));
-            assertThat(actualRoutes, equalTo(allRouteNames));
-
-            for (Map.Entry<Record, Set<String>> recordSetEntry : recordsToRoutes.entrySet()) {
-                if(recordSetEntry.getKey() == recordMatchingAllRoutes)
-                    continue;
-
-                assertThat(recordSetEntry.getValue(), is(empty()));
+            final BitSet expectedIndexes = new BitSet();
+            expectedIndexes.set(1);
+            for (String routeName : allRouteNames) {
+                assertThat(routeMembership.getRecordIndexesForRoutes(Collections.singleton(routeName)), equalTo(expectedIndexes));
             }
+            assertThat(routeMembership.getRecordIndexesForRoutes(allRouteNames), equalTo(expectedIndexes));
         }
 
         @Test
-        void evaluateEventRoutes_with_Event_Records_returns_map_with_matching_routes_excludes_exceptions() {
+        void evaluateEventRoutes_with_Event_Records_returns_membership_with_matching_routes_excludes_exceptions() {
             final List<Record> records = createEventRecords();
 
             final Record recordMatchingAllRoutes = records.get(1);
             final Event eventMatchingAllRoutes = (Event) records.get(1).getData();
             for (ConditionalRoute route : routes) {
-                when(evaluator.evaluateConditional(route.getCondition(), eventMatchingAllRoutes))
+                when(evaluator.evaluateConditional(eq(route.getCondition()), argThat(e -> isViewOf(e, eventMatchingAllRoutes))))
                         .thenReturn(true);
 
                 for (Record record : records) {
                     if(recordMatchingAllRoutes == record)
                         continue;
 
-                    when(evaluator.evaluateConditional(route.getCondition(), (Event) record.getData()))
+                    final Event event = (Event) record.getData();
+                    when(evaluator.evaluateConditional(eq(route.getCondition()), argThat(e -> isViewOf(e, event))))
                             .thenThrow(RuntimeException.class);
                 }
             }
 
-            final Map<Record, Set<String>> recordsToRoutes = createObjectUnderTest().evaluateEventRoutes(records);
+            final RouteMembership routeMembership = createObjectUnderTest().evaluateEventRoutes(records);
 
-            assertThat(recordsToRoutes, notNullValue());
+            assertThat(routeMembership, notNullValue());
+            assertThat(routeMembership.getRecords(), equalTo(records));
+
+            final BitSet expectedIndexes = new BitSet();
+            expectedIndexes.set(1);
+            assertThat(routeMembership.getRecordIndexesForRoutes(allRouteNames), equalTo(expectedIndexes));
+        }
+
+        @Test
+        void evaluateEventRoutes_evaluates_each_route_against_a_shared_view_of_the_event() {
+            final List<Record> records = createEventRecords();
+
+            final Set<String> allConditions = routes
+                    .stream()
+                    .map(ConditionalRoute::getCondition)
+                    .collect(Collectors.toSet());
+
+            createObjectUnderTest().evaluateEventRoutes(records);
 
-            assertThat(recordsToRoutes.size(), equalTo(records.size()));
             for (Record record : records) {
-                assertThat(recordsToRoutes, hasKey(record));
+                final Event event = (Event) record.getData();
+                verify(evaluator, times(routes.size()))
+                        .evaluateConditional(argThat(allConditions::contains), argThat(e -> e instanceof RouteEvaluationEvent && isViewOf(e, event)));
             }
+        }
 
-            final Set<String> actualRoutes = recordsToRoutes.get(recordMatchingAllRoutes);
-            assertThat(actualRoutes.size(), equalTo(routes.size()));
-            assertThat(actualRoutes, equalTo(allRouteNames));
+        @Test
+        void evaluateEventRoutes_with_non_List_Records_returns_membership_in_iteration_order() {
+            final List<Record> records = createEventRecords();
+            final Event eventMatchingAllRoutes = (Event) records.get(2).getData();
+            for (ConditionalRoute route : routes) {
+                when(evaluator.evaluateConditional(eq(route.getCondition()), argThat(e -> isViewOf(e, eventMatchingAllRoutes))))
+                        .thenReturn(true);
+            }
 
-            for (Map.Entry<Record, Set<String>> recordSetEntry : recordsToRoutes.entrySet()) {
-                if(recordSetEntry.getKey() == recordMatchingAllRoutes)
-                    continue;
+            final RouteMembership routeMembership = createObjectUnderTest().evaluateEventRoutes(new ArrayDeque<>(records));
 
-                assertThat(recordSetEntry.getValue(), is(empty()));
-            }
+            assertThat(routeMembership.getRecords(), equalTo(records));
+            final BitSet expectedIndexes = new BitSet();
+            expectedIndexes.set(2);
+            assertThat(routeMembership.getRecordIndexesForRoutes(allRouteNames), equalTo(expectedIndexes));
         }
+    }
 
+    @Test
+    void evaluateEventRoutes_with_single_route_evaluates_the_Event_directly() {
+        final ConditionalRoute route = mock(ConditionalRoute.class);
+        final String condition = UUID.randomUUID().toString();
+        final String routeName = UUID.randomUUID().toString();
+        when(route.getCondition()).thenReturn(condition);
+        when(route.getName()).thenReturn(routeName);
+        routes = Collections.singletonList(route);
+
+        final List<Record> records = createEventRecords();
+        final Event matchingEvent = (Event) records.get(0).getData();
+        when(evaluator.evaluateConditional(condition, matchingEvent)).thenReturn(true);
+
+        final RouteMembership routeMembership = createObjectUnderTest().evaluateEventRoutes(records);
+
+        final BitSet expectedIndexes = new BitSet();
+        expectedIndexes.set(0);
+        assertThat(routeMembership.getRecordIndexesForRoutes(Collections.singleton(routeName)), equalTo(expectedIndexes));
+    }
+
+    private static boolean isViewOf(final Event actual, final Event expected) {
+        if (actual instanceof RouteEvaluationEvent) {
+            return ((RouteEvaluationEvent) actual).getEvent() == expected;
+        }
+        return actual == expected;
     }
 
     private List<Record> createEventRecords() {
@@ -43,8 +43,6 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.event.EventFactory;
 import org.opensearch.dataprepper.model.event.EventHandle;
-import org.opensearch.dataprepper.model.event.EventBuilder;
-import org.opensearch.dataprepper.model.event.EventMetadata;
 import org.opensearch.dataprepper.event.DefaultEventHandle;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
@@ -62,8 +60,6 @@ public class RouterCopyRecordStrategyTests {
     private AcknowledgementSet acknowledgementSet1;
     @Mock
     private EventFactory eventFactory;
-    @Mock
-    private EventBuilder eventBuilder;
 
     private JacksonEvent event;
 
@@ -229,6 +225,30 @@ public class RouterCopyRecordStrategyTests {
         });
     }
 
+    @Test
+    void test_copied_records_share_data_until_modified() {
+        Collection<DataFlowComponent<PipelineConnector>> dataFlowComponents = new ArrayList<>();
+        when(pipelineDataFlowComponent.getComponent()).thenReturn(new PipelineConnector());
+        for (int i = 0; i < 2; i++) {
+            dataFlowComponents.add(pipelineDataFlowComponent);
+        }
+
+        final RouterCopyRecordStrategy getRecordStrategy = createObjectUnderTest(dataFlowComponents);
+        final Record firstRecord = recordsIn.iterator().next();
+        getRecordStrategy.getRecord(firstRecord);
+        final Record copiedRecord = getRecordStrategy.getRecord(firstRecord);
+
+        final JacksonEvent originalEvent = (JacksonEvent) firstRecord.getData();
+        final JacksonEvent copiedEvent = (JacksonEvent) copiedRecord.getData();
+        assertThat(copiedEvent, not(sameInstance(originalEvent)));
+        assertThat(copiedEvent.toMap(), equalTo(originalEvent.toMap()));
+
+        final String key = UUID.randomUUID().toString();
+        copiedEvent.put(key, UUID.randomUUID().toString());
+        assertFalse(originalEvent.containsKey(key));
+        assertTrue(copiedEvent.containsKey(key));
+    }
+
     @Test
     void test_one_record_with_acknowledgements_and_multi_components() {
         Collection<DataFlowComponent<PipelineConnector>> dataFlowComponents = new ArrayList<>();
@@ -248,11 +268,6 @@ public class RouterCopyRecordStrategyTests {
             }).when(acknowledgementSet1).add(any(JacksonEvent.class));
         } catch (Exception e){}
 
-        eventBuilder = mock(EventBuilder.class);
-        when(eventBuilder.withEventMetadata(any(EventMetadata.class))).thenReturn(eventBuilder);
-        when(eventBuilder.withData(any(Map.class))).thenReturn(eventBuilder);
-        when(eventBuilder.build()).thenReturn(JacksonEvent.fromEvent(event));
-        when(eventFactory.eventBuilder(EventBuilder.class)).thenReturn(eventBuilder);
         Record firstRecord = recordsIn.iterator().next();
         EventHandle firstHandle = ((Event)firstRecord.getData()).getEventHandle();
         Record recordOut = getRecordStrategy.getRecord(firstRecord);
@@ -286,11 +301,6 @@ public class RouterCopyRecordStrategyTests {
             }).when(acknowledgementSet1).add(any(JacksonEvent.class));
         } catch (Exception e){}
 
-        eventBuilder = mock(EventBuilder.class);
-        when(eventBuilder.withEventMetadata(any(EventMetadata.class))).thenReturn(eventBuilder);
-        when(eventBuilder.withData(any(Map.class))).thenReturn(eventBuilder);
-        when(eventBuilder.build()).thenReturn(JacksonEvent.fromEvent(event));
-        when(eventFactory.eventBuilder(EventBuilder.class)).thenReturn(eventBuilder);
         Collection<Record> recordsOut = getRecordStrategy.getAllRecords(recordsIn);
         assertThat(recordsOut.size(), equalTo(recordsIn.size()));
 
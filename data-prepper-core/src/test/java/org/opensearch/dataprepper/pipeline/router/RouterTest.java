@@ -17,11 +17,7 @@ import org.opensearch.dataprepper.parser.DataFlowComponent;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Map;
-import java.util.Set;
-import java.util.UUID;
 import java.util.function.BiConsumer;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -98,16 +94,14 @@ class RouterTest {
     @Nested
     class WithEmptyRecords {
 
-        private Map<Record, Set<String>> recordsToRoutes;
+        private RouteMembership recordsToRoutes;
 
         @BeforeEach
         void setUp() {
             recordsIn = Collections.emptyList();
             dataFlowComponents = Collections.emptyList();
 
-            recordsToRoutes = Collections.singletonMap(
-                    mock(Record.class), Collections.singleton(UUID.randomUUID().toString())
-            );
+            recordsToRoutes = mock(RouteMembership.class);
             when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
         }
 
@@ -146,7 +140,7 @@ class RouterTest {
     @Nested
     class WithRecords {
 
-        private Map<Record, Set<String>> recordsToRoutes;
+        private RouteMembership recordsToRoutes;
 
         @BeforeEach
         void setUp() {
@@ -156,9 +150,7 @@ class RouterTest {
             ;
             dataFlowComponents = Collections.emptyList();
 
-            recordsToRoutes = recordsIn
-                    .stream()
-                    .collect(Collectors.toMap(Function.identity(), r -> Collections.singleton(UUID.randomUUID().toString())));
+            recordsToRoutes = mock(RouteMembership.class);
             when(routeEventEvaluator.evaluateEventRoutes(recordsIn)).thenReturn(recordsToRoutes);
         }
 
@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the tree walking {@link ParseTreeEvaluator} with the {@link CompiledParseTreeEvaluator} for each of the
+ * operators configured in {@link OperatorConfiguration}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ExpressionEvaluatorBenchmark {
+    @Param({
+            "/status == 200",
+            "/status != 200",
+            "/status < 300",
+            "/status <= 300",
+            "/status > 100",
+            "/status >= 100",
+            "/path =~ \"/api/.*\"",
+            "/path !~ \"/health.*\"",
+            "/status == 200 and /method == \"GET\"",
+            "/status == 500 or /method == \"GET\"",
+            "not /cached",
+            "/bytes + 10 > 100",
+            "/bytes - 10 > 100",
+            "/bytes * 2 > 100",
+            "/bytes / 2 > 100",
+            "/method + \"-\" + /path"
+    })
+    private String statement;
+
+    private ParseTree parseTree;
+    private Event event;
+    private ParseTreeEvaluator treeWalkingEvaluator;
+    private CompiledParseTreeEvaluator compiledEvaluator;
+
+    @Setup
+    public void setUp() {
+        final AnnotationConfigApplicationContext applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.scan("org.opensearch.dataprepper.expression");
+        applicationContext.refresh();
+
+        final Parser<ParseTree> parser = applicationContext.getBean(MultiThreadParser.class);
+        treeWalkingEvaluator = applicationContext.getBean(ParseTreeEvaluator.class);
+        compiledEvaluator = applicationContext.getBean(CompiledParseTreeEvaluator.class);
+
+        parseTree = parser.parse(statement);
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of(
+                        "status", 200,
+                        "method", "GET",
+                        "path", "/api/v1/orders",
+                        "bytes", 512,
+                        "cached", false))
+                .build();
+    }
+
+    @Benchmark
+    public Object treeWalkingEvaluator() {
+        return treeWalkingEvaluator.evaluate(parseTree, event);
+    }
+
+    @Benchmark
+    public Object compiledEvaluator() {
+        return compiledEvaluator.evaluate(parseTree, event);
+    }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.5
+ * An expression statement which has been compiled once from its {@link org.antlr.v4.runtime.tree.ParseTree} into an
+ * immutable tree of operations. Literals are resolved at compile time, so evaluating a compiled expression only
+ * resolves JSON pointers and functions against the provided event. Implementations must be thread-safe.
+ */
+@FunctionalInterface
+interface CompiledExpression {
+    /**
+     * @since 2.5
+     * Evaluates the compiled expression against an event.
+     * @param event event used to resolve JSON pointers and functions
+     * @return result of the expression
+     */
+    Object evaluate(final Event event);
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.opensearch.dataprepper.model.event.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Primary;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @since 2.5
+ * Evaluates a {@link ParseTree} by compiling it once into a {@link CompiledExpression} and caching the result. Unlike
+ * {@link ParseTreeEvaluator}, the parse tree is only walked the first time it is evaluated. Subsequent evaluations
+ * of the same parse tree only evaluate the compiled expression against the event.
+ */
+@Named
+@Primary
+class CompiledParseTreeEvaluator implements Evaluator<ParseTree, Event> {
+    private static final Logger LOG = LoggerFactory.getLogger(CompiledParseTreeEvaluator.class);
+
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeWalker walker;
+    private final ParseTreeCoercionService coercionService;
+    private final Map<ParseTree, CompiledExpression> compiledExpressions;
+
+    @Inject
+    public CompiledParseTreeEvaluator(final OperatorProvider operatorProvider, final ParseTreeWalker walker,
+                                      final ParseTreeCoercionService coercionService) {
+        this.operatorProvider = operatorProvider;
+        this.walker = walker;
+        this.coercionService = coercionService;
+        this.compiledExpressions = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Object evaluate(final ParseTree parseTree, final Event event) {
+        try {
+            return compile(parseTree).evaluate(event);
+        } catch (final Exception e) {
+            LOG.error("Unable to evaluate event", e);
+            throw new ExpressionEvaluationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @since 2.5
+     * Compiles a parse tree, returning the cached compiled expression if this parse tree was compiled before.
+     * @param parseTree parse tree to compile
+     * @return immutable and thread-safe compiled expression
+     */
+    CompiledExpression compile(final ParseTree parseTree) {
+        final CompiledExpression compiledExpression = compiledExpressions.get(parseTree);
+        if (compiledExpression != null) {
+            return compiledExpression;
+        }
+        return compiledExpressions.computeIfAbsent(parseTree, this::compileParseTree);
+    }
+
+    private CompiledExpression compileParseTree(final ParseTree parseTree) {
+        final ParseTreeCompilerListener listener = new ParseTreeCompilerListener(operatorProvider, coercionService);
+        walker.walk(listener, parseTree);
+        return listener.getResult();
+    }
+}
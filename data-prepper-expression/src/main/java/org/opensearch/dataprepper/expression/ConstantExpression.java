@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.5
+ * A {@link CompiledExpression} with a value which does not depend on the event, such as a literal or an operation
+ * whose operands are all literals.
+ */
+class ConstantExpression implements CompiledExpression {
+    private final Object value;
+
+    ConstantExpression(final Object value) {
+        this.value = value;
+    }
+
+    Object getValue() {
+        return value;
+    }
+
+    @Override
+    public Object evaluate(final Event event) {
+        return value;
+    }
+}
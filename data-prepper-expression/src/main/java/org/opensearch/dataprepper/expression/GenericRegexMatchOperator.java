@@ -9,6 +9,7 @@ import org.antlr.v4.runtime.RuleContext;
 import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 
 import java.util.function.BiPredicate;
+import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
 
 import static com.google.common.base.Preconditions.checkArgument;
@@ -38,7 +39,7 @@ class GenericRegexMatchOperator implements Operator<Boolean> {
     public Boolean evaluate(final Object ... args) {
         checkArgument(args.length == 2, displayName + " requires operands length needs to be 2.");
         checkArgument(args[0] instanceof String, displayName + " requires left operand to be String.");
-        checkArgument(args[1] instanceof String, displayName + " requires right operand to be String.");
+        checkArgument(args[1] instanceof String || args[1] instanceof Pattern, displayName + " requires right operand to be a String or a precompiled Pattern.");
         try {
             return operation.test(args[0], args[1]);
         } catch (final PatternSyntaxException e) {
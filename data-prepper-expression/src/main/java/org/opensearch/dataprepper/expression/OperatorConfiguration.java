@@ -16,10 +16,12 @@ import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 
 @Named
 class OperatorConfiguration {
-    public final BiPredicate<Object, Object> regexEquals = (x, y) -> ((String) x).matches((String) y);
+    private final RegexPatternCache regexPatternCache = new RegexPatternCache();
+    public final BiPredicate<Object, Object> regexEquals = (x, y) -> toPattern(y).matcher((String) x).matches();
     public final BiPredicate<Object, Object> equals = Objects::equals;
     public final BiPredicate<Object, Object> inSet = (x, y) -> ((Set<?>) y).contains(x);
 
@@ -444,4 +446,11 @@ class OperatorConfiguration {
 
         return new ArithmeticBinaryOperator(DataPrepperExpressionParser.DIVIDE, operandsToOperationMap);
     }
+
+    private Pattern toPattern(final Object regex) {
+        if (regex instanceof Pattern) {
+            return (Pattern) regex;
+        }
+        return regexPatternCache.getPattern((String) regex);
+    }
 }
@@ -12,6 +12,7 @@ import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
 import javax.inject.Inject;
 import javax.inject.Named;
 import java.io.Serializable;
+import java.util.Collections;
 import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
@@ -37,6 +38,17 @@ class ParseTreeCoercionService {
     }
 
     public Object coercePrimaryTerminalNode(final TerminalNode node, final Event event) {
+        return compilePrimaryTerminalNode(node).evaluate(event);
+    }
+
+    /**
+     * @since 2.5
+     * Resolves everything about a terminal node which does not depend on an event. Literals are converted to their
+     * values once, while JSON pointers and functions are resolved against the event on evaluation.
+     * @param node terminal node from the parse tree
+     * @return compiled terminal node
+     */
+    public CompiledExpression compilePrimaryTerminalNode(final TerminalNode node) {
         final int nodeType = node.getSymbol().getType();
         final String nodeStringValue = node.getText();
         switch (nodeType) {
@@ -60,27 +72,28 @@ class ParseTreeCoercionService {
                         throw new RuntimeException("Unsupported type passed as function argument");
                     }
                 }
-                return expressionFunctionProvider.provideFunction(functionName, argList, event, convertLiteralType);
+                final List<Object> functionArgs = Collections.unmodifiableList(argList);
+                return event -> expressionFunctionProvider.provideFunction(functionName, functionArgs, event, convertLiteralType);
             case DataPrepperExpressionParser.EscapedJsonPointer:
                 final String jsonPointerWithoutQuotes = nodeStringValue.substring(1, nodeStringValue.length() - 1);
-                return resolveJsonPointerValue(jsonPointerWithoutQuotes, event);
+                return event -> resolveJsonPointerValue(jsonPointerWithoutQuotes, event);
             case DataPrepperExpressionParser.JsonPointer:
-                return resolveJsonPointerValue(nodeStringValue, event);
+                return event -> resolveJsonPointerValue(nodeStringValue, event);
             case DataPrepperExpressionParser.String:
                 final String nodeStringValueWithQuotesStripped = nodeStringValue.substring(1, nodeStringValue.length() - 1);
-                return nodeStringValueWithQuotesStripped;
+                return new ConstantExpression(nodeStringValueWithQuotesStripped);
             case DataPrepperExpressionParser.Integer:
                 Long longValue = Long.valueOf(nodeStringValue);
                 if (longValue > Integer.MAX_VALUE || longValue < Integer.MIN_VALUE) {
-                    return longValue;
+                    return new ConstantExpression(longValue);
                 }
-                return Integer.valueOf(nodeStringValue);
+                return new ConstantExpression(Integer.valueOf(nodeStringValue));
             case DataPrepperExpressionParser.Float:
-                return Float.valueOf(nodeStringValue);
+                return new ConstantExpression(Float.valueOf(nodeStringValue));
             case DataPrepperExpressionParser.Boolean:
-                return Boolean.valueOf(nodeStringValue);
+                return new ConstantExpression(Boolean.valueOf(nodeStringValue));
             case DataPrepperExpressionParser.Null:
-                return null;
+                return new ConstantExpression(null);
             default:
                 throw new ExpressionCoercionException("Unsupported terminal node type symbol string: " +
                         DataPrepperExpressionParser.VOCABULARY.getDisplayName(nodeType));
@@ -0,0 +1,138 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionBaseListener;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+
+import java.util.Stack;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * @since 2.5
+ * This listener follows the same operator and operand bookkeeping as {@link ParseTreeEvaluatorListener}, but instead
+ * of computing values it builds a {@link CompiledExpression} tree. Operations whose operands are all constants are
+ * folded into a single {@link ConstantExpression} when they can be evaluated at compile time, and literal regex
+ * operands are compiled into a {@link Pattern} once.
+ *
+ * Use case:
+ * ParseTreeWalker walker = new ParseTreeWalker();
+ * ParseTreeCompilerListener listener = new ParseTreeCompilerListener(...);
+ * walker.walk(listener, ...);
+ * final CompiledExpression result = listener.getResult();
+ */
+class ParseTreeCompilerListener extends DataPrepperExpressionBaseListener {
+
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeCoercionService coercionService;
+    private final Stack<Integer> operatorSymbolStack;
+    private final Stack<CompiledExpression> operandStack;
+
+    public ParseTreeCompilerListener(final OperatorProvider operatorProvider,
+                                     final ParseTreeCoercionService coercionService) {
+        this.operatorProvider = operatorProvider;
+        this.coercionService = coercionService;
+        operatorSymbolStack = new Stack<>();
+        operandStack = new Stack<>();
+    }
+
+    public CompiledExpression getResult() {
+        if (operandStack.size() != 1) {
+            throw new IllegalStateException("The ParseTreeCompilerListener has not been walked through exactly once by " +
+                    "a ParseTreeWalker.");
+        }
+        return operandStack.peek();
+    }
+
+    @Override
+    public void visitTerminal(TerminalNode node) {
+        final int nodeType = node.getSymbol().getType();
+        if (nodeType == DataPrepperExpressionParser.EOF) {
+            return;
+        }
+        if (operatorProvider.containsOperator(nodeType) || nodeType == DataPrepperExpressionParser.LPAREN) {
+            operatorSymbolStack.push(nodeType);
+        } else if (nodeType == DataPrepperExpressionParser.RPAREN) {
+            // pop LPAREN at operatorSymbolStack top
+            operatorSymbolStack.pop();
+        } else {
+            operandStack.push(coercionService.compilePrimaryTerminalNode(node));
+        }
+    }
+
+    @Override
+    public void visitErrorNode(ErrorNode node) {
+        throw new RuntimeException("Hit error node in the parse tree: " + node.getText());
+    }
+
+    @Override
+    public void exitEveryRule(ParserRuleContext ctx) {
+        if (!operatorSymbolStack.isEmpty()) {
+            final int operatorSymbol = operatorSymbolStack.peek();
+            if (operatorSymbol != DataPrepperExpressionParser.LPAREN) {
+                final Operator<?> op = operatorProvider.getOperator(operatorSymbol);
+                if (op.shouldEvaluate(ctx)) {
+                    operatorSymbolStack.pop();
+                    compileSingleOperation(op, ctx);
+                }
+            }
+        }
+    }
+
+    private void compileSingleOperation(final Operator<?> operator, final ParserRuleContext ctx) {
+        final int numOfArgs = operator.getNumberOfOperands(ctx);
+        final CompiledExpression[] operands = new CompiledExpression[numOfArgs];
+        boolean allOperandsConstant = true;
+        for (int i = numOfArgs - 1; i >= 0; i--) {
+            operands[i] = operandStack.pop();
+            allOperandsConstant &= operands[i] instanceof ConstantExpression;
+        }
+        if (operator instanceof GenericRegexMatchOperator) {
+            operands[numOfArgs - 1] = compileRegexOperand(operands[numOfArgs - 1]);
+        }
+        final CompiledExpression operation = new OperatorExpression(operator, operands, getPartialStatementFromContext(ctx));
+        operandStack.push(allOperandsConstant ? foldConstantOperation(operation) : operation);
+    }
+
+    /**
+     * Compiles a literal regex operand into a {@link Pattern}. Invalid patterns are left as they are so that the
+     * failure is reported when the expression is evaluated.
+     */
+    private CompiledExpression compileRegexOperand(final CompiledExpression operand) {
+        if (operand instanceof ConstantExpression && ((ConstantExpression) operand).getValue() instanceof String) {
+            try {
+                return new ConstantExpression(Pattern.compile((String) ((ConstantExpression) operand).getValue()));
+            } catch (final PatternSyntaxException e) {
+                return operand;
+            }
+        }
+        return operand;
+    }
+
+    /**
+     * Evaluates an operation on constant operands once. Operations which fail are left as they are so that the failure
+     * is reported when the expression is evaluated, as it would be by {@link ParseTreeEvaluatorListener}.
+     */
+    private CompiledExpression foldConstantOperation(final CompiledExpression operation) {
+        try {
+            return new ConstantExpression(operation.evaluate(null));
+        } catch (final Exception e) {
+            return operation;
+        }
+    }
+
+    private String getPartialStatementFromContext(final ParserRuleContext ctx) {
+        final Token startToken = ctx.getStart();
+        final Token stopToken = ctx.getStop();
+        final String fullStatement = startToken.getInputStream().toString();
+        return fullStatement.substring(startToken.getStartIndex(), stopToken.getStopIndex() + 1);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.util.regex.Pattern;
+
+/**
+ * @since 2.5
+ * A bounded, least-recently-used cache of compiled regex {@link Pattern}s for regex operands which are only known when
+ * an expression is evaluated, such as a JSON pointer resolving to a pattern. Literal patterns are compiled once by
+ * {@link ParseTreeCompilerListener} and do not go through this cache.
+ */
+class RegexPatternCache {
+    static final int DEFAULT_MAXIMUM_SIZE = 1000;
+    static final String REGEX_PATTERN_CACHE_HITS = "regexPatternCacheHits";
+    static final String REGEX_PATTERN_CACHE_MISSES = "regexPatternCacheMisses";
+    private static final String COMPONENT_ID = "regexPatternCache";
+    private static final String COMPONENT_SCOPE = "expression";
+
+    private final Cache<String, Pattern> patterns;
+    private final Counter cacheHitsCounter;
+    private final Counter cacheMissesCounter;
+
+    RegexPatternCache() {
+        this(DEFAULT_MAXIMUM_SIZE, PluginMetrics.fromNames(COMPONENT_ID, COMPONENT_SCOPE));
+    }
+
+    RegexPatternCache(final int maximumSize, final PluginMetrics pluginMetrics) {
+        patterns = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+        cacheHitsCounter = pluginMetrics.counter(REGEX_PATTERN_CACHE_HITS);
+        cacheMissesCounter = pluginMetrics.counter(REGEX_PATTERN_CACHE_MISSES);
+    }
+
+    /**
+     * @since 2.5
+     * Gets the compiled pattern for a regex, compiling and caching it if it is not cached.
+     * @param regex regex to compile
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException if the regex is not a valid pattern
+     */
+    Pattern getPattern(final String regex) {
+        final Pattern cachedPattern = patterns.getIfPresent(regex);
+        if (cachedPattern != null) {
+            cacheHitsCounter.increment();
+            return cachedPattern;
+        }
+        cacheMissesCounter.increment();
+        final Pattern pattern = Pattern.compile(regex);
+        patterns.put(regex, pattern);
+        return pattern;
+    }
+}
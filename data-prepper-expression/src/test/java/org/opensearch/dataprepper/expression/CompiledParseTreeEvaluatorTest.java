@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompiledParseTreeEvaluatorTest {
+
+    @Mock
+    private Event event;
+
+    @Mock
+    private OperatorProvider operatorProvider;
+
+    @Mock
+    private ParseTree parseTree;
+
+    @Mock
+    private ParseTreeWalker parseTreeWalker;
+
+    @Mock
+    private ParseTreeCoercionService coercionService;
+
+    private CompiledParseTreeEvaluator objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        objectUnderTest = new CompiledParseTreeEvaluator(operatorProvider, parseTreeWalker, coercionService);
+    }
+
+    @Test
+    void testEvaluateSuccess() {
+        try (final MockedConstruction<ParseTreeCompilerListener> ignored =
+                     mockConstruction(ParseTreeCompilerListener.class,
+                             (mock, context) -> when(mock.getResult()).thenReturn(new ConstantExpression(true)))) {
+            assertThat(objectUnderTest.evaluate(parseTree, event), is(true));
+        }
+    }
+
+    @Test
+    void testEvaluateWalksParseTreeOnlyOnce() {
+        try (final MockedConstruction<ParseTreeCompilerListener> ignored =
+                     mockConstruction(ParseTreeCompilerListener.class,
+                             (mock, context) -> when(mock.getResult()).thenReturn(e -> e))) {
+            assertThat(objectUnderTest.evaluate(parseTree, event), sameInstance(event));
+            assertThat(objectUnderTest.evaluate(parseTree, event), sameInstance(event));
+            assertThat(objectUnderTest.compile(parseTree), sameInstance(objectUnderTest.compile(parseTree)));
+        }
+        verify(parseTreeWalker, times(1)).walk(any(ParseTreeCompilerListener.class), any(ParseTree.class));
+    }
+
+    @Test
+    void testEvaluateFailureInWalk() {
+        doThrow(new RuntimeException()).when(parseTreeWalker).walk(
+                any(ParseTreeCompilerListener.class), any(ParseTree.class));
+        try (final MockedConstruction<ParseTreeCompilerListener> ignored =
+                     mockConstruction(ParseTreeCompilerListener.class)) {
+            assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.evaluate(parseTree, event));
+        }
+    }
+
+    @Test
+    void testEvaluateFailureInCompiledExpression() {
+        try (final MockedConstruction<ParseTreeCompilerListener> ignored =
+                     mockConstruction(ParseTreeCompilerListener.class,
+                             (mock, context) -> when(mock.getResult()).thenReturn(e -> {
+                                 throw new RuntimeException();
+                             }))) {
+            assertThrows(ExpressionEvaluationException.class, () -> objectUnderTest.evaluate(parseTree, event));
+        }
+    }
+}
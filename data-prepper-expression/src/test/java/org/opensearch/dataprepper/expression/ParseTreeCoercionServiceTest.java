@@ -69,6 +69,27 @@ class ParseTreeCoercionServiceTest {
         assertThat(result, equalTo(testString));
     }
 
+    @Test
+    void testCompileTerminalNodeStringTypeReturnsConstant() {
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.String);
+        final String testString = "test string";
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn(String.format("\"%s\"", testString));
+        final CompiledExpression result = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(result, instanceOf(ConstantExpression.class));
+        assertThat(result.evaluate(null), equalTo(testString));
+    }
+
+    @Test
+    void testCompileTerminalNodeJsonPointerTypeResolvesAgainstEachEvent() {
+        when(token.getType()).thenReturn(DataPrepperExpressionParser.JsonPointer);
+        when(terminalNode.getSymbol()).thenReturn(token);
+        when(terminalNode.getText()).thenReturn("/key");
+        final CompiledExpression result = objectUnderTest.compilePrimaryTerminalNode(terminalNode);
+        assertThat(result.evaluate(createTestEvent(Map.of("key", "a"))), equalTo("a"));
+        assertThat(result.evaluate(createTestEvent(Map.of("key", "b"))), equalTo("b"));
+    }
+
     @Test
     void testCoerceTerminalNodeIntegerType() {
         when(token.getType()).thenReturn(DataPrepperExpressionParser.Integer);
@@ -0,0 +1,163 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class ParseTreeCompilerListenerTest {
+    private final ExpressionFunctionProvider expressionFunctionProvider = mock(ExpressionFunctionProvider.class);
+    private final ParseTreeWalker walker = new ParseTreeWalker();
+    private final ParseTreeParser parseTreeParser = constructParseTreeParser();
+    private final OperatorConfiguration operatorConfiguration = new OperatorConfiguration();
+    private final LiteralTypeConversionsConfiguration literalTypeConversionsConfiguration = new LiteralTypeConversionsConfiguration();
+    private final ParseTreeCoercionService coercionService = new ParseTreeCoercionService(
+            literalTypeConversionsConfiguration.literalTypeConversions(), expressionFunctionProvider);
+    private final List<Operator<?>> operators = Arrays.asList(
+            new AndOperator(), new OrOperator(),
+            operatorConfiguration.inSetOperator(), operatorConfiguration.notInSetOperator(),
+            operatorConfiguration.equalOperator(), operatorConfiguration.notEqualOperator(operatorConfiguration.equalOperator()),
+            operatorConfiguration.greaterThanOperator(), operatorConfiguration.greaterThanOrEqualOperator(),
+            operatorConfiguration.lessThanOperator(), operatorConfiguration.lessThanOrEqualOperator(),
+            operatorConfiguration.regexEqualOperator(), operatorConfiguration.regexNotEqualOperator(),
+            operatorConfiguration.addOperator(), operatorConfiguration.subtractOperator(),
+            operatorConfiguration.multiplyOperator(), operatorConfiguration.divideOperator(),
+            new NotOperator()
+    );
+    private final OperatorProvider operatorProvider = new OperatorProvider(operators);
+
+    private ParseTreeParser constructParseTreeParser() {
+        final DataPrepperExpressionParser expressionParser = new ParseTreeParserConfiguration().dataPrepperExpressionParser();
+        return new ParseTreeParser(expressionParser);
+    }
+
+    private ParseTreeCompilerListener createObjectUnderTest() {
+        return new ParseTreeCompilerListener(operatorProvider, coercionService);
+    }
+
+    private Event createTestEvent(final Object data) {
+        return JacksonEvent.builder().withEventType("event").withData(data).build();
+    }
+
+    private CompiledExpression compile(final String statement) {
+        final ParseTree parseTree = parseTreeParser.parse(statement);
+        final ParseTreeCompilerListener objectUnderTest = createObjectUnderTest();
+        walker.walk(objectUnderTest, parseTree);
+        return objectUnderTest.getResult();
+    }
+
+    private Object evaluateWithTreeWalker(final String statement, final Event event) {
+        final ParseTree parseTree = parseTreeParser.parse(statement);
+        final ParseTreeEvaluatorListener listener = new ParseTreeEvaluatorListener(operatorProvider, coercionService, event);
+        walker.walk(listener, parseTree);
+        return listener.getResult();
+    }
+
+    @Test
+    void testVisitErrorNode() {
+        final ErrorNode errorNode = mock(ErrorNode.class);
+
+        assertThrows(RuntimeException.class, () -> createObjectUnderTest().visitErrorNode(errorNode));
+    }
+
+    @Test
+    void testGetResultWithDoubleWalk() {
+        final ParseTree testParseTree = parseTreeParser.parse("true");
+        final ParseTreeCompilerListener objectUnderTest = createObjectUnderTest();
+        walker.walk(objectUnderTest, testParseTree);
+        walker.walk(objectUnderTest, testParseTree);
+        assertThrows(IllegalStateException.class, objectUnderTest::getResult);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "true",
+            "\"a\" == \"a\"",
+            "1 < 2 and (3 >= 2 or false)",
+            "not false",
+            "\"abc\" =~ \"a.*\"",
+            "\"abc\" !~ \"b.*\"",
+            "5 * 3 - 2",
+            "-(4 + 2)",
+            "\"a\" + \"b\""
+    })
+    void testLiteralOnlyStatementsAreFoldedToConstants(final String statement) {
+        final CompiledExpression compiledExpression = compile(statement);
+
+        assertThat(compiledExpression, instanceOf(ConstantExpression.class));
+        assertThat(compiledExpression.evaluate(null), equalTo(evaluateWithTreeWalker(statement, createTestEvent(new HashMap<>()))));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "/status == 200",
+            "/status != 200 or /message =~ \"he.*\"",
+            "/status >= 100 and /status < 300",
+            "not (/status == 404)",
+            "/status * 2 + 1",
+            "/message + \"!\"",
+            "/missing == null"
+    })
+    void testStatementsWithJsonPointersMatchTreeWalker(final String statement) {
+        final Event testEvent = createTestEvent(Map.of("status", 200, "message", "hello"));
+        final CompiledExpression compiledExpression = compile(statement);
+
+        assertThat(compiledExpression, not(instanceOf(ConstantExpression.class)));
+        assertThat(compiledExpression.evaluate(testEvent), equalTo(evaluateWithTreeWalker(statement, testEvent)));
+    }
+
+    @Test
+    void testCompiledExpressionIsReusableAcrossEvents() {
+        final CompiledExpression compiledExpression = compile("/status == 200");
+
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("status", 200))), is(true));
+        assertThat(compiledExpression.evaluate(createTestEvent(Map.of("status", 404))), is(false));
+    }
+
+    @Test
+    void testRegexOperandsFromJsonPointersMatchTreeWalker() {
+        final Event testEvent = createTestEvent(Map.of("message", "hello", "pattern", "he.*"));
+        final CompiledExpression compiledExpression = compile("/message =~ /pattern");
+
+        assertThat(compiledExpression.evaluate(testEvent), is(true));
+        assertThat(compiledExpression.evaluate(testEvent), equalTo(evaluateWithTreeWalker("/message =~ /pattern", testEvent)));
+    }
+
+    @Test
+    void testInvalidLiteralRegexIsReportedOnEvaluation() {
+        final CompiledExpression compiledExpression = compile("/message =~ \"(\"");
+
+        assertThrows(ExpressionEvaluationException.class, () -> compiledExpression.evaluate(createTestEvent(Map.of("message", "hello"))));
+    }
+
+    @Test
+    void testConstantOperationWhichFailsIsReportedOnEvaluation() {
+        final CompiledExpression compiledExpression = compile("1 < \"a\"");
+
+        assertThat(compiledExpression, instanceOf(OperatorExpression.class));
+        assertThrows(ExpressionEvaluationException.class, () -> compiledExpression.evaluate(createTestEvent(new HashMap<>())));
+    }
+}
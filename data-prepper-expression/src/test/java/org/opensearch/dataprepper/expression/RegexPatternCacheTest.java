@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RegexPatternCacheTest {
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Counter cacheHitsCounter;
+
+    @Mock
+    private Counter cacheMissesCounter;
+
+    @BeforeEach
+    void setUp() {
+        when(pluginMetrics.counter(RegexPatternCache.REGEX_PATTERN_CACHE_HITS)).thenReturn(cacheHitsCounter);
+        when(pluginMetrics.counter(RegexPatternCache.REGEX_PATTERN_CACHE_MISSES)).thenReturn(cacheMissesCounter);
+    }
+
+    private RegexPatternCache createObjectUnderTest(final int maximumSize) {
+        return new RegexPatternCache(maximumSize, pluginMetrics);
+    }
+
+    @Test
+    void getPattern_compiles_on_miss_and_reuses_on_hit() {
+        final RegexPatternCache objectUnderTest = createObjectUnderTest(10);
+
+        final Pattern pattern = objectUnderTest.getPattern("a.*");
+
+        assertThat(pattern, notNullValue());
+        assertThat(pattern.pattern(), equalTo("a.*"));
+        verify(cacheMissesCounter).increment();
+        verify(cacheHitsCounter, never()).increment();
+
+        assertThat(objectUnderTest.getPattern("a.*"), sameInstance(pattern));
+        verify(cacheHitsCounter).increment();
+        verify(cacheMissesCounter, times(1)).increment();
+    }
+
+    @Test
+    void getPattern_evicts_least_recently_used_pattern_when_full() {
+        final RegexPatternCache objectUnderTest = createObjectUnderTest(1);
+
+        final Pattern firstPattern = objectUnderTest.getPattern("a.*");
+        objectUnderTest.getPattern("b.*");
+
+        assertThat(objectUnderTest.getPattern("a.*"), not(sameInstance(firstPattern)));
+        verify(cacheMissesCounter, times(3)).increment();
+    }
+
+    @Test
+    void getPattern_throws_for_invalid_pattern() {
+        final RegexPatternCache objectUnderTest = createObjectUnderTest(10);
+
+        assertThrows(PatternSyntaxException.class, () -> objectUnderTest.getPattern("("));
+    }
+
+    @Test
+    void default_constructor_creates_usable_cache() {
+        assertThat(new RegexPatternCache().getPattern("a").matcher("a").matches(), equalTo(true));
+    }
+}
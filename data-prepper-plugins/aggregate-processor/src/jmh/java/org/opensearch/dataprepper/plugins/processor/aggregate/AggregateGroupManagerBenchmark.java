@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of the calls made by the {@link AggregateProcessor} for each batch and each event, for 10^4 to
+ * 10^7 active groups. None of the groups are due, which is the common case between group conclusions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class AggregateGroupManagerBenchmark {
+    private static final Duration GROUP_DURATION = Duration.ofHours(1);
+
+    @Param({"10000", "100000", "1000000", "10000000"})
+    private int groupCount;
+
+    private AggregateGroupManager aggregateGroupManager;
+    private IdentificationKeysHasher.IdentificationKeysMap[] identificationKeysMaps;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        aggregateGroupManager = new AggregateGroupManager(GROUP_DURATION);
+        identificationKeysMaps = new IdentificationKeysHasher.IdentificationKeysMap[groupCount];
+        for (int i = 0; i < groupCount; i++) {
+            identificationKeysMaps[i] = new IdentificationKeysHasher.IdentificationKeysMap(Collections.singletonMap("key", i));
+            aggregateGroupManager.getAggregateGroup(identificationKeysMaps[i]);
+        }
+    }
+
+    @Benchmark
+    public List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> getGroupsToConclude() {
+        return aggregateGroupManager.getGroupsToConclude(false);
+    }
+
+    @Benchmark
+    public AggregateGroup getAggregateGroupAndPutGroupWithHash() {
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap =
+                identificationKeysMaps[ThreadLocalRandom.current().nextInt(groupCount)];
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, aggregateGroup);
+        return aggregateGroup;
+    }
+}
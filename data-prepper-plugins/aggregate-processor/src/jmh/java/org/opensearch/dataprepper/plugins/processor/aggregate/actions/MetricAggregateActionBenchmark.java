@@ -0,0 +1,101 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInput;
+import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
+import org.opensearch.dataprepper.plugins.processor.aggregate.GroupState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of handling one Event in an existing group with the count and histogram actions, which is the
+ * common case when deriving metrics from logs and traces.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MetricAggregateActionBenchmark {
+    private static final String VALUE_KEY = "latency";
+
+    private CountAggregateAction countAggregateAction;
+    private HistogramAggregateAction histogramAggregateAction;
+    private AggregateActionInput countAggregateActionInput;
+    private AggregateActionInput histogramAggregateActionInput;
+    private Event event;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        final CountAggregateActionConfig countAggregateActionConfig = new CountAggregateActionConfig();
+        countAggregateAction = new CountAggregateAction(countAggregateActionConfig);
+
+        final HistogramAggregateActionConfig histogramAggregateActionConfig = new HistogramAggregateActionConfig();
+        histogramAggregateActionConfig.key = VALUE_KEY;
+        histogramAggregateActionConfig.buckets = List.of(0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10);
+        histogramAggregateActionConfig.recordMinMax = true;
+        histogramAggregateAction = new HistogramAggregateAction(histogramAggregateActionConfig);
+
+        final Map<Object, Object> identificationKeys = Map.of("serviceName", "frontend", "operation", "GET /index.html");
+        final Map<String, Object> data = new HashMap<>();
+        identificationKeys.forEach((key, value) -> data.put((String) key, value));
+        data.put(VALUE_KEY, 0.3);
+        data.put("request", "/index.html?user=12345");
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(data)
+                .build();
+
+        countAggregateActionInput = new BenchmarkAggregateActionInput(identificationKeys);
+        histogramAggregateActionInput = new BenchmarkAggregateActionInput(identificationKeys);
+        countAggregateAction.handleEvent(event, countAggregateActionInput);
+        histogramAggregateAction.handleEvent(event, histogramAggregateActionInput);
+    }
+
+    @Benchmark
+    public AggregateActionResponse countHandleEvent() {
+        return countAggregateAction.handleEvent(event, countAggregateActionInput);
+    }
+
+    @Benchmark
+    public AggregateActionResponse histogramHandleEvent() {
+        return histogramAggregateAction.handleEvent(event, histogramAggregateActionInput);
+    }
+
+    private static class BenchmarkAggregateActionInput implements AggregateActionInput {
+        private final GroupState groupState = new BenchmarkGroupState();
+        private final Map<Object, Object> identificationKeys;
+
+        private BenchmarkAggregateActionInput(final Map<Object, Object> identificationKeys) {
+            this.identificationKeys = identificationKeys;
+        }
+
+        @Override
+        public GroupState getGroupState() {
+            return groupState;
+        }
+
+        @Override
+        public Map<Object, Object> getIdentificationKeys() {
+            return identificationKeys;
+        }
+    }
+
+    private static class BenchmarkGroupState extends HashMap<Object, Object> implements GroupState {
+    }
+}
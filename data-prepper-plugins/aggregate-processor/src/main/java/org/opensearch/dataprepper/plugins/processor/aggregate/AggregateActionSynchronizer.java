@@ -12,6 +12,8 @@ import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.locks.Lock;
 import java.util.Collections;
 
@@ -28,6 +30,12 @@ import java.util.Collections;
  *     <li>If multiple threads try to conclude the same {@link AggregateGroup} at the same time, only one should gain access to the critical section for concludeGroup, and
  *     the remaining threads should immediately return from concludeGroup</li>
  * </ol>
+ * An {@link AggregateGroup} which was moved to a {@link GroupStateStore} while a thread waited for its locks is not used.
+ * Events for it are handled by the group which the {@link AggregateGroupManager} restores from the store instead.
+ * <p>
+ * In the {@link AggregateConcurrencyMode#STRIPED} concurrency mode with a {@link MergeableAggregateAction}, each thread handles
+ * Events into its own {@link AggregateGroupStripe} of the group, under the lock of that stripe only. concludeGroup
+ * additionally locks every stripe of the group, and merges the stripes into the group state before concluding it.
  * @since 1.3
  */
 class AggregateActionSynchronizer {
@@ -38,13 +46,24 @@ class AggregateActionSynchronizer {
     private final Counter actionConcludeGroupEventsProcessingErrors;
 
     private final AggregateAction aggregateAction;
+    private final MergeableAggregateAction mergeableAggregateAction;
     private final AggregateGroupManager aggregateGroupManager;
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateActionSynchronizer.class);
 
-    private AggregateActionSynchronizer(final AggregateAction aggregateAction, final AggregateGroupManager aggregateGroupManager, final PluginMetrics pluginMetrics) {
+    private AggregateActionSynchronizer(final AggregateAction aggregateAction, final AggregateGroupManager aggregateGroupManager, final PluginMetrics pluginMetrics,
+                                        final AggregateConcurrencyMode concurrencyMode) {
         this.aggregateAction = aggregateAction;
         this.aggregateGroupManager = aggregateGroupManager;
+        if (concurrencyMode == AggregateConcurrencyMode.STRIPED && aggregateAction instanceof MergeableAggregateAction) {
+            this.mergeableAggregateAction = (MergeableAggregateAction) aggregateAction;
+        } else {
+            if (concurrencyMode == AggregateConcurrencyMode.STRIPED) {
+                LOG.warn("The aggregate action {} cannot merge group states, so the {} concurrency mode is used instead of {}",
+                        aggregateAction.getClass().getSimpleName(), AggregateConcurrencyMode.LOCKING, AggregateConcurrencyMode.STRIPED);
+            }
+            this.mergeableAggregateAction = null;
+        }
 
         this.actionHandleEventsProcessingErrors = pluginMetrics.counter(ACTION_HANDLE_EVENTS_PROCESSING_ERRORS);
         this.actionConcludeGroupEventsProcessingErrors = pluginMetrics.counter(ACTION_CONCLUDE_GROUP_EVENTS_PROCESSING_ERRORS);
@@ -57,17 +76,28 @@ class AggregateActionSynchronizer {
         AggregateActionOutput actionOutput = new AggregateActionOutput(Collections.emptyList());
         if (concludeGroupLock.tryLock()) {
             handleEventForGroupLock.lock();
+            final List<Lock> stripeLocks = mergeableAggregateAction != null ? lockStripes(aggregateGroup) : Collections.emptyList();
 
             try {
-                if (aggregateGroup.shouldConcludeGroup(aggregateGroupManager.getGroupDuration()) || forceConclude) {
+                if (aggregateGroup.isEvicted()) {
+                    LOG.debug("Group was moved to the group state store and will be concluded from there");
+                } else if (aggregateGroup.shouldConcludeGroup(aggregateGroupManager.getGroupDuration()) || forceConclude) {
                     LOG.debug("Start critical section in concludeGroup");
-                    actionOutput = aggregateAction.concludeGroup(aggregateGroup);
+                    if (mergeableAggregateAction == null) {
+                        actionOutput = aggregateAction.concludeGroup(aggregateGroup);
+                    } else {
+                        mergeStripes(aggregateGroup);
+                        if (!aggregateGroup.getGroupState().isEmpty()) {
+                            actionOutput = mergeableAggregateAction.concludeGroup(aggregateGroup);
+                        }
+                    }
                     aggregateGroupManager.closeGroup(hash, aggregateGroup);
                 }
             } catch (final Exception e) {
                 LOG.debug("Error while concluding group: ", e);
                 actionConcludeGroupEventsProcessingErrors.increment();
             } finally {
+                stripeLocks.forEach(Lock::unlock);
                 handleEventForGroupLock.unlock();
                 concludeGroupLock.unlock();
             }
@@ -76,6 +106,18 @@ class AggregateActionSynchronizer {
     }
 
     AggregateActionResponse handleEventForGroup(final Event event, final IdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup) {
+        if (mergeableAggregateAction != null) {
+            return handleEventForStripe(event, hash, aggregateGroup);
+        }
+        AggregateGroup group = aggregateGroup;
+        AggregateActionResponse handleEventResponse;
+        while ((handleEventResponse = handleEventForGroupIfActive(event, hash, group)) == null) {
+            group = aggregateGroupManager.getAggregateGroup(hash);
+        }
+        return handleEventResponse;
+    }
+
+    private AggregateActionResponse handleEventForGroupIfActive(final Event event, final IdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup) {
         final Lock concludeGroupLock = aggregateGroup.getConcludeGroupLock();
         final Lock handleEventForGroupLock = aggregateGroup.getHandleEventForGroupLock();
 
@@ -85,6 +127,9 @@ class AggregateActionSynchronizer {
         AggregateActionResponse handleEventResponse;
         handleEventForGroupLock.lock();
         try {
+            if (aggregateGroup.isEvicted()) {
+                return null;
+            }
             LOG.debug("Start critical section in handleEventForGroup");
             handleEventResponse = aggregateAction.handleEvent(event, aggregateGroup);
             aggregateGroupManager.putGroupWithHash(hash, aggregateGroup);
@@ -99,9 +144,58 @@ class AggregateActionSynchronizer {
         return handleEventResponse;
     }
 
+    private AggregateActionResponse handleEventForStripe(final Event event, final IdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup) {
+        final AggregateGroupStripe stripe = aggregateGroup.getStripeForCurrentThread();
+        final Lock stripeLock = stripe.getLock();
+
+        AggregateActionResponse handleEventResponse;
+        stripeLock.lock();
+        try {
+            LOG.debug("Start critical section in handleEventForStripe");
+            handleEventResponse = mergeableAggregateAction.handleEvent(event, stripe);
+            aggregateGroupManager.putGroupWithHashIfMissing(hash, aggregateGroup);
+        } catch (final Exception e) {
+            LOG.debug("Error while handling event, event will be processed by remainder of the pipeline: ", e);
+            actionHandleEventsProcessingErrors.increment();
+            handleEventResponse = new AggregateActionResponse(event);
+        } finally {
+            stripeLock.unlock();
+        }
+
+        return handleEventResponse;
+    }
+
+    private static List<Lock> lockStripes(final AggregateGroup aggregateGroup) {
+        final List<Lock> stripeLocks = new ArrayList<>();
+        for (final AggregateGroupStripe stripe : aggregateGroup.getStripes()) {
+            stripe.getLock().lock();
+            stripeLocks.add(stripe.getLock());
+        }
+        return stripeLocks;
+    }
+
+    /**
+     * Merges the partial states of the stripes into the group state and clears them. The group state stays empty when
+     * no stripe handled an Event since the group was last concluded.
+     */
+    private void mergeStripes(final AggregateGroup aggregateGroup) {
+        for (final AggregateGroupStripe stripe : aggregateGroup.getStripes()) {
+            final GroupState partialGroupState = stripe.getGroupState();
+            if (!partialGroupState.isEmpty()) {
+                mergeableAggregateAction.mergeGroupState(partialGroupState, aggregateGroup.getGroupState());
+                partialGroupState.clear();
+            }
+        }
+    }
+
     static class AggregateActionSynchronizerProvider {
         public AggregateActionSynchronizer provide(final AggregateAction aggregateAction, final AggregateGroupManager aggregateGroupManager, final PluginMetrics pluginMetrics) {
-            return new AggregateActionSynchronizer(aggregateAction, aggregateGroupManager, pluginMetrics);
+            return provide(aggregateAction, aggregateGroupManager, pluginMetrics, AggregateConcurrencyMode.LOCKING);
+        }
+
+        public AggregateActionSynchronizer provide(final AggregateAction aggregateAction, final AggregateGroupManager aggregateGroupManager, final PluginMetrics pluginMetrics,
+                                                   final AggregateConcurrencyMode concurrencyMode) {
+            return new AggregateActionSynchronizer(aggregateAction, aggregateGroupManager, pluginMetrics, concurrencyMode);
         }
     }
 }
@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * How the {@link AggregateProcessor} synchronizes the workers which handle Events of the same group.
+ * <ul>
+ *     <li>{@link #LOCKING}: every Event of a group is handled under the lock of the group.</li>
+ *     <li>{@link #STRIPED}: each worker handles Events into its own partial state of the group, which are merged when the
+ *     group concludes. Only used with a {@link MergeableAggregateAction}.</li>
+ * </ul>
+ */
+public enum AggregateConcurrencyMode {
+    LOCKING("locking"),
+    STRIPED("striped");
+
+    private static final Map<String, AggregateConcurrencyMode> OPTIONS_MAP = Arrays.stream(AggregateConcurrencyMode.values())
+            .collect(Collectors.toMap(
+                    value -> value.name,
+                    value -> value
+            ));
+
+    private final String name;
+
+    AggregateConcurrencyMode(final String name) {
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    @JsonCreator
+    static AggregateConcurrencyMode fromOptionValue(final String option) {
+        return OPTIONS_MAP.get(option.toLowerCase());
+    }
+}
@@ -7,23 +7,38 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.function.Function;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 class AggregateGroup implements AggregateActionInput {
     private final GroupState groupState;
-    private Instant groupStart;
+    private volatile Instant groupStart;
     private final Lock concludeGroupLock;
     private final Lock handleEventForGroupLock;
     private final Map<Object, Object> identificationKeys;
     private Function<Duration, Boolean> customShouldConclude;
+    private volatile Instant lastUpdated;
+    private volatile boolean evicted;
+    private volatile Map<Thread, AggregateGroupStripe> stripes;
 
     AggregateGroup(final Map<Object, Object> identificationKeys) {
+        this(identificationKeys, Instant.now(), Collections.emptyMap());
+    }
+
+    /**
+     * Creates a group from the group start and state of a group which was moved to a {@link GroupStateStore}.
+     */
+    AggregateGroup(final Map<Object, Object> identificationKeys, final Instant groupStart, final Map<Object, Object> groupState) {
         this.groupState = new DefaultGroupState();
+        this.groupState.putAll(groupState);
         this.identificationKeys = identificationKeys;
-        this.groupStart = Instant.now();
+        this.groupStart = groupStart;
+        this.lastUpdated = groupStart;
         this.concludeGroupLock = new ReentrantLock();
         this.handleEventForGroupLock = new ReentrantLock();
     }
@@ -40,6 +55,26 @@ class AggregateGroup implements AggregateActionInput {
         return groupStart;
     }
 
+    Instant getLastUpdated() {
+        return lastUpdated;
+    }
+
+    void setLastUpdated(final Instant lastUpdated) {
+        this.lastUpdated = lastUpdated;
+    }
+
+    /**
+     * @return true if the state of this group was moved to a {@link GroupStateStore}, after which this instance must
+     * not handle Events
+     */
+    boolean isEvicted() {
+        return evicted;
+    }
+
+    void setEvicted() {
+        evicted = true;
+    }
+
     Lock getConcludeGroupLock() {
         return concludeGroupLock;
     }
@@ -49,10 +84,42 @@ class AggregateGroup implements AggregateActionInput {
         customShouldConclude = shouldConclude;
     }
 
+    boolean hasCustomShouldConclude() {
+        return customShouldConclude != null;
+    }
+
     Lock getHandleEventForGroupLock() {
         return handleEventForGroupLock;
     }
 
+    /**
+     * @return the stripe of the current thread. A new stripe is created under the handle event lock, so that no stripe
+     * is added while the group is concluded. The stripes are only allocated once the group is used in the striped
+     * concurrency mode.
+     */
+    AggregateGroupStripe getStripeForCurrentThread() {
+        final Thread thread = Thread.currentThread();
+        final Map<Thread, AggregateGroupStripe> currentStripes = stripes;
+        final AggregateGroupStripe stripe = currentStripes != null ? currentStripes.get(thread) : null;
+        if (stripe != null) {
+            return stripe;
+        }
+        handleEventForGroupLock.lock();
+        try {
+            if (stripes == null) {
+                stripes = new ConcurrentHashMap<>();
+            }
+            return stripes.computeIfAbsent(thread, key -> new AggregateGroupStripe(this));
+        } finally {
+            handleEventForGroupLock.unlock();
+        }
+    }
+
+    Collection<AggregateGroupStripe> getStripes() {
+        final Map<Thread, AggregateGroupStripe> currentStripes = stripes;
+        return currentStripes != null ? currentStripes.values() : Collections.emptyList();
+    }
+
     boolean shouldConcludeGroup(final Duration groupDuration) {
         if (customShouldConclude != null) {
             return customShouldConclude.apply(groupDuration);
@@ -6,31 +6,165 @@
 package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import com.google.common.collect.Maps;
+import io.micrometer.core.instrument.Counter;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
 
+/**
+ * Holds the active {@link AggregateGroup}s and decides when they should be concluded.
+ * <p>
+ * Groups are indexed by the time at which they should next be checked for conclusion, so that finding the groups to
+ * conclude only visits the groups which are due rather than every active group. A group is first checked at its
+ * group start plus the group duration, or after {@link #CUSTOM_CONCLUDE_CHECK_INTERVAL} if that is earlier, because an
+ * {@link AggregateAction} may set a custom conclusion check which ends the group sooner. Groups with a custom
+ * conclusion check are rechecked every {@link #CUSTOM_CONCLUDE_CHECK_INTERVAL} until they conclude.
+ * <p>
+ * With a {@link GroupStateStore}, groups which have not received an Event for the idle timeout are moved from the heap
+ * to the store. A stored group is moved back to the heap when it receives an Event or when it is due to be concluded.
+ * Reading a group from the store is done outside of the map of active groups, so that it does not block the workers
+ * handling other groups. If the store cannot be read, the group starts empty.
+ */
 class AggregateGroupManager {
+    private static final Logger LOG = LoggerFactory.getLogger(AggregateGroupManager.class);
+    static final Duration CUSTOM_CONCLUDE_CHECK_INTERVAL = Duration.ofSeconds(1);
 
     private final Map<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> allGroups = Maps.newConcurrentMap();
+    private final Map<IdentificationKeysHasher.IdentificationKeysMap, CompletableFuture<AggregateGroup>> groupsBeingRestored = Maps.newConcurrentMap();
+    private final NavigableSet<GroupExpiry> expiryIndex = new ConcurrentSkipListSet<>(
+            Comparator.comparing(GroupExpiry::getCheckTime).thenComparingLong(GroupExpiry::getSequence));
+    private final AtomicLong expirySequence = new AtomicLong();
     private final Duration groupDuration;
+    private final Duration firstCheckDelay;
+    private final GroupStateStore groupStateStore;
+    private final Duration idleTimeout;
+    private final Counter groupStateStoreReadErrorsCounter;
+    private final Clock clock;
 
     AggregateGroupManager(final Duration groupDuration) {
+        this(groupDuration, Clock.systemUTC());
+    }
+
+    AggregateGroupManager(final Duration groupDuration, final Clock clock) {
+        this(groupDuration, null, null, null, clock);
+    }
+
+    /**
+     * @param groupDuration                    the group duration
+     * @param groupStateStore                  the store for idle groups, or null to keep all groups on the heap
+     * @param idleTimeout                      the time without Events after which a group is moved to the store
+     * @param groupStateStoreReadErrorsCounter the counter of failed reads from the store
+     * @param clock                            the clock
+     */
+    AggregateGroupManager(final Duration groupDuration, final GroupStateStore groupStateStore, final Duration idleTimeout,
+                          final Counter groupStateStoreReadErrorsCounter, final Clock clock) {
         this.groupDuration = groupDuration;
+        this.firstCheckDelay = groupDuration.compareTo(CUSTOM_CONCLUDE_CHECK_INTERVAL) < 0 ? groupDuration : CUSTOM_CONCLUDE_CHECK_INTERVAL;
+        this.groupStateStore = groupStateStore;
+        this.idleTimeout = idleTimeout;
+        this.groupStateStoreReadErrorsCounter = groupStateStoreReadErrorsCounter;
+        this.clock = clock;
     }
 
     AggregateGroup getAggregateGroup(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
-        return allGroups.computeIfAbsent(identificationKeysMap, (hash) -> new AggregateGroup(identificationKeysMap.getKeyMap()));
+        final AggregateGroup existingGroup = allGroups.get(identificationKeysMap);
+        if (existingGroup != null) {
+            return existingGroup;
+        }
+        if (groupStateStore != null) {
+            return restoreOrCreateGroup(identificationKeysMap);
+        }
+        final AggregateGroup[] createdGroup = new AggregateGroup[1];
+        final AggregateGroup group = allGroups.computeIfAbsent(identificationKeysMap, key -> {
+            createdGroup[0] = new AggregateGroup(identificationKeysMap.getKeyMap());
+            return createdGroup[0];
+        });
+        if (group == createdGroup[0]) {
+            scheduleFirstCheck(identificationKeysMap, group);
+        }
+        return group;
     }
 
+    /**
+     * Returns the groups which should be concluded. Without forceConclude, only the groups which are due are visited.
+     * Each due group is returned to one caller, and is checked again after {@link #CUSTOM_CONCLUDE_CHECK_INTERVAL} in
+     * case concluding it fails.
+     */
     List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> getGroupsToConclude(final boolean forceConclude) {
         final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = new ArrayList<>();
-        for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : allGroups.entrySet()) {
-            if (groupEntry.getValue().shouldConcludeGroup(groupDuration) || forceConclude) {
-                groupsToConclude.add(groupEntry);
+        if (forceConclude) {
+            if (groupStateStore != null) {
+                try {
+                    groupStateStore.removeAll().forEach(groupEntry -> allGroups.putIfAbsent(groupEntry.getKey(), groupEntry.getValue()));
+                } catch (final IOException e) {
+                    LOG.error("Unable to read the stored aggregate groups", e);
+                    groupStateStoreReadErrorsCounter.increment();
+                }
+            }
+            groupsToConclude.addAll(allGroups.entrySet());
+            return groupsToConclude;
+        }
+
+        final Instant now = clock.instant();
+        GroupExpiry groupExpiry;
+        while ((groupExpiry = pollDue(now)) != null) {
+            final AggregateGroup group = groupExpiry.getGroup();
+            if (allGroups.get(groupExpiry.getIdentificationKeysMap()) != group || !groupExpiry.getGroupStart().equals(group.getGroupStart())) {
+                // The group was concluded since this check was scheduled
+                continue;
+            }
+            if (group.shouldConcludeGroup(groupDuration)) {
+                groupsToConclude.add(new AbstractMap.SimpleImmutableEntry<>(groupExpiry.getIdentificationKeysMap(), group));
+                scheduleCheck(groupExpiry.getIdentificationKeysMap(), group, groupExpiry.getGroupStart(), now.plus(CUSTOM_CONCLUDE_CHECK_INTERVAL));
+            } else if (group.hasCustomShouldConclude()) {
+                scheduleCheck(groupExpiry.getIdentificationKeysMap(), group, groupExpiry.getGroupStart(), now.plus(CUSTOM_CONCLUDE_CHECK_INTERVAL));
+            } else {
+                final Instant groupEnd = groupExpiry.getGroupStart().plus(groupDuration);
+                Instant nextCheck = groupEnd;
+                if (groupStateStore != null) {
+                    final Instant idleEnd = group.getLastUpdated().plus(idleTimeout);
+                    if (!idleEnd.isAfter(now)) {
+                        if (evictGroup(groupExpiry.getIdentificationKeysMap(), group, groupEnd)) {
+                            continue;
+                        }
+                    } else if (idleEnd.isBefore(groupEnd)) {
+                        nextCheck = idleEnd;
+                    }
+                }
+                scheduleCheck(groupExpiry.getIdentificationKeysMap(), group, groupExpiry.getGroupStart(),
+                        nextCheck.isAfter(now) ? nextCheck : now.plus(CUSTOM_CONCLUDE_CHECK_INTERVAL));
+            }
+        }
+
+        if (groupStateStore != null) {
+            try {
+                for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : groupStateStore.removeDue(now)) {
+                    final AggregateGroup group = groupEntry.getValue();
+                    if (allGroups.putIfAbsent(groupEntry.getKey(), group) == null) {
+                        scheduleCheck(groupEntry.getKey(), group, group.getGroupStart(), now.plus(CUSTOM_CONCLUDE_CHECK_INTERVAL));
+                    }
+                    groupsToConclude.add(groupEntry);
+                }
+            } catch (final IOException e) {
+                LOG.error("Unable to read the stored aggregate groups which are due", e);
+                groupStateStoreReadErrorsCounter.increment();
             }
         }
         return groupsToConclude;
@@ -42,14 +176,197 @@ class AggregateGroupManager {
     }
 
     void putGroupWithHash(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
-        allGroups.put(hashKeyMap, group);
+        if (groupStateStore != null) {
+            group.setLastUpdated(clock.instant());
+        }
+        if (allGroups.put(hashKeyMap, group) != group) {
+            scheduleFirstCheck(hashKeyMap, group);
+        }
+    }
+
+    /**
+     * Adds a group back after it was concluded. Unlike {@link #putGroupWithHash}, it does not write to the groups when
+     * the group is present, so that workers handling Events of the same group do not contend on it.
+     */
+    void putGroupWithHashIfMissing(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
+        if (allGroups.get(hashKeyMap) != group) {
+            putGroupWithHash(hashKeyMap, group);
+        }
     }
 
     long getAllGroupsSize() {
-        return allGroups.size();
+        return allGroups.size() + (groupStateStore == null ? 0 : groupStateStore.getGroupCount());
+    }
+
+    Optional<GroupStateStore> getGroupStateStore() {
+        return Optional.ofNullable(groupStateStore);
+    }
+
+    void close() {
+        if (groupStateStore != null) {
+            try {
+                groupStateStore.close();
+            } catch (final IOException e) {
+                LOG.warn("Unable to close the aggregate group state store", e);
+            }
+        }
+    }
+
+    /**
+     * @return the number of scheduled conclusion checks which are due and have not been visited yet
+     */
+    long getGroupsPendingConclusionSize() {
+        return expiryIndex.headSet(new GroupExpiry(null, null, null, clock.instant(), Long.MAX_VALUE)).size();
+    }
+
+    /**
+     * @return the number of milliseconds since the oldest pending conclusion check became due, or 0 if none is due
+     */
+    long getConclusionLagMillis() {
+        final Iterator<GroupExpiry> iterator = expiryIndex.iterator();
+        if (!iterator.hasNext()) {
+            return 0;
+        }
+        return Math.max(0, Duration.between(iterator.next().getCheckTime(), clock.instant()).toMillis());
     }
 
     Duration getGroupDuration() {
         return this.groupDuration;
     }
+
+    /**
+     * Restores a group from the store, or creates it if it is not stored. Only one thread reads the store for a group,
+     * and other threads asking for the same group wait for its result, so that the stored state is not lost to a new
+     * empty group.
+     */
+    private AggregateGroup restoreOrCreateGroup(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        final CompletableFuture<AggregateGroup> groupFuture = new CompletableFuture<>();
+        final CompletableFuture<AggregateGroup> existingGroupFuture = groupsBeingRestored.putIfAbsent(identificationKeysMap, groupFuture);
+        if (existingGroupFuture != null) {
+            return existingGroupFuture.join();
+        }
+        try {
+            AggregateGroup group = allGroups.get(identificationKeysMap);
+            if (group == null) {
+                final AggregateGroup restoredGroup = readStoredGroup(identificationKeysMap);
+                final AggregateGroup createdGroup = restoredGroup != null ? restoredGroup : new AggregateGroup(identificationKeysMap.getKeyMap());
+                group = allGroups.putIfAbsent(identificationKeysMap, createdGroup);
+                if (group == null) {
+                    group = createdGroup;
+                    scheduleFirstCheck(identificationKeysMap, group);
+                }
+            }
+            groupFuture.complete(group);
+            return group;
+        } catch (final RuntimeException e) {
+            groupFuture.completeExceptionally(e);
+            throw e;
+        } finally {
+            groupsBeingRestored.remove(identificationKeysMap, groupFuture);
+        }
+    }
+
+    private AggregateGroup readStoredGroup(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
+        try {
+            return groupStateStore.remove(identificationKeysMap);
+        } catch (final IOException e) {
+            LOG.error("Unable to read a stored aggregate group, the group is started without its stored state", e);
+            groupStateStoreReadErrorsCounter.increment();
+            return null;
+        }
+    }
+
+    /**
+     * Moves an idle group to the store, unless it is being used by another thread or its state cannot be stored.
+     * Threads which still hold the group find it evicted once they lock it, and get the restored group instead.
+     */
+    private boolean evictGroup(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, final AggregateGroup group, final Instant concludeTime) {
+        final Lock concludeGroupLock = group.getConcludeGroupLock();
+        final Lock handleEventForGroupLock = group.getHandleEventForGroupLock();
+        if (!concludeGroupLock.tryLock()) {
+            return false;
+        }
+        try {
+            if (!handleEventForGroupLock.tryLock()) {
+                return false;
+            }
+            try {
+                if (group.hasCustomShouldConclude() || allGroups.get(identificationKeysMap) != group) {
+                    return false;
+                }
+                groupStateStore.store(identificationKeysMap, group, concludeTime);
+                group.setEvicted();
+                allGroups.remove(identificationKeysMap, group);
+                return true;
+            } catch (final IOException | RuntimeException e) {
+                LOG.debug("Unable to move an idle aggregate group to the group state store", e);
+                return false;
+            } finally {
+                handleEventForGroupLock.unlock();
+            }
+        } finally {
+            concludeGroupLock.unlock();
+        }
+    }
+
+    private GroupExpiry pollDue(final Instant now) {
+        final Iterator<GroupExpiry> iterator = expiryIndex.iterator();
+        while (iterator.hasNext()) {
+            final GroupExpiry groupExpiry = iterator.next();
+            if (groupExpiry.getCheckTime().isAfter(now)) {
+                return null;
+            }
+            if (expiryIndex.remove(groupExpiry)) {
+                return groupExpiry;
+            }
+        }
+        return null;
+    }
+
+    private void scheduleFirstCheck(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, final AggregateGroup group) {
+        final Instant groupStart = group.getGroupStart();
+        scheduleCheck(identificationKeysMap, group, groupStart, groupStart.plus(firstCheckDelay));
+    }
+
+    private void scheduleCheck(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, final AggregateGroup group,
+                               final Instant groupStart, final Instant checkTime) {
+        expiryIndex.add(new GroupExpiry(identificationKeysMap, group, groupStart, checkTime, expirySequence.getAndIncrement()));
+    }
+
+    private static class GroupExpiry {
+        private final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap;
+        private final AggregateGroup group;
+        private final Instant groupStart;
+        private final Instant checkTime;
+        private final long sequence;
+
+        private GroupExpiry(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, final AggregateGroup group,
+                            final Instant groupStart, final Instant checkTime, final long sequence) {
+            this.identificationKeysMap = identificationKeysMap;
+            this.group = group;
+            this.groupStart = groupStart;
+            this.checkTime = checkTime;
+            this.sequence = sequence;
+        }
+
+        private IdentificationKeysHasher.IdentificationKeysMap getIdentificationKeysMap() {
+            return identificationKeysMap;
+        }
+
+        private AggregateGroup getGroup() {
+            return group;
+        }
+
+        private Instant getGroupStart() {
+            return groupStart;
+        }
+
+        private Instant getCheckTime() {
+            return checkTime;
+        }
+
+        private long getSequence() {
+            return sequence;
+        }
+    }
 }
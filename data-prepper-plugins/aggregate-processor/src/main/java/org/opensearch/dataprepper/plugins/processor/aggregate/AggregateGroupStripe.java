@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * The partial state of an {@link AggregateGroup} which one worker thread builds in the
+ * {@link AggregateConcurrencyMode#STRIPED} concurrency mode. Its lock is only contended when the group concludes.
+ */
+class AggregateGroupStripe implements AggregateActionInput {
+    private final AggregateGroup aggregateGroup;
+    private final GroupState groupState;
+    private final Lock lock;
+
+    AggregateGroupStripe(final AggregateGroup aggregateGroup) {
+        this.aggregateGroup = aggregateGroup;
+        this.groupState = new DefaultGroupState();
+        this.lock = new ReentrantLock();
+    }
+
+    @Override
+    public GroupState getGroupState() {
+        return groupState;
+    }
+
+    @Override
+    public Map<Object, Object> getIdentificationKeys() {
+        return aggregateGroup.getIdentificationKeys();
+    }
+
+    @Override
+    public void setCustomShouldConclude(final Function<Duration, Boolean> shouldConclude) {
+        aggregateGroup.setCustomShouldConclude(shouldConclude);
+    }
+
+    Lock getLock() {
+        return lock;
+    }
+}
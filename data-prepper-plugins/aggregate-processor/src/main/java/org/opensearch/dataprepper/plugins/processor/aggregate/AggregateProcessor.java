@@ -20,6 +20,8 @@ import org.opensearch.dataprepper.model.record.Record;
 import io.micrometer.core.instrument.Counter;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
+import java.nio.file.Paths;
+import java.time.Clock;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
@@ -33,6 +35,13 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
     static final String ACTION_CONCLUDE_GROUP_EVENTS_OUT = "actionConcludeGroupEventsOut";
     static final String ACTION_CONCLUDE_GROUP_EVENTS_DROPPED = "actionConcludeGroupEventsDropped";
     static final String CURRENT_AGGREGATE_GROUPS = "currentAggregateGroups";
+    static final String AGGREGATE_GROUPS_PENDING_CONCLUSION = "aggregateGroupsPendingConclusion";
+    static final String AGGREGATE_GROUP_CONCLUSION_LAG = "aggregateGroupConclusionLag";
+    static final String GROUP_STATE_STORE_MEMORY_BYTES = "groupStateStoreMemoryBytes";
+    static final String GROUP_STATE_STORE_MEMORY_GROUPS = "groupStateStoreMemoryGroups";
+    static final String GROUP_STATE_STORE_DISK_BYTES = "groupStateStoreDiskBytes";
+    static final String GROUP_STATE_STORE_DISK_GROUPS = "groupStateStoreDiskGroups";
+    static final String GROUP_STATE_STORE_READ_ERRORS = "groupStateStoreReadErrors";
 
     private final Counter actionHandleEventsOutCounter;
     private final Counter actionHandleEventsDroppedCounter;
@@ -51,7 +60,7 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
 
     @DataPrepperPluginConstructor
     public AggregateProcessor(final AggregateProcessorConfig aggregateProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory, final ExpressionEvaluator expressionEvaluator) {
-        this(aggregateProcessorConfig, pluginMetrics, pluginFactory, new AggregateGroupManager(aggregateProcessorConfig.getGroupDuration()),
+        this(aggregateProcessorConfig, pluginMetrics, pluginFactory, createAggregateGroupManager(aggregateProcessorConfig, pluginMetrics),
                 new IdentificationKeysHasher(aggregateProcessorConfig.getIdentificationKeys()), new AggregateActionSynchronizer.AggregateActionSynchronizerProvider(), expressionEvaluator);
     }
     public AggregateProcessor(final AggregateProcessorConfig aggregateProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory, final AggregateGroupManager aggregateGroupManager,
@@ -62,7 +71,8 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
         this.expressionEvaluator = expressionEvaluator;
         this.identificationKeysHasher = identificationKeysHasher;
         this.aggregateAction = loadAggregateAction(pluginFactory);
-        this.aggregateActionSynchronizer = aggregateActionSynchronizerProvider.provide(aggregateAction, aggregateGroupManager, pluginMetrics);
+        this.aggregateActionSynchronizer = aggregateActionSynchronizerProvider.provide(aggregateAction, aggregateGroupManager, pluginMetrics,
+                aggregateProcessorConfig.getConcurrencyMode());
 
         this.actionConcludeGroupEventsOutCounter = pluginMetrics.counter(ACTION_CONCLUDE_GROUP_EVENTS_OUT);
         this.actionConcludeGroupEventsDroppedCounter = pluginMetrics.counter(ACTION_CONCLUDE_GROUP_EVENTS_DROPPED);
@@ -71,6 +81,25 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
         this.whenCondition = aggregateProcessorConfig.getWhenCondition();
 
         pluginMetrics.gauge(CURRENT_AGGREGATE_GROUPS, aggregateGroupManager, AggregateGroupManager::getAllGroupsSize);
+        pluginMetrics.gauge(AGGREGATE_GROUPS_PENDING_CONCLUSION, aggregateGroupManager, AggregateGroupManager::getGroupsPendingConclusionSize);
+        pluginMetrics.gauge(AGGREGATE_GROUP_CONCLUSION_LAG, aggregateGroupManager, AggregateGroupManager::getConclusionLagMillis);
+        aggregateGroupManager.getGroupStateStore().ifPresent(groupStateStore -> {
+            pluginMetrics.gauge(GROUP_STATE_STORE_MEMORY_BYTES, groupStateStore, GroupStateStore::getMemoryBytes);
+            pluginMetrics.gauge(GROUP_STATE_STORE_MEMORY_GROUPS, groupStateStore, GroupStateStore::getMemoryGroupCount);
+            pluginMetrics.gauge(GROUP_STATE_STORE_DISK_BYTES, groupStateStore, GroupStateStore::getDiskBytes);
+            pluginMetrics.gauge(GROUP_STATE_STORE_DISK_GROUPS, groupStateStore, GroupStateStore::getDiskGroupCount);
+        });
+    }
+
+    private static AggregateGroupManager createAggregateGroupManager(final AggregateProcessorConfig aggregateProcessorConfig, final PluginMetrics pluginMetrics) {
+        final GroupStateStoreConfig groupStateStoreConfig = aggregateProcessorConfig.getGroupStateStoreConfig();
+        if (groupStateStoreConfig == null) {
+            return new AggregateGroupManager(aggregateProcessorConfig.getGroupDuration());
+        }
+        final GroupStateStore groupStateStore = new OffHeapGroupStateStore(groupStateStoreConfig.getMemoryLimit().getBytes(),
+                Paths.get(groupStateStoreConfig.getSpillDirectory()));
+        return new AggregateGroupManager(aggregateProcessorConfig.getGroupDuration(), groupStateStore,
+                groupStateStoreConfig.getIdleTimeout(), pluginMetrics.counter(GROUP_STATE_STORE_READ_ERRORS), Clock.systemUTC());
     }
 
     private AggregateAction loadAggregateAction(final PluginFactory pluginFactory) {
@@ -145,7 +174,7 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
 
     @Override
     public void shutdown() {
-
+        aggregateGroupManager.close();
     }
 
     @Override
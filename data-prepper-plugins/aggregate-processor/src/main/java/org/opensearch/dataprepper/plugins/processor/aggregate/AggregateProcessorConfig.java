@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
@@ -31,6 +32,13 @@ public class AggregateProcessorConfig {
     @JsonProperty("aggregate_when")
     private String whenCondition;
 
+    @JsonProperty("group_state_store")
+    private GroupStateStoreConfig groupStateStoreConfig;
+
+    @JsonProperty("concurrency_mode")
+    @NotNull
+    private AggregateConcurrencyMode concurrencyMode = AggregateConcurrencyMode.LOCKING;
+
     public List<String> getIdentificationKeys() {
         return identificationKeys;
     }
@@ -45,4 +53,17 @@ public class AggregateProcessorConfig {
 
     public PluginModel getAggregateAction() { return aggregateAction; }
 
+    public GroupStateStoreConfig getGroupStateStoreConfig() {
+        return groupStateStoreConfig;
+    }
+
+    public AggregateConcurrencyMode getConcurrencyMode() {
+        return concurrencyMode;
+    }
+
+    @AssertTrue(message = "group_state_store cannot be used with the striped concurrency_mode")
+    boolean isGroupStateStoreSupported() {
+        return groupStateStoreConfig == null || concurrencyMode != AggregateConcurrencyMode.STRIPED;
+    }
+
 }
@@ -0,0 +1,320 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.CountAggregateState;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.HistogramAggregateState;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact binary encoding of identification keys and group state. It supports the values which the built-in
+ * {@link AggregateAction}s and Events put in a {@link GroupState}: null, strings, numbers, booleans, instants, lists,
+ * maps, the Long arrays of the histogram action and the typed state of the count and histogram actions, which is
+ * encoded field by field. Any other {@link Serializable} value falls back to Java serialization.
+ */
+final class GroupStateCodec {
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte BOOLEAN = 6;
+    private static final byte INSTANT = 7;
+    private static final byte LIST = 8;
+    private static final byte MAP = 9;
+    private static final byte LONG_ARRAY = 10;
+    private static final byte SERIALIZABLE = 11;
+    private static final byte COUNT_STATE = 12;
+    private static final byte HISTOGRAM_STATE = 13;
+
+    private GroupStateCodec() {
+    }
+
+    /**
+     * Encodes identification keys with the entries sorted by key, so that equal maps have equal encodings.
+     */
+    static byte[] encodeIdentificationKeys(final Map<Object, Object> identificationKeys) {
+        final List<Map.Entry<Object, Object>> entries = new ArrayList<>(identificationKeys.entrySet());
+        entries.sort(Comparator.comparing(entry -> String.valueOf(entry.getKey())));
+        final Output output = new Output();
+        output.writeInt(entries.size());
+        for (final Map.Entry<Object, Object> entry : entries) {
+            writeValue(output, entry.getKey());
+            writeValue(output, entry.getValue());
+        }
+        return output.toByteArray();
+    }
+
+    static byte[] encodeGroupState(final Map<Object, Object> groupState) {
+        final Output output = new Output();
+        writeMapEntries(output, groupState);
+        return output.toByteArray();
+    }
+
+    /**
+     * Decodes identification keys or group state from the current position of the buffer.
+     */
+    static Map<Object, Object> decodeMap(final ByteBuffer buffer) {
+        final int size = buffer.getInt();
+        final Map<Object, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            final Object key = readValue(buffer);
+            map.put(key, readValue(buffer));
+        }
+        return map;
+    }
+
+    private static void writeMapEntries(final Output output, final Map<?, ?> map) {
+        output.writeInt(map.size());
+        for (final Map.Entry<?, ?> entry : map.entrySet()) {
+            writeValue(output, entry.getKey());
+            writeValue(output, entry.getValue());
+        }
+    }
+
+    private static void writeValue(final Output output, final Object value) {
+        if (value == null) {
+            output.writeByte(NULL);
+        } else if (value instanceof String) {
+            output.writeByte(STRING);
+            final byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.writeBytes(bytes);
+        } else if (value instanceof Integer) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (value instanceof Long) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            output.writeByte(DOUBLE);
+            output.writeLong(Double.doubleToRawLongBits((Double) value));
+        } else if (value instanceof Float) {
+            output.writeByte(FLOAT);
+            output.writeInt(Float.floatToRawIntBits((Float) value));
+        } else if (value instanceof Boolean) {
+            output.writeByte(BOOLEAN);
+            output.writeByte((byte) ((Boolean) value ? 1 : 0));
+        } else if (value instanceof Instant) {
+            output.writeByte(INSTANT);
+            writeInstant(output, (Instant) value);
+        } else if (value instanceof List) {
+            output.writeByte(LIST);
+            final List<?> list = (List<?>) value;
+            output.writeInt(list.size());
+            for (final Object element : list) {
+                writeValue(output, element);
+            }
+        } else if (value instanceof Map) {
+            output.writeByte(MAP);
+            writeMapEntries(output, (Map<?, ?>) value);
+        } else if (value instanceof Long[]) {
+            output.writeByte(LONG_ARRAY);
+            final Long[] array = (Long[]) value;
+            output.writeInt(array.length);
+            for (final Long element : array) {
+                output.writeLong(element);
+            }
+        } else if (value instanceof CountAggregateState) {
+            output.writeByte(COUNT_STATE);
+            writeCountState(output, (CountAggregateState) value);
+        } else if (value instanceof HistogramAggregateState) {
+            output.writeByte(HISTOGRAM_STATE);
+            writeHistogramState(output, (HistogramAggregateState) value);
+        } else if (value instanceof Serializable) {
+            output.writeByte(SERIALIZABLE);
+            final byte[] bytes = serialize(value);
+            output.writeInt(bytes.length);
+            output.writeBytes(bytes);
+        } else {
+            throw new IllegalArgumentException("Group state values of type " + value.getClass().getName() + " cannot be stored.");
+        }
+    }
+
+    private static Object readValue(final ByteBuffer buffer) {
+        final byte type = buffer.get();
+        switch (type) {
+            case STRING:
+                final byte[] bytes = new byte[buffer.getInt()];
+                buffer.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            case INTEGER:
+                return buffer.getInt();
+            case LONG:
+                return buffer.getLong();
+            case DOUBLE:
+                return Double.longBitsToDouble(buffer.getLong());
+            case FLOAT:
+                return Float.intBitsToFloat(buffer.getInt());
+            case BOOLEAN:
+                return buffer.get() != 0;
+            case INSTANT:
+                return readInstant(buffer);
+            case LIST:
+                final int size = buffer.getInt();
+                final List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(buffer));
+                }
+                return list;
+            case MAP:
+                return decodeMap(buffer);
+            case LONG_ARRAY:
+                final Long[] array = new Long[buffer.getInt()];
+                for (int i = 0; i < array.length; i++) {
+                    array[i] = buffer.getLong();
+                }
+                return array;
+            case COUNT_STATE:
+                return readCountState(buffer);
+            case HISTOGRAM_STATE:
+                return readHistogramState(buffer);
+            case SERIALIZABLE:
+                final byte[] serializedBytes = new byte[buffer.getInt()];
+                buffer.get(serializedBytes);
+                return deserialize(serializedBytes);
+            default:
+                return null;
+        }
+    }
+
+    private static void writeCountState(final Output output, final CountAggregateState state) {
+        writeInstant(output, state.getStartTime());
+        writeMapEntries(output, state.getExemplarAttributes());
+        writeValue(output, state.getExemplarSpanId());
+        writeValue(output, state.getExemplarTraceId());
+        output.writeInt(state.getCount());
+    }
+
+    private static CountAggregateState readCountState(final ByteBuffer buffer) {
+        final Instant startTime = readInstant(buffer);
+        final Map<String, Object> exemplarAttributes = readStringKeyedMap(buffer);
+        final String exemplarSpanId = (String) readValue(buffer);
+        final String exemplarTraceId = (String) readValue(buffer);
+        return CountAggregateState.restore(startTime, exemplarAttributes, exemplarSpanId, exemplarTraceId, buffer.getInt());
+    }
+
+    private static void writeHistogramState(final Output output, final HistogramAggregateState state) {
+        writeInstant(output, state.getStartTime());
+        writeInstant(output, state.getEndTime());
+        writeMapEntries(output, state.getExemplarAttributes());
+        final long[] bucketCounts = state.getBucketCounts();
+        output.writeInt(bucketCounts.length);
+        for (final long bucketCount : bucketCounts) {
+            output.writeLong(bucketCount);
+        }
+        output.writeInt(state.getCount());
+        output.writeLong(Double.doubleToRawLongBits(state.getSum()));
+        output.writeLong(Double.doubleToRawLongBits(state.getMin()));
+        output.writeLong(Double.doubleToRawLongBits(state.getMax()));
+        writeValue(output, state.getMinSpanId());
+        writeValue(output, state.getMinTraceId());
+        writeValue(output, state.getMaxSpanId());
+        writeValue(output, state.getMaxTraceId());
+    }
+
+    private static HistogramAggregateState readHistogramState(final ByteBuffer buffer) {
+        final Instant startTime = readInstant(buffer);
+        final Instant endTime = readInstant(buffer);
+        final Map<String, Object> exemplarAttributes = readStringKeyedMap(buffer);
+        final long[] bucketCounts = new long[buffer.getInt()];
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] = buffer.getLong();
+        }
+        final int count = buffer.getInt();
+        final double sum = Double.longBitsToDouble(buffer.getLong());
+        final double min = Double.longBitsToDouble(buffer.getLong());
+        final double max = Double.longBitsToDouble(buffer.getLong());
+        return HistogramAggregateState.restore(startTime, endTime, exemplarAttributes, bucketCounts, count, sum, min, max,
+                (String) readValue(buffer), (String) readValue(buffer), (String) readValue(buffer), (String) readValue(buffer));
+    }
+
+    private static void writeInstant(final Output output, final Instant instant) {
+        output.writeLong(instant.getEpochSecond());
+        output.writeInt(instant.getNano());
+    }
+
+    private static Instant readInstant(final ByteBuffer buffer) {
+        return Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> readStringKeyedMap(final ByteBuffer buffer) {
+        return (Map<String, Object>) (Map<?, ?>) decodeMap(buffer);
+    }
+
+    private static byte[] serialize(final Object value) {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(value);
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("Group state values of type " + value.getClass().getName() + " cannot be stored.", e);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static Object deserialize(final byte[] bytes) {
+        try (final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return objectInputStream.readObject();
+        } catch (final IOException | ClassNotFoundException e) {
+            throw new IllegalStateException("A stored group state value cannot be restored.", e);
+        }
+    }
+
+    private static class Output {
+        private byte[] bytes = new byte[64];
+        private int length;
+
+        private void writeByte(final byte value) {
+            ensureCapacity(1);
+            bytes[length++] = value;
+        }
+
+        private void writeInt(final int value) {
+            ensureCapacity(Integer.BYTES);
+            ByteBuffer.wrap(bytes, length, Integer.BYTES).putInt(value);
+            length += Integer.BYTES;
+        }
+
+        private void writeLong(final long value) {
+            ensureCapacity(Long.BYTES);
+            ByteBuffer.wrap(bytes, length, Long.BYTES).putLong(value);
+            length += Long.BYTES;
+        }
+
+        private void writeBytes(final byte[] value) {
+            ensureCapacity(value.length);
+            System.arraycopy(value, 0, bytes, length, value.length);
+            length += value.length;
+        }
+
+        private void ensureCapacity(final int additionalBytes) {
+            if (length + additionalBytes > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additionalBytes));
+            }
+        }
+
+        private byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+    }
+}
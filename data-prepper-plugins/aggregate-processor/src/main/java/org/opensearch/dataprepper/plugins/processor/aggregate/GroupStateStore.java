@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds idle {@link AggregateGroup}s outside of the {@link AggregateGroupManager}. A stored group is removed from the
+ * store when it receives a new Event, when it is due to be concluded, or when all groups are concluded on shutdown.
+ * Implementations must be thread-safe.
+ */
+interface GroupStateStore {
+    /**
+     * Stores the identification keys, group start and state of a group.
+     *
+     * @param identificationKeysMap the identification keys of the group
+     * @param aggregateGroup        the group
+     * @param concludeTime          the time at which the group should be concluded
+     * @throws IOException              if the group could not be written
+     * @throws IllegalArgumentException if the group state holds values which cannot be stored
+     */
+    void store(IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, AggregateGroup aggregateGroup, Instant concludeTime) throws IOException;
+
+    /**
+     * Removes a group from the store.
+     *
+     * @param identificationKeysMap the identification keys of the group
+     * @return a new group with the stored group start and state, or null if the group is not stored
+     * @throws IOException if the group could not be read
+     */
+    AggregateGroup remove(IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) throws IOException;
+
+    /**
+     * Removes the groups which should be concluded.
+     *
+     * @param now the current time
+     * @return the groups which are due, with their identification keys
+     * @throws IOException if a group could not be read
+     */
+    List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> removeDue(Instant now) throws IOException;
+
+    /**
+     * Removes all groups.
+     *
+     * @return all stored groups, with their identification keys
+     * @throws IOException if a group could not be read
+     */
+    List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> removeAll() throws IOException;
+
+    long getGroupCount();
+
+    long getMemoryBytes();
+
+    long getMemoryGroupCount();
+
+    long getDiskBytes();
+
+    long getDiskGroupCount();
+
+    /**
+     * Releases the memory and deletes the files of the store.
+     *
+     * @throws IOException if a file could not be closed
+     */
+    void close() throws IOException;
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+import java.time.Duration;
+
+/**
+ * Configures where the state of idle groups is kept. Without this configuration, all groups stay on the heap until
+ * they are concluded.
+ */
+public class GroupStateStoreConfig {
+    static final String DEFAULT_MEMORY_LIMIT = "64mb";
+    static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(10);
+
+    @JsonProperty("memory_limit")
+    private String memoryLimit = DEFAULT_MEMORY_LIMIT;
+
+    @JsonProperty("spill_directory")
+    private String spillDirectory = System.getProperty("java.io.tmpdir");
+
+    @JsonProperty("idle_timeout")
+    private Duration idleTimeout = DEFAULT_IDLE_TIMEOUT;
+
+    /**
+     * @return the maximum number of off-heap bytes for the state of idle groups, before it is spilled to disk
+     */
+    public ByteCount getMemoryLimit() {
+        return ByteCount.parse(memoryLimit);
+    }
+
+    /**
+     * @return the directory of the file which holds the state of idle groups above the memory limit
+     */
+    public String getSpillDirectory() {
+        return spillDirectory;
+    }
+
+    /**
+     * @return the time without new Events after which a group is moved out of the heap
+     */
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+}
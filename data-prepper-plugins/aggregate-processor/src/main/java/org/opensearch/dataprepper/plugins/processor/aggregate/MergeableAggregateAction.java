@@ -0,0 +1,26 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+/**
+ * An {@link AggregateAction} whose group state can be built in parts and merged. With the
+ * {@link AggregateConcurrencyMode#STRIPED} concurrency mode, each worker calls
+ * {@link AggregateAction#handleEvent(org.opensearch.dataprepper.model.event.Event, AggregateActionInput)} with its own
+ * partial {@link GroupState} of the group, and the partial states are merged before
+ * {@link AggregateAction#concludeGroup(AggregateActionInput)} is called.
+ * @since 2.5
+ */
+public interface MergeableAggregateAction extends AggregateAction {
+    /**
+     * Merges a partial group state into the group state which is concluded.
+     *
+     * @param partialGroupState A non-empty group state built by calls to handleEvent from one worker. It is cleared
+     *                          after this call, so the merged group state may take the values it holds.
+     * @param groupState The group state to merge into, which is empty before the first partial group state is merged
+     * @since 2.5
+     */
+    void mergeGroupState(GroupState partialGroupState, GroupState groupState);
+}
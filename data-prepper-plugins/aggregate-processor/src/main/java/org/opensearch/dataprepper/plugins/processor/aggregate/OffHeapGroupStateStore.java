@@ -0,0 +1,494 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * A {@link GroupStateStore} which keeps each group as a compact binary record in direct memory, up to a byte limit,
+ * and appends the records above that limit to a spill file.
+ * <p>
+ * Both tiers are append-only logs. Records are located through an open-addressing table of primitive key hashes and
+ * record locations, and the groups are concluded in order through a primitive min-heap of conclude times. Removed
+ * records leave garbage behind, which is reclaimed by sliding the live records to the start of the log: in memory once
+ * the garbage would make room for a new record, and on disk once the garbage outweighs the live records. A record is
+ * laid out as follows.
+ * <pre>
+ * int record length | long key hash | long group start seconds | int group start nanos | long conclude time millis |
+ * int key length | key bytes | group state bytes
+ * </pre>
+ */
+class OffHeapGroupStateStore implements GroupStateStore {
+    static final long MAX_MEMORY_LIMIT = Integer.MAX_VALUE - 8;
+    static final long MIN_DISK_COMPACTION_BYTES = 1 << 20;
+    static final int INITIAL_INDEX_CAPACITY = 16;
+    private static final int INITIAL_MEMORY_CAPACITY = 64 * 1024;
+    private static final int INITIAL_DUE_CAPACITY = 16;
+    private static final long DISK_LOCATION = 1L << 62;
+    private static final long EMPTY = -1;
+    private static final int NOT_FOUND = -1;
+    private static final int KEY_HASH_OFFSET = 4;
+    private static final int GROUP_START_OFFSET = 12;
+    private static final int CONCLUDE_TIME_OFFSET = 24;
+    private static final int KEY_LENGTH_OFFSET = 32;
+    private static final int HEADER_SIZE = 36;
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long memoryLimit;
+    private final Path spillDirectory;
+    private final ToLongFunction<byte[]> keyHasher;
+    private final Storage memoryStorage = new MemoryStorage();
+    private final Storage diskStorage = new DiskStorage();
+
+    private ByteBuffer memory;
+    private long memoryEnd;
+    private long memoryLiveBytes;
+    private long memoryGroupCount;
+
+    private Path spillFile;
+    private FileChannel spillChannel;
+    private long spillEnd;
+    private long spillLiveBytes;
+    private long diskGroupCount;
+
+    private long[] indexHashes;
+    private long[] indexLocations;
+    private volatile int indexSize;
+
+    private long[] dueTimes;
+    private long[] dueHashes;
+    private int dueSize;
+
+    OffHeapGroupStateStore(final long memoryLimit, final Path spillDirectory) {
+        this(memoryLimit, spillDirectory, OffHeapGroupStateStore::hashKey);
+    }
+
+    OffHeapGroupStateStore(final long memoryLimit, final Path spillDirectory, final ToLongFunction<byte[]> keyHasher) {
+        this.memoryLimit = Math.min(memoryLimit, MAX_MEMORY_LIMIT);
+        this.spillDirectory = spillDirectory;
+        this.keyHasher = keyHasher;
+        clearIndex(INITIAL_INDEX_CAPACITY);
+        dueTimes = new long[INITIAL_DUE_CAPACITY];
+        dueHashes = new long[INITIAL_DUE_CAPACITY];
+    }
+
+    @Override
+    public void store(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, final AggregateGroup aggregateGroup,
+                      final Instant concludeTime) throws IOException {
+        final byte[] key = GroupStateCodec.encodeIdentificationKeys(identificationKeysMap.getKeyMap());
+        final byte[] state = GroupStateCodec.encodeGroupState(aggregateGroup.getGroupState());
+        final long keyHash = keyHasher.applyAsLong(key);
+        final Instant groupStart = aggregateGroup.getGroupStart();
+
+        final ByteBuffer record = ByteBuffer.allocate(HEADER_SIZE + key.length + state.length);
+        record.putInt(record.capacity())
+                .putLong(keyHash)
+                .putLong(groupStart.getEpochSecond())
+                .putInt(groupStart.getNano())
+                .putLong(concludeTime.toEpochMilli())
+                .putInt(key.length)
+                .put(key)
+                .put(state)
+                .flip();
+
+        synchronized (this) {
+            final long location = append(record);
+            indexPut(keyHash, location);
+            duePush(concludeTime.toEpochMilli(), keyHash);
+        }
+    }
+
+    @Override
+    public AggregateGroup remove(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) throws IOException {
+        if (indexSize == 0) {
+            return null;
+        }
+        final byte[] key = GroupStateCodec.encodeIdentificationKeys(identificationKeysMap.getKeyMap());
+        final long keyHash = keyHasher.applyAsLong(key);
+
+        synchronized (this) {
+            for (int slot = slotOf(keyHash); indexLocations[slot] != EMPTY; slot = nextSlot(slot)) {
+                if (indexHashes[slot] == keyHash && Arrays.equals(readKey(indexLocations[slot]), key)) {
+                    return restore(slot).getValue();
+                }
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public synchronized List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> removeDue(final Instant now) throws IOException {
+        final long nowMillis = now.toEpochMilli();
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> dueGroups = new ArrayList<>();
+        while (dueSize > 0 && dueTimes[0] <= nowMillis) {
+            final long concludeTime = dueTimes[0];
+            final long keyHash = dueHashes[0];
+            duePop();
+            for (int slot = slotOf(keyHash); indexLocations[slot] != EMPTY; slot = nextSlot(slot)) {
+                if (indexHashes[slot] == keyHash && readHeader(indexLocations[slot]).getLong(CONCLUDE_TIME_OFFSET) == concludeTime) {
+                    dueGroups.add(restore(slot));
+                    break;
+                }
+            }
+        }
+        return dueGroups;
+    }
+
+    @Override
+    public synchronized List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> removeAll() throws IOException {
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groups = new ArrayList<>(indexSize);
+        int slot = 0;
+        while (indexSize > 0) {
+            if (indexLocations[slot] == EMPTY) {
+                slot++;
+            } else {
+                groups.add(restore(slot));
+            }
+        }
+        dueSize = 0;
+        return groups;
+    }
+
+    @Override
+    public long getGroupCount() {
+        return indexSize;
+    }
+
+    @Override
+    public synchronized long getMemoryBytes() {
+        return memoryEnd;
+    }
+
+    @Override
+    public synchronized long getMemoryGroupCount() {
+        return memoryGroupCount;
+    }
+
+    @Override
+    public synchronized long getDiskBytes() {
+        return spillEnd;
+    }
+
+    @Override
+    public synchronized long getDiskGroupCount() {
+        return diskGroupCount;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        memory = null;
+        memoryEnd = memoryLiveBytes = memoryGroupCount = 0;
+        spillEnd = spillLiveBytes = diskGroupCount = 0;
+        clearIndex(INITIAL_INDEX_CAPACITY);
+        dueSize = 0;
+        if (spillChannel != null) {
+            spillChannel.close();
+            spillChannel = null;
+            Files.deleteIfExists(spillFile);
+        }
+    }
+
+    Path getSpillFile() {
+        return spillFile;
+    }
+
+    static long hashKey(final byte[] key) {
+        long hash = FNV_OFFSET_BASIS;
+        for (final byte b : key) {
+            hash ^= b;
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private long append(final ByteBuffer record) throws IOException {
+        final int length = record.remaining();
+        if (reserveMemory(length)) {
+            final long location = memoryEnd;
+            memoryStorage.write(location, record);
+            memoryEnd += length;
+            memoryLiveBytes += length;
+            memoryGroupCount++;
+            return location;
+        }
+
+        if (spillChannel == null) {
+            spillFile = Files.createTempFile(spillDirectory, "aggregate-group-state-", ".spill");
+            spillChannel = FileChannel.open(spillFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+        final long location = spillEnd;
+        diskStorage.write(location, record);
+        spillEnd += length;
+        spillLiveBytes += length;
+        diskGroupCount++;
+        return location | DISK_LOCATION;
+    }
+
+    /**
+     * Makes room for a record in memory, by compacting or growing the memory, if the memory limit allows it.
+     */
+    private boolean reserveMemory(final int length) throws IOException {
+        if (memoryEnd + length > memoryLimit) {
+            if (memoryEnd - memoryLiveBytes < Math.max(length, memoryLimit / 8)) {
+                return false;
+            }
+            memoryEnd = compact(memoryStorage, memoryEnd, 0);
+        }
+        final long capacity = memory == null ? 0 : memory.capacity();
+        if (memoryEnd + length > capacity) {
+            final ByteBuffer grownMemory = ByteBuffer.allocateDirect((int) Math.min(memoryLimit,
+                    Math.max(Math.max(capacity * 2, INITIAL_MEMORY_CAPACITY), memoryEnd + length)));
+            if (memory != null) {
+                final ByteBuffer source = memory.duplicate();
+                source.position(0).limit((int) memoryEnd);
+                grownMemory.put(source);
+            }
+            memory = grownMemory;
+        }
+        return true;
+    }
+
+    /**
+     * Slides the live records of a log towards its start and updates their locations.
+     *
+     * @return the new end of the log
+     */
+    private long compact(final Storage storage, final long end, final long locationFlag) throws IOException {
+        long readPosition = 0;
+        long writePosition = 0;
+        while (readPosition < end) {
+            final ByteBuffer header = storage.read(readPosition, HEADER_SIZE);
+            final int length = header.getInt(0);
+            final long keyHash = header.getLong(KEY_HASH_OFFSET);
+            final int slot = findSlot(keyHash, readPosition | locationFlag);
+            if (slot != NOT_FOUND) {
+                if (writePosition != readPosition) {
+                    storage.write(writePosition, storage.read(readPosition, length));
+                    indexLocations[slot] = writePosition | locationFlag;
+                }
+                writePosition += length;
+            }
+            readPosition += length;
+        }
+        return writePosition;
+    }
+
+    private Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> restore(final int slot) throws IOException {
+        final long location = indexLocations[slot];
+        final boolean onDisk = (location & DISK_LOCATION) != 0;
+        final Storage storage = onDisk ? diskStorage : memoryStorage;
+        final long position = location & ~DISK_LOCATION;
+        final int length = storage.read(position, Integer.BYTES).getInt(0);
+        final ByteBuffer record = storage.read(position, length);
+
+        indexRemove(slot);
+        if (onDisk) {
+            spillLiveBytes -= length;
+            diskGroupCount--;
+            if (diskGroupCount == 0) {
+                spillChannel.truncate(0);
+                spillEnd = 0;
+            } else if (spillEnd - spillLiveBytes > Math.max(spillLiveBytes, MIN_DISK_COMPACTION_BYTES)) {
+                spillEnd = compact(diskStorage, spillEnd, DISK_LOCATION);
+                spillChannel.truncate(spillEnd);
+            }
+        } else {
+            memoryLiveBytes -= length;
+            memoryGroupCount--;
+            if (memoryGroupCount == 0) {
+                memoryEnd = 0;
+            }
+        }
+
+        final Instant groupStart = Instant.ofEpochSecond(record.getLong(GROUP_START_OFFSET), record.getInt(GROUP_START_OFFSET + Long.BYTES));
+        record.position(HEADER_SIZE);
+        final Map<Object, Object> identificationKeys = GroupStateCodec.decodeMap(record);
+        final Map<Object, Object> groupState = GroupStateCodec.decodeMap(record);
+        return new AbstractMap.SimpleImmutableEntry<>(new IdentificationKeysHasher.IdentificationKeysMap(identificationKeys),
+                new AggregateGroup(identificationKeys, groupStart, groupState));
+    }
+
+    private ByteBuffer readHeader(final long location) throws IOException {
+        final Storage storage = (location & DISK_LOCATION) != 0 ? diskStorage : memoryStorage;
+        return storage.read(location & ~DISK_LOCATION, HEADER_SIZE);
+    }
+
+    private byte[] readKey(final long location) throws IOException {
+        final Storage storage = (location & DISK_LOCATION) != 0 ? diskStorage : memoryStorage;
+        final long position = location & ~DISK_LOCATION;
+        final int keyLength = storage.read(position, HEADER_SIZE).getInt(KEY_LENGTH_OFFSET);
+        return storage.read(position + HEADER_SIZE, keyLength).array();
+    }
+
+    private int slotOf(final long keyHash) {
+        return (int) (keyHash ^ (keyHash >>> 32)) & (indexLocations.length - 1);
+    }
+
+    private int nextSlot(final int slot) {
+        return (slot + 1) & (indexLocations.length - 1);
+    }
+
+    private int findSlot(final long keyHash, final long location) {
+        for (int slot = slotOf(keyHash); indexLocations[slot] != EMPTY; slot = nextSlot(slot)) {
+            if (indexLocations[slot] == location) {
+                return slot;
+            }
+        }
+        return NOT_FOUND;
+    }
+
+    private void indexPut(final long keyHash, final long location) {
+        if ((indexSize + 1) * 2 > indexLocations.length) {
+            final long[] oldHashes = indexHashes;
+            final long[] oldLocations = indexLocations;
+            clearIndex(oldLocations.length * 2);
+            for (int i = 0; i < oldLocations.length; i++) {
+                if (oldLocations[i] != EMPTY) {
+                    indexPut(oldHashes[i], oldLocations[i]);
+                }
+            }
+        }
+        int slot = slotOf(keyHash);
+        while (indexLocations[slot] != EMPTY) {
+            slot = nextSlot(slot);
+        }
+        indexHashes[slot] = keyHash;
+        indexLocations[slot] = location;
+        indexSize++;
+    }
+
+    /**
+     * Removes a slot from the table, moving back the following slots of its cluster so that lookups do not stop early.
+     */
+    private void indexRemove(final int slot) {
+        int hole = slot;
+        for (int next = nextSlot(slot); indexLocations[next] != EMPTY; next = nextSlot(next)) {
+            if (!isCyclicallyBetween(hole, slotOf(indexHashes[next]), next)) {
+                indexHashes[hole] = indexHashes[next];
+                indexLocations[hole] = indexLocations[next];
+                hole = next;
+            }
+        }
+        indexLocations[hole] = EMPTY;
+        indexSize--;
+    }
+
+    /**
+     * @return true if value is in the cyclic range (start, end]
+     */
+    private static boolean isCyclicallyBetween(final int start, final int value, final int end) {
+        return start <= end ? start < value && value <= end : start < value || value <= end;
+    }
+
+    private void clearIndex(final int capacity) {
+        indexHashes = new long[capacity];
+        indexLocations = new long[capacity];
+        Arrays.fill(indexLocations, EMPTY);
+        indexSize = 0;
+    }
+
+    private void duePush(final long concludeTime, final long keyHash) {
+        if (dueSize == dueTimes.length) {
+            dueTimes = Arrays.copyOf(dueTimes, dueSize * 2);
+            dueHashes = Arrays.copyOf(dueHashes, dueSize * 2);
+        }
+        int child = dueSize++;
+        while (child > 0 && dueTimes[(child - 1) / 2] > concludeTime) {
+            final int parent = (child - 1) / 2;
+            dueTimes[child] = dueTimes[parent];
+            dueHashes[child] = dueHashes[parent];
+            child = parent;
+        }
+        dueTimes[child] = concludeTime;
+        dueHashes[child] = keyHash;
+    }
+
+    private void duePop() {
+        final long lastTime = dueTimes[--dueSize];
+        final long lastHash = dueHashes[dueSize];
+        int parent = 0;
+        int child = 1;
+        while (child < dueSize) {
+            if (child + 1 < dueSize && dueTimes[child + 1] < dueTimes[child]) {
+                child++;
+            }
+            if (dueTimes[child] >= lastTime) {
+                break;
+            }
+            dueTimes[parent] = dueTimes[child];
+            dueHashes[parent] = dueHashes[child];
+            parent = child;
+            child = 2 * parent + 1;
+        }
+        dueTimes[parent] = lastTime;
+        dueHashes[parent] = lastHash;
+    }
+
+    private interface Storage {
+        ByteBuffer read(long position, int length) throws IOException;
+
+        void write(long position, ByteBuffer source) throws IOException;
+    }
+
+    private class MemoryStorage implements Storage {
+        @Override
+        public ByteBuffer read(final long position, final int length) {
+            final ByteBuffer source = memory.duplicate();
+            source.position((int) position).limit((int) position + length);
+            final ByteBuffer target = ByteBuffer.allocate(length);
+            target.put(source).flip();
+            return target;
+        }
+
+        @Override
+        public void write(final long position, final ByteBuffer source) {
+            final ByteBuffer target = memory.duplicate();
+            target.position((int) position);
+            target.put(source);
+        }
+    }
+
+    private class DiskStorage implements Storage {
+        @Override
+        public ByteBuffer read(final long position, final int length) throws IOException {
+            final ByteBuffer target = ByteBuffer.allocate(length);
+            while (target.hasRemaining()) {
+                if (spillChannel.read(target, position + target.position()) < 0) {
+                    throw new EOFException("The spill file " + spillFile + " ended before the record at " + position);
+                }
+            }
+            target.flip();
+            return target;
+        }
+
+        @Override
+        public void write(final long position, final ByteBuffer source) throws IOException {
+            long writePosition = position;
+            while (source.hasRemaining()) {
+                writePosition += spillChannel.write(source, writePosition);
+            }
+        }
+    }
+}
@@ -13,16 +13,15 @@ import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor
 import org.opensearch.dataprepper.plugins.otel.codec.OTelProtoCodec;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
-import org.opensearch.dataprepper.model.trace.Span;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateAction;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionOutput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.GroupState;
+import org.opensearch.dataprepper.plugins.processor.aggregate.MergeableAggregateAction;
 import io.opentelemetry.proto.metrics.v1.AggregationTemporality;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
@@ -32,28 +31,27 @@ import java.util.HashMap;
 /**
  * An AggregateAction that combines multiple Events into a single Event. This action will count the number of events with same keys and will create a combined event
  * from the groupState on concludeGroup. The combined event will have identification keys, count and the start time either in one of the supported output formats.
+ * The count of each group is kept in a {@link CountAggregateState}, which also holds the exemplar captured from the first event of the group.
  * @since 2.1
  */
 @DataPrepperPlugin(name = "count", pluginType = AggregateAction.class, pluginConfigurationType = CountAggregateActionConfig.class)
-public class CountAggregateAction implements AggregateAction {
+public class CountAggregateAction implements MergeableAggregateAction {
     private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
     static final String EVENT_TYPE = "event";
     static final String SUM_METRIC_NAME = "count";
     static final String SUM_METRIC_DESCRIPTION = "Number of events";
     static final String SUM_METRIC_UNIT = "1";
     static final boolean SUM_METRIC_IS_MONOTONIC = true;
+    private static final String STATE_KEY = CountAggregateState.class.getName();
     public final String countKey;
     public final String startTimeKey;
     public final String outputFormat;
-    private long startTimeNanos;
-    private List<Exemplar> exemplarList;
 
     @DataPrepperPluginConstructor
     public CountAggregateAction(final CountAggregateActionConfig countAggregateActionConfig) {
         this.countKey = countAggregateActionConfig.getCountKey();
         this.startTimeKey = countAggregateActionConfig.getStartTimeKey();
         this.outputFormat = countAggregateActionConfig.getOutputFormat();
-        this.exemplarList = new ArrayList<>();
     }
 
     private long getTimeNanos(Instant time) {
@@ -62,58 +60,57 @@ public class CountAggregateAction implements AggregateAction {
         return currentTimeNanos;
     }
 
-    public Exemplar createExemplar(final Event event) {
-        long curTimeNanos = getTimeNanos(Instant.now());
-        Map<String, Object> attributes = event.toMap();
-        String spanId = null;
-        String traceId = null;
-        if (event instanceof Span) {
-            Span span = (Span)event;
-            spanId = span.getSpanId();
-            traceId = span.getTraceId();
-        }
+    private Exemplar createExemplar(final CountAggregateState countAggregateState) {
         return new DefaultExemplar(
-                    OTelProtoCodec.convertUnixNanosToISO8601(curTimeNanos),
+                    OTelProtoCodec.convertUnixNanosToISO8601(getTimeNanos(countAggregateState.getStartTime())),
                     1.0,
-                    spanId,
-                    traceId,
-                    attributes);
+                    countAggregateState.getExemplarSpanId(),
+                    countAggregateState.getExemplarTraceId(),
+                    countAggregateState.getExemplarAttributes());
     }
 
     @Override
     public AggregateActionResponse handleEvent(final Event event, final AggregateActionInput aggregateActionInput) {
         final GroupState groupState = aggregateActionInput.getGroupState();
-        if (groupState.get(countKey) == null) {
-            groupState.put(startTimeKey, Instant.now());
-            groupState.putAll(aggregateActionInput.getIdentificationKeys());
-            groupState.put(countKey, 1);
-            exemplarList.add(createExemplar(event));
+        final CountAggregateState countAggregateState = (CountAggregateState) groupState.get(STATE_KEY);
+        if (countAggregateState == null) {
+            groupState.put(STATE_KEY, new CountAggregateState(event, Instant.now()));
         } else {
-            Integer v = (Integer)groupState.get(countKey) + 1;
-            groupState.put(countKey, v);
-        } 
+            countAggregateState.increment();
+        }
         return AggregateActionResponse.nullEventResponse();
     }
 
+    @Override
+    public void mergeGroupState(final GroupState partialGroupState, final GroupState groupState) {
+        final CountAggregateState partialCountAggregateState = (CountAggregateState) partialGroupState.get(STATE_KEY);
+        final CountAggregateState countAggregateState = (CountAggregateState) groupState.get(STATE_KEY);
+        if (countAggregateState == null) {
+            groupState.put(STATE_KEY, partialCountAggregateState);
+        } else {
+            groupState.put(STATE_KEY, countAggregateState.merge(partialCountAggregateState));
+        }
+    }
+
     @Override
     public AggregateActionOutput concludeGroup(final AggregateActionInput aggregateActionInput) {
         GroupState groupState = aggregateActionInput.getGroupState();
+        final CountAggregateState countAggregateState = (CountAggregateState) groupState.remove(STATE_KEY);
         Event event;
-        Instant startTime = (Instant)groupState.get(startTimeKey);
+        Instant startTime = countAggregateState.getStartTime();
         if (outputFormat.equals(OutputFormat.RAW.toString())) {
+            groupState.putAll(aggregateActionInput.getIdentificationKeys());
+            groupState.put(countKey, countAggregateState.getCount());
             groupState.put(startTimeKey, startTime.atZone(ZoneId.of(ZoneId.systemDefault().toString())).format(DateTimeFormatter.ofPattern(DATE_FORMAT)));
             event = JacksonEvent.builder()
                 .withEventType(EVENT_TYPE)
                 .withData(groupState)
                 .build();
         } else {
-            Integer countValue = (Integer)groupState.get(countKey);
-            groupState.remove(countKey);
-            groupState.remove(startTimeKey);
             long currentTimeNanos = getTimeNanos(Instant.now());
             long startTimeNanos = getTimeNanos(startTime);
             Map<String, Object> attr = new HashMap<String, Object>();
-            groupState.forEach((k, v) -> attr.put((String)k, v));
+            aggregateActionInput.getIdentificationKeys().forEach((k, v) -> attr.put((String)k, v));
             JacksonSum sum = JacksonSum.builder()
                 .withName(SUM_METRIC_NAME)
                 .withDescription(SUM_METRIC_DESCRIPTION)
@@ -122,8 +119,8 @@ public class CountAggregateAction implements AggregateAction {
                 .withIsMonotonic(SUM_METRIC_IS_MONOTONIC)
                 .withUnit(SUM_METRIC_UNIT)
                 .withAggregationTemporality(AggregationTemporality.AGGREGATION_TEMPORALITY_DELTA.name())
-                .withValue((double)countValue)
-                .withExemplars(exemplarList)
+                .withValue((double)countAggregateState.getCount())
+                .withExemplars(List.of(createExemplar(countAggregateState)))
                 .withAttributes(attr)
                 .build(false);
             event = (Event)sum;
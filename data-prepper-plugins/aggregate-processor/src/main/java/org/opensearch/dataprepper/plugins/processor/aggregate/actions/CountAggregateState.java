@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * The state of one group of the {@link CountAggregateAction}. It is kept in the group state under a single key, so that
+ * each event costs one lookup and a primitive increment. The attributes of the exemplar are captured from the first
+ * event of the group only.
+ */
+public final class CountAggregateState implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Instant startTime;
+    private final Map<String, Object> exemplarAttributes;
+    private final String exemplarSpanId;
+    private final String exemplarTraceId;
+    private int count;
+
+    CountAggregateState(final Event firstEvent, final Instant startTime) {
+        this.startTime = startTime;
+        this.exemplarAttributes = firstEvent.toMap();
+        if (firstEvent instanceof Span) {
+            final Span span = (Span) firstEvent;
+            this.exemplarSpanId = span.getSpanId();
+            this.exemplarTraceId = span.getTraceId();
+        } else {
+            this.exemplarSpanId = null;
+            this.exemplarTraceId = null;
+        }
+        this.count = 1;
+    }
+
+    private CountAggregateState(final Instant startTime,
+                                final Map<String, Object> exemplarAttributes,
+                                final String exemplarSpanId,
+                                final String exemplarTraceId,
+                                final int count) {
+        this.startTime = startTime;
+        this.exemplarAttributes = exemplarAttributes;
+        this.exemplarSpanId = exemplarSpanId;
+        this.exemplarTraceId = exemplarTraceId;
+        this.count = count;
+    }
+
+    /**
+     * Restores a state which a group state store has encoded field by field.
+     */
+    public static CountAggregateState restore(final Instant startTime,
+                                              final Map<String, Object> exemplarAttributes,
+                                              final String exemplarSpanId,
+                                              final String exemplarTraceId,
+                                              final int count) {
+        return new CountAggregateState(startTime, exemplarAttributes, exemplarSpanId, exemplarTraceId, count);
+    }
+
+    void increment() {
+        count++;
+    }
+
+    /**
+     * Adds the count of another state of the same group.
+     *
+     * @return the state which started first, holding the combined count
+     */
+    CountAggregateState merge(final CountAggregateState other) {
+        final CountAggregateState first = other.startTime.isBefore(startTime) ? other : this;
+        first.count = count + other.count;
+        return first;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public Map<String, Object> getExemplarAttributes() {
+        return exemplarAttributes;
+    }
+
+    public String getExemplarSpanId() {
+        return exemplarSpanId;
+    }
+
+    public String getExemplarTraceId() {
+        return exemplarTraceId;
+    }
+}
@@ -8,7 +8,6 @@ package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
 import org.opensearch.dataprepper.model.metric.JacksonHistogram;
 import org.opensearch.dataprepper.model.metric.Bucket;
 import org.opensearch.dataprepper.model.metric.Exemplar;
-import org.opensearch.dataprepper.model.trace.Span;
 import org.opensearch.dataprepper.model.metric.DefaultExemplar;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
@@ -20,6 +19,7 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInp
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionOutput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.GroupState;
+import org.opensearch.dataprepper.plugins.processor.aggregate.MergeableAggregateAction;
 import static org.opensearch.dataprepper.plugins.processor.aggregate.AggregateProcessor.getTimeNanos;
 import io.opentelemetry.proto.metrics.v1.AggregationTemporality;
 import static org.opensearch.dataprepper.plugins.processor.otelmetrics.OTelMetricsProtoHelper.createBuckets;
@@ -28,7 +28,6 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Map;
-import java.util.Objects;
 import java.util.List;
 import java.util.HashMap;
 import java.util.Arrays;
@@ -37,13 +36,15 @@ import java.util.ArrayList;
 /**
  * An AggregateAction that combines multiple Events into a single Event. This action will create a combined event with histogram buckets of the values 
  * of specified list of keys from the groupState on concludeGroup. 
+ * The counts, sum, min and max of each group are kept in a {@link HistogramAggregateState}.
  * @since 2.1
  */
 @DataPrepperPlugin(name = "histogram", pluginType = AggregateAction.class, pluginConfigurationType = HistogramAggregateActionConfig.class)
-public class HistogramAggregateAction implements AggregateAction {
+public class HistogramAggregateAction implements MergeableAggregateAction {
     private static final String DATE_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
     private static final String EVENT_TYPE = "event";
     public static final String HISTOGRAM_METRIC_NAME = "histogram";
+    private static final String STATE_KEY = HistogramAggregateState.class.getName();
     private final String countKey;
     private final String bucketCountsKey;
     private final String bucketsKey;
@@ -57,13 +58,6 @@ public class HistogramAggregateAction implements AggregateAction {
     private final String key;
     private final String units;
     private final boolean recordMinMax;
-    private List<Exemplar> exemplarList;
-    private Event minEvent;
-    private Event maxEvent;
-    private double minValue;
-    private double maxValue;
-
-    private long startTimeNanos;
     private double[] buckets;
 
     @DataPrepperPluginConstructor
@@ -71,7 +65,6 @@ public class HistogramAggregateAction implements AggregateAction {
         this.key = histogramAggregateActionConfig.getKey();
         List<Number> bucketList = histogramAggregateActionConfig.getBuckets();
         this.buckets = new double[bucketList.size()+2];
-        this.exemplarList = new ArrayList<>();
         int bucketIdx = 0;
         this.buckets[bucketIdx++] = -Float.MAX_VALUE;
         for (int i = 0; i < bucketList.size(); i++) {
@@ -111,19 +104,10 @@ public class HistogramAggregateAction implements AggregateAction {
         return doubleValue;
     }
 
-    public Exemplar createExemplar(final String id, final Event event, double value) {
+    private Exemplar createExemplar(final String id, final Map<String, Object> exemplarAttributes, final double value, final String spanId, final String traceId) {
         long curTimeNanos = getTimeNanos(Instant.now());
-        Map<String, Object> attributes = event.toMap();
-        if (Objects.nonNull(id)) {
-            attributes.put("exemplarId", id);
-        }
-        String spanId = null;
-        String traceId = null;
-        if (event instanceof Span) {
-            Span span = (Span)event;
-            spanId = span.getSpanId();
-            traceId = span.getTraceId();
-        }
+        Map<String, Object> attributes = new HashMap<>(exemplarAttributes);
+        attributes.put("exemplarId", id);
         return new DefaultExemplar(OTelProtoCodec.convertUnixNanosToISO8601(curTimeNanos),
                     value,
                     spanId,
@@ -144,62 +128,56 @@ public class HistogramAggregateAction implements AggregateAction {
         if (idx < 0) {
             idx = -idx-2;
         }
-        if (groupState.get(bucketCountsKey) == null) {
-            Long[] bucketCountsList = new Long[buckets.length-1];
-            Arrays.fill(bucketCountsList, (long)0);
-            bucketCountsList[idx]++;
-            groupState.put(startTimeKey, Instant.now());
-            groupState.putAll(aggregateActionInput.getIdentificationKeys());
-            groupState.put(sumKey, doubleValue);
-            groupState.put(countKey, 1);
-            groupState.put(bucketCountsKey, bucketCountsList);
-            if (this.recordMinMax) {
-                groupState.put(minKey, doubleValue);
-                groupState.put(maxKey, doubleValue);
-                minEvent = event;
-                maxEvent = event;
-                minValue = doubleValue;
-                maxValue = doubleValue;
-            }
+        final HistogramAggregateState histogramAggregateState = (HistogramAggregateState) groupState.get(STATE_KEY);
+        final Instant now = Instant.now();
+        if (histogramAggregateState == null) {
+            final HistogramAggregateState newHistogramAggregateState = new HistogramAggregateState(event, buckets.length-1, now);
+            newHistogramAggregateState.record(event, doubleValue, idx, now);
+            groupState.put(STATE_KEY, newHistogramAggregateState);
         } else {
-            Integer v = (Integer)groupState.get(countKey) + 1;
-            groupState.put(countKey, v);
-            double sum = (double)groupState.get(sumKey);
-            groupState.put(sumKey, sum+doubleValue);
-            Long[] bucketCountsList = (Long[])groupState.get(bucketCountsKey);
-            bucketCountsList[idx]++;
-            if (this.recordMinMax) {
-                double min = (double)groupState.get(minKey);
-                if (doubleValue < min) {
-                    groupState.put(minKey, doubleValue);
-                    minEvent = event;
-                    minValue = doubleValue;
-                }
-                double max = (double)groupState.get(maxKey);
-                if (doubleValue > max) {
-                    groupState.put(maxKey, doubleValue);
-                    maxEvent = event;
-                    maxValue = doubleValue;
-                }
-            }
-        } 
-        // Keep over-writing endTime to get the last time a record of this group received
-        groupState.put(endTimeKey, Instant.now());
+            histogramAggregateState.record(event, doubleValue, idx, now);
+        }
         return AggregateActionResponse.nullEventResponse();
     }
 
+    @Override
+    public void mergeGroupState(final GroupState partialGroupState, final GroupState groupState) {
+        final HistogramAggregateState partialHistogramAggregateState = (HistogramAggregateState) partialGroupState.get(STATE_KEY);
+        final HistogramAggregateState histogramAggregateState = (HistogramAggregateState) groupState.get(STATE_KEY);
+        if (histogramAggregateState == null) {
+            groupState.put(STATE_KEY, partialHistogramAggregateState);
+        } else {
+            histogramAggregateState.merge(partialHistogramAggregateState);
+        }
+    }
+
     @Override
     public AggregateActionOutput concludeGroup(final AggregateActionInput aggregateActionInput) {
         GroupState groupState = aggregateActionInput.getGroupState();
+        final HistogramAggregateState histogramAggregateState = (HistogramAggregateState) groupState.remove(STATE_KEY);
         Event event;
-        Instant startTime = (Instant)groupState.get(startTimeKey);
-        Instant endTime = (Instant)groupState.get(endTimeKey);
+        Instant startTime = histogramAggregateState.getStartTime();
+        Instant endTime = histogramAggregateState.getEndTime();
         long startTimeNanos = getTimeNanos(startTime);
         long endTimeNanos = getTimeNanos(endTime);
         String histogramKey = HISTOGRAM_METRIC_NAME + "_key";
-        exemplarList.add(createExemplar("min", minEvent, minValue));
-        exemplarList.add(createExemplar("max", maxEvent, maxValue));
+        final long[] bucketCountsArray = histogramAggregateState.getBucketCounts();
+        final Long[] bucketCountsList = new Long[bucketCountsArray.length];
+        for (int i = 0; i < bucketCountsArray.length; i++) {
+            bucketCountsList[i] = bucketCountsArray[i];
+        }
+        final Double min = recordMinMax ? histogramAggregateState.getMin() : null;
+        final Double max = recordMinMax ? histogramAggregateState.getMax() : null;
         if (outputFormat.equals(OutputFormat.RAW.toString())) {
+            groupState.putAll(aggregateActionInput.getIdentificationKeys());
+            groupState.put(sumKey, histogramAggregateState.getSum());
+            groupState.put(countKey, histogramAggregateState.getCount());
+            groupState.put(bucketCountsKey, bucketCountsList);
+            if (recordMinMax) {
+                groupState.put(minKey, min);
+                groupState.put(maxKey, max);
+            }
+            groupState.put(endTimeKey, endTime);
             groupState.put(histogramKey, key);
             groupState.put(durationKey, endTimeNanos-startTimeNanos);
             groupState.put(bucketsKey, Arrays.copyOfRange(this.buckets, 1, this.buckets.length-1));
@@ -210,22 +188,22 @@ public class HistogramAggregateAction implements AggregateAction {
                 .build();
         } else {
             List<Double> explicitBoundsList = new ArrayList<Double>();
-            List<Long> bucketCounts = Arrays.asList((Long[])groupState.get(bucketCountsKey));
+            List<Long> bucketCounts = Arrays.asList(bucketCountsList);
             for (int i = 1; i < this.buckets.length - 1; i++) {
                 explicitBoundsList.add(this.buckets[i]);
             }
             List<Bucket> buckets = createBuckets(bucketCounts, explicitBoundsList);
-            Integer countValue = (Integer)groupState.get(countKey);
             Map<String, Object> attr = new HashMap<String, Object>();
             aggregateActionInput.getIdentificationKeys().forEach((k, v) -> {
                 attr.put((String)k, v);
             });
             attr.put(histogramKey, key);
             attr.put(durationKey, endTimeNanos-startTimeNanos);
-            double sum = (double)groupState.get(sumKey);
-            Double max = (Double)groupState.get(maxKey);
-            Double min = (Double)groupState.get(minKey);
-            Integer count = (Integer)groupState.get(countKey);
+            final List<Exemplar> exemplarList = List.of(
+                    createExemplar("min", histogramAggregateState.getExemplarAttributes(), histogramAggregateState.getMin(),
+                            histogramAggregateState.getMinSpanId(), histogramAggregateState.getMinTraceId()),
+                    createExemplar("max", histogramAggregateState.getExemplarAttributes(), histogramAggregateState.getMax(),
+                            histogramAggregateState.getMaxSpanId(), histogramAggregateState.getMaxTraceId()));
             String description = String.format("Histogram of %s in the events", key);
             JacksonHistogram histogram = JacksonHistogram.builder()
                 .withName(HISTOGRAM_METRIC_NAME)
@@ -233,10 +211,10 @@ public class HistogramAggregateAction implements AggregateAction {
                 .withTime(OTelProtoCodec.convertUnixNanosToISO8601(endTimeNanos))
                 .withStartTime(OTelProtoCodec.convertUnixNanosToISO8601(startTimeNanos))
                 .withUnit(this.units)
-                .withSum(sum)
+                .withSum(histogramAggregateState.getSum())
                 .withMin(min)
                 .withMax(max)
-                .withCount(count)
+                .withCount(histogramAggregateState.getCount())
                 .withBucketCount(this.buckets.length-1)
                 .withExplicitBoundsCount(this.buckets.length-2)
                 .withAggregationTemporality(AggregationTemporality.AGGREGATION_TEMPORALITY_DELTA.name())
@@ -0,0 +1,183 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate.actions;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * The state of one group of the {@link HistogramAggregateAction}. Counts, sum, min and max are primitives and the
+ * bucket counts are a long array, so recording a value neither boxes nor touches the group state map. The attributes
+ * of the exemplars are captured from the first event of the group only; the min and max exemplars keep the span and
+ * trace ids of the events which held the min and max values.
+ */
+public final class HistogramAggregateState implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private Instant startTime;
+    private Map<String, Object> exemplarAttributes;
+    private final long[] bucketCounts;
+    private Instant endTime;
+    private int count;
+    private double sum;
+    private double min;
+    private double max;
+    private String minSpanId;
+    private String minTraceId;
+    private String maxSpanId;
+    private String maxTraceId;
+
+    HistogramAggregateState(final Event firstEvent, final int bucketCount, final Instant startTime) {
+        this.startTime = startTime;
+        this.endTime = startTime;
+        this.exemplarAttributes = firstEvent.toMap();
+        this.bucketCounts = new long[bucketCount];
+    }
+
+    private HistogramAggregateState(final Instant startTime, final Instant endTime,
+                                    final Map<String, Object> exemplarAttributes, final long[] bucketCounts) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.exemplarAttributes = exemplarAttributes;
+        this.bucketCounts = bucketCounts;
+    }
+
+    /**
+     * Restores a state which a group state store has encoded field by field.
+     */
+    public static HistogramAggregateState restore(final Instant startTime,
+                                                  final Instant endTime,
+                                                  final Map<String, Object> exemplarAttributes,
+                                                  final long[] bucketCounts,
+                                                  final int count,
+                                                  final double sum,
+                                                  final double min,
+                                                  final double max,
+                                                  final String minSpanId,
+                                                  final String minTraceId,
+                                                  final String maxSpanId,
+                                                  final String maxTraceId) {
+        final HistogramAggregateState state = new HistogramAggregateState(startTime, endTime, exemplarAttributes, bucketCounts);
+        state.count = count;
+        state.sum = sum;
+        state.min = min;
+        state.max = max;
+        state.minSpanId = minSpanId;
+        state.minTraceId = minTraceId;
+        state.maxSpanId = maxSpanId;
+        state.maxTraceId = maxTraceId;
+        return state;
+    }
+
+    void record(final Event event, final double value, final int bucketIndex, final Instant time) {
+        if (count == 0 || value < min) {
+            min = value;
+            if (event instanceof Span) {
+                minSpanId = ((Span) event).getSpanId();
+                minTraceId = ((Span) event).getTraceId();
+            } else {
+                minSpanId = null;
+                minTraceId = null;
+            }
+        }
+        if (count == 0 || value > max) {
+            max = value;
+            if (event instanceof Span) {
+                maxSpanId = ((Span) event).getSpanId();
+                maxTraceId = ((Span) event).getTraceId();
+            } else {
+                maxSpanId = null;
+                maxTraceId = null;
+            }
+        }
+        bucketCounts[bucketIndex]++;
+        count++;
+        sum += value;
+        // Keep over-writing endTime to get the last time a record of this group received
+        endTime = time;
+    }
+
+    /**
+     * Adds the values of another state of the same group, which has recorded at least one value. The exemplar
+     * attributes of the state which started first are kept.
+     */
+    void merge(final HistogramAggregateState other) {
+        if (other.startTime.isBefore(startTime)) {
+            startTime = other.startTime;
+            exemplarAttributes = other.exemplarAttributes;
+        }
+        if (other.endTime.isAfter(endTime)) {
+            endTime = other.endTime;
+        }
+        if (other.min < min) {
+            min = other.min;
+            minSpanId = other.minSpanId;
+            minTraceId = other.minTraceId;
+        }
+        if (other.max > max) {
+            max = other.max;
+            maxSpanId = other.maxSpanId;
+            maxTraceId = other.maxTraceId;
+        }
+        for (int i = 0; i < bucketCounts.length; i++) {
+            bucketCounts[i] += other.bucketCounts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+    }
+
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    public Instant getEndTime() {
+        return endTime;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public long[] getBucketCounts() {
+        return bucketCounts;
+    }
+
+    public Map<String, Object> getExemplarAttributes() {
+        return exemplarAttributes;
+    }
+
+    public String getMinSpanId() {
+        return minSpanId;
+    }
+
+    public String getMinTraceId() {
+        return minTraceId;
+    }
+
+    public String getMaxSpanId() {
+        return maxSpanId;
+    }
+
+    public String getMaxTraceId() {
+        return maxTraceId;
+    }
+}
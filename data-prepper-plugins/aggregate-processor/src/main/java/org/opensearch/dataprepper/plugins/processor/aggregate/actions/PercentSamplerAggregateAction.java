@@ -12,6 +12,7 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateAction;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.GroupState;
+import org.opensearch.dataprepper.plugins.processor.aggregate.MergeableAggregateAction;
 
 /**
  * An AggregateAction that combines multiple Events into a single Event. This action 
@@ -19,7 +20,7 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.GroupState;
  * @since 2.1
  */
 @DataPrepperPlugin(name = "percent_sampler", pluginType = AggregateAction.class, pluginConfigurationType = PercentSamplerAggregateActionConfig.class)
-public class PercentSamplerAggregateAction implements AggregateAction {
+public class PercentSamplerAggregateAction implements MergeableAggregateAction {
     static final String TOTAL_EVENTS_KEY = "total_events";
     static final String TOTAL_ALLOWED_EVENTS_KEY = "total_allowed_events";
     private final double percent;
@@ -47,4 +48,10 @@ public class PercentSamplerAggregateAction implements AggregateAction {
         }
         return AggregateActionResponse.nullEventResponse();
     }
+
+    @Override
+    public void mergeGroupState(final GroupState partialGroupState, final GroupState groupState) {
+        groupState.put(TOTAL_EVENTS_KEY, (Long) groupState.getOrDefault(TOTAL_EVENTS_KEY, 0L) + (Long) partialGroupState.get(TOTAL_EVENTS_KEY));
+        groupState.put(TOTAL_ALLOWED_EVENTS_KEY, (Long) groupState.getOrDefault(TOTAL_ALLOWED_EVENTS_KEY, 0L) + (Long) partialGroupState.get(TOTAL_ALLOWED_EVENTS_KEY));
+    }
 }
@@ -20,6 +20,7 @@ import org.mockito.quality.Strictness;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.locks.Lock;
 
@@ -29,6 +30,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -227,4 +230,162 @@ public class AggregateActionSynchronizerTest {
         assertThat(concludeGroupEvents.size(), equalTo(1));
         assertThat(concludeGroupEvents.get(0), equalTo(event));
     }
+
+    @Test
+    void concludeGroup_of_an_evicted_group_does_not_conclude_it() {
+        final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
+        when(concludeGroupLock.tryLock()).thenReturn(true);
+        when(aggregateGroup.isEvicted()).thenReturn(true);
+
+        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, true);
+
+        verifyNoInteractions(aggregateAction);
+        verify(aggregateGroupManager, times(0)).closeGroup(identificationKeysMap, aggregateGroup);
+        verify(handleEventForGroupLock).unlock();
+        verify(concludeGroupLock).unlock();
+        assertTrue(actionOutput.getEvents().isEmpty());
+    }
+
+    @Test
+    void handleEventForGroup_of_an_evicted_group_handles_the_event_with_the_restored_group() {
+        final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
+        final AggregateGroup restoredGroup = mock(AggregateGroup.class);
+        final Lock restoredConcludeGroupLock = mock(Lock.class);
+        final Lock restoredHandleEventForGroupLock = mock(Lock.class);
+        when(restoredGroup.getConcludeGroupLock()).thenReturn(restoredConcludeGroupLock);
+        when(restoredGroup.getHandleEventForGroupLock()).thenReturn(restoredHandleEventForGroupLock);
+        when(aggregateGroup.isEvicted()).thenReturn(true);
+        when(aggregateGroupManager.getAggregateGroup(identificationKeysMap)).thenReturn(restoredGroup);
+        when(aggregateAction.handleEvent(event, restoredGroup)).thenReturn(aggregateActionResponse);
+
+        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationKeysMap, aggregateGroup);
+
+        final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, aggregateGroupManager, restoredHandleEventForGroupLock, aggregateAction);
+        inOrder.verify(handleEventForGroupLock).lock();
+        inOrder.verify(handleEventForGroupLock).unlock();
+        inOrder.verify(aggregateGroupManager).getAggregateGroup(identificationKeysMap);
+        inOrder.verify(restoredHandleEventForGroupLock).lock();
+        inOrder.verify(aggregateAction).handleEvent(event, restoredGroup);
+        inOrder.verify(aggregateGroupManager).putGroupWithHash(identificationKeysMap, restoredGroup);
+        inOrder.verify(restoredHandleEventForGroupLock).unlock();
+        verify(aggregateAction, times(0)).handleEvent(event, aggregateGroup);
+
+        assertThat(handleEventResponse, equalTo(aggregateActionResponse));
+    }
+
+    @Test
+    void handleEventForGroup_in_striped_mode_handles_the_event_with_the_stripe_of_the_current_thread() {
+        final MergeableAggregateAction mergeableAggregateAction = mock(MergeableAggregateAction.class);
+        final AggregateActionSynchronizer objectUnderTest = createStripedObjectUnderTest(mergeableAggregateAction);
+        final AggregateGroupStripe stripe = mock(AggregateGroupStripe.class);
+        final Lock stripeLock = mock(Lock.class);
+        when(stripe.getLock()).thenReturn(stripeLock);
+        when(aggregateGroup.getStripeForCurrentThread()).thenReturn(stripe);
+        when(mergeableAggregateAction.handleEvent(event, stripe)).thenReturn(aggregateActionResponse);
+
+        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationKeysMap, aggregateGroup);
+
+        final InOrder inOrder = Mockito.inOrder(stripeLock, mergeableAggregateAction, aggregateGroupManager);
+        inOrder.verify(stripeLock).lock();
+        inOrder.verify(mergeableAggregateAction).handleEvent(event, stripe);
+        inOrder.verify(aggregateGroupManager).putGroupWithHashIfMissing(identificationKeysMap, aggregateGroup);
+        inOrder.verify(stripeLock).unlock();
+        verifyNoInteractions(concludeGroupLock);
+        verifyNoInteractions(handleEventForGroupLock);
+
+        assertThat(handleEventResponse, equalTo(aggregateActionResponse));
+    }
+
+    @Test
+    void handleEventForGroup_in_striped_mode_unlocks_the_stripe_and_returns_the_event_when_handleEvent_throws_exception() {
+        final MergeableAggregateAction mergeableAggregateAction = mock(MergeableAggregateAction.class);
+        final AggregateActionSynchronizer objectUnderTest = createStripedObjectUnderTest(mergeableAggregateAction);
+        final AggregateGroupStripe stripe = mock(AggregateGroupStripe.class);
+        final Lock stripeLock = mock(Lock.class);
+        when(stripe.getLock()).thenReturn(stripeLock);
+        when(aggregateGroup.getStripeForCurrentThread()).thenReturn(stripe);
+        when(mergeableAggregateAction.handleEvent(event, stripe)).thenThrow(RuntimeException.class);
+
+        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationKeysMap, aggregateGroup);
+
+        verify(actionHandleEventsProcessingErrors).increment();
+        verify(stripeLock).unlock();
+        verify(aggregateGroupManager, never()).putGroupWithHashIfMissing(identificationKeysMap, aggregateGroup);
+        assertThat(handleEventResponse.getEvent(), equalTo(event));
+    }
+
+    @Test
+    void concludeGroup_in_striped_mode_merges_the_stripes_which_handled_events_before_concluding_the_group() {
+        final MergeableAggregateAction mergeableAggregateAction = mock(MergeableAggregateAction.class);
+        final AggregateActionSynchronizer objectUnderTest = createStripedObjectUnderTest(mergeableAggregateAction);
+        final GroupState groupState = new AggregateActionTestUtils.TestGroupState();
+        final GroupState partialGroupState = new AggregateActionTestUtils.TestGroupState();
+        partialGroupState.put("count", 1);
+        final AggregateGroupStripe stripe = mock(AggregateGroupStripe.class);
+        final AggregateGroupStripe emptyStripe = mock(AggregateGroupStripe.class);
+        final Lock stripeLock = mock(Lock.class);
+        final Lock emptyStripeLock = mock(Lock.class);
+        when(stripe.getLock()).thenReturn(stripeLock);
+        when(stripe.getGroupState()).thenReturn(partialGroupState);
+        when(emptyStripe.getLock()).thenReturn(emptyStripeLock);
+        when(emptyStripe.getGroupState()).thenReturn(new AggregateActionTestUtils.TestGroupState());
+        when(aggregateGroup.getStripes()).thenReturn(List.of(stripe, emptyStripe));
+        when(aggregateGroup.getGroupState()).thenReturn(groupState);
+        when(concludeGroupLock.tryLock()).thenReturn(true);
+        Mockito.doAnswer(invocation -> groupState.put("count", 1)).when(mergeableAggregateAction).mergeGroupState(partialGroupState, groupState);
+        when(mergeableAggregateAction.concludeGroup(aggregateGroup)).thenReturn(new AggregateActionOutput(List.of(event)));
+
+        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, false);
+
+        final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, stripeLock, emptyStripeLock, mergeableAggregateAction, aggregateGroupManager, concludeGroupLock);
+        inOrder.verify(handleEventForGroupLock).lock();
+        inOrder.verify(stripeLock).lock();
+        inOrder.verify(emptyStripeLock).lock();
+        inOrder.verify(mergeableAggregateAction).mergeGroupState(partialGroupState, groupState);
+        inOrder.verify(mergeableAggregateAction).concludeGroup(aggregateGroup);
+        inOrder.verify(aggregateGroupManager).closeGroup(identificationKeysMap, aggregateGroup);
+        inOrder.verify(stripeLock).unlock();
+        inOrder.verify(emptyStripeLock).unlock();
+        inOrder.verify(handleEventForGroupLock).unlock();
+        inOrder.verify(concludeGroupLock).unlock();
+        verify(mergeableAggregateAction, times(1)).mergeGroupState(any(GroupState.class), any(GroupState.class));
+
+        assertTrue(partialGroupState.isEmpty());
+        assertThat(actionOutput.getEvents(), equalTo(List.of(event)));
+    }
+
+    @Test
+    void concludeGroup_in_striped_mode_closes_a_group_without_events_without_concluding_it() {
+        final MergeableAggregateAction mergeableAggregateAction = mock(MergeableAggregateAction.class);
+        final AggregateActionSynchronizer objectUnderTest = createStripedObjectUnderTest(mergeableAggregateAction);
+        when(aggregateGroup.getStripes()).thenReturn(Collections.emptyList());
+        when(aggregateGroup.getGroupState()).thenReturn(new AggregateActionTestUtils.TestGroupState());
+        when(concludeGroupLock.tryLock()).thenReturn(true);
+
+        final AggregateActionOutput actionOutput = objectUnderTest.concludeGroup(identificationKeysMap, aggregateGroup, false);
+
+        verify(mergeableAggregateAction, never()).concludeGroup(aggregateGroup);
+        verify(aggregateGroupManager).closeGroup(identificationKeysMap, aggregateGroup);
+        verify(handleEventForGroupLock).unlock();
+        verify(concludeGroupLock).unlock();
+        assertTrue(actionOutput.getEvents().isEmpty());
+    }
+
+    @Test
+    void striped_mode_with_an_action_which_cannot_merge_group_states_uses_the_group_locks() {
+        final AggregateActionSynchronizer objectUnderTest = new AggregateActionSynchronizer.AggregateActionSynchronizerProvider()
+                .provide(aggregateAction, aggregateGroupManager, pluginMetrics, AggregateConcurrencyMode.STRIPED);
+        when(aggregateAction.handleEvent(event, aggregateGroup)).thenReturn(aggregateActionResponse);
+
+        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationKeysMap, aggregateGroup);
+
+        verify(handleEventForGroupLock).lock();
+        verify(aggregateGroup, never()).getStripeForCurrentThread();
+        assertThat(handleEventResponse, equalTo(aggregateActionResponse));
+    }
+
+    private AggregateActionSynchronizer createStripedObjectUnderTest(final MergeableAggregateAction mergeableAggregateAction) {
+        return new AggregateActionSynchronizer.AggregateActionSynchronizerProvider()
+                .provide(mergeableAggregateAction, aggregateGroupManager, pluginMetrics, AggregateConcurrencyMode.STRIPED);
+    }
 }
@@ -0,0 +1,22 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AggregateConcurrencyModeTest {
+
+    @ParameterizedTest
+    @EnumSource(AggregateConcurrencyMode.class)
+    void fromOptionValue(final AggregateConcurrencyMode value) {
+        assertThat(AggregateConcurrencyMode.fromOptionValue(value.name()), is(value));
+        assertThat(AggregateConcurrencyMode.fromOptionValue(value.toString()), is(value));
+    }
+}
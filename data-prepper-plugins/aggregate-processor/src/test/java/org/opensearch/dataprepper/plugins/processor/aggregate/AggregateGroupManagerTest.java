@@ -5,24 +5,43 @@
 
 package org.opensearch.dataprepper.plugins.processor.aggregate;
 
+import io.micrometer.core.instrument.Counter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
+import java.io.IOException;
+import java.time.Clock;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class AggregateGroupManagerTest {
@@ -31,20 +50,41 @@ public class AggregateGroupManagerTest {
 
     private IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap;
 
+    private Clock clock;
+
+    private Instant now;
+
+    private Counter groupStateStoreReadErrorsCounter;
+
     private static final Duration TEST_GROUP_DURATION = Duration.ofSeconds(new Random().nextInt(10) + 10);
 
+    private static final Duration TEST_IDLE_TIMEOUT = Duration.ofSeconds(5);
+
     @BeforeEach
     void setup() {
         final Map<Object, Object> identificationKeysHash = new HashMap<>();
         identificationKeysHash.put(UUID.randomUUID().toString(), UUID.randomUUID().toString());
 
         identificationKeysMap = new IdentificationKeysHasher.IdentificationKeysMap(identificationKeysHash);
+
+        now = Instant.now();
+        clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now);
+        groupStateStoreReadErrorsCounter = mock(Counter.class);
     }
 
     private AggregateGroupManager createObjectUnderTest() {
         return new AggregateGroupManager(TEST_GROUP_DURATION);
     }
 
+    private AggregateGroupManager createObjectUnderTestWithClock() {
+        return new AggregateGroupManager(TEST_GROUP_DURATION, clock);
+    }
+
+    private AggregateGroupManager createObjectUnderTestWithGroupStateStore(final GroupStateStore groupStateStore, final Duration idleTimeout) {
+        return new AggregateGroupManager(TEST_GROUP_DURATION, groupStateStore, idleTimeout, groupStateStoreReadErrorsCounter, clock);
+    }
+
     @Test
     void getGroup_with_non_existing_group_state_creates_and_returns_new_group_and_adds_to_allGroups() {
         aggregateGroupManager = createObjectUnderTest();
@@ -76,27 +116,43 @@ public class AggregateGroupManagerTest {
     void putGroupWithHash_overwrites_old_group() {
         aggregateGroupManager = createObjectUnderTest();
 
-        final AggregateGroup expectedOldGroup = mock(AggregateGroup.class);
+        final AggregateGroup expectedOldGroup = mockGroupStartedAt(Instant.now());
         aggregateGroupManager.putGroupWithHash(identificationKeysMap, expectedOldGroup);
         final AggregateGroup oldGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
         assertThat(oldGroup, equalTo(expectedOldGroup));
 
-        final AggregateGroup expectedNewGroup = mock(AggregateGroup.class);
+        final AggregateGroup expectedNewGroup = mockGroupStartedAt(Instant.now());
         aggregateGroupManager.putGroupWithHash(identificationKeysMap, expectedNewGroup);
         final AggregateGroup newGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
         assertThat(newGroup, equalTo(expectedNewGroup));
     }
 
+    @Test
+    void putGroupWithHashIfMissing_adds_a_closed_group_back_and_keeps_a_present_group() {
+        aggregateGroupManager = createObjectUnderTestWithClock();
+        final AggregateGroup group = mockGroupStartedAt(now);
+
+        aggregateGroupManager.putGroupWithHashIfMissing(identificationKeysMap, group);
+        aggregateGroupManager.putGroupWithHashIfMissing(identificationKeysMap, group);
+        assertThat(aggregateGroupManager.getAggregateGroup(identificationKeysMap), sameInstance(group));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(1L));
+
+        aggregateGroupManager.closeGroup(identificationKeysMap, group);
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(0L));
+        aggregateGroupManager.putGroupWithHashIfMissing(identificationKeysMap, group);
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(1L));
+        assertThat(aggregateGroupManager.getAggregateGroup(identificationKeysMap), sameInstance(group));
+    }
+
     @Test
     void getGroupsToConclude_returns_correct_group() {
-        aggregateGroupManager = createObjectUnderTest();
+        aggregateGroupManager = createObjectUnderTestWithClock();
 
-        final AggregateGroup groupToConclude = mock(AggregateGroup.class);
+        final AggregateGroup groupToConclude = mockGroupStartedAt(now.minus(TEST_GROUP_DURATION));
         when(groupToConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
         final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
 
-        final AggregateGroup groupToNotConclude = mock(AggregateGroup.class);
-        when(groupToNotConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(false);
+        final AggregateGroup groupToNotConclude = mockGroupStartedAt(now);
         final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToNotConclude = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
 
         aggregateGroupManager.putGroupWithHash(hashForGroupToConclude, groupToConclude);
@@ -108,16 +164,17 @@ public class AggregateGroupManagerTest {
         assertThat(groupsToConclude.get(0), notNullValue());
         assertThat(groupsToConclude.get(0).getKey(), equalTo(hashForGroupToConclude));
         assertThat(groupsToConclude.get(0).getValue(), equalTo(groupToConclude));
+        verify(groupToNotConclude, never()).shouldConcludeGroup(any());
     }
 
     @Test
     void getGroupsToConclude_with_force_conclude_return_all() {
         aggregateGroupManager = createObjectUnderTest();
 
-        final AggregateGroup groupToConclude1 = mock(AggregateGroup.class);
+        final AggregateGroup groupToConclude1 = mockGroupStartedAt(Instant.now());
         final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude1 = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
 
-        final AggregateGroup groupToConclude2 = mock(AggregateGroup.class);
+        final AggregateGroup groupToConclude2 = mockGroupStartedAt(Instant.now());
         final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude2 = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
 
         aggregateGroupManager.putGroupWithHash(hashForGroupToConclude1, groupToConclude1);
@@ -141,4 +198,420 @@ public class AggregateGroupManagerTest {
             assertThat(groupsToConclude.get(1).getValue(), equalTo(groupToConclude1));
         }
     }
+
+    @Test
+    void getGroupsToConclude_checks_a_new_group_when_its_duration_is_over() {
+        aggregateGroupManager = createObjectUnderTestWithClock();
+        final AggregateGroup group = mockGroupStartedAt(now);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, group);
+
+        now = now.plus(AggregateGroupManager.CUSTOM_CONCLUDE_CHECK_INTERVAL);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+        verify(group).shouldConcludeGroup(TEST_GROUP_DURATION);
+
+        now = group.getGroupStart().plus(TEST_GROUP_DURATION).minusMillis(1);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+        verify(group).shouldConcludeGroup(TEST_GROUP_DURATION);
+
+        now = group.getGroupStart().plus(TEST_GROUP_DURATION);
+        when(group.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), equalTo(group));
+    }
+
+    @Test
+    void getGroupsToConclude_checks_a_group_shorter_than_the_custom_check_interval_when_its_duration_is_over() {
+        final Duration groupDuration = AggregateGroupManager.CUSTOM_CONCLUDE_CHECK_INTERVAL.dividedBy(2);
+        aggregateGroupManager = new AggregateGroupManager(groupDuration, clock);
+        final AggregateGroup group = mockGroupStartedAt(now);
+        when(group.shouldConcludeGroup(groupDuration)).thenReturn(true);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, group);
+
+        now = now.plus(groupDuration);
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), equalTo(group));
+    }
+
+    @Test
+    void getGroupsToConclude_rechecks_a_group_which_is_due_but_not_over_after_the_custom_check_interval() {
+        aggregateGroupManager = createObjectUnderTestWithClock();
+        final AggregateGroup group = mockGroupStartedAt(now.minus(TEST_GROUP_DURATION));
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, group);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        now = now.plus(AggregateGroupManager.CUSTOM_CONCLUDE_CHECK_INTERVAL);
+        when(group.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+    }
+
+    @Test
+    void getGroupsToConclude_rechecks_a_group_with_a_custom_shouldConclude_every_custom_check_interval() {
+        aggregateGroupManager = createObjectUnderTestWithClock();
+        final AggregateGroup group = mockGroupStartedAt(now);
+        when(group.hasCustomShouldConclude()).thenReturn(true);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, group);
+
+        now = now.plus(AggregateGroupManager.CUSTOM_CONCLUDE_CHECK_INTERVAL);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        now = now.plus(AggregateGroupManager.CUSTOM_CONCLUDE_CHECK_INTERVAL);
+        when(group.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), equalTo(group));
+        verify(group, times(2)).shouldConcludeGroup(TEST_GROUP_DURATION);
+    }
+
+    @Test
+    void getGroupsToConclude_returns_a_due_group_again_after_the_custom_check_interval_if_it_was_not_concluded() {
+        aggregateGroupManager = createObjectUnderTestWithClock();
+        final AggregateGroup group = mockGroupStartedAt(now.minus(TEST_GROUP_DURATION));
+        when(group.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, group);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        now = now.plus(AggregateGroupManager.CUSTOM_CONCLUDE_CHECK_INTERVAL);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_return_a_group_after_it_is_closed() {
+        aggregateGroupManager = createObjectUnderTestWithClock();
+        final AggregateGroup group = mockGroupStartedAt(now.minus(TEST_GROUP_DURATION));
+        when(group.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, group);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+        aggregateGroupManager.closeGroup(identificationKeysMap, group);
+
+        now = now.plus(AggregateGroupManager.CUSTOM_CONCLUDE_CHECK_INTERVAL);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+        verify(group).resetGroup();
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(0L));
+    }
+
+    @Test
+    void getGroupsToConclude_uses_the_new_group_start_of_a_group_which_was_put_back_after_it_was_closed() {
+        aggregateGroupManager = createObjectUnderTestWithClock();
+        final AggregateGroup group = mockGroupStartedAt(now.minus(TEST_GROUP_DURATION));
+        when(group.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, group);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+        aggregateGroupManager.closeGroup(identificationKeysMap, group);
+        when(group.getGroupStart()).thenReturn(now);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, group);
+
+        now = now.plus(AggregateGroupManager.CUSTOM_CONCLUDE_CHECK_INTERVAL);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+    }
+
+    @Test
+    void getGroupsPendingConclusionSize_and_getConclusionLagMillis_report_the_due_groups() {
+        aggregateGroupManager = createObjectUnderTestWithClock();
+        assertThat(aggregateGroupManager.getGroupsPendingConclusionSize(), equalTo(0L));
+        assertThat(aggregateGroupManager.getConclusionLagMillis(), equalTo(0L));
+
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, mockGroupStartedAt(now));
+        aggregateGroupManager.putGroupWithHash(mock(IdentificationKeysHasher.IdentificationKeysMap.class), mockGroupStartedAt(now.plusMillis(100)));
+        assertThat(aggregateGroupManager.getGroupsPendingConclusionSize(), equalTo(0L));
+        assertThat(aggregateGroupManager.getConclusionLagMillis(), equalTo(0L));
+
+        now = now.plus(AggregateGroupManager.CUSTOM_CONCLUDE_CHECK_INTERVAL).plusMillis(50);
+        assertThat(aggregateGroupManager.getGroupsPendingConclusionSize(), equalTo(1L));
+        assertThat(aggregateGroupManager.getConclusionLagMillis(), equalTo(50L));
+    }
+
+    @Test
+    void getAggregateGroup_with_a_group_state_store_restores_a_stored_group() throws IOException {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        aggregateGroupManager = createObjectUnderTestWithGroupStateStore(groupStateStore, TEST_IDLE_TIMEOUT);
+        final AggregateGroup restoredGroup = new AggregateGroup(identificationKeysMap.getKeyMap(), now, Collections.emptyMap());
+        when(groupStateStore.remove(identificationKeysMap)).thenReturn(restoredGroup);
+
+        assertThat(aggregateGroupManager.getAggregateGroup(identificationKeysMap), sameInstance(restoredGroup));
+        assertThat(aggregateGroupManager.getAggregateGroup(identificationKeysMap), sameInstance(restoredGroup));
+        verify(groupStateStore).remove(identificationKeysMap);
+    }
+
+    @Test
+    void getAggregateGroup_with_a_group_state_store_creates_a_group_which_is_not_stored() throws IOException {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        aggregateGroupManager = createObjectUnderTestWithGroupStateStore(groupStateStore, TEST_IDLE_TIMEOUT);
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+
+        assertThat(aggregateGroup, notNullValue());
+        assertThat(aggregateGroup.getGroupState(), equalTo(Collections.emptyMap()));
+        verify(groupStateStore).remove(identificationKeysMap);
+    }
+
+    @Test
+    void getAggregateGroup_creates_an_empty_group_when_the_group_state_store_cannot_be_read() throws IOException {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        aggregateGroupManager = createObjectUnderTestWithGroupStateStore(groupStateStore, TEST_IDLE_TIMEOUT);
+        when(groupStateStore.remove(identificationKeysMap)).thenThrow(IOException.class);
+
+        final AggregateGroup aggregateGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+
+        assertThat(aggregateGroup, notNullValue());
+        assertThat(aggregateGroup.getGroupState(), equalTo(Collections.emptyMap()));
+        assertThat(aggregateGroupManager.getAggregateGroup(identificationKeysMap), sameInstance(aggregateGroup));
+        verify(groupStateStoreReadErrorsCounter).increment();
+    }
+
+    @Test
+    void getAggregateGroup_from_concurrent_threads_reads_a_stored_group_once_and_returns_it_to_all_threads() throws Exception {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        aggregateGroupManager = createObjectUnderTestWithGroupStateStore(groupStateStore, TEST_IDLE_TIMEOUT);
+        final AggregateGroup restoredGroup = new AggregateGroup(identificationKeysMap.getKeyMap(), now, Collections.emptyMap());
+        final CountDownLatch readStarted = new CountDownLatch(1);
+        final CountDownLatch readAllowed = new CountDownLatch(1);
+        when(groupStateStore.remove(identificationKeysMap)).thenAnswer(invocation -> {
+            readStarted.countDown();
+            readAllowed.await();
+            return restoredGroup;
+        });
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            final Future<AggregateGroup> firstGroup = executorService.submit(() -> aggregateGroupManager.getAggregateGroup(identificationKeysMap));
+            readStarted.await();
+            final Future<AggregateGroup> secondGroup = executorService.submit(() -> aggregateGroupManager.getAggregateGroup(identificationKeysMap));
+            Thread.sleep(50);
+            readAllowed.countDown();
+
+            assertThat(firstGroup.get(5, TimeUnit.SECONDS), sameInstance(restoredGroup));
+            assertThat(secondGroup.get(5, TimeUnit.SECONDS), sameInstance(restoredGroup));
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(groupStateStore).remove(identificationKeysMap);
+    }
+
+    @Test
+    void getAggregateGroup_does_not_block_other_groups_while_a_stored_group_is_read() throws Exception {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        aggregateGroupManager = createObjectUnderTestWithGroupStateStore(groupStateStore, TEST_IDLE_TIMEOUT);
+        final IdentificationKeysHasher.IdentificationKeysMap otherIdentificationKeysMap =
+                new IdentificationKeysHasher.IdentificationKeysMap(Map.of(UUID.randomUUID().toString(), UUID.randomUUID().toString()));
+        final CountDownLatch readStarted = new CountDownLatch(1);
+        final CountDownLatch readAllowed = new CountDownLatch(1);
+        when(groupStateStore.remove(identificationKeysMap)).thenAnswer(invocation -> {
+            readStarted.countDown();
+            readAllowed.await();
+            return null;
+        });
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<AggregateGroup> blockedGroup = executorService.submit(() -> aggregateGroupManager.getAggregateGroup(identificationKeysMap));
+            readStarted.await();
+
+            assertThat(aggregateGroupManager.getAggregateGroup(otherIdentificationKeysMap), notNullValue());
+
+            readAllowed.countDown();
+            assertThat(blockedGroup.get(5, TimeUnit.SECONDS), notNullValue());
+        } finally {
+            readAllowed.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void getGroupsToConclude_moves_an_idle_group_to_the_group_state_store() throws IOException {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        aggregateGroupManager = createObjectUnderTestWithGroupStateStore(groupStateStore, AggregateGroupManager.CUSTOM_CONCLUDE_CHECK_INTERVAL.dividedBy(2));
+        final AggregateGroup group = new AggregateGroup(identificationKeysMap.getKeyMap(), now, Collections.emptyMap());
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, group);
+
+        now = now.plus(AggregateGroupManager.CUSTOM_CONCLUDE_CHECK_INTERVAL);
+        when(groupStateStore.getGroupCount()).thenReturn(1L);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+        verify(groupStateStore).store(identificationKeysMap, group, group.getGroupStart().plus(TEST_GROUP_DURATION));
+        assertThat(group.isEvicted(), equalTo(true));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(1L));
+
+        now = group.getGroupStart().plus(TEST_GROUP_DURATION);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+        verify(groupStateStore).store(any(), any(), any());
+    }
+
+    @Test
+    void getGroupsToConclude_checks_a_group_again_when_it_becomes_idle() throws IOException {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        final Duration idleTimeout = AggregateGroupManager.CUSTOM_CONCLUDE_CHECK_INTERVAL.multipliedBy(5);
+        aggregateGroupManager = createObjectUnderTestWithGroupStateStore(groupStateStore, idleTimeout);
+        final AggregateGroup group = new AggregateGroup(identificationKeysMap.getKeyMap(), now, Collections.emptyMap());
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, group);
+
+        now = now.plus(AggregateGroupManager.CUSTOM_CONCLUDE_CHECK_INTERVAL);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+        verify(groupStateStore, never()).store(any(), any(), any());
+
+        now = group.getLastUpdated().plus(idleTimeout);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+        verify(groupStateStore).store(identificationKeysMap, group, group.getGroupStart().plus(TEST_GROUP_DURATION));
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_move_a_group_which_is_not_idle_before_it_ends() throws IOException {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        aggregateGroupManager = createObjectUnderTestWithGroupStateStore(groupStateStore, TEST_GROUP_DURATION.multipliedBy(2));
+        final AggregateGroup group = new AggregateGroup(identificationKeysMap.getKeyMap(), now, Collections.emptyMap());
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, group);
+
+        now = now.plus(AggregateGroupManager.CUSTOM_CONCLUDE_CHECK_INTERVAL);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+        now = group.getGroupStart().plus(TEST_GROUP_DURATION).minusMillis(1);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        verify(groupStateStore, never()).store(any(), any(), any());
+        assertThat(aggregateGroupManager.getGroupsPendingConclusionSize(), equalTo(0L));
+    }
+
+    @Test
+    void getGroupsToConclude_keeps_an_idle_group_which_cannot_be_stored() throws IOException {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        aggregateGroupManager = createObjectUnderTestWithGroupStateStore(groupStateStore, TEST_IDLE_TIMEOUT);
+        final AggregateGroup group = new AggregateGroup(identificationKeysMap.getKeyMap(), now, Collections.emptyMap());
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, group);
+        doThrow(IOException.class).when(groupStateStore).store(identificationKeysMap, group, group.getGroupStart().plus(TEST_GROUP_DURATION));
+
+        now = now.plus(TEST_IDLE_TIMEOUT);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        assertThat(group.isEvicted(), equalTo(false));
+        assertThat(aggregateGroupManager.getAggregateGroup(identificationKeysMap), sameInstance(group));
+        verify(groupStateStore, never()).remove(identificationKeysMap);
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_move_an_idle_group_which_is_in_use() throws IOException {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        aggregateGroupManager = createObjectUnderTestWithGroupStateStore(groupStateStore, TEST_IDLE_TIMEOUT);
+        final Lock concludeGroupLock = mock(Lock.class);
+        final Lock handleEventForGroupLock = mock(Lock.class);
+        final AggregateGroup concludingGroup = mockIdleGroupWithLocks(concludeGroupLock, mock(Lock.class));
+        final AggregateGroup handlingGroup = mockIdleGroupWithLocks(concludeGroupLock, handleEventForGroupLock);
+        final AggregateGroup customGroup = mockIdleGroupWithLocks(concludeGroupLock, handleEventForGroupLock);
+        when(concludeGroupLock.tryLock()).thenReturn(false, true, true);
+        when(handleEventForGroupLock.tryLock()).thenReturn(false, true);
+        when(customGroup.hasCustomShouldConclude()).thenReturn(false, true);
+        aggregateGroupManager.putGroupWithHash(mock(IdentificationKeysHasher.IdentificationKeysMap.class), concludingGroup);
+        aggregateGroupManager.putGroupWithHash(mock(IdentificationKeysHasher.IdentificationKeysMap.class), handlingGroup);
+        aggregateGroupManager.putGroupWithHash(mock(IdentificationKeysHasher.IdentificationKeysMap.class), customGroup);
+
+        now = now.plus(TEST_IDLE_TIMEOUT);
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        verify(groupStateStore, never()).store(any(), any(), any());
+        verify(concludeGroupLock, times(2)).unlock();
+        verify(handleEventForGroupLock).unlock();
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(3L));
+    }
+
+    @Test
+    void getGroupsToConclude_returns_the_stored_groups_which_are_due() throws IOException {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        aggregateGroupManager = createObjectUnderTestWithGroupStateStore(groupStateStore, TEST_IDLE_TIMEOUT);
+        final AggregateGroup activeGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        final IdentificationKeysHasher.IdentificationKeysMap storedKeysMap = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
+        final AggregateGroup storedGroup = mockGroupStartedAt(now.minus(TEST_GROUP_DURATION));
+        final AggregateGroup storedGroupOfActiveKeys = mockGroupStartedAt(now.minus(TEST_GROUP_DURATION));
+        when(groupStateStore.removeDue(now)).thenReturn(List.of(
+                new AbstractMap.SimpleImmutableEntry<>(storedKeysMap, storedGroup),
+                new AbstractMap.SimpleImmutableEntry<>(identificationKeysMap, storedGroupOfActiveKeys)));
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+
+        assertThat(groupsToConclude.size(), equalTo(2));
+        assertThat(groupsToConclude.get(0).getValue(), sameInstance(storedGroup));
+        assertThat(groupsToConclude.get(1).getValue(), sameInstance(storedGroupOfActiveKeys));
+        assertThat(aggregateGroupManager.getAggregateGroup(storedKeysMap), sameInstance(storedGroup));
+        assertThat(aggregateGroupManager.getAggregateGroup(identificationKeysMap), sameInstance(activeGroup));
+    }
+
+    @Test
+    void getGroupsToConclude_returns_the_active_groups_when_the_group_state_store_cannot_be_read() throws IOException {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        aggregateGroupManager = createObjectUnderTestWithGroupStateStore(groupStateStore, TEST_IDLE_TIMEOUT);
+        final AggregateGroup group = mockGroupStartedAt(now.minus(TEST_GROUP_DURATION));
+        when(group.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
+        aggregateGroupManager.putGroupWithHash(identificationKeysMap, group);
+        when(groupStateStore.removeDue(now)).thenThrow(IOException.class);
+        when(groupStateStore.removeAll()).thenThrow(IOException.class);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false).size(), equalTo(1));
+        assertThat(aggregateGroupManager.getGroupsToConclude(true).size(), equalTo(1));
+        verify(groupStateStoreReadErrorsCounter, times(2)).increment();
+    }
+
+    @Test
+    void getGroupsToConclude_with_force_conclude_returns_the_stored_groups() throws IOException {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        aggregateGroupManager = createObjectUnderTestWithGroupStateStore(groupStateStore, TEST_IDLE_TIMEOUT);
+        final AggregateGroup activeGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+        final IdentificationKeysHasher.IdentificationKeysMap storedKeysMap = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
+        final AggregateGroup storedGroup = mockGroupStartedAt(now);
+        when(groupStateStore.removeAll()).thenReturn(List.of(new AbstractMap.SimpleImmutableEntry<>(storedKeysMap, storedGroup)));
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(true);
+
+        assertThat(groupsToConclude.size(), equalTo(2));
+        assertThat(groupsToConclude.stream().map(Map.Entry::getValue).collect(Collectors.toList()), containsInAnyOrder(activeGroup, storedGroup));
+    }
+
+    @Test
+    void getGroupStateStore_returns_the_group_state_store() {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+
+        assertThat(createObjectUnderTestWithGroupStateStore(groupStateStore, TEST_IDLE_TIMEOUT).getGroupStateStore(), equalTo(Optional.of(groupStateStore)));
+        assertThat(createObjectUnderTest().getGroupStateStore(), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void close_closes_the_group_state_store() throws IOException {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        aggregateGroupManager = createObjectUnderTestWithGroupStateStore(groupStateStore, TEST_IDLE_TIMEOUT);
+
+        aggregateGroupManager.close();
+
+        verify(groupStateStore).close();
+    }
+
+    @Test
+    void close_does_not_throw_when_the_group_state_store_cannot_be_closed() throws IOException {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        doThrow(IOException.class).when(groupStateStore).close();
+        aggregateGroupManager = createObjectUnderTestWithGroupStateStore(groupStateStore, TEST_IDLE_TIMEOUT);
+
+        aggregateGroupManager.close();
+        createObjectUnderTest().close();
+
+        verify(groupStateStore).close();
+    }
+
+    private AggregateGroup mockIdleGroupWithLocks(final Lock concludeGroupLock, final Lock handleEventForGroupLock) {
+        final AggregateGroup group = mockGroupStartedAt(now);
+        when(group.getLastUpdated()).thenReturn(now);
+        when(group.getConcludeGroupLock()).thenReturn(concludeGroupLock);
+        when(group.getHandleEventForGroupLock()).thenReturn(handleEventForGroupLock);
+        return group;
+    }
+
+    private AggregateGroup mockGroupStartedAt(final Instant groupStart) {
+        final AggregateGroup group = mock(AggregateGroup.class);
+        when(group.getGroupStart()).thenReturn(groupStart);
+        return group;
+    }
 }
@@ -11,11 +11,18 @@ import java.lang.reflect.Field;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Collections;
+import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 public class AggregateGroupTest {
 
@@ -50,6 +57,79 @@ public class AggregateGroupTest {
         assertThat(aggregateGroup.shouldConcludeGroup(TEST_GROUP_DURATION), equalTo(false));
     }
 
+    @Test
+    void hasCustomShouldConclude_returns_true_after_setting_a_custom_shouldConclude() {
+        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        assertThat(aggregateGroup.hasCustomShouldConclude(), equalTo(false));
+
+        aggregateGroup.setCustomShouldConclude(duration -> false);
+
+        assertThat(aggregateGroup.hasCustomShouldConclude(), equalTo(true));
+    }
+
+    @Test
+    void group_restored_from_a_group_state_store_has_the_stored_group_start_and_state() {
+        final Instant groupStart = Instant.now().minusSeconds(TEST_GROUP_DURATION.getSeconds());
+        final Map<Object, Object> groupState = Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+
+        final AggregateGroup aggregateGroup = new AggregateGroup(null, groupStart, groupState);
+
+        assertThat(aggregateGroup.getGroupStart(), equalTo(groupStart));
+        assertThat(aggregateGroup.getLastUpdated(), equalTo(groupStart));
+        assertThat(aggregateGroup.getGroupState(), equalTo(groupState));
+        assertThat(aggregateGroup.isEvicted(), equalTo(false));
+    }
+
+    @Test
+    void setLastUpdated_and_setEvicted_update_the_group() {
+        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        final Instant lastUpdated = Instant.now().plusSeconds(1);
+
+        aggregateGroup.setLastUpdated(lastUpdated);
+        aggregateGroup.setEvicted();
+
+        assertThat(aggregateGroup.getLastUpdated(), equalTo(lastUpdated));
+        assertThat(aggregateGroup.isEvicted(), equalTo(true));
+    }
+
+    @Test
+    void getStripes_returns_no_stripes_for_a_group_which_is_not_striped() {
+        final AggregateGroup aggregateGroup = new AggregateGroup(Collections.emptyMap());
+
+        assertThat(aggregateGroup.getStripes(), empty());
+    }
+
+    @Test
+    void getStripeForCurrentThread_returns_one_stripe_per_thread() throws InterruptedException {
+        final Map<Object, Object> identificationKeys = Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        final AggregateGroup aggregateGroup = new AggregateGroup(identificationKeys);
+
+        final AggregateGroupStripe stripe = aggregateGroup.getStripeForCurrentThread();
+        final AtomicReference<AggregateGroupStripe> otherThreadStripe = new AtomicReference<>();
+        final Thread otherThread = new Thread(() -> otherThreadStripe.set(aggregateGroup.getStripeForCurrentThread()));
+        otherThread.start();
+        otherThread.join();
+
+        assertThat(aggregateGroup.getStripeForCurrentThread(), sameInstance(stripe));
+        assertThat(otherThreadStripe.get(), not(sameInstance(stripe)));
+        assertThat(aggregateGroup.getStripes(), containsInAnyOrder(stripe, otherThreadStripe.get()));
+        assertThat(stripe.getIdentificationKeys(), equalTo(identificationKeys));
+        assertThat(stripe.getGroupState(), not(sameInstance(aggregateGroup.getGroupState())));
+        assertThat(aggregateGroup.getHandleEventForGroupLock().tryLock(), equalTo(true));
+        assertThat(stripe.getLock().tryLock(), equalTo(true));
+    }
+
+    @Test
+    void setCustomShouldConclude_on_a_stripe_sets_it_on_the_group() {
+        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        final Function<Duration, Boolean> customShouldConclude = duration -> true;
+
+        aggregateGroup.getStripeForCurrentThread().setCustomShouldConclude(customShouldConclude);
+
+        assertThat(aggregateGroup.hasCustomShouldConclude(), equalTo(true));
+        assertThat(aggregateGroup.shouldConcludeGroup(TEST_GROUP_DURATION), equalTo(true));
+    }
+
     private void reflectivelySetField(final AggregateGroup aggregateGroup, final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
         final Field field = AggregateGroup.class.getDeclaredField(fieldName);
         try {
@@ -6,11 +6,15 @@
 package org.opensearch.dataprepper.plugins.processor.aggregate;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.time.Duration;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
 
 public class AggregateProcessorConfigTest {
     @Test
@@ -18,5 +22,20 @@ public class AggregateProcessorConfigTest {
         final AggregateProcessorConfig aggregateConfig = new AggregateProcessorConfig();
 
         assertThat(aggregateConfig.getGroupDuration(), equalTo(Duration.ofSeconds(AggregateProcessorConfig.DEFAULT_GROUP_DURATION_SECONDS)));
+        assertThat(aggregateConfig.getGroupStateStoreConfig(), nullValue());
+        assertThat(aggregateConfig.getConcurrencyMode(), equalTo(AggregateConcurrencyMode.LOCKING));
+        assertThat(aggregateConfig.isGroupStateStoreSupported(), equalTo(true));
+    }
+
+    @ParameterizedTest
+    @EnumSource(AggregateConcurrencyMode.class)
+    void isGroupStateStoreSupported_with_a_group_state_store_is_false_only_for_the_striped_concurrency_mode(final AggregateConcurrencyMode concurrencyMode)
+            throws NoSuchFieldException, IllegalAccessException {
+        final AggregateProcessorConfig aggregateConfig = new AggregateProcessorConfig();
+        setField(AggregateProcessorConfig.class, aggregateConfig, "groupStateStoreConfig", new GroupStateStoreConfig());
+        setField(AggregateProcessorConfig.class, aggregateConfig, "concurrencyMode", concurrencyMode);
+
+        assertThat(aggregateConfig.getConcurrencyMode(), equalTo(concurrencyMode));
+        assertThat(aggregateConfig.isGroupStateStoreSupported(), equalTo(concurrencyMode != AggregateConcurrencyMode.STRIPED));
     }
 }
@@ -14,9 +14,11 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.plugin.PluginFactory;
 import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
@@ -39,6 +41,7 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.actions.OutputForm
 import static org.opensearch.dataprepper.plugins.processor.aggregate.actions.CountAggregateActionConfig.DEFAULT_COUNT_KEY;
 import static org.opensearch.dataprepper.plugins.processor.aggregate.actions.CountAggregateActionConfig.DEFAULT_START_TIME_KEY;
 
+import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -102,6 +105,12 @@ public class AggregateProcessorIT {
     @Mock
     private ExpressionEvaluator expressionEvaluator;
 
+    @Mock
+    private GroupStateStoreConfig groupStateStoreConfig;
+
+    @TempDir
+    Path spillDirectory;
+
     private Collection<Record<Event>> eventBatch;
     private ConcurrentLinkedQueue<Map<String, Object>> aggregatedResult;
     private Set<Map<String, Object>> uniqueEventMaps;
@@ -399,6 +408,92 @@ public class AggregateProcessorIT {
         assertThat(record.getData().toMap(), hasKey(DEFAULT_START_TIME_KEY));
     }
 
+    @RepeatedTest(value = 2)
+    void aggregateWithCountAggregateActionInStripedConcurrencyMode() throws InterruptedException, NoSuchFieldException, IllegalAccessException {
+        CountAggregateActionConfig countAggregateActionConfig = new CountAggregateActionConfig();
+        setField(CountAggregateActionConfig.class, countAggregateActionConfig, "outputFormat", OutputFormat.RAW.toString());
+        aggregateAction = new CountAggregateAction(countAggregateActionConfig);
+        when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class)))
+                .thenReturn(aggregateAction);
+        when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofSeconds(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
+        when(aggregateProcessorConfig.getConcurrencyMode()).thenReturn(AggregateConcurrencyMode.STRIPED);
+        eventBatch = getBatchOfEvents(true);
+
+        final AggregateProcessor objectUnderTest = createObjectUnderTest();
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(NUM_THREADS);
+        final CountDownLatch countDownLatch = new CountDownLatch(NUM_THREADS);
+
+        for (int i = 0; i < NUM_THREADS; i++) {
+            executorService.execute(() -> {
+                objectUnderTest.doExecute(eventBatch);
+                countDownLatch.countDown();
+            });
+        }
+        Thread.sleep(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE * 1000);
+
+        boolean allThreadsFinished = countDownLatch.await(5L, TimeUnit.SECONDS);
+        assertThat(allThreadsFinished, equalTo(true));
+
+        Collection<Record<Event>> results = objectUnderTest.doExecute(new ArrayList<Record<Event>>());
+        assertThat(results.size(), equalTo(1));
+
+        Map<String, Object> expectedEventMap = new HashMap<>(getEventMap(testValue));
+        expectedEventMap.put(DEFAULT_COUNT_KEY, NUM_THREADS * NUM_EVENTS_PER_BATCH);
+
+        final Record<Event> record = (Record<Event>)results.toArray()[0];
+        expectedEventMap.forEach((k, v) -> assertThat(record.getData().toMap(), hasEntry(k,v)));
+        assertThat(record.getData().toMap(), hasKey(DEFAULT_START_TIME_KEY));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"64mb", "1b"})
+    void aggregateWithCountAggregateActionAndGroupStateStore(final String memoryLimit) throws InterruptedException, NoSuchFieldException, IllegalAccessException {
+        CountAggregateActionConfig countAggregateActionConfig = new CountAggregateActionConfig();
+        setField(CountAggregateActionConfig.class, countAggregateActionConfig, "outputFormat", OutputFormat.RAW.toString());
+        aggregateAction = new CountAggregateAction(countAggregateActionConfig);
+        when(pluginFactory.loadPlugin(eq(AggregateAction.class), any(PluginSetting.class)))
+                .thenReturn(aggregateAction);
+        when(aggregateProcessorConfig.getGroupDuration()).thenReturn(Duration.ofSeconds(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE));
+        when(aggregateProcessorConfig.getGroupStateStoreConfig()).thenReturn(groupStateStoreConfig);
+        when(groupStateStoreConfig.getMemoryLimit()).thenReturn(ByteCount.parse(memoryLimit));
+        when(groupStateStoreConfig.getSpillDirectory()).thenReturn(spillDirectory.toString());
+        when(groupStateStoreConfig.getIdleTimeout()).thenReturn(Duration.ofMillis(100));
+        eventBatch = getBatchOfEvents(true);
+
+        final AggregateProcessor objectUnderTest = createObjectUnderTest();
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(NUM_THREADS);
+        final CountDownLatch countDownLatch = new CountDownLatch(NUM_THREADS);
+
+        for (int i = 0; i < NUM_THREADS; i++) {
+            executorService.execute(() -> {
+                objectUnderTest.doExecute(eventBatch);
+                countDownLatch.countDown();
+            });
+        }
+        boolean allThreadsFinished = countDownLatch.await(5L, TimeUnit.SECONDS);
+        assertThat(allThreadsFinished, equalTo(true));
+
+        // The idle group is moved to the group state store at its first conclusion check, and concluded from there
+        Thread.sleep(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE * 600);
+        assertThat(objectUnderTest.doExecute(new ArrayList<Record<Event>>()).size(), equalTo(0));
+        assertThat(objectUnderTest.isReadyForShutdown(), equalTo(false));
+
+        Thread.sleep(GROUP_DURATION_FOR_ONLY_SINGLE_CONCLUDE * 600);
+        Collection<Record<Event>> results = objectUnderTest.doExecute(new ArrayList<Record<Event>>());
+        assertThat(results.size(), equalTo(1));
+
+        Map<String, Object> expectedEventMap = new HashMap<>(getEventMap(testValue));
+        expectedEventMap.put(DEFAULT_COUNT_KEY, NUM_THREADS * NUM_EVENTS_PER_BATCH);
+
+        final Record<Event> record = (Record<Event>)results.toArray()[0];
+        expectedEventMap.forEach((k, v) -> assertThat(record.getData().toMap(), hasEntry(k,v)));
+        assertThat(record.getData().toMap(), hasKey(DEFAULT_START_TIME_KEY));
+        assertThat(objectUnderTest.isReadyForShutdown(), equalTo(true));
+        objectUnderTest.shutdown();
+    }
+
     @RepeatedTest(value = 2)
     void aggregateWithCountAggregateActionWithCondition() throws InterruptedException, NoSuchFieldException, IllegalAccessException {
         CountAggregateActionConfig countAggregateActionConfig = new CountAggregateActionConfig();
@@ -34,6 +34,7 @@ import java.util.HashMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
 import java.util.stream.Stream;
@@ -43,6 +44,7 @@ import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -135,7 +137,9 @@ public class AggregateProcessorTest {
                 .withEventType("event")
                 .build();
 
-        when(aggregateActionSynchronizerProvider.provide(aggregateAction, aggregateGroupManager, pluginMetrics)).thenReturn(aggregateActionSynchronizer);
+        when(aggregateProcessorConfig.getConcurrencyMode()).thenReturn(AggregateConcurrencyMode.LOCKING);
+        when(aggregateActionSynchronizerProvider.provide(aggregateAction, aggregateGroupManager, pluginMetrics, AggregateConcurrencyMode.LOCKING))
+                .thenReturn(aggregateActionSynchronizer);
 
         when(pluginMetrics.counter(AggregateProcessor.ACTION_HANDLE_EVENTS_OUT)).thenReturn(actionHandleEventsOutCounter);
         when(pluginMetrics.counter(AggregateProcessor.ACTION_HANDLE_EVENTS_DROPPED)).thenReturn(actionHandleEventsDroppedCounter);
@@ -157,6 +161,28 @@ public class AggregateProcessorTest {
         assertThat(expectedIdentificationKeys, equalTo(keys));
     }
 
+    @Test
+    void constructor_registers_the_gauges_of_the_group_state_store() {
+        final GroupStateStore groupStateStore = mock(GroupStateStore.class);
+        when(aggregateGroupManager.getGroupStateStore()).thenReturn(Optional.of(groupStateStore));
+
+        createObjectUnderTest();
+
+        verify(pluginMetrics).gauge(eq(AggregateProcessor.GROUP_STATE_STORE_MEMORY_BYTES), eq(groupStateStore), any());
+        verify(pluginMetrics).gauge(eq(AggregateProcessor.GROUP_STATE_STORE_MEMORY_GROUPS), eq(groupStateStore), any());
+        verify(pluginMetrics).gauge(eq(AggregateProcessor.GROUP_STATE_STORE_DISK_BYTES), eq(groupStateStore), any());
+        verify(pluginMetrics).gauge(eq(AggregateProcessor.GROUP_STATE_STORE_DISK_GROUPS), eq(groupStateStore), any());
+    }
+
+    @Test
+    void shutdown_closes_the_aggregate_group_manager() {
+        final AggregateProcessor objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.shutdown();
+
+        verify(aggregateGroupManager).close();
+    }
+
     @Nested
     class TestDoExecute {
         @BeforeEach
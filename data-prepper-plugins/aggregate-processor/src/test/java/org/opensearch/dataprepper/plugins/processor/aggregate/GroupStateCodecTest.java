@@ -0,0 +1,189 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.CountAggregateState;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.HistogramAggregateState;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GroupStateCodecTest {
+
+    @Test
+    void encodeGroupState_and_decodeMap_round_trip_all_supported_values() {
+        final Map<Object, Object> nestedMap = new HashMap<>();
+        nestedMap.put("nestedKey", 1L);
+        final Map<Object, Object> groupState = new HashMap<>();
+        groupState.put("string", UUID.randomUUID().toString());
+        groupState.put("integer", 42);
+        groupState.put("long", Long.MAX_VALUE);
+        groupState.put("double", 1.5d);
+        groupState.put("float", 2.5f);
+        groupState.put("true", true);
+        groupState.put("false", false);
+        groupState.put("instant", Instant.ofEpochSecond(1234, 5678));
+        groupState.put("list", Arrays.asList("a", 1, null));
+        groupState.put("map", nestedMap);
+        groupState.put("null", null);
+        groupState.put(7, "integer key");
+
+        final Map<Object, Object> decodedGroupState = GroupStateCodec.decodeMap(ByteBuffer.wrap(GroupStateCodec.encodeGroupState(groupState)));
+
+        assertThat(decodedGroupState, equalTo(groupState));
+    }
+
+    @Test
+    void encodeGroupState_and_decodeMap_round_trip_Long_arrays() {
+        final Long[] buckets = {1L, 0L, 3L};
+        final Map<Object, Object> groupState = new HashMap<>();
+        groupState.put("buckets", buckets);
+
+        final Map<Object, Object> decodedGroupState = GroupStateCodec.decodeMap(ByteBuffer.wrap(GroupStateCodec.encodeGroupState(groupState)));
+
+        assertThat(decodedGroupState.size(), equalTo(1));
+        assertThat(Arrays.asList((Long[]) decodedGroupState.get("buckets")), equalTo(Arrays.asList(buckets)));
+    }
+
+    @Test
+    void decodeMap_of_a_null_value_returns_null() {
+        final Map<Object, Object> groupState = new HashMap<>();
+        groupState.put("key", null);
+
+        final Map<Object, Object> decodedGroupState = GroupStateCodec.decodeMap(ByteBuffer.wrap(GroupStateCodec.encodeGroupState(groupState)));
+
+        assertThat(decodedGroupState.get("key"), nullValue());
+    }
+
+    @Test
+    void encodeIdentificationKeys_does_not_depend_on_the_order_of_the_keys() {
+        final Map<Object, Object> identificationKeys = new LinkedHashMap<>();
+        identificationKeys.put("first", "value1");
+        identificationKeys.put("second", 2);
+        final Map<Object, Object> reversedIdentificationKeys = new LinkedHashMap<>();
+        reversedIdentificationKeys.put("second", 2);
+        reversedIdentificationKeys.put("first", "value1");
+
+        final byte[] encodedKeys = GroupStateCodec.encodeIdentificationKeys(identificationKeys);
+
+        assertThat(encodedKeys, equalTo(GroupStateCodec.encodeIdentificationKeys(reversedIdentificationKeys)));
+        assertThat(GroupStateCodec.decodeMap(ByteBuffer.wrap(encodedKeys)), equalTo(identificationKeys));
+    }
+
+    @Test
+    void encodeGroupState_grows_for_large_values() {
+        final String largeValue = String.join("", Collections.nCopies(1000, "x"));
+        final Map<Object, Object> groupState = Map.of("key", largeValue);
+
+        final Map<Object, Object> decodedGroupState = GroupStateCodec.decodeMap(ByteBuffer.wrap(GroupStateCodec.encodeGroupState(groupState)));
+
+        assertThat(decodedGroupState, equalTo(groupState));
+    }
+
+    @Test
+    void encodeGroupState_with_an_unsupported_value_throws_IllegalArgumentException() {
+        final Map<Object, Object> groupState = Map.of("key", List.of(new Object()));
+
+        assertThrows(IllegalArgumentException.class, () -> GroupStateCodec.encodeGroupState(groupState));
+    }
+
+    @Test
+    void encodeGroupState_and_decodeMap_round_trip_other_serializable_values() {
+        final Map<Object, Object> groupState = Map.of("key", new BigDecimal("12345.6789"));
+
+        final Map<Object, Object> decodedGroupState = GroupStateCodec.decodeMap(ByteBuffer.wrap(GroupStateCodec.encodeGroupState(groupState)));
+
+        assertThat(decodedGroupState, equalTo(groupState));
+    }
+
+    @Test
+    void encodeGroupState_with_a_serializable_value_which_cannot_be_serialized_throws_IllegalArgumentException() {
+        final Map<Object, Object> groupState = Map.of("key", new NotSerializableHolder());
+
+        assertThrows(IllegalArgumentException.class, () -> GroupStateCodec.encodeGroupState(groupState));
+    }
+
+    @Test
+    void decodeMap_of_a_corrupted_serializable_value_throws_IllegalStateException() {
+        final byte[] encodedGroupState = GroupStateCodec.encodeGroupState(Map.of("key", new BigDecimal("1.5")));
+        final int serializedValueOffset = Integer.BYTES + 1 + Integer.BYTES + "key".length() + 1 + Integer.BYTES;
+        encodedGroupState[serializedValueOffset] = 0;
+
+        assertThrows(IllegalStateException.class, () -> GroupStateCodec.decodeMap(ByteBuffer.wrap(encodedGroupState)));
+    }
+
+    @Test
+    void encodeGroupState_and_decodeMap_round_trip_count_states_field_by_field() throws IOException {
+        final CountAggregateState countState = CountAggregateState.restore(Instant.ofEpochSecond(1234, 5678),
+                Map.of("service", "frontend", "latency", 12.5), "spanId", null, 42);
+
+        final byte[] encodedGroupState = GroupStateCodec.encodeGroupState(Map.of("count", countState));
+        final CountAggregateState decodedCountState = (CountAggregateState) GroupStateCodec.decodeMap(ByteBuffer.wrap(encodedGroupState)).get("count");
+
+        assertThat(decodedCountState.getStartTime(), equalTo(countState.getStartTime()));
+        assertThat(decodedCountState.getExemplarAttributes(), equalTo(countState.getExemplarAttributes()));
+        assertThat(decodedCountState.getExemplarSpanId(), equalTo("spanId"));
+        assertThat(decodedCountState.getExemplarTraceId(), nullValue());
+        assertThat(decodedCountState.getCount(), equalTo(42));
+        assertThat(encodedGroupState.length, lessThan(javaSerializedLength(countState)));
+    }
+
+    @Test
+    void encodeGroupState_and_decodeMap_round_trip_histogram_states_field_by_field() throws IOException {
+        final HistogramAggregateState histogramState = HistogramAggregateState.restore(Instant.ofEpochSecond(1234, 5678),
+                Instant.ofEpochSecond(2345, 6789), Map.of("service", "frontend"), new long[] {1, 0, 3},
+                4, 10.5, 0.5, 6.0, "minSpanId", "minTraceId", null, "maxTraceId");
+
+        final byte[] encodedGroupState = GroupStateCodec.encodeGroupState(Map.of("histogram", histogramState));
+        final HistogramAggregateState decodedHistogramState =
+                (HistogramAggregateState) GroupStateCodec.decodeMap(ByteBuffer.wrap(encodedGroupState)).get("histogram");
+
+        assertThat(decodedHistogramState.getStartTime(), equalTo(histogramState.getStartTime()));
+        assertThat(decodedHistogramState.getEndTime(), equalTo(histogramState.getEndTime()));
+        assertThat(decodedHistogramState.getExemplarAttributes(), equalTo(histogramState.getExemplarAttributes()));
+        assertThat(decodedHistogramState.getBucketCounts(), equalTo(new long[] {1, 0, 3}));
+        assertThat(decodedHistogramState.getCount(), equalTo(4));
+        assertThat(decodedHistogramState.getSum(), equalTo(10.5));
+        assertThat(decodedHistogramState.getMin(), equalTo(0.5));
+        assertThat(decodedHistogramState.getMax(), equalTo(6.0));
+        assertThat(decodedHistogramState.getMinSpanId(), equalTo("minSpanId"));
+        assertThat(decodedHistogramState.getMinTraceId(), equalTo("minTraceId"));
+        assertThat(decodedHistogramState.getMaxSpanId(), nullValue());
+        assertThat(decodedHistogramState.getMaxTraceId(), equalTo("maxTraceId"));
+        assertThat(encodedGroupState.length, lessThan(javaSerializedLength(histogramState)));
+    }
+
+    private static int javaSerializedLength(final Object value) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(value);
+        }
+        return byteArrayOutputStream.size();
+    }
+
+    private static class NotSerializableHolder implements Serializable {
+        private final Object value = new Object();
+    }
+}
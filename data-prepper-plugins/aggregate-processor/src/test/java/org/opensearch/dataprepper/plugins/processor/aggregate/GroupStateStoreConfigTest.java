@@ -0,0 +1,42 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.opensearch.dataprepper.test.helper.ReflectivelySetField.setField;
+
+public class GroupStateStoreConfigTest {
+    @Test
+    void testDefault() {
+        final GroupStateStoreConfig groupStateStoreConfig = new GroupStateStoreConfig();
+
+        assertThat(groupStateStoreConfig.getMemoryLimit().getBytes(), equalTo(ByteCount.parse(GroupStateStoreConfig.DEFAULT_MEMORY_LIMIT).getBytes()));
+        assertThat(groupStateStoreConfig.getSpillDirectory(), equalTo(System.getProperty("java.io.tmpdir")));
+        assertThat(groupStateStoreConfig.getIdleTimeout(), equalTo(GroupStateStoreConfig.DEFAULT_IDLE_TIMEOUT));
+    }
+
+    @Test
+    void testValidConfig() throws NoSuchFieldException, IllegalAccessException {
+        final GroupStateStoreConfig groupStateStoreConfig = new GroupStateStoreConfig();
+        final String spillDirectory = UUID.randomUUID().toString();
+        final Duration idleTimeout = Duration.ofSeconds(30);
+
+        setField(GroupStateStoreConfig.class, groupStateStoreConfig, "memoryLimit", "2kb");
+        setField(GroupStateStoreConfig.class, groupStateStoreConfig, "spillDirectory", spillDirectory);
+        setField(GroupStateStoreConfig.class, groupStateStoreConfig, "idleTimeout", idleTimeout);
+
+        assertThat(groupStateStoreConfig.getMemoryLimit().getBytes(), equalTo(2048L));
+        assertThat(groupStateStoreConfig.getSpillDirectory(), equalTo(spillDirectory));
+        assertThat(groupStateStoreConfig.getIdleTimeout(), equalTo(idleTimeout));
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.CountAggregateState;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.HistogramAggregateState;
+import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OffHeapGroupStateStoreTest {
+    private static final long LARGE_MEMORY_LIMIT = 1 << 20;
+
+    @TempDir
+    Path spillDirectory;
+
+    private Instant now;
+
+    private OffHeapGroupStateStore objectUnderTest;
+
+    @BeforeEach
+    void setUp() {
+        now = Instant.ofEpochSecond(1_700_000_000L, 123_456_789);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (objectUnderTest != null) {
+            objectUnderTest.close();
+        }
+    }
+
+    /**
+     * Hashes keys by their last byte, which is the last character of the last key value, so that tests control the
+     * index slots of the groups.
+     */
+    private OffHeapGroupStateStore createObjectUnderTestWithLastByteHash(final long memoryLimit) {
+        return new OffHeapGroupStateStore(memoryLimit, spillDirectory, key -> key[key.length - 1]);
+    }
+
+    @Test
+    void remove_from_an_empty_store_returns_null() throws IOException {
+        objectUnderTest = new OffHeapGroupStateStore(LARGE_MEMORY_LIMIT, spillDirectory);
+
+        assertThat(objectUnderTest.remove(keysMap("key")), nullValue());
+    }
+
+    @Test
+    void store_and_remove_restore_the_group_start_and_group_state() throws IOException {
+        objectUnderTest = new OffHeapGroupStateStore(LARGE_MEMORY_LIMIT, spillDirectory);
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = keysMap(UUID.randomUUID().toString());
+        final AggregateGroup aggregateGroup = groupWithState(identificationKeysMap, UUID.randomUUID().toString());
+
+        objectUnderTest.store(identificationKeysMap, aggregateGroup, now);
+
+        assertThat(objectUnderTest.getGroupCount(), equalTo(1L));
+        assertThat(objectUnderTest.getMemoryGroupCount(), equalTo(1L));
+        assertThat(objectUnderTest.getMemoryBytes(), greaterThan(0L));
+        assertThat(objectUnderTest.getDiskGroupCount(), equalTo(0L));
+        assertThat(objectUnderTest.getDiskBytes(), equalTo(0L));
+
+        final AggregateGroup restoredGroup = objectUnderTest.remove(keysMap(identificationKeysMap.getKeyMap().get("key")));
+
+        assertThat(restoredGroup, notNullValue());
+        assertThat(restoredGroup.getGroupStart(), equalTo(now));
+        assertThat(restoredGroup.getGroupState(), equalTo(aggregateGroup.getGroupState()));
+        assertThat(restoredGroup.getIdentificationKeys(), equalTo(identificationKeysMap.getKeyMap()));
+        assertThat(objectUnderTest.getGroupCount(), equalTo(0L));
+        assertThat(objectUnderTest.getMemoryGroupCount(), equalTo(0L));
+        assertThat(objectUnderTest.getMemoryBytes(), equalTo(0L));
+        assertThat(objectUnderTest.remove(identificationKeysMap), nullValue());
+    }
+
+    @Test
+    void remove_with_colliding_hashes_returns_the_group_with_equal_keys() throws IOException {
+        objectUnderTest = new OffHeapGroupStateStore(LARGE_MEMORY_LIMIT, spillDirectory, key -> 0L);
+        final IdentificationKeysHasher.IdentificationKeysMap firstKeysMap = keysMap("first");
+        final IdentificationKeysHasher.IdentificationKeysMap secondKeysMap = keysMap("second");
+        objectUnderTest.store(firstKeysMap, groupWithState(firstKeysMap, "firstState"), now);
+        objectUnderTest.store(secondKeysMap, groupWithState(secondKeysMap, "secondState"), now);
+
+        assertThat(objectUnderTest.remove(keysMap("third")), nullValue());
+        assertThat(objectUnderTest.remove(secondKeysMap).getGroupState().get("state"), equalTo("secondState"));
+        assertThat(objectUnderTest.remove(firstKeysMap).getGroupState().get("state"), equalTo("firstState"));
+    }
+
+    @Test
+    void remove_keeps_the_other_groups_of_a_cluster_reachable() throws IOException {
+        objectUnderTest = createObjectUnderTestWithLastByteHash(LARGE_MEMORY_LIMIT);
+        final List<IdentificationKeysHasher.IdentificationKeysMap> keysMaps = new ArrayList<>();
+        for (final String value : List.of("a", "1a", "c", "o", "1o", "2o", "p")) {
+            final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = keysMap(value);
+            keysMaps.add(identificationKeysMap);
+            objectUnderTest.store(identificationKeysMap, groupWithState(identificationKeysMap, value), now);
+        }
+
+        for (final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap : keysMaps) {
+            final AggregateGroup restoredGroup = objectUnderTest.remove(identificationKeysMap);
+            assertThat(restoredGroup.getGroupState().get("state"), equalTo(identificationKeysMap.getKeyMap().get("key")));
+        }
+        assertThat(objectUnderTest.getGroupCount(), equalTo(0L));
+    }
+
+    @Test
+    void store_grows_the_index_and_the_memory() throws IOException {
+        objectUnderTest = new OffHeapGroupStateStore(LARGE_MEMORY_LIMIT, spillDirectory);
+        final String largeState = String.join("", Collections.nCopies(10_000, "x"));
+        final int groupCount = OffHeapGroupStateStore.INITIAL_INDEX_CAPACITY * 2;
+        for (int i = 0; i < groupCount; i++) {
+            objectUnderTest.store(keysMap("key" + i), groupWithState(keysMap("key" + i), largeState + i), now);
+        }
+
+        assertThat(objectUnderTest.getGroupCount(), equalTo((long) groupCount));
+        assertThat(objectUnderTest.getMemoryGroupCount(), equalTo((long) groupCount));
+        assertThat(objectUnderTest.getDiskGroupCount(), equalTo(0L));
+        for (int i = 0; i < groupCount; i++) {
+            assertThat(objectUnderTest.remove(keysMap("key" + i)).getGroupState().get("state"), equalTo(largeState + i));
+        }
+    }
+
+    @Test
+    void store_above_the_memory_limit_spills_to_disk() throws IOException {
+        objectUnderTest = new OffHeapGroupStateStore(1, spillDirectory);
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = keysMap("key");
+
+        objectUnderTest.store(identificationKeysMap, groupWithState(identificationKeysMap, "state"), now);
+
+        assertThat(objectUnderTest.getMemoryGroupCount(), equalTo(0L));
+        assertThat(objectUnderTest.getMemoryBytes(), equalTo(0L));
+        assertThat(objectUnderTest.getDiskGroupCount(), equalTo(1L));
+        assertThat(objectUnderTest.getDiskBytes(), greaterThan(0L));
+        assertThat(Files.size(objectUnderTest.getSpillFile()), equalTo(objectUnderTest.getDiskBytes()));
+
+        final AggregateGroup restoredGroup = objectUnderTest.remove(identificationKeysMap);
+
+        assertThat(restoredGroup.getGroupState().get("state"), equalTo("state"));
+        assertThat(restoredGroup.getGroupStart(), equalTo(now));
+        assertThat(objectUnderTest.getDiskGroupCount(), equalTo(0L));
+        assertThat(objectUnderTest.getDiskBytes(), equalTo(0L));
+        assertThat(Files.size(objectUnderTest.getSpillFile()), equalTo(0L));
+    }
+
+    @Test
+    void remove_compacts_the_spill_file_when_most_of_it_is_garbage() throws IOException {
+        objectUnderTest = new OffHeapGroupStateStore(1, spillDirectory);
+        final String largeState = String.join("", Collections.nCopies(10_000, "x"));
+        final int groupCount = (int) (OffHeapGroupStateStore.MIN_DISK_COMPACTION_BYTES / 10_000) + 10;
+        for (int i = 0; i < groupCount; i++) {
+            objectUnderTest.store(keysMap("key" + i), groupWithState(keysMap("key" + i), largeState + i), now);
+        }
+        final long fullSpillBytes = objectUnderTest.getDiskBytes();
+
+        for (int i = 0; i < groupCount - 1; i++) {
+            objectUnderTest.remove(keysMap("key" + i));
+        }
+
+        assertThat(objectUnderTest.getDiskGroupCount(), equalTo(1L));
+        assertThat(objectUnderTest.getDiskBytes(), lessThan(fullSpillBytes));
+        assertThat(Files.size(objectUnderTest.getSpillFile()), equalTo(objectUnderTest.getDiskBytes()));
+        final int lastGroup = groupCount - 1;
+        assertThat(objectUnderTest.remove(keysMap("key" + lastGroup)).getGroupState().get("state"), equalTo(largeState + lastGroup));
+    }
+
+    @Test
+    void store_compacts_the_memory_before_spilling_to_disk() throws IOException {
+        objectUnderTest = new OffHeapGroupStateStore(1024, spillDirectory);
+        final String state = String.join("", Collections.nCopies(150, "x"));
+        int groupCount = 0;
+        while (objectUnderTest.getDiskGroupCount() == 0) {
+            objectUnderTest.store(keysMap("key" + groupCount), groupWithState(keysMap("key" + groupCount), state + groupCount), now);
+            groupCount++;
+        }
+        final int spilledGroup = groupCount - 1;
+        objectUnderTest.remove(keysMap("key1"));
+        objectUnderTest.remove(keysMap("key2"));
+
+        objectUnderTest.store(keysMap("new"), groupWithState(keysMap("new"), state), now);
+
+        assertThat(objectUnderTest.getDiskGroupCount(), equalTo(1L));
+        assertThat(objectUnderTest.getMemoryGroupCount(), equalTo((long) spilledGroup - 1));
+        assertThat(objectUnderTest.remove(keysMap("new")).getGroupState().get("state"), equalTo(state));
+        assertThat(objectUnderTest.remove(keysMap("key0")).getGroupState().get("state"), equalTo(state + 0));
+        for (int i = 3; i < groupCount; i++) {
+            assertThat(objectUnderTest.remove(keysMap("key" + i)).getGroupState().get("state"), equalTo(state + i));
+        }
+        assertThat(objectUnderTest.getGroupCount(), equalTo(0L));
+    }
+
+    @Test
+    void removeDue_returns_the_due_groups_in_the_order_of_their_conclude_times() throws IOException {
+        objectUnderTest = new OffHeapGroupStateStore(LARGE_MEMORY_LIMIT, spillDirectory);
+        final Random random = new Random();
+        final Map<String, Instant> concludeTimes = new HashMap<>();
+        for (int i = 0; i < 50; i++) {
+            final String value = "key" + i;
+            final Instant concludeTime = now.plusMillis(random.nextInt(10_000));
+            concludeTimes.put(value, concludeTime);
+            objectUnderTest.store(keysMap(value), groupWithState(keysMap(value), value), concludeTime);
+        }
+        final Instant dueTime = now.plusMillis(5_000);
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> dueGroups = objectUnderTest.removeDue(dueTime);
+
+        final List<String> expectedDueValues = concludeTimes.entrySet().stream()
+                .filter(entry -> !entry.getValue().isAfter(dueTime))
+                .sorted(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        final List<Instant> dueConcludeTimes = dueGroups.stream()
+                .map(entry -> concludeTimes.get(entry.getKey().getKeyMap().get("key")))
+                .collect(Collectors.toList());
+        assertThat(dueGroups.size(), equalTo(expectedDueValues.size()));
+        assertThat(dueConcludeTimes, equalTo(expectedDueValues.stream().map(concludeTimes::get).collect(Collectors.toList())));
+        for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> dueGroup : dueGroups) {
+            assertThat(dueGroup.getValue().getGroupState().get("state"), equalTo(dueGroup.getKey().getKeyMap().get("key")));
+        }
+        assertThat(objectUnderTest.getGroupCount(), equalTo((long) (50 - expectedDueValues.size())));
+        assertThat(objectUnderTest.removeDue(dueTime), equalTo(Collections.emptyList()));
+    }
+
+    @Test
+    void removeDue_skips_groups_which_were_removed_or_stored_again() throws IOException {
+        objectUnderTest = new OffHeapGroupStateStore(LARGE_MEMORY_LIMIT, spillDirectory, key -> 0L);
+        final IdentificationKeysHasher.IdentificationKeysMap removedKeysMap = keysMap("removed");
+        final IdentificationKeysHasher.IdentificationKeysMap restoredKeysMap = keysMap("restored");
+        objectUnderTest.store(removedKeysMap, groupWithState(removedKeysMap, "removed"), now);
+        objectUnderTest.store(restoredKeysMap, groupWithState(restoredKeysMap, "restored"), now);
+        objectUnderTest.remove(removedKeysMap);
+        objectUnderTest.remove(restoredKeysMap);
+        objectUnderTest.store(restoredKeysMap, groupWithState(restoredKeysMap, "restored"), now.plusSeconds(10));
+
+        assertThat(objectUnderTest.removeDue(now), equalTo(Collections.emptyList()));
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> dueGroups = objectUnderTest.removeDue(now.plusSeconds(10));
+        assertThat(dueGroups.size(), equalTo(1));
+        assertThat(dueGroups.get(0).getKey(), equalTo(restoredKeysMap));
+    }
+
+    @Test
+    void removeAll_returns_all_groups_in_memory_and_on_disk() throws IOException {
+        objectUnderTest = createObjectUnderTestWithLastByteHash(1024);
+        final String state = String.join("", Collections.nCopies(150, "x"));
+        final List<IdentificationKeysHasher.IdentificationKeysMap> keysMaps = new ArrayList<>();
+        for (final String value : List.of("a", "1a", "c", "o", "1o", "2o", "p", "q")) {
+            final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = keysMap(value);
+            keysMaps.add(identificationKeysMap);
+            objectUnderTest.store(identificationKeysMap, groupWithState(identificationKeysMap, state), now);
+        }
+        assertThat(objectUnderTest.getDiskGroupCount(), greaterThan(0L));
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groups = objectUnderTest.removeAll();
+
+        assertThat(groups.stream().map(Map.Entry::getKey).collect(Collectors.toList()), containsInAnyOrder(keysMaps.toArray()));
+        assertThat(objectUnderTest.getGroupCount(), equalTo(0L));
+        assertThat(objectUnderTest.getMemoryGroupCount(), equalTo(0L));
+        assertThat(objectUnderTest.getDiskGroupCount(), equalTo(0L));
+        assertThat(objectUnderTest.removeDue(now), equalTo(Collections.emptyList()));
+    }
+
+    @Test
+    void remove_of_a_truncated_spill_file_throws_EOFException() throws IOException {
+        objectUnderTest = new OffHeapGroupStateStore(1, spillDirectory);
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = keysMap("key");
+        objectUnderTest.store(identificationKeysMap, groupWithState(identificationKeysMap, "state"), now);
+        try (final FileChannel fileChannel = FileChannel.open(objectUnderTest.getSpillFile(), StandardOpenOption.WRITE)) {
+            fileChannel.truncate(0);
+        }
+
+        assertThrows(EOFException.class, () -> objectUnderTest.remove(identificationKeysMap));
+    }
+
+    @Test
+    void close_deletes_the_spill_file_and_clears_the_store() throws IOException {
+        objectUnderTest = new OffHeapGroupStateStore(1, spillDirectory);
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = keysMap("key");
+        objectUnderTest.store(identificationKeysMap, groupWithState(identificationKeysMap, "state"), now);
+        final Path spillFile = objectUnderTest.getSpillFile();
+
+        objectUnderTest.close();
+
+        assertThat(Files.exists(spillFile), equalTo(false));
+        assertThat(objectUnderTest.getGroupCount(), equalTo(0L));
+        assertThat(objectUnderTest.getDiskGroupCount(), equalTo(0L));
+        assertThat(objectUnderTest.getDiskBytes(), equalTo(0L));
+        assertThat(objectUnderTest.remove(identificationKeysMap), nullValue());
+    }
+
+    @Test
+    void close_without_a_spill_file_clears_the_store() throws IOException {
+        objectUnderTest = new OffHeapGroupStateStore(LARGE_MEMORY_LIMIT, spillDirectory);
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = keysMap("key");
+        objectUnderTest.store(identificationKeysMap, groupWithState(identificationKeysMap, "state"), now);
+
+        objectUnderTest.close();
+
+        assertThat(objectUnderTest.getSpillFile(), nullValue());
+        assertThat(objectUnderTest.getGroupCount(), equalTo(0L));
+        assertThat(objectUnderTest.getMemoryGroupCount(), equalTo(0L));
+        assertThat(objectUnderTest.getMemoryBytes(), equalTo(0L));
+    }
+
+    @Test
+    void store_with_an_unsupported_group_state_throws_IllegalArgumentException() {
+        objectUnderTest = new OffHeapGroupStateStore(LARGE_MEMORY_LIMIT, spillDirectory);
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = keysMap("key");
+        final AggregateGroup aggregateGroup = new AggregateGroup(identificationKeysMap.getKeyMap(), now, Map.of("state", new Object()));
+
+        assertThrows(IllegalArgumentException.class, () -> objectUnderTest.store(identificationKeysMap, aggregateGroup, now));
+        assertThat(objectUnderTest.getGroupCount(), equalTo(0L));
+    }
+
+    @Test
+    void store_and_remove_restore_count_and_histogram_states() throws IOException {
+        objectUnderTest = new OffHeapGroupStateStore(LARGE_MEMORY_LIMIT, spillDirectory);
+        final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = keysMap(UUID.randomUUID().toString());
+        final CountAggregateState countState = CountAggregateState.restore(now, Map.of("service", "frontend"), "spanId", "traceId", 7);
+        final HistogramAggregateState histogramState = HistogramAggregateState.restore(now, now.plusSeconds(5),
+                Map.of("service", "frontend"), new long[] {2, 1}, 3, 4.5, 0.5, 3.0, "minSpanId", "minTraceId", "maxSpanId", "maxTraceId");
+        final Map<Object, Object> groupState = new HashMap<>();
+        groupState.put("count", countState);
+        groupState.put("histogram", histogramState);
+
+        objectUnderTest.store(identificationKeysMap, new AggregateGroup(identificationKeysMap.getKeyMap(), now, groupState), now);
+        final Map<Object, Object> restoredGroupState = objectUnderTest.remove(identificationKeysMap).getGroupState();
+
+        final CountAggregateState restoredCountState = (CountAggregateState) restoredGroupState.get("count");
+        assertThat(restoredCountState.getStartTime(), equalTo(now));
+        assertThat(restoredCountState.getExemplarAttributes(), equalTo(Map.of("service", "frontend")));
+        assertThat(restoredCountState.getExemplarSpanId(), equalTo("spanId"));
+        assertThat(restoredCountState.getExemplarTraceId(), equalTo("traceId"));
+        assertThat(restoredCountState.getCount(), equalTo(7));
+        final HistogramAggregateState restoredHistogramState = (HistogramAggregateState) restoredGroupState.get("histogram");
+        assertThat(restoredHistogramState.getStartTime(), equalTo(now));
+        assertThat(restoredHistogramState.getEndTime(), equalTo(now.plusSeconds(5)));
+        assertThat(restoredHistogramState.getBucketCounts(), equalTo(new long[] {2, 1}));
+        assertThat(restoredHistogramState.getCount(), equalTo(3));
+        assertThat(restoredHistogramState.getSum(), equalTo(4.5));
+        assertThat(restoredHistogramState.getMin(), equalTo(0.5));
+        assertThat(restoredHistogramState.getMax(), equalTo(3.0));
+        assertThat(restoredHistogramState.getMinSpanId(), equalTo("minSpanId"));
+        assertThat(restoredHistogramState.getMaxTraceId(), equalTo("maxTraceId"));
+    }
+
+    @Test
+    void hashKey_returns_equal_hashes_for_equal_keys_only() {
+        final byte[] key = GroupStateCodec.encodeIdentificationKeys(Map.of("key", "value"));
+
+        assertThat(OffHeapGroupStateStore.hashKey(key), equalTo(OffHeapGroupStateStore.hashKey(key.clone())));
+        assertThat(OffHeapGroupStateStore.hashKey(key) == OffHeapGroupStateStore.hashKey(GroupStateCodec.encodeIdentificationKeys(Map.of("key", "other"))),
+                equalTo(false));
+    }
+
+    private static IdentificationKeysHasher.IdentificationKeysMap keysMap(final Object value) {
+        final Map<Object, Object> keyMap = new HashMap<>();
+        keyMap.put("key", value);
+        return new IdentificationKeysHasher.IdentificationKeysMap(keyMap);
+    }
+
+    private AggregateGroup groupWithState(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap, final String state) {
+        final Map<Object, Object> groupState = new HashMap<>();
+        groupState.put("state", state);
+        groupState.put("count", 3);
+        return new AggregateGroup(identificationKeysMap.getKeyMap(), now, groupState);
+    }
+}
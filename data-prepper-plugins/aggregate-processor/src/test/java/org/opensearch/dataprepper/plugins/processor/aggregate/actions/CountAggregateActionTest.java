@@ -10,6 +10,9 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.metric.JacksonMetric;
 import org.opensearch.dataprepper.model.metric.Exemplar;
+import org.opensearch.dataprepper.model.metric.JacksonSum;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith; 
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -18,9 +21,16 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInp
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionOutput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionTestUtils;
+import org.opensearch.dataprepper.plugins.processor.aggregate.GroupState;
+import org.opensearch.dataprepper.plugins.processor.aggregate.MergeableAggregateAction;
 
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -32,6 +42,8 @@ import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasKey;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class CountAggregateActionTest {
@@ -112,4 +124,104 @@ public class CountAggregateActionTest {
         List<Exemplar> exemplars = (List <Exemplar>)result.get(0).toMap().get("exemplars");
         assertThat(exemplars.size(), equalTo(1));
     }
+
+    @Test
+    void concludeGroup_creates_one_exemplar_per_group_from_the_first_event_of_the_group() {
+        countAggregateAction = createObjectUnderTest(new CountAggregateActionConfig());
+        final String spanId = UUID.randomUUID().toString();
+        final String traceId = UUID.randomUUID().toString();
+        final Map<String, Object> spanMap = Collections.singletonMap("spanKey", UUID.randomUUID().toString());
+        final Span span = mock(Span.class);
+        when(span.toMap()).thenReturn(spanMap);
+        when(span.getSpanId()).thenReturn(spanId);
+        when(span.getTraceId()).thenReturn(traceId);
+        final Event testEvent = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap("key", "value"))
+                .build();
+        final AggregateActionInput firstAggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(Collections.singletonMap("key", "first"));
+        final AggregateActionInput secondAggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(Collections.singletonMap("key", "second"));
+
+        countAggregateAction.handleEvent(span, firstAggregateActionInput);
+        countAggregateAction.handleEvent(testEvent, firstAggregateActionInput);
+        countAggregateAction.handleEvent(testEvent, secondAggregateActionInput);
+        countAggregateAction.handleEvent(span, secondAggregateActionInput);
+
+        final List<? extends Exemplar> firstExemplars = ((JacksonSum) countAggregateAction.concludeGroup(firstAggregateActionInput).getEvents().get(0)).getExemplars();
+        final List<? extends Exemplar> secondExemplars = ((JacksonSum) countAggregateAction.concludeGroup(secondAggregateActionInput).getEvents().get(0)).getExemplars();
+
+        assertThat(firstExemplars.size(), equalTo(1));
+        assertThat(firstExemplars.get(0).getSpanId(), equalTo(spanId));
+        assertThat(firstExemplars.get(0).getTraceId(), equalTo(traceId));
+        assertThat(firstExemplars.get(0).getAttributes(), equalTo(spanMap));
+        assertThat(secondExemplars.size(), equalTo(1));
+        assertThat(secondExemplars.get(0).getSpanId(), equalTo(null));
+        assertThat(secondExemplars.get(0).getAttributes(), equalTo(testEvent.toMap()));
+    }
+
+    @Test
+    void group_state_can_be_serialized_between_events() throws IOException, ClassNotFoundException, NoSuchFieldException, IllegalAccessException {
+        CountAggregateActionConfig countAggregateActionConfig = new CountAggregateActionConfig();
+        setField(CountAggregateActionConfig.class, countAggregateActionConfig, "outputFormat", OutputFormat.RAW.toString());
+        countAggregateAction = createObjectUnderTest(countAggregateActionConfig);
+        final Map<Object, Object> identificationKeys = Collections.singletonMap(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        final Event testEvent = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(identificationKeys)
+                .build();
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(identificationKeys);
+        countAggregateAction.handleEvent(testEvent, aggregateActionInput);
+
+        final AggregateActionInput restoredAggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(identificationKeys);
+        restoredAggregateActionInput.getGroupState().putAll(serializeAndDeserialize(aggregateActionInput.getGroupState()));
+        countAggregateAction.handleEvent(testEvent, restoredAggregateActionInput);
+
+        final Map<String, Object> result = countAggregateAction.concludeGroup(restoredAggregateActionInput).getEvents().get(0).toMap();
+        assertThat(result, hasEntry(CountAggregateActionConfig.DEFAULT_COUNT_KEY, 2));
+        identificationKeys.forEach((k, v) -> assertThat(result, hasEntry(k, v)));
+    }
+
+    @Test
+    void mergeGroupState_adds_the_counts_and_keeps_the_exemplar_of_the_partial_group_state_which_started_first() throws InterruptedException {
+        final MergeableAggregateAction objectUnderTest = (MergeableAggregateAction) createObjectUnderTest(new CountAggregateActionConfig());
+        final Map<Object, Object> identificationKeys = Collections.singletonMap("key", "value");
+        final Event firstEvent = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("key", "value", "order", "first"))
+                .build();
+        final Event secondEvent = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("key", "value", "order", "second"))
+                .build();
+        final AggregateActionInput firstAggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(identificationKeys);
+        final AggregateActionInput secondAggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(identificationKeys);
+        objectUnderTest.handleEvent(firstEvent, firstAggregateActionInput);
+        objectUnderTest.handleEvent(firstEvent, firstAggregateActionInput);
+        Thread.sleep(2);
+        objectUnderTest.handleEvent(secondEvent, secondAggregateActionInput);
+        final AggregateActionInput thirdAggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(identificationKeys);
+        Thread.sleep(2);
+        objectUnderTest.handleEvent(secondEvent, thirdAggregateActionInput);
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(identificationKeys);
+        final GroupState groupState = aggregateActionInput.getGroupState();
+
+        objectUnderTest.mergeGroupState(secondAggregateActionInput.getGroupState(), groupState);
+        objectUnderTest.mergeGroupState(firstAggregateActionInput.getGroupState(), groupState);
+        objectUnderTest.mergeGroupState(thirdAggregateActionInput.getGroupState(), groupState);
+
+        final JacksonSum sum = (JacksonSum) objectUnderTest.concludeGroup(aggregateActionInput).getEvents().get(0);
+        assertThat(sum.getValue(), equalTo(4.0));
+        assertThat(sum.getExemplars().size(), equalTo(1));
+        assertThat(sum.getExemplars().get(0).getAttributes(), equalTo(firstEvent.toMap()));
+    }
+
+    private static Map<Object, Object> serializeAndDeserialize(final Map<Object, Object> groupState) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(new HashMap<>(groupState));
+        }
+        try (final ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()))) {
+            return (Map<Object, Object>) objectInputStream.readObject();
+        }
+    }
 }
@@ -10,6 +10,9 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.metric.JacksonMetric;
 import org.opensearch.dataprepper.model.metric.Exemplar;
+import org.opensearch.dataprepper.model.metric.JacksonHistogram;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith; 
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -18,10 +21,12 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInp
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionOutput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionTestUtils;
+import org.opensearch.dataprepper.plugins.processor.aggregate.MergeableAggregateAction;
 
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.apache.commons.lang3.RandomStringUtils;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -35,6 +40,9 @@ import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class HistogramAggregateActionTests {
@@ -235,4 +243,118 @@ public class HistogramAggregateActionTests {
             }
         }
     }
+
+    @Test
+    void concludeGroup_without_recordMinMax_creates_min_and_max_exemplars_with_the_span_ids_of_the_min_and_max_events() throws NoSuchFieldException, IllegalAccessException {
+        HistogramAggregateActionConfig histogramAggregateActionConfig = new HistogramAggregateActionConfig();
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "buckets", List.of(0.0, 10.0));
+        final String testKey = RandomStringUtils.randomAlphabetic(10);
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "key", testKey);
+        histogramAggregateAction = createObjectUnderTest(histogramAggregateActionConfig);
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap());
+        final Span minSpan = createSpan(testKey, 1.0);
+        final Span maxSpan = createSpan(testKey, 20.0);
+        final Event testEvent = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap(testKey, 5))
+                .build();
+
+        histogramAggregateAction.handleEvent(testEvent, aggregateActionInput);
+        histogramAggregateAction.handleEvent(minSpan, aggregateActionInput);
+        histogramAggregateAction.handleEvent(maxSpan, aggregateActionInput);
+        histogramAggregateAction.handleEvent(testEvent, aggregateActionInput);
+
+        final JacksonHistogram histogram = (JacksonHistogram) histogramAggregateAction.concludeGroup(aggregateActionInput).getEvents().get(0);
+        assertThat(histogram.getCount(), equalTo(4L));
+        assertThat(histogram.getSum(), equalTo(31.0));
+        assertThat(histogram.getMin(), nullValue());
+        assertThat(histogram.getMax(), nullValue());
+        assertThat(histogram.getBucketCountsList(), equalTo(List.of(0L, 3L, 1L)));
+        final List<? extends Exemplar> exemplars = histogram.getExemplars();
+        assertThat(exemplars.size(), equalTo(2));
+        assertThat(exemplars.get(0).getValue(), equalTo(1.0));
+        assertThat(exemplars.get(0).getSpanId(), equalTo(minSpan.getSpanId()));
+        assertThat(exemplars.get(0).getTraceId(), equalTo(minSpan.getTraceId()));
+        assertThat(exemplars.get(0).getAttributes(), hasEntry("exemplarId", "min"));
+        assertThat(exemplars.get(0).getAttributes(), hasEntry(testKey, 5));
+        assertThat(exemplars.get(1).getValue(), equalTo(20.0));
+        assertThat(exemplars.get(1).getSpanId(), equalTo(maxSpan.getSpanId()));
+        assertThat(exemplars.get(1).getTraceId(), equalTo(maxSpan.getTraceId()));
+        assertThat(exemplars.get(1).getAttributes(), hasEntry("exemplarId", "max"));
+    }
+
+    @Test
+    void concludeGroup_with_a_non_span_event_after_a_span_clears_the_span_ids_of_the_exemplars() throws NoSuchFieldException, IllegalAccessException {
+        HistogramAggregateActionConfig histogramAggregateActionConfig = new HistogramAggregateActionConfig();
+        final String testKey = RandomStringUtils.randomAlphabetic(10);
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "buckets", List.of(0.0, 10.0));
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "key", testKey);
+        histogramAggregateAction = createObjectUnderTest(histogramAggregateActionConfig);
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap());
+
+        histogramAggregateAction.handleEvent(createSpan(testKey, 5.0), aggregateActionInput);
+        histogramAggregateAction.handleEvent(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap(testKey, 1))
+                .build(), aggregateActionInput);
+        histogramAggregateAction.handleEvent(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap(testKey, 9))
+                .build(), aggregateActionInput);
+
+        final List<? extends Exemplar> exemplars = ((JacksonHistogram) histogramAggregateAction.concludeGroup(aggregateActionInput).getEvents().get(0)).getExemplars();
+        assertThat(exemplars.get(0).getSpanId(), nullValue());
+        assertThat(exemplars.get(0).getTraceId(), nullValue());
+        assertThat(exemplars.get(1).getSpanId(), nullValue());
+        assertThat(exemplars.get(1).getTraceId(), nullValue());
+    }
+
+    @Test
+    void mergeGroupState_combines_the_partial_group_states() throws NoSuchFieldException, IllegalAccessException, InterruptedException {
+        HistogramAggregateActionConfig histogramAggregateActionConfig = new HistogramAggregateActionConfig();
+        final String testKey = RandomStringUtils.randomAlphabetic(10);
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "buckets", List.of(0.0, 10.0));
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "key", testKey);
+        setField(HistogramAggregateActionConfig.class, histogramAggregateActionConfig, "recordMinMax", true);
+        final MergeableAggregateAction objectUnderTest = (MergeableAggregateAction) createObjectUnderTest(histogramAggregateActionConfig);
+        final AggregateActionInput firstAggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap());
+        final AggregateActionInput secondAggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap());
+        final Span minSpan = createSpan(testKey, 1.0);
+        final Span maxSpan = createSpan(testKey, 20.0);
+        objectUnderTest.handleEvent(minSpan, secondAggregateActionInput);
+        final Instant afterFirstEvent = Instant.now();
+        Thread.sleep(2);
+        objectUnderTest.handleEvent(JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap(testKey, 5))
+                .build(), firstAggregateActionInput);
+        Thread.sleep(2);
+        final Instant beforeLastEvent = Instant.now();
+        objectUnderTest.handleEvent(maxSpan, secondAggregateActionInput);
+        final AggregateActionInput aggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap());
+
+        objectUnderTest.mergeGroupState(firstAggregateActionInput.getGroupState(), aggregateActionInput.getGroupState());
+        objectUnderTest.mergeGroupState(secondAggregateActionInput.getGroupState(), aggregateActionInput.getGroupState());
+
+        final JacksonHistogram histogram = (JacksonHistogram) objectUnderTest.concludeGroup(aggregateActionInput).getEvents().get(0);
+        assertThat(histogram.getCount(), equalTo(3L));
+        assertThat(histogram.getSum(), equalTo(26.0));
+        assertThat(histogram.getMin(), equalTo(1.0));
+        assertThat(histogram.getMax(), equalTo(20.0));
+        assertThat(histogram.getBucketCountsList(), equalTo(List.of(0L, 2L, 1L)));
+        assertThat(Instant.parse(histogram.getStartTime()).isAfter(afterFirstEvent), equalTo(false));
+        assertThat(Instant.parse(histogram.getTime()).isBefore(beforeLastEvent), equalTo(false));
+        final List<? extends Exemplar> exemplars = histogram.getExemplars();
+        assertThat(exemplars.get(0).getSpanId(), equalTo(minSpan.getSpanId()));
+        assertThat(exemplars.get(0).getAttributes(), not(hasKey(testKey)));
+        assertThat(exemplars.get(1).getSpanId(), equalTo(maxSpan.getSpanId()));
+    }
+
+    private static Span createSpan(final String key, final double value) {
+        final Span span = mock(Span.class);
+        when(span.get(key, Number.class)).thenReturn(value);
+        when(span.getSpanId()).thenReturn(RandomStringUtils.randomAlphabetic(16));
+        when(span.getTraceId()).thenReturn(RandomStringUtils.randomAlphabetic(32));
+        return span;
+    }
 }
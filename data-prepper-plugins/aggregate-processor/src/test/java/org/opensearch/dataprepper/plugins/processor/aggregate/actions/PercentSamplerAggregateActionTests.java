@@ -15,6 +15,9 @@ import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionInp
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionOutput;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionResponse;
 import org.opensearch.dataprepper.plugins.processor.aggregate.AggregateActionTestUtils;
+import org.opensearch.dataprepper.plugins.processor.aggregate.GroupState;
+import org.opensearch.dataprepper.plugins.processor.aggregate.MergeableAggregateAction;
+import org.junit.jupiter.api.Test;
 
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -74,4 +77,29 @@ public class PercentSamplerAggregateActionTests {
         assertTrue(result.isEmpty());
         assertThat(allowedEvents, equalTo((int)(totalEvents * testPercent/100.0)));
     }
+
+    @Test
+    void mergeGroupState_adds_the_totals_of_the_partial_group_states() {
+        when(percentSamplerAggregateActionConfig.getPercent()).thenReturn(50.0);
+        final MergeableAggregateAction objectUnderTest = (MergeableAggregateAction) createObjectUnderTest(percentSamplerAggregateActionConfig);
+        final Event testEvent = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap("key", "value"))
+                .build();
+        final AggregateActionInput firstAggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap());
+        final AggregateActionInput secondAggregateActionInput = new AggregateActionTestUtils.TestAggregateActionInput(Collections.emptyMap());
+        for (int i = 0; i < 4; i++) {
+            objectUnderTest.handleEvent(testEvent, firstAggregateActionInput);
+        }
+        for (int i = 0; i < 2; i++) {
+            objectUnderTest.handleEvent(testEvent, secondAggregateActionInput);
+        }
+        final GroupState groupState = new AggregateActionTestUtils.TestGroupState();
+
+        objectUnderTest.mergeGroupState(firstAggregateActionInput.getGroupState(), groupState);
+        objectUnderTest.mergeGroupState(secondAggregateActionInput.getGroupState(), groupState);
+
+        assertThat(groupState.get(PercentSamplerAggregateAction.TOTAL_EVENTS_KEY), equalTo(6L));
+        assertThat(groupState.get(PercentSamplerAggregateAction.TOTAL_ALLOWED_EVENTS_KEY), equalTo(3L));
+    }
 }
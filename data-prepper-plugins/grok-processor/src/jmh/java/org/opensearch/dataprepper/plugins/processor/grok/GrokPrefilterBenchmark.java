@@ -0,0 +1,113 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+import io.krakens.grok.api.GrokCompiler;
+import org.opensearch.dataprepper.plugins.source.loggenerator.ApacheLogFaker;
+import org.opensearch.dataprepper.plugins.source.loggenerator.CsvLogFaker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Measures matching one log line against the Apache, syslog and VPC flow log patterns with break_on_match, running
+ * either every pattern in order or only the candidates selected by the {@link GrokPrefilter}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GrokPrefilterBenchmark {
+    private static final int LINE_COUNT = 100;
+    private static final List<String> PATTERNS = Arrays.asList(
+            "%{COMMONAPACHELOG}",
+            "%{SYSLOGBASE} %{GREEDYDATA:message}",
+            "%{VPC_FLOW_LOG}");
+    // log-generator-source does not generate syslog lines
+    private static final List<String> SYSLOG_LINES = Arrays.asList(
+            "Oct 11 22:14:15 mymachine su[230]: 'su root' failed for lonvick on /dev/pts/8",
+            "Mar  3 09:01:44 web-01 sshd[4121]: Accepted publickey for admin from 10.0.4.17 port 52144 ssh2",
+            "Jun 27 17:45:02 db-02 CRON[9812]: (root) CMD (/usr/local/bin/backup.sh)",
+            "Dec  1 00:00:01 edge-03 kernel: [UFW BLOCK] IN=eth0 OUT= SRC=203.0.113.9 DST=10.0.0.5 PROTO=TCP");
+
+    @Param({"apache", "syslog", "vpc_flow"})
+    private String logType;
+
+    private GrokPrefilter grokPrefilter;
+    private List<String> lines;
+    private int lineIndex;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final GrokCompiler grokCompiler = GrokCompiler.newInstance();
+        grokCompiler.registerDefaultPatterns();
+        try (final InputStream inputStream = getClass().getClassLoader().getResourceAsStream("grok-patterns/patterns")) {
+            grokCompiler.register(inputStream);
+        }
+        final List<Grok> groks = PATTERNS.stream()
+                .map(pattern -> grokCompiler.compile(pattern, true))
+                .collect(Collectors.toList());
+        grokPrefilter = new GrokPrefilter(groks);
+
+        final ApacheLogFaker apacheLogFaker = new ApacheLogFaker();
+        final CsvLogFaker csvLogFaker = new CsvLogFaker();
+        lines = new ArrayList<>(LINE_COUNT);
+        for (int i = 0; i < LINE_COUNT; i++) {
+            switch (logType) {
+                case "apache":
+                    lines.add(apacheLogFaker.generateRandomCommonApacheLog());
+                    break;
+                case "syslog":
+                    lines.add(SYSLOG_LINES.get(i % SYSLOG_LINES.size()));
+                    break;
+                default:
+                    lines.add(csvLogFaker.generateRandomStandardVPCFlowLog());
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> matchEveryPattern() {
+        return matchFirst(grokPrefilter.getGroks(), nextLine());
+    }
+
+    @Benchmark
+    public Map<String, Object> matchPrefilteredPatterns() {
+        final String line = nextLine();
+        return matchFirst(grokPrefilter.getCandidates(line), line);
+    }
+
+    private String nextLine() {
+        lineIndex = (lineIndex + 1) % lines.size();
+        return lines.get(lineIndex);
+    }
+
+    private static Map<String, Object> matchFirst(final List<Grok> groks, final String line) {
+        for (final Grok grok : groks) {
+            final Map<String, Object> captures = grok.match(line).capture();
+            if (!captures.isEmpty()) {
+                return captures;
+            }
+        }
+        return Collections.emptyMap();
+    }
+}
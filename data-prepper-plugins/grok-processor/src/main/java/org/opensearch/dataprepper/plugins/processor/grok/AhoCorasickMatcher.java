@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * Finds which of a fixed set of literals occur in a text in a single pass over the text, using the Aho-Corasick
+ * automaton of the literals.
+ */
+final class AhoCorasickMatcher {
+    private static final int ROOT = 0;
+    private static final int NO_STATE = -1;
+
+    private final int literalCount;
+    private final char[][] transitionCharacters;
+    private final int[][] transitionStates;
+    private final int[] failureStates;
+    private final BitSet[] outputs;
+
+    /**
+     * @param literals the non-empty literals to find, identified by their index in this list
+     */
+    AhoCorasickMatcher(final List<String> literals) {
+        literalCount = literals.size();
+
+        final List<TreeMap<Character, Integer>> transitions = new ArrayList<>();
+        final List<BitSet> stateOutputs = new ArrayList<>();
+        transitions.add(new TreeMap<>());
+        stateOutputs.add(new BitSet());
+        for (int literalIndex = 0; literalIndex < literals.size(); literalIndex++) {
+            int state = ROOT;
+            for (final char character : literals.get(literalIndex).toCharArray()) {
+                Integer nextState = transitions.get(state).get(character);
+                if (nextState == null) {
+                    nextState = transitions.size();
+                    transitions.get(state).put(character, nextState);
+                    transitions.add(new TreeMap<>());
+                    stateOutputs.add(new BitSet());
+                }
+                state = nextState;
+            }
+            stateOutputs.get(state).set(literalIndex);
+        }
+
+        final int stateCount = transitions.size();
+        transitionCharacters = new char[stateCount][];
+        transitionStates = new int[stateCount][];
+        for (int state = 0; state < stateCount; state++) {
+            final TreeMap<Character, Integer> stateTransitions = transitions.get(state);
+            transitionCharacters[state] = new char[stateTransitions.size()];
+            transitionStates[state] = new int[stateTransitions.size()];
+            int index = 0;
+            for (final Map.Entry<Character, Integer> transition : stateTransitions.entrySet()) {
+                transitionCharacters[state][index] = transition.getKey();
+                transitionStates[state][index] = transition.getValue();
+                index++;
+            }
+        }
+
+        failureStates = new int[stateCount];
+        final Queue<Integer> statesToVisit = new ArrayDeque<>(transitions.get(ROOT).values());
+        while (!statesToVisit.isEmpty()) {
+            final int state = statesToVisit.remove();
+            for (final Map.Entry<Character, Integer> transition : transitions.get(state).entrySet()) {
+                final int childState = transition.getValue();
+                int failureState = failureStates[state];
+                int nextState = nextState(failureState, transition.getKey());
+                while (nextState == NO_STATE && failureState != ROOT) {
+                    failureState = failureStates[failureState];
+                    nextState = nextState(failureState, transition.getKey());
+                }
+                failureStates[childState] = nextState == NO_STATE ? ROOT : nextState;
+                stateOutputs.get(childState).or(stateOutputs.get(failureStates[childState]));
+                statesToVisit.add(childState);
+            }
+        }
+
+        outputs = new BitSet[stateCount];
+        for (int state = 0; state < stateCount; state++) {
+            outputs[state] = stateOutputs.get(state).isEmpty() ? null : stateOutputs.get(state);
+        }
+    }
+
+    /**
+     * @param text the text to search
+     * @return the indexes of the literals which occur in the text
+     */
+    BitSet findLiterals(final String text) {
+        final BitSet foundLiterals = new BitSet(literalCount);
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            final char character = text.charAt(i);
+            int nextState = nextState(state, character);
+            while (nextState == NO_STATE && state != ROOT) {
+                state = failureStates[state];
+                nextState = nextState(state, character);
+            }
+            state = nextState == NO_STATE ? ROOT : nextState;
+            if (outputs[state] != null) {
+                foundLiterals.or(outputs[state]);
+            }
+        }
+        return foundLiterals;
+    }
+
+    private int nextState(final int state, final char character) {
+        final int index = Arrays.binarySearch(transitionCharacters[state], character);
+        return index < 0 ? NO_STATE : transitionStates[state][index];
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Selects the compiled patterns of a key which can match a value, so that the other patterns are not run on it.
+ * <p>
+ * The literals which every match of each pattern must contain are extracted when the patterns are compiled. A value is
+ * scanned once for the literals of all patterns, and only the patterns whose literals were all found are candidates.
+ * Patterns without required literals are always candidates.
+ */
+class GrokPrefilter {
+    private final List<Grok> groks;
+    private final List<BitSet> requiredLiterals;
+    private final AhoCorasickMatcher ahoCorasickMatcher;
+
+    GrokPrefilter(final List<Grok> groks) {
+        this.groks = groks;
+        this.requiredLiterals = new ArrayList<>(groks.size());
+        final Map<String, Integer> literalToIndex = new LinkedHashMap<>();
+        for (final Grok grok : groks) {
+            final BitSet grokRequiredLiterals = new BitSet();
+            for (final String literal : RequiredLiteralExtractor.extractRequiredLiterals(grok.getNamedRegex())) {
+                Integer literalIndex = literalToIndex.get(literal);
+                if (literalIndex == null) {
+                    literalIndex = literalToIndex.size();
+                    literalToIndex.put(literal, literalIndex);
+                }
+                grokRequiredLiterals.set(literalIndex);
+            }
+            requiredLiterals.add(grokRequiredLiterals);
+        }
+        ahoCorasickMatcher = literalToIndex.isEmpty() ? null : new AhoCorasickMatcher(new ArrayList<>(literalToIndex.keySet()));
+    }
+
+    /**
+     * @param value the value to match
+     * @return the patterns which can match the value, in the order they were configured
+     */
+    List<Grok> getCandidates(final String value) {
+        if (ahoCorasickMatcher == null) {
+            return groks;
+        }
+        final BitSet foundLiterals = ahoCorasickMatcher.findLiterals(value);
+        final List<Grok> candidates = new ArrayList<>(groks.size());
+        for (int i = 0; i < groks.size(); i++) {
+            if (containsAll(foundLiterals, requiredLiterals.get(i))) {
+                candidates.add(groks.get(i));
+            }
+        }
+        return candidates;
+    }
+
+    List<Grok> getGroks() {
+        return groks;
+    }
+
+    private static boolean containsAll(final BitSet foundLiterals, final BitSet literals) {
+        for (int i = literals.nextSetBit(0); i >= 0; i = literals.nextSetBit(i + 1)) {
+            if (!foundLiterals.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -77,7 +77,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private final Timer grokProcessingTime;
 
     private final GrokCompiler grokCompiler;
-    private final Map<String, List<Grok>> fieldToGrok;
+    private final Map<String, GrokPrefilter> fieldToGrokPrefilter;
     private final GrokProcessorConfig grokProcessorConfig;
     private final Set<String> keysToOverwrite;
     private final ExecutorService executorService;
@@ -95,7 +95,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
         this.grokProcessorConfig = GrokProcessorConfig.buildConfig(pluginSetting);
         this.keysToOverwrite = new HashSet<>(grokProcessorConfig.getkeysToOverwrite());
         this.grokCompiler = grokCompiler;
-        this.fieldToGrok = new LinkedHashMap<>();
+        this.fieldToGrokPrefilter = new LinkedHashMap<>();
         this.executorService = executorService;
         this.expressionEvaluator = expressionEvaluator;
         this.tagsOnMatchFailure = grokProcessorConfig.getTagsOnMatchFailure();
@@ -222,29 +222,31 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
 
     private void compileMatchPatterns() {
         for (final Map.Entry<String, List<String>> entry : grokProcessorConfig.getMatch().entrySet()) {
-            fieldToGrok.put(entry.getKey(), entry.getValue()
-                            .stream()
-                            .map(item -> grokCompiler.compile(item, grokProcessorConfig.isNamedCapturesOnly()))
-                            .collect(Collectors.toList()));
+            final List<Grok> groks = entry.getValue()
+                    .stream()
+                    .map(item -> grokCompiler.compile(item, grokProcessorConfig.isNamedCapturesOnly()))
+                    .collect(Collectors.toList());
+            fieldToGrokPrefilter.put(entry.getKey(), new GrokPrefilter(groks));
         }
     }
 
     private void matchAndMerge(final Event event) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
 
-        for (final Map.Entry<String, List<Grok>> entry : fieldToGrok.entrySet()) {
-            for (final Grok grok : entry.getValue()) {
-                final String value = event.get(entry.getKey(), String.class);
-                if (value != null && !value.isEmpty()) {
-                    final Match match = grok.match(value);
-                    match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
+        for (final Map.Entry<String, GrokPrefilter> entry : fieldToGrokPrefilter.entrySet()) {
+            final String value = event.get(entry.getKey(), String.class);
+            if (value == null || value.isEmpty()) {
+                continue;
+            }
+            for (final Grok grok : entry.getValue().getCandidates(value)) {
+                final Match match = grok.match(value);
+                match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
 
-                    final Map<String, Object> captures = match.capture();
-                    mergeCaptures(grokkedCaptures, captures);
+                final Map<String, Object> captures = match.capture();
+                mergeCaptures(grokkedCaptures, captures);
 
-                    if (shouldBreakOnMatch(grokkedCaptures)) {
-                        break;
-                    }
+                if (shouldBreakOnMatch(grokkedCaptures)) {
+                    break;
                 }
             }
             if (shouldBreakOnMatch(grokkedCaptures)) {
@@ -0,0 +1,284 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Extracts the literal strings which every match of a regex must contain.
+ * <p>
+ * The analysis is conservative: only literals outside of alternations, optional groups and lookarounds are extracted,
+ * and no literals are extracted from regexes using constructs which are not understood, such as case-insensitive
+ * flags or quoting. A value which does not contain every extracted literal cannot match the regex.
+ */
+final class RequiredLiteralExtractor {
+    private static final String CHARACTER_CLASS_ESCAPES = "dDsSwWbBAGZzhHvVRX";
+
+    private enum Quantifier {
+        EXACTLY_ONCE,
+        OPTIONAL,
+        REPEATED
+    }
+
+    private static class UnsupportedRegexException extends RuntimeException {
+    }
+
+    private final String regex;
+    private int position;
+
+    private RequiredLiteralExtractor(final String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * @param regex the regex to analyze, may be null
+     * @return the distinct literals which every match of the regex contains, or an empty list if there are none or the
+     * regex could not be analyzed
+     */
+    static List<String> extractRequiredLiterals(final String regex) {
+        if (regex == null) {
+            return Collections.emptyList();
+        }
+        final RequiredLiteralExtractor requiredLiteralExtractor = new RequiredLiteralExtractor(regex);
+        try {
+            final List<String> literals = requiredLiteralExtractor.parseAlternation();
+            if (requiredLiteralExtractor.position != regex.length()) {
+                return Collections.emptyList();
+            }
+            return new ArrayList<>(new LinkedHashSet<>(literals));
+        } catch (final UnsupportedRegexException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    private List<String> parseAlternation() {
+        final List<String> literals = parseSequence();
+        if (!isAt('|')) {
+            return literals;
+        }
+        while (isAt('|')) {
+            position++;
+            parseSequence();
+        }
+        return Collections.emptyList();
+    }
+
+    private List<String> parseSequence() {
+        final List<String> literals = new ArrayList<>();
+        final StringBuilder run = new StringBuilder();
+        while (position < regex.length() && !isAt('|') && !isAt(')')) {
+            final char character = regex.charAt(position);
+            if (character == '(') {
+                endRun(run, literals);
+                final List<String> groupLiterals = parseGroup();
+                if (parseQuantifier() != Quantifier.OPTIONAL) {
+                    literals.addAll(groupLiterals);
+                }
+            } else if (character == '[') {
+                endRun(run, literals);
+                skipCharacterClass();
+                parseQuantifier();
+            } else if (character == '.' || character == '^' || character == '$') {
+                endRun(run, literals);
+                position++;
+                parseQuantifier();
+            } else if (character == '*' || character == '+' || character == '?' || character == '{') {
+                throw new UnsupportedRegexException();
+            } else if (character == '\\') {
+                final int literal = parseEscape();
+                if (literal < 0) {
+                    endRun(run, literals);
+                    parseQuantifier();
+                } else {
+                    appendLiteral((char) literal, run, literals);
+                }
+            } else {
+                position++;
+                appendLiteral(character, run, literals);
+            }
+        }
+        endRun(run, literals);
+        return literals;
+    }
+
+    private void appendLiteral(final char literal, final StringBuilder run, final List<String> literals) {
+        final Quantifier quantifier = parseQuantifier();
+        if (quantifier != Quantifier.OPTIONAL) {
+            run.append(literal);
+        }
+        if (quantifier != Quantifier.EXACTLY_ONCE) {
+            endRun(run, literals);
+        }
+    }
+
+    private static void endRun(final StringBuilder run, final List<String> literals) {
+        if (run.length() > 0) {
+            literals.add(run.toString());
+            run.setLength(0);
+        }
+    }
+
+    private List<String> parseGroup() {
+        position++;
+        boolean isLookaround = false;
+        if (isAt('?')) {
+            position++;
+            if (isAt(':') || isAt('>')) {
+                position++;
+            } else if (isAt('=') || isAt('!')) {
+                position++;
+                isLookaround = true;
+            } else if (isAt('<')) {
+                position++;
+                if (isAt('=') || isAt('!')) {
+                    position++;
+                    isLookaround = true;
+                } else {
+                    skipPast('>');
+                }
+            } else if (parseFlags()) {
+                return Collections.emptyList();
+            }
+        }
+        final List<String> literals = parseAlternation();
+        if (!isAt(')')) {
+            throw new UnsupportedRegexException();
+        }
+        position++;
+        return isLookaround ? Collections.emptyList() : literals;
+    }
+
+    /**
+     * Parses inline flags, and returns whether they were a standalone flag group such as {@code (?s)} rather than the
+     * start of a group such as {@code (?s:...)}.
+     */
+    private boolean parseFlags() {
+        while (position < regex.length() && !isAt(')') && !isAt(':')) {
+            final char flag = regex.charAt(position);
+            if (flag == 'i' || flag == 'x') {
+                throw new UnsupportedRegexException();
+            }
+            position++;
+        }
+        if (position == regex.length()) {
+            throw new UnsupportedRegexException();
+        }
+        final boolean isStandalone = isAt(')');
+        position++;
+        return isStandalone;
+    }
+
+    /**
+     * Parses an escape sequence, and returns the literal character it stands for, or -1 if it stands for a character
+     * class, a boundary or a back reference.
+     */
+    private int parseEscape() {
+        position++;
+        if (position == regex.length()) {
+            throw new UnsupportedRegexException();
+        }
+        final char escaped = regex.charAt(position++);
+        if (!Character.isLetterOrDigit(escaped)) {
+            return escaped;
+        }
+        if (CHARACTER_CLASS_ESCAPES.indexOf(escaped) >= 0) {
+            return -1;
+        }
+        if (escaped >= '1' && escaped <= '9') {
+            while (position < regex.length() && Character.isDigit(regex.charAt(position))) {
+                position++;
+            }
+            return -1;
+        }
+        switch (escaped) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case 'a':
+                return '\u0007';
+            case 'e':
+                return '\u001B';
+            default:
+                throw new UnsupportedRegexException();
+        }
+    }
+
+    private void skipCharacterClass() {
+        position++;
+        if (isAt('^')) {
+            position++;
+        }
+        if (isAt(']')) {
+            position++;
+        }
+        while (position < regex.length()) {
+            final char character = regex.charAt(position);
+            if (character == ']') {
+                position++;
+                return;
+            } else if (character == '[') {
+                skipCharacterClass();
+            } else if (character == '\\') {
+                if (position + 1 < regex.length() && regex.charAt(position + 1) == 'Q') {
+                    throw new UnsupportedRegexException();
+                }
+                position += 2;
+            } else {
+                position++;
+            }
+        }
+        throw new UnsupportedRegexException();
+    }
+
+    private Quantifier parseQuantifier() {
+        final Quantifier quantifier;
+        if (isAt('?') || isAt('*')) {
+            position++;
+            quantifier = Quantifier.OPTIONAL;
+        } else if (isAt('+')) {
+            position++;
+            quantifier = Quantifier.REPEATED;
+        } else if (isAt('{')) {
+            position++;
+            final int start = position;
+            while (position < regex.length() && Character.isDigit(regex.charAt(position))) {
+                position++;
+            }
+            if (position == start) {
+                throw new UnsupportedRegexException();
+            }
+            final boolean isOptional = regex.substring(start, position).chars().allMatch(digit -> digit == '0');
+            skipPast('}');
+            quantifier = isOptional ? Quantifier.OPTIONAL : Quantifier.REPEATED;
+        } else {
+            return Quantifier.EXACTLY_ONCE;
+        }
+        if (isAt('?') || isAt('+')) {
+            position++;
+        }
+        return quantifier;
+    }
+
+    private void skipPast(final char character) {
+        final int index = regex.indexOf(character, position);
+        if (index < 0) {
+            throw new UnsupportedRegexException();
+        }
+        position = index + 1;
+    }
+
+    private boolean isAt(final char character) {
+        return position < regex.length() && regex.charAt(position) == character;
+    }
+}
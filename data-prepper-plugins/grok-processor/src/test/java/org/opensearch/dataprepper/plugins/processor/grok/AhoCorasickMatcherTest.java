@@ -0,0 +1,46 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+class AhoCorasickMatcherTest {
+
+    @Test
+    void findLiterals_finds_overlapping_and_nested_literals() {
+        final AhoCorasickMatcher objectUnderTest = new AhoCorasickMatcher(Arrays.asList("he", "she", "his", "hers"));
+
+        assertThat(objectUnderTest.findLiterals("ushers"), equalTo(bitSetOf(0, 1, 3)));
+        assertThat(objectUnderTest.findLiterals("this"), equalTo(bitSetOf(2)));
+        assertThat(objectUnderTest.findLiterals("hhehis"), equalTo(bitSetOf(0, 2)));
+        assertThat(objectUnderTest.findLiterals("xyz"), equalTo(new BitSet()));
+        assertThat(objectUnderTest.findLiterals(""), equalTo(new BitSet()));
+    }
+
+    @Test
+    void findLiterals_finds_literals_of_apache_and_syslog_lines() {
+        final List<String> literals = Arrays.asList(" [", "] \"", " HTTP/", "]: ");
+        final AhoCorasickMatcher objectUnderTest = new AhoCorasickMatcher(literals);
+
+        assertThat(objectUnderTest.findLiterals("127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326"),
+                equalTo(bitSetOf(0, 1, 2)));
+        assertThat(objectUnderTest.findLiterals("Oct 11 22:14:15 mymachine su[230]: 'su root' failed for lonvick on /dev/pts/8"),
+                equalTo(bitSetOf(3)));
+    }
+
+    private static BitSet bitSetOf(final int... indexes) {
+        final BitSet bitSet = new BitSet();
+        Arrays.stream(indexes).forEach(bitSet::set);
+        return bitSet;
+    }
+}
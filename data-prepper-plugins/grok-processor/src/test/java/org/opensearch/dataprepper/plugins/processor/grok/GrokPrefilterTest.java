@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import io.krakens.grok.api.Grok;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GrokPrefilterTest {
+    private static final String APACHE_LINE = "127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326";
+    private static final String SYSLOG_LINE = "Oct 11 22:14:15 mymachine su[230]: 'su root' failed for lonvick on /dev/pts/8";
+
+    @Mock
+    private Grok apacheGrok;
+
+    @Mock
+    private Grok syslogGrok;
+
+    @Mock
+    private Grok unanalyzedGrok;
+
+    @Test
+    void getCandidates_returns_the_patterns_whose_required_literals_are_in_the_value_in_order() {
+        when(apacheGrok.getNamedRegex()).thenReturn("(?<name0>\\S+) \\S+ \\S+ \\[(?<name1>[^\\]]+)\\] \"(?<name2>\\w+) \\S+ HTTP/[\\d.]+\" \\d+ \\d+");
+        when(syslogGrok.getNamedRegex()).thenReturn("(?<name0>\\w+ +\\d+ [\\d:]+) (?<name1>\\S+) (?<name2>[^\\[]+)\\[\\d+\\]: (?<name3>.*)");
+        when(unanalyzedGrok.getNamedRegex()).thenReturn("(?i)get");
+        final GrokPrefilter objectUnderTest = new GrokPrefilter(Arrays.asList(unanalyzedGrok, apacheGrok, syslogGrok));
+
+        assertThat(objectUnderTest.getCandidates(APACHE_LINE), contains(unanalyzedGrok, apacheGrok));
+        assertThat(objectUnderTest.getCandidates(SYSLOG_LINE), contains(unanalyzedGrok, syslogGrok));
+        assertThat(objectUnderTest.getCandidates("no required literals"), contains(unanalyzedGrok));
+    }
+
+    @Test
+    void getCandidates_returns_no_patterns_when_no_required_literals_are_in_the_value() {
+        when(apacheGrok.getNamedRegex()).thenReturn("\\[(?<name0>[^\\]]+)\\]");
+        final GrokPrefilter objectUnderTest = new GrokPrefilter(Collections.singletonList(apacheGrok));
+
+        assertThat(objectUnderTest.getCandidates(SYSLOG_LINE.replace("[", "")), empty());
+    }
+
+    @Test
+    void getCandidates_returns_all_patterns_without_scanning_when_no_pattern_has_required_literals() {
+        final List<Grok> groks = Arrays.asList(apacheGrok, syslogGrok);
+        final GrokPrefilter objectUnderTest = new GrokPrefilter(groks);
+
+        assertThat(objectUnderTest.getCandidates(APACHE_LINE), sameInstance(groks));
+        assertThat(objectUnderTest.getGroks(), sameInstance(groks));
+    }
+}
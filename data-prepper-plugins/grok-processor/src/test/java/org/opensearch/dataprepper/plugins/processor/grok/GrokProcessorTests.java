@@ -49,6 +49,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -605,6 +606,32 @@ public class GrokProcessorTests {
             verify(grokProcessingTime, times(1)).record(any(Runnable.class));
             verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
         }
+        @Test
+        public void testBreakOnMatchFalse_does_not_match_pattern_missing_a_required_literal() throws JsonProcessingException {
+            pluginSetting.getSettings().put(GrokProcessorConfig.BREAK_ON_MATCH, false);
+            when(grokSecondMatch.getNamedRegex()).thenReturn("(?<name0>\\d+) not in the message");
+            grokProcessor = createObjectUnderTest();
+
+            capture.put("key_capture_1", "value_capture_1");
+
+            final Map<String, Object> testData = new HashMap();
+            testData.put("message", messageInput);
+            final Record<Event> record = buildRecordWithEvent(testData);
+
+            final Map<String, Object> resultData = new HashMap<>();
+            resultData.put("message", messageInput);
+            resultData.put("key_capture_1", "value_capture_1");
+
+            final Record<Event> resultRecord = buildRecordWithEvent(resultData);
+
+            final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
+
+            verify(grokSecondMatch, never()).match(any());
+            assertThat(grokkedRecords.size(), equalTo(1));
+            assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
+            verify(grokProcessingMatchCounter, times(1)).increment();
+            verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
+        }
     }
 
     private PluginSetting getDefaultPluginSetting() {
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class RequiredLiteralExtractorTest {
+
+    @ParameterizedTest
+    @MethodSource("getRegexAndRequiredLiterals")
+    void extractRequiredLiterals_returns_the_literals_required_by_the_regex(final String regex, final List<String> expectedLiterals) {
+        assertThat(RequiredLiteralExtractor.extractRequiredLiterals(regex), equalTo(expectedLiterals));
+    }
+
+    private static Stream<Arguments> getRegexAndRequiredLiterals() {
+        return Stream.of(
+                arguments("GET /index", Collections.singletonList("GET /index")),
+                arguments("a.b^c$d", Arrays.asList("a", "b", "c", "d")),
+                arguments("ab?c*d+e{0,2}f{2}g{1,}?h++", Arrays.asList("a", "d", "f", "g", "h")),
+                arguments("(?<name0>\\d+) \\[(?:\\w+)\\]", Arrays.asList(" [", "]")),
+                arguments("(?:abc)?x(?:def)*y(?:ghi)+z", Arrays.asList("x", "y", "ghi", "z")),
+                arguments("(?:a|b)c", Collections.singletonList("c")),
+                arguments("(?=ab)c(?!de)f(?<=gh)i(?<!jk)l", Arrays.asList("c", "f", "i", "l")),
+                arguments("(?>atomic)", Collections.singletonList("atomic")),
+                arguments("(?s)a(?m:b)", Arrays.asList("a", "b")),
+                arguments("[abc]d[^]e][a[b]]f[\\]]g", Arrays.asList("d", "f", "g")),
+                arguments("\\d\\s\\w\\bx\\.y\\\\z", Arrays.asList("x.y\\z")),
+                arguments("a\\tb\\nc\\rd\\fe\\af\\eg", Collections.singletonList("a\tb\nc\rd\fe\u0007f\u001Bg")),
+                arguments("(a)x\\1y\\12z", Arrays.asList("a", "x", "y", "z")),
+                arguments("HTTP/1\\.1 200", Collections.singletonList("HTTP/1.1 200")),
+                arguments("a b a b", Collections.singletonList("a b a b")),
+                arguments("ab(?:c)ab", Arrays.asList("ab", "c")),
+                arguments("abc|def", Collections.emptyList()),
+                arguments("", Collections.emptyList())
+        );
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "(?i)abc",
+            "(?x)a b",
+            "(?i:abc)",
+            "\\Qabc\\E",
+            "[\\Q]\\E]",
+            "\\x41",
+            "\\p{L}abc",
+            "*abc",
+            "a{b",
+            "a{1",
+            "(abc",
+            "abc)",
+            "[abc",
+            "(?",
+            "(?<name",
+            "abc\\"
+    })
+    void extractRequiredLiterals_returns_no_literals_for_unsupported_regexes(final String regex) {
+        assertThat(RequiredLiteralExtractor.extractRequiredLiterals(regex), empty());
+    }
+
+    @Test
+    void extractRequiredLiterals_returns_no_literals_for_null() {
+        assertThat(RequiredLiteralExtractor.extractRequiredLiterals(null), empty());
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.rest.RestStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Adjusts the bulk request size and the number of bulk requests in flight from the feedback of the OpenSearch cluster,
+ * using additive-increase/multiplicative-decrease (AIMD).
+ * <p>
+ * A bulk response is a congestion signal when its {@code took} time exceeds the target latency, when any of its items
+ * were rejected with a 429 status, or when the whole request was rejected with a 429 status. Each congestion signal
+ * multiplies both limits by {@link #DECREASE_FACTOR}. Responses to requests which were sent before the last decrease
+ * do not decrease the limits again, so that a single hot spot only backs off once. Every other response increases the
+ * concurrency limit by one per round of requests and the bulk size limit by a fixed step, up to the configured limits.
+ */
+class AdaptiveBulkController {
+    private static final Logger LOG = LoggerFactory.getLogger(AdaptiveBulkController.class);
+
+    static final String CONCURRENCY_LIMIT = "adaptiveBulkConcurrencyLimit";
+    static final String BULK_SIZE_LIMIT_BYTES = "adaptiveBulkSizeLimitBytes";
+    static final String LIMIT_DECREASES = "adaptiveBulkLimitDecreases";
+    static final double DECREASE_FACTOR = 0.7;
+    static final int BULK_SIZE_STEPS = 16;
+
+    private final int maxConcurrency;
+    private final long maxBulkSizeBytes;
+    private final long minBulkSizeBytes;
+    private final long bulkSizeIncrementBytes;
+    private final long targetLatencyMillis;
+    private final LongSupplier nanoTimeSupplier;
+    private final Counter limitDecreasesCounter;
+    private double concurrency;
+    private volatile int concurrencyLimit;
+    private volatile long bulkSizeLimitBytes;
+    private boolean decreased;
+    private long lastDecreaseNanos;
+
+    /**
+     * @param pluginMetrics       the plugin metrics
+     * @param maxConcurrency      the maximum number of bulk requests in flight
+     * @param maxBulkSizeBytes    the maximum bulk request size in bytes, or a negative value if the size is not limited
+     * @param targetLatencyMillis the {@code took} time above which the cluster is considered overloaded
+     */
+    AdaptiveBulkController(final PluginMetrics pluginMetrics,
+                           final int maxConcurrency,
+                           final long maxBulkSizeBytes,
+                           final long targetLatencyMillis) {
+        this(pluginMetrics, maxConcurrency, maxBulkSizeBytes, targetLatencyMillis, System::nanoTime);
+    }
+
+    AdaptiveBulkController(final PluginMetrics pluginMetrics,
+                           final int maxConcurrency,
+                           final long maxBulkSizeBytes,
+                           final long targetLatencyMillis,
+                           final LongSupplier nanoTimeSupplier) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+        }
+        this.maxConcurrency = maxConcurrency;
+        this.maxBulkSizeBytes = maxBulkSizeBytes;
+        this.minBulkSizeBytes = Math.max(1, maxBulkSizeBytes / BULK_SIZE_STEPS);
+        this.bulkSizeIncrementBytes = Math.max(1, maxBulkSizeBytes / BULK_SIZE_STEPS);
+        this.targetLatencyMillis = targetLatencyMillis;
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        this.concurrency = maxConcurrency;
+        this.concurrencyLimit = maxConcurrency;
+        this.bulkSizeLimitBytes = maxBulkSizeBytes;
+
+        pluginMetrics.gauge(CONCURRENCY_LIMIT, this, AdaptiveBulkController::getConcurrencyLimit);
+        pluginMetrics.gauge(BULK_SIZE_LIMIT_BYTES, this, AdaptiveBulkController::getBulkSizeLimitBytes);
+        limitDecreasesCounter = pluginMetrics.counter(LIMIT_DECREASES);
+    }
+
+    /**
+     * @return the current maximum number of bulk requests in flight
+     */
+    int getConcurrencyLimit() {
+        return concurrencyLimit;
+    }
+
+    /**
+     * @return the current maximum bulk request size in bytes, or a negative value if the size is not limited
+     */
+    long getBulkSizeLimitBytes() {
+        return bulkSizeLimitBytes;
+    }
+
+    /**
+     * @return the current time to pass as the start time of a bulk request
+     */
+    long startRequest() {
+        return nanoTimeSupplier.getAsLong();
+    }
+
+    /**
+     * Adjusts the limits from the response to a bulk request.
+     *
+     * @param requestStartNanos the value of {@link #startRequest()} when the request was sent
+     * @param bulkResponse      the bulk response
+     */
+    synchronized void onResponse(final long requestStartNanos, final BulkResponse bulkResponse) {
+        if (bulkResponse.took() > targetLatencyMillis || hasRejectedItems(bulkResponse)) {
+            decrease(requestStartNanos);
+        } else {
+            increase();
+        }
+    }
+
+    /**
+     * Adjusts the limits from a bulk request which failed. Only requests rejected with a 429 status decrease the limits.
+     *
+     * @param requestStartNanos the value of {@link #startRequest()} when the request was sent
+     * @param failure           the failure
+     */
+    synchronized void onFailure(final long requestStartNanos, final Exception failure) {
+        if (failure instanceof OpenSearchException &&
+                ((OpenSearchException) failure).status() == RestStatus.TOO_MANY_REQUESTS.getStatus()) {
+            decrease(requestStartNanos);
+        }
+    }
+
+    private static boolean hasRejectedItems(final BulkResponse bulkResponse) {
+        if (!bulkResponse.errors()) {
+            return false;
+        }
+        for (final BulkResponseItem item : bulkResponse.items()) {
+            if (item.status() == RestStatus.TOO_MANY_REQUESTS.getStatus()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void decrease(final long requestStartNanos) {
+        if (decreased && requestStartNanos - lastDecreaseNanos < 0) {
+            return;
+        }
+        decreased = true;
+        lastDecreaseNanos = nanoTimeSupplier.getAsLong();
+
+        concurrency = Math.max(1, concurrency * DECREASE_FACTOR);
+        concurrencyLimit = (int) concurrency;
+        if (maxBulkSizeBytes > 0) {
+            bulkSizeLimitBytes = Math.max(minBulkSizeBytes, (long) (bulkSizeLimitBytes * DECREASE_FACTOR));
+        }
+        limitDecreasesCounter.increment();
+        LOG.debug("OpenSearch cluster is overloaded. Decreased bulk limits to {} requests in flight and {} bytes per request.",
+                concurrencyLimit, bulkSizeLimitBytes);
+    }
+
+    private void increase() {
+        concurrency = Math.min(maxConcurrency, concurrency + 1.0 / concurrency);
+        concurrencyLimit = (int) concurrency;
+        if (maxBulkSizeBytes > 0) {
+            bulkSizeLimitBytes = Math.min(maxBulkSizeBytes, bulkSizeLimitBytes + bulkSizeIncrementBytes);
+        }
+    }
+}
@@ -25,6 +25,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.time.Duration;
@@ -182,7 +186,7 @@ public final class BulkRetryStrategy {
     }
 
     public void execute(final AccumulatingBulkRequest bulkRequest) throws InterruptedException {
-        final Backoff backoff = Backoff.exponential(INITIAL_DELAY_MS, MAXIMUM_DELAY_MS).withMaxAttempts(maxRetries);
+        final Backoff backoff = createBackoff();
         BulkOperationRequestResponse operationResponse;
         BulkResponse response = null;
         AccumulatingBulkRequest request = bulkRequest;
@@ -194,8 +198,7 @@ public final class BulkRetryStrategy {
                 request = operationResponse.getBulkRequest();
                 response = operationResponse.getResponse();
                 if (delayMillis < 0) {
-                    RuntimeException e = new RuntimeException(String.format("Number of retries reached the limit of max retries (configured value %d)", maxRetries));
-                    handleFailures(request, null, e);
+                    handleMaxRetriesReached(request);
                     break;
                 }
                 // Wait for backOff duration
@@ -208,6 +211,70 @@ public final class BulkRetryStrategy {
         } while (operationResponse != null);
     }
 
+    /**
+     * Executes the bulk request on the scheduler, retrying in the same way as {@link #execute(AccumulatingBulkRequest)}.
+     * Instead of sleeping between attempts, each retry is scheduled after the backoff delay so that no thread is held
+     * while waiting.
+     *
+     * @param bulkRequest the bulk request
+     * @param scheduler   the scheduler to send the requests and retries on
+     * @return a future which completes when the request and its retries have succeeded or failed
+     */
+    public CompletableFuture<Void> executeAsync(final AccumulatingBulkRequest bulkRequest, final ScheduledExecutorService scheduler) {
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        final Backoff backoff = createBackoff();
+        try {
+            scheduler.execute(() -> attemptAsync(bulkRequest, null, 1, backoff, scheduler, completion));
+        } catch (final RejectedExecutionException e) {
+            handleFailures(bulkRequest, null, e);
+            bulkRequest.release();
+            completion.complete(null);
+        }
+        return completion;
+    }
+
+    private void attemptAsync(final AccumulatingBulkRequest request,
+                              final BulkResponse response,
+                              final int attempt,
+                              final Backoff backoff,
+                              final ScheduledExecutorService scheduler,
+                              final CompletableFuture<Void> completion) {
+        try {
+            final BulkOperationRequestResponse operationResponse = handleRetry(request, response, attempt);
+            if (operationResponse == null) {
+                completion.complete(null);
+                return;
+            }
+            final long delayMillis = backoff.nextDelayMillis(attempt);
+            if (delayMillis < 0) {
+                handleMaxRetriesReached(operationResponse.getBulkRequest());
+                completion.complete(null);
+                return;
+            }
+            try {
+                scheduler.schedule(() -> attemptAsync(operationResponse.getBulkRequest(), operationResponse.getResponse(),
+                        attempt + 1, backoff, scheduler, completion), delayMillis, TimeUnit.MILLISECONDS);
+            } catch (final RejectedExecutionException e) {
+                LOG.error("Unable to schedule a retry of the bulk request because the sink is shutting down.");
+                handleFailures(operationResponse.getBulkRequest(), null, e);
+                operationResponse.getBulkRequest().release();
+                completion.complete(null);
+            }
+        } catch (final Exception e) {
+            completion.completeExceptionally(e);
+        }
+    }
+
+    private Backoff createBackoff() {
+        return Backoff.exponential(INITIAL_DELAY_MS, MAXIMUM_DELAY_MS).withMaxAttempts(maxRetries);
+    }
+
+    private void handleMaxRetriesReached(final AccumulatingBulkRequest request) {
+        RuntimeException e = new RuntimeException(String.format("Number of retries reached the limit of max retries (configured value %d)", maxRetries));
+        handleFailures(request, null, e);
+        request.release();
+    }
+
     public boolean canRetry(final BulkResponse response) {
         for (final BulkResponseItem bulkItemResponse : response.items()) {
             if (bulkItemResponse.error() != null && !NON_RETRY_STATUS.contains(bulkItemResponse.status())) {
@@ -258,6 +325,17 @@ public final class BulkRetryStrategy {
 
     private BulkOperationRequestResponse handleRetry(final AccumulatingBulkRequest request, final BulkResponse response, int retryCount) throws InterruptedException {
         final AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> bulkRequestForRetry = createBulkRequestForRetry(request, response);
+        if (bulkRequestForRetry != request) {
+            request.release();
+        }
+        final BulkOperationRequestResponse operationResponse = sendBulkRequest(bulkRequestForRetry, retryCount);
+        if (operationResponse == null) {
+            bulkRequestForRetry.release();
+        }
+        return operationResponse;
+    }
+
+    private BulkOperationRequestResponse sendBulkRequest(final AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> bulkRequestForRetry, final int retryCount) throws InterruptedException {
         if (bulkRequestForRetry.getOperationsCount() == 0) {
             return null;
         }
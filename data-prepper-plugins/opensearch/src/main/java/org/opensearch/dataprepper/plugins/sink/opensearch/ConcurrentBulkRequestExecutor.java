@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.AccumulatingBulkRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+
+/**
+ * Sends bulk requests concurrently through {@link BulkRetryStrategy#executeAsync(AccumulatingBulkRequest, ScheduledExecutorService)}.
+ * The number of bulk requests in flight and their total size are bounded. When either limit is reached,
+ * {@link #submit(AccumulatingBulkRequest)} blocks the sink until earlier requests complete. A bulk request is in
+ * flight until it and all of its retries have succeeded or failed. The maximum number of requests in flight may change
+ * between requests, for example when it is adjusted by an {@link AdaptiveBulkController}.
+ */
+class ConcurrentBulkRequestExecutor {
+    private static final Logger LOG = LoggerFactory.getLogger(ConcurrentBulkRequestExecutor.class);
+
+    private final BulkRetryStrategy bulkRetryStrategy;
+    private final ScheduledExecutorService scheduler;
+    private final IntSupplier maxInFlightRequestsSupplier;
+    private final long maxInFlightBytes;
+    private final ReentrantLock lock;
+    private final Condition inFlightCompleted;
+    private int inFlightRequests;
+    private long inFlightBytes;
+
+    ConcurrentBulkRequestExecutor(final BulkRetryStrategy bulkRetryStrategy,
+                                  final ScheduledExecutorService scheduler,
+                                  final int maxInFlightRequests,
+                                  final long maxInFlightBytes) {
+        this(bulkRetryStrategy, scheduler, validateMaxInFlightRequests(maxInFlightRequests), maxInFlightBytes);
+    }
+
+    /**
+     * @param bulkRetryStrategy           the retry strategy to send requests with
+     * @param scheduler                   the scheduler to send requests and retries on
+     * @param maxInFlightRequestsSupplier supplies the current maximum number of requests in flight. Values below 1 are
+     *                                    treated as 1.
+     * @param maxInFlightBytes            the maximum total size of the requests in flight
+     */
+    ConcurrentBulkRequestExecutor(final BulkRetryStrategy bulkRetryStrategy,
+                                  final ScheduledExecutorService scheduler,
+                                  final IntSupplier maxInFlightRequestsSupplier,
+                                  final long maxInFlightBytes) {
+        this.bulkRetryStrategy = bulkRetryStrategy;
+        this.scheduler = scheduler;
+        this.maxInFlightRequestsSupplier = maxInFlightRequestsSupplier;
+        this.maxInFlightBytes = maxInFlightBytes;
+        this.lock = new ReentrantLock();
+        this.inFlightCompleted = lock.newCondition();
+    }
+
+    /**
+     * Sends the bulk request once it fits within the in-flight limits. A request which is larger than the byte limit
+     * on its own is sent once no other requests are in flight.
+     *
+     * @param bulkRequest the bulk request to send
+     * @return a future which completes when the request and its retries have succeeded or failed
+     * @throws InterruptedException if interrupted while waiting for earlier requests to complete
+     */
+    CompletableFuture<Void> submit(final AccumulatingBulkRequest bulkRequest) throws InterruptedException {
+        final long requestBytes = bulkRequest.getEstimatedSizeInBytes();
+        acquire(requestBytes);
+
+        final CompletableFuture<Void> completion;
+        try {
+            completion = bulkRetryStrategy.executeAsync(bulkRequest, scheduler);
+        } catch (final RuntimeException e) {
+            release(requestBytes);
+            throw e;
+        }
+        return completion.whenComplete((result, failure) -> release(requestBytes));
+    }
+
+    int getInFlightRequests() {
+        lock.lock();
+        try {
+            return inFlightRequests;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getInFlightBytes() {
+        lock.lock();
+        try {
+            return inFlightBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting retries and waits for the bulk requests in flight to complete.
+     *
+     * @param timeout the maximum time to wait
+     */
+    void shutdown(final Duration timeout) {
+        scheduler.shutdown();
+        try {
+            if (!scheduler.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                LOG.warn("Bulk requests were still in flight after waiting {} for them to complete.", timeout);
+                scheduler.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            scheduler.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void acquire(final long requestBytes) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (inFlightRequests >= Math.max(1, maxInFlightRequestsSupplier.getAsInt())
+                    || (inFlightRequests > 0 && inFlightBytes + requestBytes > maxInFlightBytes)) {
+                inFlightCompleted.await();
+            }
+            inFlightRequests++;
+            inFlightBytes += requestBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static IntSupplier validateMaxInFlightRequests(final int maxInFlightRequests) {
+        if (maxInFlightRequests <= 0) {
+            throw new IllegalArgumentException("maxInFlightRequests must be greater than 0");
+        }
+        return () -> maxInFlightRequests;
+    }
+
+    private void release(final long requestBytes) {
+        lock.lock();
+        try {
+            inFlightRequests--;
+            inFlightBytes -= requestBytes;
+            inFlightCompleted.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.sink.opensearch;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Timer;
@@ -13,6 +14,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
 import org.opensearch.client.opensearch.core.bulk.BulkOperation;
 import org.opensearch.client.opensearch.core.bulk.CreateOperation;
 import org.opensearch.client.opensearch.core.bulk.IndexOperation;
@@ -41,13 +43,16 @@ import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.AccumulatingBulkR
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkApiWrapper;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkApiWrapperFactory;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkAction;
-import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkOperationWriter;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkRequestBodyPool;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.JavaClientAccumulatingCompressedBulkRequest;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.JavaClientAccumulatingUncompressedBulkRequest;
 import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.SerializedJson;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.StreamingBulkClient;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.StreamingBulkRequest;
 import org.opensearch.dataprepper.plugins.sink.opensearch.dlq.FailedBulkOperation;
 import org.opensearch.dataprepper.plugins.sink.opensearch.dlq.FailedBulkOperationConverter;
 import org.opensearch.dataprepper.plugins.sink.opensearch.dlq.FailedDlqData;
+import org.opensearch.dataprepper.plugins.sink.opensearch.dlq.FailedDlqObjectsWriter;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.ClusterSettingsParser;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.DocumentBuilder;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexManager;
@@ -64,6 +69,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -71,12 +77,13 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
-import static org.opensearch.dataprepper.logging.DataPrepperMarkers.SENSITIVE;
-
 @DataPrepperPlugin(name = "opensearch", pluginType = Sink.class)
 public class OpenSearchSink extends AbstractSink<Record<Event>> {
   public static final String BULKREQUEST_LATENCY = "bulkRequestLatency";
@@ -86,10 +93,16 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
 
   private static final Logger LOG = LoggerFactory.getLogger(OpenSearchSink.class);
   private static final int INITIALIZE_RETRY_WAIT_TIME_MS = 5000;
+  private static final String BULK_FILTER_PATH = "errors,took,items.*.error,items.*.status,items.*._index,items.*._id";
+  private static final int MAX_POOLED_BULK_REQUEST_BODIES = 8;
+  private static final int MAX_INITIAL_BULK_REQUEST_BODY_CAPACITY = 16 * 1024 * 1024;
+  private static final int DEFAULT_INITIAL_BULK_REQUEST_BODY_CAPACITY = 1024 * 1024;
+  private static final Duration IN_FLIGHT_BULK_REQUESTS_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
   private final AwsCredentialsSupplier awsCredentialsSupplier;
 
   private DlqWriter dlqWriter;
   private BufferedWriter dlqFileWriter;
+  private FailedDlqObjectsWriter failedDlqObjectsWriter;
   private final OpenSearchSinkConfiguration openSearchSinkConfig;
   private final IndexManagerFactory indexManagerFactory;
   private RestHighLevelClient restHighLevelClient;
@@ -97,6 +110,9 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   private Supplier<AccumulatingBulkRequest> bulkRequestSupplier;
   private BulkRetryStrategy bulkRetryStrategy;
   private BulkApiWrapper bulkApiWrapper;
+  private StreamingBulkClient streamingBulkClient;
+  private ConcurrentBulkRequestExecutor concurrentBulkRequestExecutor;
+  private AdaptiveBulkController adaptiveBulkController;
   private final long bulkSize;
   private final long flushTimeout;
   private final IndexType indexType;
@@ -207,11 +223,23 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
           .add(pluginSetting.getName()).toString());
       dlqWriter = potentialDlq.isPresent() ? potentialDlq.get() : null;
     }
+    failedDlqObjectsWriter = new FailedDlqObjectsWriter(dlqFileWriter, dlqWriter,
+            pluginSetting.getPipelineName(), pluginSetting.getName());
     indexManager.setupIndex();
 
     final boolean isEstimateBulkSizeUsingCompression = openSearchSinkConfig.getIndexConfiguration().isEstimateBulkSizeUsingCompression();
     final boolean isRequestCompressionEnabled = openSearchSinkConfig.getConnectionConfiguration().isRequestCompressionEnabled();
-    if (isEstimateBulkSizeUsingCompression && isRequestCompressionEnabled) {
+    boolean isStreamingBulkSerialization = openSearchSinkConfig.getIndexConfiguration().isStreamingBulkSerialization();
+    if (isStreamingBulkSerialization && openSearchSinkConfig.getConnectionConfiguration().isServerless()) {
+      LOG.warn("Streaming bulk serialization is not supported for Amazon OpenSearch Serverless. Using the OpenSearch client for bulk requests.");
+      isStreamingBulkSerialization = false;
+    }
+    if (isStreamingBulkSerialization) {
+      final BulkRequestBodyPool bulkRequestBodyPool = new BulkRequestBodyPool(MAX_POOLED_BULK_REQUEST_BODIES, getInitialBulkRequestBodyCapacity());
+      bulkRequestSupplier = () -> new StreamingBulkRequest(bulkRequestBodyPool, isRequestCompressionEnabled);
+      streamingBulkClient = new StreamingBulkClient(restHighLevelClient.getLowLevelClient(),
+              DistributionVersion.ES6.equals(openSearchSinkConfig.getIndexConfiguration().getDistributionVersion()), BULK_FILTER_PATH);
+    } else if (isEstimateBulkSizeUsingCompression && isRequestCompressionEnabled) {
       final int maxLocalCompressionsForEstimation = openSearchSinkConfig.getIndexConfiguration().getMaxLocalCompressionsForEstimation();
       bulkRequestSupplier = () -> new JavaClientAccumulatingCompressedBulkRequest(new BulkRequest.Builder(), bulkSize, maxLocalCompressionsForEstimation);
     } else if (isEstimateBulkSizeUsingCompression) {
@@ -225,22 +253,82 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     final int maxRetries = openSearchSinkConfig.getRetryConfiguration().getMaxRetries();
     final OpenSearchClient filteringOpenSearchClient = openSearchClient.withTransportOptions(
             TransportOptions.builder()
-                    .setParameter("filter_path", "errors,took,items.*.error,items.*.status,items.*._index,items.*._id")
+                    .setParameter("filter_path", BULK_FILTER_PATH)
                     .build());
     bulkApiWrapper = BulkApiWrapperFactory.getWrapper(openSearchSinkConfig.getIndexConfiguration(), filteringOpenSearchClient);
     bulkRetryStrategy = new BulkRetryStrategy(
-            bulkRequest -> bulkApiWrapper.bulk(bulkRequest.getRequest()),
+            this::sendBulkRequest,
             this::logFailureForBulkRequests,
             pluginMetrics,
             maxRetries,
             bulkRequestSupplier,
             pluginSetting);
 
+    final int maxInFlightBulkRequests = openSearchSinkConfig.getIndexConfiguration().getMaxInFlightBulkRequests();
+    if (openSearchSinkConfig.getIndexConfiguration().isAdaptiveBulkControl()) {
+      adaptiveBulkController = new AdaptiveBulkController(pluginMetrics, maxInFlightBulkRequests, bulkSize,
+              openSearchSinkConfig.getIndexConfiguration().getAdaptiveBulkTargetLatency());
+    }
+    if (maxInFlightBulkRequests > 1) {
+      final ScheduledExecutorService bulkRequestScheduler = Executors.newScheduledThreadPool(maxInFlightBulkRequests,
+              new ThreadFactoryBuilder().setDaemon(true).setNameFormat("opensearch-sink-bulk-%d").build());
+      final long maxInFlightBulkBytes = getMaxInFlightBulkBytes(maxInFlightBulkRequests);
+      concurrentBulkRequestExecutor = adaptiveBulkController != null
+              ? new ConcurrentBulkRequestExecutor(bulkRetryStrategy, bulkRequestScheduler,
+                      adaptiveBulkController::getConcurrencyLimit, maxInFlightBulkBytes)
+              : new ConcurrentBulkRequestExecutor(bulkRetryStrategy, bulkRequestScheduler,
+                      maxInFlightBulkRequests, maxInFlightBulkBytes);
+    }
+
     objectMapper = new ObjectMapper();
     this.initialized = true;
     LOG.info("Initialized OpenSearch sink");
   }
 
+  private long getMaxInFlightBulkBytes(final int maxInFlightBulkRequests) {
+    final long maxInFlightBulkSize = openSearchSinkConfig.getIndexConfiguration().getMaxInFlightBulkSize();
+    if (maxInFlightBulkSize >= 0) {
+      return ByteSizeUnit.MB.toBytes(maxInFlightBulkSize);
+    }
+    if (bulkSize < 0) {
+      return Long.MAX_VALUE;
+    }
+    return bulkSize * maxInFlightBulkRequests;
+  }
+
+  private long getBulkSizeLimit() {
+    return adaptiveBulkController != null ? adaptiveBulkController.getBulkSizeLimitBytes() : bulkSize;
+  }
+
+  private int getInitialBulkRequestBodyCapacity() {
+    if (bulkSize <= 0) {
+      return DEFAULT_INITIAL_BULK_REQUEST_BODY_CAPACITY;
+    }
+    return (int) Math.min(bulkSize, MAX_INITIAL_BULK_REQUEST_BODY_CAPACITY);
+  }
+
+  private BulkResponse sendBulkRequest(final AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> bulkRequest) throws Exception {
+    if (adaptiveBulkController == null) {
+      return doSendBulkRequest(bulkRequest);
+    }
+    final long requestStartNanos = adaptiveBulkController.startRequest();
+    try {
+      final BulkResponse bulkResponse = doSendBulkRequest(bulkRequest);
+      adaptiveBulkController.onResponse(requestStartNanos, bulkResponse);
+      return bulkResponse;
+    } catch (final Exception e) {
+      adaptiveBulkController.onFailure(requestStartNanos, e);
+      throw e;
+    }
+  }
+
+  private BulkResponse doSendBulkRequest(final AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> bulkRequest) throws Exception {
+    if (bulkRequest instanceof StreamingBulkRequest) {
+      return streamingBulkClient.bulk((StreamingBulkRequest) bulkRequest);
+    }
+    return bulkApiWrapper.bulk(bulkRequest.getRequest());
+  }
+
   @Override
   public boolean isReady() {
     return initialized;
@@ -314,7 +402,8 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
 
       BulkOperationWrapper bulkOperationWrapper = new BulkOperationWrapper(bulkOperation, event.getEventHandle());
       final long estimatedBytesBeforeAdd = bulkRequest.estimateSizeInBytesWithDocument(bulkOperationWrapper);
-      if (bulkSize >= 0 && estimatedBytesBeforeAdd >= bulkSize && bulkRequest.getOperationsCount() > 0) {
+      final long bulkSizeLimit = getBulkSizeLimit();
+      if (bulkSizeLimit >= 0 && estimatedBytesBeforeAdd >= bulkSizeLimit && bulkRequest.getOperationsCount() > 0) {
         flushBatch(bulkRequest);
         lastFlushTime = System.currentTimeMillis();
         bulkRequest = bulkRequestSupplier.get();
@@ -355,6 +444,10 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   }
 
   private void flushBatch(AccumulatingBulkRequest accumulatingBulkRequest) {
+    if (concurrentBulkRequestExecutor != null) {
+      flushBatchConcurrently(accumulatingBulkRequest);
+      return;
+    }
     bulkRequestTimer.record(() -> {
       try {
         LOG.debug("Sending data to OpenSearch");
@@ -368,6 +461,27 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
     });
   }
 
+  private void flushBatchConcurrently(final AccumulatingBulkRequest accumulatingBulkRequest) {
+    final long bulkRequestSizeBytes = accumulatingBulkRequest.getEstimatedSizeInBytes();
+    try {
+      LOG.debug("Sending data to OpenSearch");
+      final long startNanos = System.nanoTime();
+      concurrentBulkRequestExecutor.submit(accumulatingBulkRequest)
+              .whenComplete((result, failure) -> {
+                bulkRequestTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                bulkRequestSizeBytesSummary.record(bulkRequestSizeBytes);
+                if (failure != null) {
+                  LOG.error("Unexpected failure sending a bulk request to OpenSearch.", failure);
+                  bulkRequestErrorsCounter.increment();
+                }
+              });
+    } catch (final InterruptedException e) {
+      LOG.error("Unexpected Interrupt:", e);
+      bulkRequestErrorsCounter.increment();
+      Thread.currentThread().interrupt();
+    }
+  }
+
   private void logFailureForBulkRequests(final List<FailedBulkOperation> failedBulkOperations, final Throwable failure) {
 
     final List<DlqObject> dlqObjects = failedBulkOperations.stream()
@@ -378,37 +492,7 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   }
 
   private void logFailureForDlqObjects(final List<DlqObject> dlqObjects, final Throwable failure) {
-    if (dlqFileWriter != null) {
-      dlqObjects.forEach(dlqObject -> {
-        final FailedDlqData failedDlqData = (FailedDlqData) dlqObject.getFailedData();
-        final String message = failure == null ? failedDlqData.getMessage() : failure.getMessage();
-        try {
-          dlqFileWriter.write(String.format("{\"Document\": [%s], \"failure\": %s}\n",
-                  BulkOperationWriter.dlqObjectToString(dlqObject), message));
-          dlqObject.releaseEventHandle(true);
-        } catch (final IOException e) {
-          LOG.error(SENSITIVE, "DLQ failure for Document[{}]", dlqObject.getFailedData(), e);
-          dlqObject.releaseEventHandle(false);
-        }
-      });
-    } else if (dlqWriter != null) {
-      try {
-        dlqWriter.write(dlqObjects, pluginSetting.getPipelineName(), pluginSetting.getName());
-        dlqObjects.forEach((dlqObject) -> {
-          dlqObject.releaseEventHandle(true);
-        });
-      } catch (final IOException e) {
-        dlqObjects.forEach(dlqObject -> {
-          LOG.error(SENSITIVE, "DLQ failure for Document[{}]", dlqObject.getFailedData(), e);
-          dlqObject.releaseEventHandle(false);
-        });
-      }
-    } else {
-      dlqObjects.forEach(dlqObject -> {
-        LOG.warn(SENSITIVE, "Document [{}] has failure. DLQ not configured", dlqObject.getFailedData(), failure);
-        dlqObject.releaseEventHandle(false);
-      });
-    }
+    failedDlqObjectsWriter.write(dlqObjects, failure);
   }
 
   private void closeFiles() {
@@ -439,6 +523,9 @@ public class OpenSearchSink extends AbstractSink<Record<Event>> {
   @Override
   public void shutdown() {
     super.shutdown();
+    if (concurrentBulkRequestExecutor != null) {
+      concurrentBulkRequestExecutor.shutdown(IN_FLIGHT_BULK_REQUESTS_SHUTDOWN_TIMEOUT);
+    }
     closeFiles();
   }
 }
@@ -27,4 +27,10 @@ public interface AccumulatingBulkRequest<O, R> {
     List<O> getOperations();
 
     R getRequest();
+
+    /**
+     * Releases any resources held by this request. This is called once the request will no longer be sent.
+     */
+    default void release() {
+    }
 }
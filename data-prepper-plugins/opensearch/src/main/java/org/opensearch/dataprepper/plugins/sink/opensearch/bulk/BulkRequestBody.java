@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A growable byte buffer which holds the body of a {@link StreamingBulkRequest}. Unlike
+ * {@link java.io.ByteArrayOutputStream}, it is not synchronized and it exposes the underlying buffer so that the
+ * body can be sent without copying it.
+ */
+class BulkRequestBody extends OutputStream {
+    private byte[] buffer;
+    private int size;
+
+    BulkRequestBody(final int initialCapacity) {
+        buffer = new byte[Math.max(initialCapacity, 1)];
+    }
+
+    @Override
+    public void write(final int b) {
+        ensureCapacity(size + 1);
+        buffer[size++] = (byte) b;
+    }
+
+    @Override
+    public void write(final byte[] bytes, final int offset, final int length) {
+        ensureCapacity(size + length);
+        System.arraycopy(bytes, offset, buffer, size, length);
+        size += length;
+    }
+
+    byte[] getBuffer() {
+        return buffer;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return buffer.length;
+    }
+
+    void reset() {
+        size = 0;
+    }
+
+    private void ensureCapacity(final int minimumCapacity) {
+        if (minimumCapacity < 0) {
+            throw new OutOfMemoryError("Bulk request body cannot be larger than " + Integer.MAX_VALUE + " bytes");
+        }
+        if (minimumCapacity > buffer.length) {
+            final int grownCapacity = buffer.length + (buffer.length >> 1);
+            buffer = Arrays.copyOf(buffer, Math.max(grownCapacity < 0 ? Integer.MAX_VALUE : grownCapacity, minimumCapacity));
+        }
+    }
+}
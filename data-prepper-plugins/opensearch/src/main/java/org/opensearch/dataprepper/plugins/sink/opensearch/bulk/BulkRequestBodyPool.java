@@ -0,0 +1,45 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded pool of {@link BulkRequestBody} buffers. Bodies are reused between bulk requests so that each request
+ * does not allocate and grow a new buffer of about the bulk size. When the pool is empty a new body is created, and
+ * when the pool is full a released body is left for the garbage collector.
+ */
+public class BulkRequestBodyPool {
+    private final BlockingQueue<BulkRequestBody> pooledBodies;
+    private final int initialCapacity;
+
+    /**
+     * @param maximumPooledBodies the maximum number of released bodies to keep for reuse
+     * @param initialCapacity     the initial capacity in bytes of new bodies
+     */
+    public BulkRequestBodyPool(final int maximumPooledBodies, final int initialCapacity) {
+        if (maximumPooledBodies <= 0) {
+            throw new IllegalArgumentException("maximumPooledBodies must be greater than 0");
+        }
+        this.pooledBodies = new ArrayBlockingQueue<>(maximumPooledBodies);
+        this.initialCapacity = initialCapacity;
+    }
+
+    BulkRequestBody acquire() {
+        final BulkRequestBody pooledBody = pooledBodies.poll();
+        return pooledBody != null ? pooledBody : new BulkRequestBody(initialCapacity);
+    }
+
+    void release(final BulkRequestBody body) {
+        body.reset();
+        pooledBodies.offer(body);
+    }
+
+    int getPooledBodiesCount() {
+        return pooledBodies.size();
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import jakarta.json.stream.JsonParser;
+import org.apache.http.HttpEntity;
+import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseException;
+import org.opensearch.client.RestClient;
+import org.opensearch.client.json.JsonpMapper;
+import org.opensearch.client.json.jackson.JacksonJsonpMapper;
+import org.opensearch.client.opensearch._types.ErrorResponse;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.transport.endpoints.SimpleEndpoint;
+
+import javax.ws.rs.HttpMethod;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Sends the body of a {@link StreamingBulkRequest} to the bulk API through the low-level {@link RestClient} and
+ * parses the response with the opensearch-java deserializers. Error responses are thrown as
+ * {@link OpenSearchException} like the opensearch-java client so that they are retried in the same way.
+ */
+public class StreamingBulkClient {
+    static final String BULK_PATH = "/_bulk";
+    static final String FILTER_PATH_PARAMETER = "filter_path";
+
+    private final RestClient restClient;
+    private final boolean es6;
+    private final String filterPath;
+    private final JsonpMapper jsonpMapper;
+
+    /**
+     * @param restClient the client to send requests with
+     * @param es6        true to use the Elasticsearch 6 bulk path, which requires a type
+     * @param filterPath the filter_path to apply to the responses, or null for the whole response
+     */
+    public StreamingBulkClient(final RestClient restClient, final boolean es6, final String filterPath) {
+        this.restClient = restClient;
+        this.es6 = es6;
+        this.filterPath = filterPath;
+        this.jsonpMapper = new JacksonJsonpMapper();
+    }
+
+    public BulkResponse bulk(final StreamingBulkRequest bulkRequest) throws IOException {
+        final Request request = new Request(HttpMethod.POST, getPath(bulkRequest));
+        if (filterPath != null) {
+            request.addParameter(FILTER_PATH_PARAMETER, filterPath);
+        }
+        request.setEntity(bulkRequest.toHttpEntity());
+
+        final Response response;
+        try {
+            response = restClient.performRequest(request);
+        } catch (final ResponseException e) {
+            final OpenSearchException openSearchException = parseOpenSearchException(e);
+            if (openSearchException != null) {
+                throw openSearchException;
+            }
+            throw e;
+        }
+
+        try (final InputStream content = response.getEntity().getContent();
+             final JsonParser parser = jsonpMapper.jsonProvider().createParser(content)) {
+            return BulkResponse._DESERIALIZER.deserialize(parser, jsonpMapper);
+        }
+    }
+
+    private String getPath(final StreamingBulkRequest bulkRequest) {
+        if (!es6) {
+            return BULK_PATH;
+        }
+        final StringBuilder path = new StringBuilder();
+        path.append("/");
+        SimpleEndpoint.pathEncode(bulkRequest.getOperationAt(0).getIndex(), path);
+        path.append("/_doc");
+        path.append(BULK_PATH);
+        return path.toString();
+    }
+
+    private OpenSearchException parseOpenSearchException(final ResponseException responseException) {
+        final HttpEntity entity = responseException.getResponse().getEntity();
+        if (entity == null) {
+            return null;
+        }
+        try (final InputStream content = entity.getContent();
+             final JsonParser parser = jsonpMapper.jsonProvider().createParser(content)) {
+            final ErrorResponse errorResponse = ErrorResponse._DESERIALIZER.deserialize(parser, jsonpMapper);
+            return new OpenSearchException(errorResponse);
+        } catch (final IOException | RuntimeException e) {
+            return null;
+        }
+    }
+}
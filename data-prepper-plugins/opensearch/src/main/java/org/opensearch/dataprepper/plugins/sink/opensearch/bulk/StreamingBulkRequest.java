@@ -0,0 +1,249 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.CreateOperation;
+import org.opensearch.client.opensearch.core.bulk.IndexOperation;
+import org.opensearch.dataprepper.plugins.sink.opensearch.BulkOperationWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An {@link AccumulatingBulkRequest} which writes each operation as NDJSON action and document lines into a pooled
+ * {@link BulkRequestBody} as it is added, optionally through gzip. The size of the request is the exact size of the
+ * body rather than an estimate. The body is sent as-is by the {@link StreamingBulkClient}.
+ */
+public class StreamingBulkRequest implements AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> {
+    static final String GZIP_CONTENT_ENCODING = "gzip";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int NEWLINE = '\n';
+    private static final int NEWLINES_PER_OPERATION = 2;
+    private static final int ACTION_LINE_INITIAL_CAPACITY = 128;
+    private static final int GZIP_BUFFER_SIZE = 8192;
+    private static final int GZIP_HEADER_SIZE = 10;
+    private static final int DEFLATE_STORED_BLOCK_SIZE = 65535;
+    private static final int DEFLATE_BLOCK_OVERHEAD = 5;
+
+    private final BulkRequestBodyPool bodyPool;
+    private final boolean compressed;
+    private final List<BulkOperationWrapper> bulkOperations;
+    private BulkRequestBody body;
+    private OutputStream bodyOutputStream;
+    private long sizeInBytes = 0L;
+    private boolean finished = false;
+    private BulkOperationWrapper lastSizedOperation;
+    private byte[] lastSizedActionLine;
+    private BulkRequest builtRequest;
+
+    public StreamingBulkRequest(final BulkRequestBodyPool bodyPool, final boolean compressed) {
+        this.bodyPool = bodyPool;
+        this.compressed = compressed;
+        bulkOperations = new ArrayList<>();
+    }
+
+    /**
+     * Returns the exact size of the body with the operation when the body is not compressed. When the body is
+     * compressed, the compressed size of the operation is not known until it is added, so this returns the exact size
+     * of the body so far plus the largest size which deflate can compress the operation to.
+     */
+    @Override
+    public long estimateSizeInBytesWithDocument(final BulkOperationWrapper bulkOperation) {
+        final long operationSize = getActionLine(bulkOperation).length + getDocument(bulkOperation).length + NEWLINES_PER_OPERATION;
+        if (!compressed) {
+            return sizeInBytes + operationSize;
+        }
+        final long headerSize = body == null ? GZIP_HEADER_SIZE : 0;
+        // Deflate never expands data by more than a stored block header per block, plus the block written by the sync flush.
+        final long maximumCompressionOverhead = (operationSize / DEFLATE_STORED_BLOCK_SIZE + 2) * DEFLATE_BLOCK_OVERHEAD;
+        return sizeInBytes + headerSize + operationSize + maximumCompressionOverhead;
+    }
+
+    @Override
+    public void addOperation(final BulkOperationWrapper bulkOperation) {
+        if (finished) {
+            throw new IllegalStateException("Cannot add operations to a bulk request which has already been sent.");
+        }
+        final byte[] actionLine = getActionLine(bulkOperation);
+        final byte[] document = getDocument(bulkOperation);
+
+        try {
+            if (body == null) {
+                body = bodyPool.acquire();
+                bodyOutputStream = compressed ? new GZIPOutputStream(body, GZIP_BUFFER_SIZE, true) : body;
+            }
+            bodyOutputStream.write(actionLine);
+            bodyOutputStream.write(NEWLINE);
+            bodyOutputStream.write(document);
+            bodyOutputStream.write(NEWLINE);
+            if (compressed) {
+                // A sync flush writes all compressed data to the body so that its size is exact.
+                bodyOutputStream.flush();
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to write the bulk operation to the bulk request body.", e);
+        }
+
+        sizeInBytes = body.size();
+        bulkOperations.add(bulkOperation);
+    }
+
+    @Override
+    public BulkOperationWrapper getOperationAt(final int index) {
+        return bulkOperations.get(index);
+    }
+
+    @Override
+    public long getEstimatedSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    @Override
+    public int getOperationsCount() {
+        return bulkOperations.size();
+    }
+
+    @Override
+    public List<BulkOperationWrapper> getOperations() {
+        return Collections.unmodifiableList(bulkOperations);
+    }
+
+    /**
+     * Returns the operations as an opensearch-java {@link BulkRequest}. The {@link StreamingBulkClient} does not use
+     * this and sends the body from {@link #toHttpEntity()} instead.
+     */
+    @Override
+    public BulkRequest getRequest() {
+        if (builtRequest == null) {
+            builtRequest = new BulkRequest.Builder()
+                    .operations(bulkOperations.stream().map(BulkOperationWrapper::getBulkOperation).collect(Collectors.toList()))
+                    .build();
+        }
+        return builtRequest;
+    }
+
+    /**
+     * Completes the body and returns it as an {@link HttpEntity} which refers to the pooled buffer. No more operations
+     * may be added afterwards.
+     *
+     * @return the body of this bulk request
+     */
+    HttpEntity toHttpEntity() {
+        finish();
+        final ByteArrayEntity entity = body == null
+                ? new ByteArrayEntity(new byte[0], ContentType.APPLICATION_JSON)
+                : new ByteArrayEntity(body.getBuffer(), 0, body.size(), ContentType.APPLICATION_JSON);
+        if (compressed) {
+            entity.setContentEncoding(GZIP_CONTENT_ENCODING);
+        }
+        return entity;
+    }
+
+    @Override
+    public void release() {
+        if (body == null) {
+            return;
+        }
+        try {
+            bodyOutputStream.close();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to close the bulk request body.", e);
+        } finally {
+            bodyPool.release(body);
+            body = null;
+            bodyOutputStream = null;
+            finished = true;
+        }
+    }
+
+    private void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        if (compressed && body != null) {
+            try {
+                ((GZIPOutputStream) bodyOutputStream).finish();
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Unable to complete the compressed bulk request body.", e);
+            }
+            sizeInBytes = body.size();
+        }
+    }
+
+    private byte[] getActionLine(final BulkOperationWrapper bulkOperation) {
+        if (bulkOperation != lastSizedOperation) {
+            lastSizedActionLine = createActionLine(bulkOperation.getBulkOperation());
+            lastSizedOperation = bulkOperation;
+        }
+        return lastSizedActionLine;
+    }
+
+    private static byte[] getDocument(final BulkOperationWrapper bulkOperation) {
+        final Object anyDocument = bulkOperation.getDocument();
+
+        if (!(anyDocument instanceof SerializedJson)) {
+            throw new IllegalArgumentException("Only SerializedJson is permitted for streaming bulk requests. " + bulkOperation);
+        }
+
+        return ((SerializedJson) anyDocument).getSerializedJson();
+    }
+
+    private static byte[] createActionLine(final BulkOperation bulkOperation) {
+        final String action;
+        final String index;
+        final String id;
+        final String routing;
+        if (bulkOperation.isCreate()) {
+            final CreateOperation<?> createOperation = bulkOperation.create();
+            action = BulkAction.CREATE.toString();
+            index = createOperation.index();
+            id = createOperation.id();
+            routing = createOperation.routing();
+        } else if (bulkOperation.isIndex()) {
+            final IndexOperation<?> indexOperation = bulkOperation.index();
+            action = BulkAction.INDEX.toString();
+            index = indexOperation.index();
+            id = indexOperation.id();
+            routing = indexOperation.routing();
+        } else {
+            throw new UnsupportedOperationException("Only index or create operations are supported currently." + bulkOperation);
+        }
+
+        final ByteArrayOutputStream actionLineOutputStream = new ByteArrayOutputStream(ACTION_LINE_INITIAL_CAPACITY);
+        try (final JsonGenerator generator = JSON_FACTORY.createGenerator(actionLineOutputStream)) {
+            generator.writeStartObject();
+            generator.writeObjectFieldStart(action);
+            generator.writeStringField("_index", index);
+            if (id != null) {
+                generator.writeStringField("_id", id);
+            }
+            if (routing != null) {
+                generator.writeStringField("routing", routing);
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Unable to write the bulk action line.", e);
+        }
+        return actionLineOutputStream.toByteArray();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.dlq;
+
+import org.opensearch.dataprepper.model.failures.DlqObject;
+import org.opensearch.dataprepper.plugins.dlq.DlqWriter;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.BulkOperationWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.util.List;
+
+import static org.opensearch.dataprepper.logging.DataPrepperMarkers.SENSITIVE;
+
+/**
+ * Writes the documents which the OpenSearch sink failed to index to the DLQ file or the DLQ writer, if either is
+ * configured, and releases their event handles.
+ * <p>
+ * Failures are reported by the pipeline worker threads and, when bulk requests are sent concurrently, by the bulk
+ * request threads. Neither the DLQ file nor the DLQ writers are safe for concurrent writes, so the writes are
+ * serialized.
+ *
+ * @since 2.5
+ */
+public class FailedDlqObjectsWriter {
+    private static final Logger LOG = LoggerFactory.getLogger(FailedDlqObjectsWriter.class);
+
+    private final BufferedWriter dlqFileWriter;
+    private final DlqWriter dlqWriter;
+    private final String pipelineName;
+    private final String pluginName;
+    private final Object writeLock = new Object();
+
+    /**
+     * @param dlqFileWriter the writer of the DLQ file, or null if there is no DLQ file
+     * @param dlqWriter the DLQ writer, or null if there is no DLQ writer. It is not used if there is a DLQ file.
+     * @param pipelineName the name of the pipeline of the sink
+     * @param pluginName the name of the sink
+     */
+    public FailedDlqObjectsWriter(final BufferedWriter dlqFileWriter,
+                                  final DlqWriter dlqWriter,
+                                  final String pipelineName,
+                                  final String pluginName) {
+        this.dlqFileWriter = dlqFileWriter;
+        this.dlqWriter = dlqWriter;
+        this.pipelineName = pipelineName;
+        this.pluginName = pluginName;
+    }
+
+    public void write(final List<DlqObject> dlqObjects, final Throwable failure) {
+        if (dlqFileWriter != null) {
+            dlqObjects.forEach(dlqObject -> {
+                final FailedDlqData failedDlqData = (FailedDlqData) dlqObject.getFailedData();
+                final String message = failure == null ? failedDlqData.getMessage() : failure.getMessage();
+                final String dlqLine = String.format("{\"Document\": [%s], \"failure\": %s}\n",
+                        BulkOperationWriter.dlqObjectToString(dlqObject), message);
+                try {
+                    synchronized (writeLock) {
+                        dlqFileWriter.write(dlqLine);
+                    }
+                    dlqObject.releaseEventHandle(true);
+                } catch (final IOException e) {
+                    LOG.error(SENSITIVE, "DLQ failure for Document[{}]", dlqObject.getFailedData(), e);
+                    dlqObject.releaseEventHandle(false);
+                }
+            });
+        } else if (dlqWriter != null) {
+            try {
+                synchronized (writeLock) {
+                    dlqWriter.write(dlqObjects, pipelineName, pluginName);
+                }
+                dlqObjects.forEach(dlqObject -> dlqObject.releaseEventHandle(true));
+            } catch (final IOException e) {
+                dlqObjects.forEach(dlqObject -> {
+                    LOG.error(SENSITIVE, "DLQ failure for Document[{}]", dlqObject.getFailedData(), e);
+                    dlqObject.releaseEventHandle(false);
+                });
+            }
+        } else {
+            dlqObjects.forEach(dlqObject -> {
+                LOG.warn(SENSITIVE, "Document [{}] has failure. DLQ not configured", dlqObject.getFailedData(), failure);
+                dlqObject.releaseEventHandle(false);
+            });
+        }
+    }
+}
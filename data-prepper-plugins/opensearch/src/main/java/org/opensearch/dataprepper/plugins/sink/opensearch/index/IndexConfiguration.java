@@ -45,6 +45,11 @@ public class IndexConfiguration {
     public static final String BULK_SIZE = "bulk_size";
     public static final String ESTIMATE_BULK_SIZE_USING_COMPRESSION = "estimate_bulk_size_using_compression";
     public static final String MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION = "max_local_compressions_for_estimation";
+    public static final String STREAMING_BULK_SERIALIZATION = "streaming_bulk_serialization";
+    public static final String MAX_IN_FLIGHT_BULK_REQUESTS = "max_in_flight_bulk_requests";
+    public static final String MAX_IN_FLIGHT_BULK_SIZE = "max_in_flight_bulk_size";
+    public static final String ADAPTIVE_BULK_CONTROL = "adaptive_bulk_control";
+    public static final String ADAPTIVE_BULK_TARGET_LATENCY = "adaptive_bulk_target_latency";
     public static final String FLUSH_TIMEOUT = "flush_timeout";
     public static final String DOCUMENT_ID_FIELD = "document_id_field";
     public static final String DOCUMENT_ID = "document_id";
@@ -53,6 +58,11 @@ public class IndexConfiguration {
     public static final long DEFAULT_BULK_SIZE = 5L;
     public static final boolean DEFAULT_ESTIMATE_BULK_SIZE_USING_COMPRESSION = false;
     public static final int DEFAULT_MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION = 2;
+    public static final boolean DEFAULT_STREAMING_BULK_SERIALIZATION = false;
+    public static final int DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS = 1;
+    public static final long DEFAULT_MAX_IN_FLIGHT_BULK_SIZE = -1L;
+    public static final boolean DEFAULT_ADAPTIVE_BULK_CONTROL = false;
+    public static final long DEFAULT_ADAPTIVE_BULK_TARGET_LATENCY = 2_000L;
     public static final long DEFAULT_FLUSH_TIMEOUT = 60_000L;
     public static final String ACTION = "action";
     public static final String S3_AWS_REGION = "s3_aws_region";
@@ -73,6 +83,11 @@ public class IndexConfiguration {
     private final long bulkSize;
     private final boolean estimateBulkSizeUsingCompression;
     private int maxLocalCompressionsForEstimation;
+    private final boolean streamingBulkSerialization;
+    private final int maxInFlightBulkRequests;
+    private final long maxInFlightBulkSize;
+    private final boolean adaptiveBulkControl;
+    private final long adaptiveBulkTargetLatency;
     private final long flushTimeout;
     private final Optional<String> ismPolicyFile;
     private final String action;
@@ -123,6 +138,17 @@ public class IndexConfiguration {
         this.bulkSize = builder.bulkSize;
         this.estimateBulkSizeUsingCompression = builder.estimateBulkSizeUsingCompression;
         this.maxLocalCompressionsForEstimation = builder.maxLocalCompressionsForEstimation;
+        this.streamingBulkSerialization = builder.streamingBulkSerialization;
+        if (builder.maxInFlightBulkRequests <= 0) {
+            throw new IllegalArgumentException(MAX_IN_FLIGHT_BULK_REQUESTS + " must be greater than 0");
+        }
+        this.maxInFlightBulkRequests = builder.maxInFlightBulkRequests;
+        this.maxInFlightBulkSize = builder.maxInFlightBulkSize;
+        if (builder.adaptiveBulkTargetLatency <= 0) {
+            throw new IllegalArgumentException(ADAPTIVE_BULK_TARGET_LATENCY + " must be greater than 0");
+        }
+        this.adaptiveBulkControl = builder.adaptiveBulkControl;
+        this.adaptiveBulkTargetLatency = builder.adaptiveBulkTargetLatency;
         this.flushTimeout = builder.flushTimeout;
         this.routingField = builder.routingField;
 
@@ -188,6 +214,26 @@ public class IndexConfiguration {
                 pluginSetting.getIntegerOrDefault(MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION, DEFAULT_MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION);
         builder = builder.withMaxLocalCompressionsForEstimation(maxLocalCompressionsForEstimation);
 
+        final boolean streamingBulkSerialization =
+                pluginSetting.getBooleanOrDefault(STREAMING_BULK_SERIALIZATION, DEFAULT_STREAMING_BULK_SERIALIZATION);
+        builder = builder.withStreamingBulkSerialization(streamingBulkSerialization);
+
+        final int maxInFlightBulkRequests =
+                pluginSetting.getIntegerOrDefault(MAX_IN_FLIGHT_BULK_REQUESTS, DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS);
+        builder = builder.withMaxInFlightBulkRequests(maxInFlightBulkRequests);
+
+        final long maxInFlightBulkSize =
+                pluginSetting.getLongOrDefault(MAX_IN_FLIGHT_BULK_SIZE, DEFAULT_MAX_IN_FLIGHT_BULK_SIZE);
+        builder = builder.withMaxInFlightBulkSize(maxInFlightBulkSize);
+
+        final boolean adaptiveBulkControl =
+                pluginSetting.getBooleanOrDefault(ADAPTIVE_BULK_CONTROL, DEFAULT_ADAPTIVE_BULK_CONTROL);
+        builder = builder.withAdaptiveBulkControl(adaptiveBulkControl);
+
+        final long adaptiveBulkTargetLatency =
+                pluginSetting.getLongOrDefault(ADAPTIVE_BULK_TARGET_LATENCY, DEFAULT_ADAPTIVE_BULK_TARGET_LATENCY);
+        builder = builder.withAdaptiveBulkTargetLatency(adaptiveBulkTargetLatency);
+
         final long flushTimeout = pluginSetting.getLongOrDefault(FLUSH_TIMEOUT, DEFAULT_FLUSH_TIMEOUT);
         builder = builder.withFlushTimeout(flushTimeout);
         final String documentIdField = pluginSetting.getStringOrDefault(DOCUMENT_ID_FIELD, null);
@@ -281,6 +327,26 @@ public class IndexConfiguration {
         return maxLocalCompressionsForEstimation;
     }
 
+    public boolean isStreamingBulkSerialization() {
+        return streamingBulkSerialization;
+    }
+
+    public int getMaxInFlightBulkRequests() {
+        return maxInFlightBulkRequests;
+    }
+
+    public long getMaxInFlightBulkSize() {
+        return maxInFlightBulkSize;
+    }
+
+    public boolean isAdaptiveBulkControl() {
+        return adaptiveBulkControl;
+    }
+
+    public long getAdaptiveBulkTargetLatency() {
+        return adaptiveBulkTargetLatency;
+    }
+
     public long getFlushTimeout() {
         return flushTimeout;
     }
@@ -376,6 +442,11 @@ public class IndexConfiguration {
         private long bulkSize = DEFAULT_BULK_SIZE;
         private boolean estimateBulkSizeUsingCompression = DEFAULT_ESTIMATE_BULK_SIZE_USING_COMPRESSION;
         private int maxLocalCompressionsForEstimation = DEFAULT_MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION;
+        private boolean streamingBulkSerialization = DEFAULT_STREAMING_BULK_SERIALIZATION;
+        private int maxInFlightBulkRequests = DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS;
+        private long maxInFlightBulkSize = DEFAULT_MAX_IN_FLIGHT_BULK_SIZE;
+        private boolean adaptiveBulkControl = DEFAULT_ADAPTIVE_BULK_CONTROL;
+        private long adaptiveBulkTargetLatency = DEFAULT_ADAPTIVE_BULK_TARGET_LATENCY;
         private long flushTimeout = DEFAULT_FLUSH_TIMEOUT;
         private Optional<String> ismPolicyFile;
         private String action;
@@ -446,6 +517,31 @@ public class IndexConfiguration {
             return this;
         }
 
+        public Builder withStreamingBulkSerialization(final boolean streamingBulkSerialization) {
+            this.streamingBulkSerialization = streamingBulkSerialization;
+            return this;
+        }
+
+        public Builder withMaxInFlightBulkRequests(final int maxInFlightBulkRequests) {
+            this.maxInFlightBulkRequests = maxInFlightBulkRequests;
+            return this;
+        }
+
+        public Builder withMaxInFlightBulkSize(final long maxInFlightBulkSize) {
+            this.maxInFlightBulkSize = maxInFlightBulkSize;
+            return this;
+        }
+
+        public Builder withAdaptiveBulkControl(final boolean adaptiveBulkControl) {
+            this.adaptiveBulkControl = adaptiveBulkControl;
+            return this;
+        }
+
+        public Builder withAdaptiveBulkTargetLatency(final long adaptiveBulkTargetLatency) {
+            this.adaptiveBulkTargetLatency = adaptiveBulkTargetLatency;
+            return this;
+        }
+
         public Builder withFlushTimeout(final long flushTimeout) {
             this.flushTimeout = flushTimeout;
             return this;
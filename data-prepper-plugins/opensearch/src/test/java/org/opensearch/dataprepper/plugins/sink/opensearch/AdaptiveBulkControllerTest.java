@@ -0,0 +1,223 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.client.opensearch._types.ErrorCause;
+import org.opensearch.client.opensearch._types.ErrorResponse;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.rest.RestStatus;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AdaptiveBulkControllerTest {
+    private static final int MAX_CONCURRENCY = 8;
+    private static final long MAX_BULK_SIZE_BYTES = 16_000L;
+    private static final long TARGET_LATENCY_MILLIS = 1_000L;
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private Counter limitDecreasesCounter;
+
+    private long nanoTime;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(pluginMetrics.counter(AdaptiveBulkController.LIMIT_DECREASES)).thenReturn(limitDecreasesCounter);
+        nanoTime = 0;
+    }
+
+    private AdaptiveBulkController createObjectUnderTest(final long maxBulkSizeBytes) {
+        return new AdaptiveBulkController(pluginMetrics, MAX_CONCURRENCY, maxBulkSizeBytes, TARGET_LATENCY_MILLIS, () -> nanoTime);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_if_maxConcurrency_is_not_positive(final int maxConcurrency) {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveBulkController(pluginMetrics, maxConcurrency, MAX_BULK_SIZE_BYTES, TARGET_LATENCY_MILLIS));
+    }
+
+    @Test
+    void limits_start_at_the_configured_maximums_and_are_exposed_as_gauges() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(MAX_BULK_SIZE_BYTES);
+
+        assertThat(objectUnderTest.getConcurrencyLimit(), equalTo(MAX_CONCURRENCY));
+        assertThat(objectUnderTest.getBulkSizeLimitBytes(), equalTo(MAX_BULK_SIZE_BYTES));
+        verify(pluginMetrics).gauge(eq(AdaptiveBulkController.CONCURRENCY_LIMIT), eq(objectUnderTest), any());
+        verify(pluginMetrics).gauge(eq(AdaptiveBulkController.BULK_SIZE_LIMIT_BYTES), eq(objectUnderTest), any());
+    }
+
+    @Test
+    void onResponse_with_took_above_the_target_latency_decreases_the_limits() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(MAX_BULK_SIZE_BYTES);
+
+        objectUnderTest.onResponse(objectUnderTest.startRequest(), bulkResponse(TARGET_LATENCY_MILLIS + 1, false));
+
+        assertThat(objectUnderTest.getConcurrencyLimit(), equalTo((int) (MAX_CONCURRENCY * AdaptiveBulkController.DECREASE_FACTOR)));
+        assertThat(objectUnderTest.getBulkSizeLimitBytes(), equalTo((long) (MAX_BULK_SIZE_BYTES * AdaptiveBulkController.DECREASE_FACTOR)));
+        verify(limitDecreasesCounter).increment();
+    }
+
+    @Test
+    void onResponse_with_rejected_items_decreases_the_limits() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(MAX_BULK_SIZE_BYTES);
+
+        objectUnderTest.onResponse(objectUnderTest.startRequest(), bulkResponse(1, true));
+
+        assertThat(objectUnderTest.getConcurrencyLimit() < MAX_CONCURRENCY, equalTo(true));
+        assertThat(objectUnderTest.getBulkSizeLimitBytes() < MAX_BULK_SIZE_BYTES, equalTo(true));
+    }
+
+    @Test
+    void onResponse_with_other_item_errors_does_not_decrease_the_limits() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(MAX_BULK_SIZE_BYTES);
+        final BulkResponseItem item = mock(BulkResponseItem.class);
+        when(item.status()).thenReturn(RestStatus.BAD_REQUEST.getStatus());
+        final BulkResponse bulkResponse = mock(BulkResponse.class);
+        when(bulkResponse.took()).thenReturn(1L);
+        when(bulkResponse.errors()).thenReturn(true);
+        when(bulkResponse.items()).thenReturn(List.of(item));
+
+        objectUnderTest.onResponse(objectUnderTest.startRequest(), bulkResponse);
+
+        assertThat(objectUnderTest.getConcurrencyLimit(), equalTo(MAX_CONCURRENCY));
+        verify(limitDecreasesCounter, never()).increment();
+    }
+
+    @Test
+    void responses_to_requests_sent_before_the_last_decrease_do_not_decrease_again() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(MAX_BULK_SIZE_BYTES);
+        final long firstRequestStart = objectUnderTest.startRequest();
+        nanoTime = 10;
+        final long secondRequestStart = objectUnderTest.startRequest();
+        nanoTime = 20;
+
+        objectUnderTest.onResponse(firstRequestStart, bulkResponse(TARGET_LATENCY_MILLIS + 1, false));
+        final int concurrencyLimitAfterFirstDecrease = objectUnderTest.getConcurrencyLimit();
+        objectUnderTest.onResponse(secondRequestStart, bulkResponse(TARGET_LATENCY_MILLIS + 1, false));
+
+        assertThat(objectUnderTest.getConcurrencyLimit(), equalTo(concurrencyLimitAfterFirstDecrease));
+        verify(limitDecreasesCounter, times(1)).increment();
+
+        nanoTime = 30;
+        objectUnderTest.onResponse(objectUnderTest.startRequest(), bulkResponse(TARGET_LATENCY_MILLIS + 1, false));
+
+        assertThat(objectUnderTest.getConcurrencyLimit() < concurrencyLimitAfterFirstDecrease, equalTo(true));
+        verify(limitDecreasesCounter, times(2)).increment();
+    }
+
+    @Test
+    void limits_do_not_decrease_below_their_minimums() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(MAX_BULK_SIZE_BYTES);
+
+        for (int i = 0; i < 100; i++) {
+            nanoTime++;
+            objectUnderTest.onResponse(objectUnderTest.startRequest(), bulkResponse(TARGET_LATENCY_MILLIS + 1, false));
+        }
+
+        assertThat(objectUnderTest.getConcurrencyLimit(), equalTo(1));
+        assertThat(objectUnderTest.getBulkSizeLimitBytes(), equalTo(MAX_BULK_SIZE_BYTES / AdaptiveBulkController.BULK_SIZE_STEPS));
+    }
+
+    @Test
+    void successful_responses_increase_the_limits_back_to_the_maximums() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(MAX_BULK_SIZE_BYTES);
+        for (int i = 0; i < 100; i++) {
+            nanoTime++;
+            objectUnderTest.onResponse(objectUnderTest.startRequest(), bulkResponse(TARGET_LATENCY_MILLIS + 1, false));
+        }
+
+        objectUnderTest.onResponse(objectUnderTest.startRequest(), bulkResponse(1, false));
+
+        assertThat(objectUnderTest.getConcurrencyLimit(), equalTo(2));
+        assertThat(objectUnderTest.getBulkSizeLimitBytes(), equalTo(2 * MAX_BULK_SIZE_BYTES / AdaptiveBulkController.BULK_SIZE_STEPS));
+
+        for (int i = 0; i < 1000; i++) {
+            objectUnderTest.onResponse(objectUnderTest.startRequest(), bulkResponse(1, false));
+        }
+
+        assertThat(objectUnderTest.getConcurrencyLimit(), equalTo(MAX_CONCURRENCY));
+        assertThat(objectUnderTest.getBulkSizeLimitBytes(), equalTo(MAX_BULK_SIZE_BYTES));
+    }
+
+    @Test
+    void bulk_size_limit_is_not_adjusted_when_the_bulk_size_is_unlimited() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(-1);
+
+        objectUnderTest.onResponse(objectUnderTest.startRequest(), bulkResponse(TARGET_LATENCY_MILLIS + 1, false));
+        assertThat(objectUnderTest.getBulkSizeLimitBytes(), equalTo(-1L));
+
+        objectUnderTest.onResponse(objectUnderTest.startRequest(), bulkResponse(1, false));
+        assertThat(objectUnderTest.getBulkSizeLimitBytes(), equalTo(-1L));
+    }
+
+    @Test
+    void onFailure_with_too_many_requests_decreases_the_limits() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(MAX_BULK_SIZE_BYTES);
+
+        objectUnderTest.onFailure(objectUnderTest.startRequest(), openSearchException(RestStatus.TOO_MANY_REQUESTS));
+
+        assertThat(objectUnderTest.getConcurrencyLimit() < MAX_CONCURRENCY, equalTo(true));
+        verify(limitDecreasesCounter).increment();
+    }
+
+    @Test
+    void onFailure_with_other_failures_does_not_change_the_limits() {
+        final AdaptiveBulkController objectUnderTest = createObjectUnderTest(MAX_BULK_SIZE_BYTES);
+
+        objectUnderTest.onFailure(objectUnderTest.startRequest(), openSearchException(RestStatus.INTERNAL_SERVER_ERROR));
+        objectUnderTest.onFailure(objectUnderTest.startRequest(), new IOException());
+
+        assertThat(objectUnderTest.getConcurrencyLimit(), equalTo(MAX_CONCURRENCY));
+        assertThat(objectUnderTest.getBulkSizeLimitBytes(), equalTo(MAX_BULK_SIZE_BYTES));
+        verify(limitDecreasesCounter, never()).increment();
+    }
+
+    private static BulkResponse bulkResponse(final long took, final boolean rejected) {
+        final BulkResponse bulkResponse = mock(BulkResponse.class);
+        lenient().when(bulkResponse.took()).thenReturn(took);
+        lenient().when(bulkResponse.errors()).thenReturn(rejected);
+        if (rejected) {
+            final BulkResponseItem item = mock(BulkResponseItem.class);
+            when(item.status()).thenReturn(RestStatus.TOO_MANY_REQUESTS.getStatus());
+            when(bulkResponse.items()).thenReturn(List.of(item));
+        }
+        return bulkResponse;
+    }
+
+    private static OpenSearchException openSearchException(final RestStatus restStatus) {
+        return new OpenSearchException(new ErrorResponse.Builder()
+                .status(restStatus.getStatus())
+                .error(new ErrorCause.Builder().reason("").type("").build()).build());
+    }
+}
@@ -32,9 +32,15 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 
@@ -44,6 +50,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -233,6 +240,33 @@ public class BulkRetryStrategyTests {
         assertEquals(1.0, documentErrorsMeasurements.get(0).getValue(), 0);
     }
 
+    @Test
+    public void testExecuteRetryable_releases_each_bulk_request_once() throws Exception {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+        final List<AccumulatingBulkRequest> requestsForRetry = new ArrayList<>();
+
+        final BulkRetryStrategy bulkRetryStrategy = new BulkRetryStrategy(
+                client::bulk, logFailureConsumer, pluginMetrics, Integer.MAX_VALUE,
+                () -> {
+                    final AccumulatingBulkRequest requestForRetry = spy(new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder()));
+                    requestsForRetry.add(requestForRetry);
+                    return requestForRetry;
+                }, pluginSetting);
+        final AccumulatingBulkRequest accumulatingBulkRequest = spy(new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder()));
+        for (int i = 1; i <= 4; i++) {
+            final IndexOperation<SerializedJson> indexOperation = new IndexOperation.Builder<SerializedJson>().index(testIndex).id(String.valueOf(i)).document(arbitraryDocument()).build();
+            accumulatingBulkRequest.addOperation(new BulkOperationWrapper(new BulkOperation.Builder().index(indexOperation).build(), eventHandle1));
+        }
+
+        bulkRetryStrategy.execute(accumulatingBulkRequest);
+
+        assertEquals(3, client.attempt);
+        assertEquals(1, requestsForRetry.size());
+        verify(accumulatingBulkRequest).release();
+        verify(requestsForRetry.get(0)).release();
+    }
+
     @Test
     public void testExecuteNonRetryableException() throws Exception {
         final String testIndex = "bar";
@@ -442,6 +476,69 @@ public class BulkRetryStrategyTests {
     }
 
 
+    @Test
+    public void testExecuteAsyncRetryable() throws Exception {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+
+        numEventsSucceeded = 0;
+        numEventsFailed = 0;
+        final BulkRetryStrategy bulkRetryStrategy = new BulkRetryStrategy(
+                client::bulk, logFailureConsumer, pluginMetrics, Integer.MAX_VALUE,
+                () -> new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder()), pluginSetting);
+        final AccumulatingBulkRequest accumulatingBulkRequest = createBulkRequestWithFourOperations(testIndex);
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+        try {
+            bulkRetryStrategy.executeAsync(accumulatingBulkRequest, scheduler).get(30, TimeUnit.SECONDS);
+        } finally {
+            scheduler.shutdownNow();
+        }
+
+        assertEquals(3, client.attempt);
+        assertEquals(2, client.finalResponse.items().size());
+        assertFalse(client.finalResponse.errors());
+        assertEquals("3", client.finalRequest.operations().get(0).index().id());
+        assertEquals("4", client.finalRequest.operations().get(1).index().id());
+        assertEquals(numEventsSucceeded, 3);
+        assertEquals(numEventsFailed, 1);
+    }
+
+    @Test
+    public void testExecuteAsyncWithRejectedScheduler() throws Exception {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+
+        numEventsSucceeded = 0;
+        numEventsFailed = 0;
+        final BulkRetryStrategy bulkRetryStrategy = new BulkRetryStrategy(
+                client::bulk, logFailureConsumer, pluginMetrics, Integer.MAX_VALUE,
+                () -> new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder()), pluginSetting);
+        final AccumulatingBulkRequest accumulatingBulkRequest = spy(createBulkRequestWithFourOperations(testIndex));
+        final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        scheduler.shutdown();
+
+        final CompletableFuture<Void> completion = bulkRetryStrategy.executeAsync(accumulatingBulkRequest, scheduler);
+
+        assertTrue(completion.isDone());
+        assertFalse(completion.isCompletedExceptionally());
+        assertEquals(0, client.attempt);
+        assertEquals(numEventsSucceeded, 0);
+        assertEquals(numEventsFailed, 4);
+        verify(logFailureConsumer).accept(any(List.class), any(RejectedExecutionException.class));
+        verify(accumulatingBulkRequest).release();
+    }
+
+    private AccumulatingBulkRequest createBulkRequestWithFourOperations(final String testIndex) {
+        final AccumulatingBulkRequest accumulatingBulkRequest = new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder());
+        final List<EventHandle> eventHandles = Arrays.asList(eventHandle1, eventHandle2, eventHandle3, eventHandle4);
+        for (int i = 0; i < eventHandles.size(); i++) {
+            final IndexOperation<SerializedJson> indexOperation = new IndexOperation.Builder<SerializedJson>().index(testIndex).id(String.valueOf(i + 1)).document(arbitraryDocument()).build();
+            accumulatingBulkRequest.addOperation(new BulkOperationWrapper(new BulkOperation.Builder().index(indexOperation).build(), eventHandles.get(i)));
+        }
+        return accumulatingBulkRequest;
+    }
+
     private static BulkResponseItem successItemResponse(final String index) {
         return mock(BulkResponseItem.class);
     }
@@ -0,0 +1,232 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.plugins.sink.opensearch.bulk.AccumulatingBulkRequest;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrentBulkRequestExecutorTest {
+    @Mock
+    private BulkRetryStrategy bulkRetryStrategy;
+
+    @Mock
+    private ScheduledExecutorService scheduler;
+
+    private ExecutorService submittingExecutor;
+
+    @BeforeEach
+    void setUp() {
+        submittingExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        submittingExecutor.shutdownNow();
+    }
+
+    private ConcurrentBulkRequestExecutor createObjectUnderTest(final int maxInFlightRequests, final long maxInFlightBytes) {
+        return new ConcurrentBulkRequestExecutor(bulkRetryStrategy, scheduler, maxInFlightRequests, maxInFlightBytes);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_if_maxInFlightRequests_is_not_positive(final int maxInFlightRequests) {
+        assertThrows(IllegalArgumentException.class, () -> createObjectUnderTest(maxInFlightRequests, 100));
+    }
+
+    @Test
+    void submit_executes_the_request_and_tracks_it_until_it_completes() throws InterruptedException {
+        final AccumulatingBulkRequest bulkRequest = createBulkRequest(10);
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        when(bulkRetryStrategy.executeAsync(bulkRequest, scheduler)).thenReturn(completion);
+        final ConcurrentBulkRequestExecutor objectUnderTest = createObjectUnderTest(2, 100);
+
+        final CompletableFuture<Void> result = objectUnderTest.submit(bulkRequest);
+
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(1));
+        assertThat(objectUnderTest.getInFlightBytes(), equalTo(10L));
+        assertThat(result.isDone(), equalTo(false));
+
+        completion.complete(null);
+
+        assertThat(result.isDone(), equalTo(true));
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(0));
+        assertThat(objectUnderTest.getInFlightBytes(), equalTo(0L));
+    }
+
+    @Test
+    void submit_releases_the_request_when_it_completes_exceptionally() throws InterruptedException {
+        final AccumulatingBulkRequest bulkRequest = createBulkRequest(10);
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        when(bulkRetryStrategy.executeAsync(bulkRequest, scheduler)).thenReturn(completion);
+        final ConcurrentBulkRequestExecutor objectUnderTest = createObjectUnderTest(2, 100);
+
+        final CompletableFuture<Void> result = objectUnderTest.submit(bulkRequest);
+        completion.completeExceptionally(new RuntimeException());
+
+        assertThat(result.isCompletedExceptionally(), equalTo(true));
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(0));
+    }
+
+    @Test
+    void submit_releases_the_request_when_executeAsync_throws() {
+        final AccumulatingBulkRequest bulkRequest = createBulkRequest(10);
+        when(bulkRetryStrategy.executeAsync(bulkRequest, scheduler)).thenThrow(RuntimeException.class);
+        final ConcurrentBulkRequestExecutor objectUnderTest = createObjectUnderTest(2, 100);
+
+        assertThrows(RuntimeException.class, () -> objectUnderTest.submit(bulkRequest));
+
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(0));
+        assertThat(objectUnderTest.getInFlightBytes(), equalTo(0L));
+    }
+
+    @Test
+    void submit_blocks_when_the_maximum_requests_are_in_flight() throws Exception {
+        final AccumulatingBulkRequest firstRequest = createBulkRequest(1);
+        final AccumulatingBulkRequest secondRequest = createBulkRequest(1);
+        final CompletableFuture<Void> firstCompletion = new CompletableFuture<>();
+        when(bulkRetryStrategy.executeAsync(firstRequest, scheduler)).thenReturn(firstCompletion);
+        when(bulkRetryStrategy.executeAsync(secondRequest, scheduler)).thenReturn(new CompletableFuture<>());
+        final ConcurrentBulkRequestExecutor objectUnderTest = createObjectUnderTest(1, 100);
+
+        objectUnderTest.submit(firstRequest);
+        final Future<CompletableFuture<Void>> secondSubmit = submittingExecutor.submit(() -> objectUnderTest.submit(secondRequest));
+
+        Thread.sleep(100);
+        assertThat(secondSubmit.isDone(), equalTo(false));
+
+        firstCompletion.complete(null);
+
+        secondSubmit.get(5, TimeUnit.SECONDS);
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(1));
+    }
+
+    @Test
+    void submit_uses_the_current_maximum_from_the_supplier() throws Exception {
+        final AtomicInteger maxInFlightRequests = new AtomicInteger(1);
+        final AccumulatingBulkRequest firstRequest = createBulkRequest(1);
+        final AccumulatingBulkRequest secondRequest = createBulkRequest(1);
+        when(bulkRetryStrategy.executeAsync(firstRequest, scheduler)).thenReturn(new CompletableFuture<>());
+        when(bulkRetryStrategy.executeAsync(secondRequest, scheduler)).thenReturn(new CompletableFuture<>());
+        final ConcurrentBulkRequestExecutor objectUnderTest =
+                new ConcurrentBulkRequestExecutor(bulkRetryStrategy, scheduler, maxInFlightRequests::get, 100);
+
+        objectUnderTest.submit(firstRequest);
+        maxInFlightRequests.set(2);
+        final Future<CompletableFuture<Void>> secondSubmit = submittingExecutor.submit(() -> objectUnderTest.submit(secondRequest));
+
+        secondSubmit.get(5, TimeUnit.SECONDS);
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(2));
+    }
+
+    @Test
+    void submit_treats_a_maximum_below_1_as_1() throws InterruptedException {
+        final AccumulatingBulkRequest bulkRequest = createBulkRequest(1);
+        when(bulkRetryStrategy.executeAsync(bulkRequest, scheduler)).thenReturn(new CompletableFuture<>());
+        final ConcurrentBulkRequestExecutor objectUnderTest =
+                new ConcurrentBulkRequestExecutor(bulkRetryStrategy, scheduler, () -> 0, 100);
+
+        objectUnderTest.submit(bulkRequest);
+
+        assertThat(objectUnderTest.getInFlightRequests(), equalTo(1));
+    }
+
+    @Test
+    void submit_blocks_when_the_request_exceeds_the_in_flight_bytes() throws Exception {
+        final AccumulatingBulkRequest firstRequest = createBulkRequest(60);
+        final AccumulatingBulkRequest secondRequest = createBulkRequest(60);
+        final CompletableFuture<Void> firstCompletion = new CompletableFuture<>();
+        when(bulkRetryStrategy.executeAsync(firstRequest, scheduler)).thenReturn(firstCompletion);
+        when(bulkRetryStrategy.executeAsync(secondRequest, scheduler)).thenReturn(new CompletableFuture<>());
+        final ConcurrentBulkRequestExecutor objectUnderTest = createObjectUnderTest(4, 100);
+
+        objectUnderTest.submit(firstRequest);
+        final Future<CompletableFuture<Void>> secondSubmit = submittingExecutor.submit(() -> objectUnderTest.submit(secondRequest));
+
+        Thread.sleep(100);
+        assertThat(secondSubmit.isDone(), equalTo(false));
+
+        firstCompletion.complete(null);
+
+        secondSubmit.get(5, TimeUnit.SECONDS);
+        assertThat(objectUnderTest.getInFlightBytes(), equalTo(60L));
+    }
+
+    @Test
+    void submit_sends_a_request_larger_than_the_in_flight_bytes_when_nothing_is_in_flight() throws InterruptedException {
+        final AccumulatingBulkRequest bulkRequest = createBulkRequest(1000);
+        when(bulkRetryStrategy.executeAsync(bulkRequest, scheduler)).thenReturn(new CompletableFuture<>());
+        final ConcurrentBulkRequestExecutor objectUnderTest = createObjectUnderTest(2, 100);
+
+        objectUnderTest.submit(bulkRequest);
+
+        verify(bulkRetryStrategy).executeAsync(bulkRequest, scheduler);
+        assertThat(objectUnderTest.getInFlightBytes(), equalTo(1000L));
+    }
+
+    @Test
+    void shutdown_waits_for_the_scheduler_to_terminate() throws InterruptedException {
+        when(scheduler.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(true);
+
+        createObjectUnderTest(2, 100).shutdown(Duration.ofSeconds(5));
+
+        verify(scheduler).shutdown();
+        verify(scheduler).awaitTermination(5000L, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void shutdown_stops_the_scheduler_if_it_does_not_terminate() throws InterruptedException {
+        when(scheduler.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(false);
+
+        createObjectUnderTest(2, 100).shutdown(Duration.ofSeconds(5));
+
+        verify(scheduler).shutdownNow();
+    }
+
+    @Test
+    void shutdown_with_a_real_scheduler_waits_for_scheduled_work() {
+        final ScheduledExecutorService realScheduler = Executors.newSingleThreadScheduledExecutor();
+        final ConcurrentBulkRequestExecutor objectUnderTest =
+                new ConcurrentBulkRequestExecutor(bulkRetryStrategy, realScheduler, 2, 100);
+
+        objectUnderTest.shutdown(Duration.ofSeconds(5));
+
+        await().atMost(Duration.ofSeconds(5)).until(realScheduler::isTerminated);
+    }
+
+    private static AccumulatingBulkRequest createBulkRequest(final long sizeInBytes) {
+        final AccumulatingBulkRequest bulkRequest = mock(AccumulatingBulkRequest.class);
+        when(bulkRequest.getEstimatedSizeInBytes()).thenReturn(sizeInBytes);
+        return bulkRequest;
+    }
+}
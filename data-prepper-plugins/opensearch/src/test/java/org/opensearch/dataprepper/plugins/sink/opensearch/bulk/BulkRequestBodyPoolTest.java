@@ -0,0 +1,81 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BulkRequestBodyPoolTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void constructor_throws_if_maximumPooledBodies_is_not_positive(final int maximumPooledBodies) {
+        assertThrows(IllegalArgumentException.class, () -> new BulkRequestBodyPool(maximumPooledBodies, 10));
+    }
+
+    @Test
+    void acquire_returns_new_body_with_initial_capacity_when_pool_is_empty() {
+        final BulkRequestBodyPool objectUnderTest = new BulkRequestBodyPool(2, 100);
+
+        final BulkRequestBody body = objectUnderTest.acquire();
+
+        assertThat(body.size(), equalTo(0));
+        assertThat(body.capacity(), equalTo(100));
+        assertThat(objectUnderTest.acquire(), not(sameInstance(body)));
+    }
+
+    @Test
+    void acquire_reuses_released_body_after_resetting_it() {
+        final BulkRequestBodyPool objectUnderTest = new BulkRequestBodyPool(2, 100);
+        final BulkRequestBody body = objectUnderTest.acquire();
+        body.write(UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8), 0, 10);
+
+        objectUnderTest.release(body);
+
+        assertThat(objectUnderTest.getPooledBodiesCount(), equalTo(1));
+        final BulkRequestBody reusedBody = objectUnderTest.acquire();
+        assertThat(reusedBody, sameInstance(body));
+        assertThat(reusedBody.size(), equalTo(0));
+        assertThat(objectUnderTest.getPooledBodiesCount(), equalTo(0));
+    }
+
+    @Test
+    void release_does_not_keep_more_than_maximumPooledBodies() {
+        final BulkRequestBodyPool objectUnderTest = new BulkRequestBodyPool(1, 100);
+
+        objectUnderTest.release(objectUnderTest.acquire());
+        objectUnderTest.release(new BulkRequestBody(100));
+
+        assertThat(objectUnderTest.getPooledBodiesCount(), equalTo(1));
+    }
+
+    @Test
+    void body_grows_to_hold_written_bytes() {
+        final BulkRequestBody body = new BulkRequestBody(0);
+        final byte[] bytes = new byte[1000];
+        Arrays.fill(bytes, (byte) 'a');
+
+        body.write('{');
+        body.write(bytes, 0, bytes.length);
+        body.write('}');
+
+        assertThat(body.size(), equalTo(1002));
+        assertThat(body.getBuffer()[0], equalTo((byte) '{'));
+        assertThat(body.getBuffer()[1000], equalTo((byte) 'a'));
+        assertThat(body.getBuffer()[1001], equalTo((byte) '}'));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.client.Request;
+import org.opensearch.client.Response;
+import org.opensearch.client.ResponseException;
+import org.opensearch.client.RestClient;
+import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.dataprepper.plugins.sink.opensearch.BulkOperationWrapper;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingBulkClientTest {
+    private static final String BULK_RESPONSE =
+            "{\"took\":5,\"errors\":false,\"items\":[{\"index\":{\"_index\":\"test-index\",\"_id\":\"1\",\"status\":201}}]}";
+
+    @Mock
+    private RestClient restClient;
+
+    @Mock
+    private StreamingBulkRequest bulkRequest;
+
+    @Mock
+    private BulkOperationWrapper bulkOperation;
+
+    @Mock
+    private Response response;
+
+    private HttpEntity requestEntity;
+    private String filterPath;
+
+    @BeforeEach
+    void setUp() {
+        requestEntity = new StringEntity("{}", ContentType.APPLICATION_JSON);
+        filterPath = UUID.randomUUID().toString();
+        when(bulkRequest.toHttpEntity()).thenReturn(requestEntity);
+    }
+
+    private StreamingBulkClient createObjectUnderTest(final boolean es6) {
+        return new StreamingBulkClient(restClient, es6, filterPath);
+    }
+
+    @Test
+    void bulk_sends_the_request_body_and_parses_the_response() throws IOException {
+        when(response.getEntity()).thenReturn(new StringEntity(BULK_RESPONSE, ContentType.APPLICATION_JSON));
+        when(restClient.performRequest(any(Request.class))).thenReturn(response);
+
+        final BulkResponse bulkResponse = createObjectUnderTest(false).bulk(bulkRequest);
+
+        assertThat(bulkResponse.errors(), equalTo(false));
+        assertThat(bulkResponse.items().size(), equalTo(1));
+        assertThat(bulkResponse.items().get(0).status(), equalTo(201));
+
+        final ArgumentCaptor<Request> requestArgumentCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(requestArgumentCaptor.capture());
+        final Request request = requestArgumentCaptor.getValue();
+        assertThat(request.getMethod(), equalTo("POST"));
+        assertThat(request.getEndpoint(), equalTo(StreamingBulkClient.BULK_PATH));
+        assertThat(request.getParameters().get(StreamingBulkClient.FILTER_PATH_PARAMETER), equalTo(filterPath));
+        assertThat(request.getEntity(), sameInstance(requestEntity));
+    }
+
+    @Test
+    void bulk_with_es6_uses_the_index_of_the_first_operation_in_the_path() throws IOException {
+        when(bulkRequest.getOperationAt(0)).thenReturn(bulkOperation);
+        when(bulkOperation.getIndex()).thenReturn("test-index");
+        when(response.getEntity()).thenReturn(new StringEntity(BULK_RESPONSE, ContentType.APPLICATION_JSON));
+        when(restClient.performRequest(any(Request.class))).thenReturn(response);
+
+        createObjectUnderTest(true).bulk(bulkRequest);
+
+        final ArgumentCaptor<Request> requestArgumentCaptor = ArgumentCaptor.forClass(Request.class);
+        verify(restClient).performRequest(requestArgumentCaptor.capture());
+        assertThat(requestArgumentCaptor.getValue().getEndpoint(), equalTo("/test-index/_doc/_bulk"));
+    }
+
+    @Test
+    void bulk_throws_OpenSearchException_for_error_responses() throws IOException {
+        final Response errorResponse = mock(Response.class);
+        when(errorResponse.getEntity()).thenReturn(new StringEntity(
+                "{\"error\":{\"type\":\"illegal_argument_exception\",\"reason\":\"bad request\"},\"status\":400}",
+                ContentType.APPLICATION_JSON));
+        final ResponseException responseException = mock(ResponseException.class);
+        when(responseException.getResponse()).thenReturn(errorResponse);
+        when(restClient.performRequest(any(Request.class))).thenThrow(responseException);
+
+        final StreamingBulkClient objectUnderTest = createObjectUnderTest(false);
+
+        final OpenSearchException exception = assertThrows(OpenSearchException.class, () -> objectUnderTest.bulk(bulkRequest));
+        assertThat(exception.status(), equalTo(400));
+    }
+
+    @Test
+    void bulk_rethrows_ResponseException_when_the_error_response_cannot_be_parsed() throws IOException {
+        final Response errorResponse = mock(Response.class);
+        when(errorResponse.getEntity()).thenReturn(new StringEntity("not json", ContentType.TEXT_PLAIN));
+        final ResponseException responseException = mock(ResponseException.class);
+        when(responseException.getResponse()).thenReturn(errorResponse);
+        when(restClient.performRequest(any(Request.class))).thenThrow(responseException);
+
+        final StreamingBulkClient objectUnderTest = createObjectUnderTest(false);
+
+        assertThat(assertThrows(ResponseException.class, () -> objectUnderTest.bulk(bulkRequest)), sameInstance(responseException));
+    }
+
+    @Test
+    void bulk_rethrows_ResponseException_without_an_entity() throws IOException {
+        final Response errorResponse = mock(Response.class);
+        final ResponseException responseException = mock(ResponseException.class);
+        when(responseException.getResponse()).thenReturn(errorResponse);
+        when(restClient.performRequest(any(Request.class))).thenThrow(responseException);
+
+        final StreamingBulkClient objectUnderTest = createObjectUnderTest(false);
+
+        assertThat(assertThrows(ResponseException.class, () -> objectUnderTest.bulk(bulkRequest)), sameInstance(responseException));
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.bulk;
+
+import org.apache.http.HttpEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.CreateOperation;
+import org.opensearch.client.opensearch.core.bulk.IndexOperation;
+import org.opensearch.dataprepper.plugins.sink.opensearch.BulkOperationWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StreamingBulkRequestTest {
+    private BulkRequestBodyPool bodyPool;
+
+    @BeforeEach
+    void setUp() {
+        bodyPool = new BulkRequestBodyPool(2, 64);
+    }
+
+    private StreamingBulkRequest createObjectUnderTest(final boolean compressed) {
+        return new StreamingBulkRequest(bodyPool, compressed);
+    }
+
+    @Test
+    void getOperationsCount_returns_0_if_no_interactions() {
+        final StreamingBulkRequest objectUnderTest = createObjectUnderTest(false);
+
+        assertThat(objectUnderTest.getOperationsCount(), equalTo(0));
+        assertThat(objectUnderTest.getEstimatedSizeInBytes(), equalTo(0L));
+        assertThat(objectUnderTest.getOperations().isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void getOperations_returns_unmodifiable_list() {
+        final List<BulkOperationWrapper> operations = createObjectUnderTest(false).getOperations();
+
+        final BulkOperationWrapper bulkOperation = createIndexOperation("{}", null, null);
+        assertThrows(UnsupportedOperationException.class, () -> operations.add(bulkOperation));
+    }
+
+    @Test
+    void addOperation_writes_ndjson_index_and_create_operations() throws IOException {
+        final StreamingBulkRequest objectUnderTest = createObjectUnderTest(false);
+        final BulkOperationWrapper indexOperation = createIndexOperation("{\"a\":1}", "id1", "routing1");
+        final BulkOperationWrapper createOperation = createCreateOperation("{\"b\":\"two\"}", null, null);
+
+        objectUnderTest.addOperation(indexOperation);
+        objectUnderTest.addOperation(createOperation);
+
+        final String expectedBody = "{\"index\":{\"_index\":\"test-index\",\"_id\":\"id1\",\"routing\":\"routing1\"}}\n" +
+                "{\"a\":1}\n" +
+                "{\"create\":{\"_index\":\"test-index\"}}\n" +
+                "{\"b\":\"two\"}\n";
+
+        final HttpEntity entity = objectUnderTest.toHttpEntity();
+        assertThat(entity.getContentEncoding(), nullValue());
+        assertThat(readEntity(entity, false), equalTo(expectedBody));
+        assertThat(objectUnderTest.getEstimatedSizeInBytes(), equalTo((long) expectedBody.getBytes(StandardCharsets.UTF_8).length));
+        assertThat(objectUnderTest.getOperationsCount(), equalTo(2));
+        assertThat(objectUnderTest.getOperationAt(0), equalTo(indexOperation));
+        assertThat(objectUnderTest.getOperationAt(1), equalTo(createOperation));
+    }
+
+    @Test
+    void estimateSizeInBytesWithDocument_is_the_exact_size_when_uncompressed() {
+        final StreamingBulkRequest objectUnderTest = createObjectUnderTest(false);
+        final BulkOperationWrapper firstOperation = createIndexOperation(UUID.randomUUID().toString(), UUID.randomUUID().toString(), null);
+        final BulkOperationWrapper secondOperation = createIndexOperation(UUID.randomUUID().toString(), null, null);
+
+        final long estimatedSizeWithFirst = objectUnderTest.estimateSizeInBytesWithDocument(firstOperation);
+        objectUnderTest.addOperation(firstOperation);
+        assertThat(objectUnderTest.getEstimatedSizeInBytes(), equalTo(estimatedSizeWithFirst));
+
+        final long estimatedSizeWithSecond = objectUnderTest.estimateSizeInBytesWithDocument(secondOperation);
+        objectUnderTest.addOperation(secondOperation);
+        assertThat(objectUnderTest.getEstimatedSizeInBytes(), equalTo(estimatedSizeWithSecond));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 10, 100})
+    void compressed_body_has_exact_size_and_decompresses_to_the_operations(final int operationCount) throws IOException {
+        final StreamingBulkRequest objectUnderTest = createObjectUnderTest(true);
+        final StringBuilder expectedBody = new StringBuilder();
+        for (int i = 0; i < operationCount; i++) {
+            final String document = "{\"message\":\"" + UUID.randomUUID() + "\"}";
+            final BulkOperationWrapper bulkOperation = createIndexOperation(document, null, null);
+            final long sizeBefore = objectUnderTest.getEstimatedSizeInBytes();
+            final long upperBound = objectUnderTest.estimateSizeInBytesWithDocument(bulkOperation);
+            objectUnderTest.addOperation(bulkOperation);
+            assertThat(objectUnderTest.getEstimatedSizeInBytes() > sizeBefore, equalTo(true));
+            assertThat(upperBound, greaterThanOrEqualTo(objectUnderTest.getEstimatedSizeInBytes()));
+            expectedBody.append("{\"index\":{\"_index\":\"test-index\"}}\n").append(document).append('\n');
+        }
+
+        final HttpEntity entity = objectUnderTest.toHttpEntity();
+
+        assertThat(entity.getContentEncoding(), notNullValue());
+        assertThat(entity.getContentEncoding().getValue(), equalTo(StreamingBulkRequest.GZIP_CONTENT_ENCODING));
+        assertThat(entity.getContentLength(), equalTo(objectUnderTest.getEstimatedSizeInBytes()));
+        assertThat(readEntity(entity, true), equalTo(expectedBody.toString()));
+    }
+
+    @Test
+    void addOperation_after_toHttpEntity_throws() {
+        final StreamingBulkRequest objectUnderTest = createObjectUnderTest(true);
+        objectUnderTest.addOperation(createIndexOperation("{}", null, null));
+        objectUnderTest.toHttpEntity();
+
+        final BulkOperationWrapper bulkOperation = createIndexOperation("{}", null, null);
+        assertThrows(IllegalStateException.class, () -> objectUnderTest.addOperation(bulkOperation));
+    }
+
+    @Test
+    void toHttpEntity_can_be_called_again_to_resend_the_body() throws IOException {
+        final StreamingBulkRequest objectUnderTest = createObjectUnderTest(true);
+        objectUnderTest.addOperation(createIndexOperation("{}", null, null));
+
+        final String firstBody = readEntity(objectUnderTest.toHttpEntity(), true);
+
+        assertThat(readEntity(objectUnderTest.toHttpEntity(), true), equalTo(firstBody));
+    }
+
+    @Test
+    void toHttpEntity_without_operations_returns_an_empty_entity() {
+        assertThat(createObjectUnderTest(false).toHttpEntity().getContentLength(), equalTo(0L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void release_returns_the_body_to_the_pool(final boolean compressed) {
+        final StreamingBulkRequest objectUnderTest = createObjectUnderTest(compressed);
+        objectUnderTest.addOperation(createIndexOperation("{}", null, null));
+
+        objectUnderTest.release();
+        assertThat(bodyPool.getPooledBodiesCount(), equalTo(1));
+
+        objectUnderTest.release();
+        assertThat(bodyPool.getPooledBodiesCount(), equalTo(1));
+        assertThat(objectUnderTest.getOperationsCount(), equalTo(1));
+    }
+
+    @Test
+    void release_without_operations_does_not_use_the_pool() {
+        createObjectUnderTest(false).release();
+
+        assertThat(bodyPool.getPooledBodiesCount(), equalTo(0));
+    }
+
+    @Test
+    void addOperation_with_document_which_is_not_SerializedJson_throws() {
+        final IndexOperation<Object> indexOperation = new IndexOperation.Builder<>()
+                .index("test-index")
+                .document(UUID.randomUUID().toString())
+                .build();
+        final BulkOperationWrapper bulkOperation = new BulkOperationWrapper(new BulkOperation.Builder().index(indexOperation).build());
+
+        assertThrows(IllegalArgumentException.class, () -> createObjectUnderTest(false).addOperation(bulkOperation));
+    }
+
+    @Test
+    void addOperation_with_unsupported_operation_throws() {
+        final BulkOperation bulkOperation = mock(BulkOperation.class);
+        final BulkOperationWrapper bulkOperationWrapper = mock(BulkOperationWrapper.class);
+        when(bulkOperationWrapper.getBulkOperation()).thenReturn(bulkOperation);
+
+        assertThrows(UnsupportedOperationException.class, () -> createObjectUnderTest(false).addOperation(bulkOperationWrapper));
+    }
+
+    @Test
+    void getRequest_returns_the_operations_as_a_BulkRequest() {
+        final StreamingBulkRequest objectUnderTest = createObjectUnderTest(false);
+        final BulkOperationWrapper bulkOperation = createIndexOperation("{}", null, null);
+        objectUnderTest.addOperation(bulkOperation);
+
+        final BulkRequest bulkRequest = objectUnderTest.getRequest();
+
+        assertThat(bulkRequest.operations(), equalTo(List.of(bulkOperation.getBulkOperation())));
+        assertThat(objectUnderTest.getRequest(), equalTo(bulkRequest));
+    }
+
+    private static BulkOperationWrapper createIndexOperation(final String document, final String id, final String routing) {
+        final IndexOperation.Builder<Object> builder = new IndexOperation.Builder<>()
+                .index("test-index")
+                .document(SerializedJson.fromStringAndOptionals(document, id, routing));
+        if (id != null) {
+            builder.id(id);
+        }
+        if (routing != null) {
+            builder.routing(routing);
+        }
+        return new BulkOperationWrapper(new BulkOperation.Builder().index(builder.build()).build());
+    }
+
+    private static BulkOperationWrapper createCreateOperation(final String document, final String id, final String routing) {
+        final CreateOperation.Builder<Object> builder = new CreateOperation.Builder<>()
+                .index("test-index")
+                .document(SerializedJson.fromStringAndOptionals(document, id, routing));
+        if (id != null) {
+            builder.id(id);
+        }
+        if (routing != null) {
+            builder.routing(routing);
+        }
+        return new BulkOperationWrapper(new BulkOperation.Builder().create(builder.build()).build());
+    }
+
+    private static String readEntity(final HttpEntity entity, final boolean compressed) throws IOException {
+        try (final InputStream content = compressed ? new GZIPInputStream(entity.getContent()) : entity.getContent()) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            content.transferTo(outputStream);
+            return outputStream.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
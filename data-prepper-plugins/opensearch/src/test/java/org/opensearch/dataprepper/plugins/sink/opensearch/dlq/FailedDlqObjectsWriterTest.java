@@ -0,0 +1,182 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.sink.opensearch.dlq;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.opensearch.dataprepper.model.failures.DlqObject;
+import org.opensearch.dataprepper.plugins.dlq.DlqWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class FailedDlqObjectsWriterTest {
+    private static final int THREAD_COUNT = 4;
+    private static final int WRITES_PER_THREAD = 10;
+
+    @Mock
+    private BufferedWriter dlqFileWriter;
+
+    @Mock
+    private DlqWriter dlqWriter;
+
+    private String pipelineName;
+    private String pluginName;
+    private AtomicInteger activeWrites;
+    private AtomicInteger maxActiveWrites;
+    private ExecutorService executorService;
+
+    @BeforeEach
+    void setUp() {
+        pipelineName = UUID.randomUUID().toString();
+        pluginName = UUID.randomUUID().toString();
+        activeWrites = new AtomicInteger();
+        maxActiveWrites = new AtomicInteger();
+        executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void write_with_dlq_file_writes_a_line_per_object_and_releases_the_event_handles() throws IOException {
+        final DlqObject dlqObject = createDlqObject();
+        final FailedDlqObjectsWriter objectUnderTest = new FailedDlqObjectsWriter(dlqFileWriter, dlqWriter, pipelineName, pluginName);
+
+        objectUnderTest.write(List.of(dlqObject), null);
+
+        verify(dlqFileWriter).write(anyString());
+        verify(dlqObject).releaseEventHandle(true);
+        verifyNoInteractions(dlqWriter);
+    }
+
+    @Test
+    void write_with_dlq_file_releases_the_event_handles_as_failed_when_the_write_fails() throws IOException {
+        final DlqObject dlqObject = createDlqObject();
+        doThrow(IOException.class).when(dlqFileWriter).write(anyString());
+        final FailedDlqObjectsWriter objectUnderTest = new FailedDlqObjectsWriter(dlqFileWriter, null, pipelineName, pluginName);
+
+        objectUnderTest.write(List.of(dlqObject), new RuntimeException(UUID.randomUUID().toString()));
+
+        verify(dlqObject).releaseEventHandle(false);
+    }
+
+    @Test
+    void write_with_dlq_writer_writes_the_objects_and_releases_the_event_handles() throws IOException {
+        final List<DlqObject> dlqObjects = List.of(mock(DlqObject.class), mock(DlqObject.class));
+        final FailedDlqObjectsWriter objectUnderTest = new FailedDlqObjectsWriter(null, dlqWriter, pipelineName, pluginName);
+
+        objectUnderTest.write(dlqObjects, null);
+
+        verify(dlqWriter).write(dlqObjects, pipelineName, pluginName);
+        for (final DlqObject dlqObject : dlqObjects) {
+            verify(dlqObject).releaseEventHandle(true);
+        }
+    }
+
+    @Test
+    void write_without_dlq_releases_the_event_handles_as_failed() {
+        final DlqObject dlqObject = mock(DlqObject.class);
+        final FailedDlqObjectsWriter objectUnderTest = new FailedDlqObjectsWriter(null, null, pipelineName, pluginName);
+
+        objectUnderTest.write(List.of(dlqObject), new RuntimeException(UUID.randomUUID().toString()));
+
+        verify(dlqObject).releaseEventHandle(false);
+    }
+
+    @Test
+    void write_from_concurrent_failures_serializes_the_writes_to_the_dlq_file() throws Exception {
+        doAnswer(recordActiveWrites()).when(dlqFileWriter).write(anyString());
+        final FailedDlqObjectsWriter objectUnderTest = new FailedDlqObjectsWriter(dlqFileWriter, null, pipelineName, pluginName);
+
+        writeConcurrently(objectUnderTest, createDlqObject());
+
+        verify(dlqFileWriter, times(THREAD_COUNT * WRITES_PER_THREAD)).write(anyString());
+        assertThat(maxActiveWrites.get(), equalTo(1));
+    }
+
+    @Test
+    void write_from_concurrent_failures_serializes_the_writes_to_the_dlq_writer() throws Exception {
+        doAnswer(recordActiveWrites()).when(dlqWriter).write(anyList(), anyString(), anyString());
+        final FailedDlqObjectsWriter objectUnderTest = new FailedDlqObjectsWriter(null, dlqWriter, pipelineName, pluginName);
+
+        writeConcurrently(objectUnderTest, mock(DlqObject.class));
+
+        verify(dlqWriter, times(THREAD_COUNT * WRITES_PER_THREAD)).write(anyList(), anyString(), anyString());
+        assertThat(maxActiveWrites.get(), equalTo(1));
+    }
+
+    private void writeConcurrently(final FailedDlqObjectsWriter objectUnderTest, final DlqObject dlqObject) throws Exception {
+        final List<DlqObject> dlqObjects = Collections.singletonList(dlqObject);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            futures.add(executorService.submit(() -> {
+                startLatch.await();
+                for (int j = 0; j < WRITES_PER_THREAD; j++) {
+                    objectUnderTest.write(dlqObjects, new RuntimeException("bulk request failed"));
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (final Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private Answer<Void> recordActiveWrites() {
+        return invocation -> {
+            maxActiveWrites.accumulateAndGet(activeWrites.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            activeWrites.decrementAndGet();
+            return null;
+        };
+    }
+
+    private static DlqObject createDlqObject() {
+        final DlqObject dlqObject = mock(DlqObject.class);
+        final FailedDlqData failedDlqData = FailedDlqData.builder()
+                .withIndex(UUID.randomUUID().toString())
+                .withIndexId(UUID.randomUUID().toString())
+                .withMessage(UUID.randomUUID().toString())
+                .withDocument(Map.of("message", UUID.randomUUID().toString()))
+                .build();
+        when(dlqObject.getFailedData()).thenReturn(failedDlqData);
+        return dlqObject;
+    }
+}
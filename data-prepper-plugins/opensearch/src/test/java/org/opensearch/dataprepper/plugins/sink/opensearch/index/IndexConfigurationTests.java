@@ -286,6 +286,11 @@ public class IndexConfigurationTests {
         assertEquals(60_000L, indexConfiguration.getFlushTimeout());
         assertEquals(false, indexConfiguration.isEstimateBulkSizeUsingCompression());
         assertEquals(2, indexConfiguration.getMaxLocalCompressionsForEstimation());
+        assertEquals(false, indexConfiguration.isStreamingBulkSerialization());
+        assertEquals(1, indexConfiguration.getMaxInFlightBulkRequests());
+        assertEquals(-1L, indexConfiguration.getMaxInFlightBulkSize());
+        assertEquals(false, indexConfiguration.isAdaptiveBulkControl());
+        assertEquals(2_000L, indexConfiguration.getAdaptiveBulkTargetLatency());
         assertEquals("${spanId}", indexConfiguration.getDocumentId());
     }
 
@@ -327,6 +332,11 @@ public class IndexConfigurationTests {
                 null, testIndexAlias, defaultTemplateFilePath, testBulkSize, testFlushTimeout, testIdField);
         pluginSetting.getSettings().put(IndexConfiguration.ESTIMATE_BULK_SIZE_USING_COMPRESSION, true);
         pluginSetting.getSettings().put(IndexConfiguration.MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION, 5);
+        pluginSetting.getSettings().put(IndexConfiguration.STREAMING_BULK_SERIALIZATION, true);
+        pluginSetting.getSettings().put(IndexConfiguration.MAX_IN_FLIGHT_BULK_REQUESTS, 4);
+        pluginSetting.getSettings().put(IndexConfiguration.MAX_IN_FLIGHT_BULK_SIZE, 20L);
+        pluginSetting.getSettings().put(IndexConfiguration.ADAPTIVE_BULK_CONTROL, true);
+        pluginSetting.getSettings().put(IndexConfiguration.ADAPTIVE_BULK_TARGET_LATENCY, 500L);
         final IndexConfiguration indexConfiguration = IndexConfiguration.readIndexConfig(pluginSetting);
         assertEquals(IndexType.CUSTOM, indexConfiguration.getIndexType());
         assertEquals(testIndexAlias, indexConfiguration.getIndexAlias());
@@ -335,9 +345,32 @@ public class IndexConfigurationTests {
         assertEquals(testFlushTimeout, indexConfiguration.getFlushTimeout());
         assertEquals(true, indexConfiguration.isEstimateBulkSizeUsingCompression());
         assertEquals(5, indexConfiguration.getMaxLocalCompressionsForEstimation());
+        assertEquals(true, indexConfiguration.isStreamingBulkSerialization());
+        assertEquals(4, indexConfiguration.getMaxInFlightBulkRequests());
+        assertEquals(20L, indexConfiguration.getMaxInFlightBulkSize());
+        assertEquals(true, indexConfiguration.isAdaptiveBulkControl());
+        assertEquals(500L, indexConfiguration.getAdaptiveBulkTargetLatency());
         assertEquals(testIdField, indexConfiguration.getDocumentId());
     }
 
+    @Test
+    public void testReadIndexConfig_ZeroMaxInFlightBulkRequests() {
+        final Map<String, Object> metadata = initializeConfigMetaData(
+                IndexType.CUSTOM.getValue(), "foo", null, null, null, null);
+        metadata.put(IndexConfiguration.MAX_IN_FLIGHT_BULK_REQUESTS, 0);
+        final PluginSetting pluginSetting = getPluginSetting(metadata);
+        assertThrows(IllegalArgumentException.class, () -> IndexConfiguration.readIndexConfig(pluginSetting));
+    }
+
+    @Test
+    public void testReadIndexConfig_ZeroAdaptiveBulkTargetLatency() {
+        final Map<String, Object> metadata = initializeConfigMetaData(
+                IndexType.CUSTOM.getValue(), "foo", null, null, null, null);
+        metadata.put(IndexConfiguration.ADAPTIVE_BULK_TARGET_LATENCY, 0L);
+        final PluginSetting pluginSetting = getPluginSetting(metadata);
+        assertThrows(IllegalArgumentException.class, () -> IndexConfiguration.readIndexConfig(pluginSetting));
+    }
+
     @Test
     public void testReadIndexConfig_ExplicitCustomIndexType() {
         final String defaultTemplateFilePath = Objects.requireNonNull(
@@ -0,0 +1,132 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.otel.codec;
+
+import com.google.protobuf.ByteString;
+import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
+import io.opentelemetry.proto.common.v1.AnyValue;
+import io.opentelemetry.proto.common.v1.ArrayValue;
+import io.opentelemetry.proto.common.v1.InstrumentationScope;
+import io.opentelemetry.proto.common.v1.KeyValue;
+import io.opentelemetry.proto.resource.v1.Resource;
+import io.opentelemetry.proto.trace.v1.ResourceSpans;
+import io.opentelemetry.proto.trace.v1.ScopeSpans;
+import io.opentelemetry.proto.trace.v1.Span;
+import io.opentelemetry.proto.trace.v1.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures decoding an {@link ExportTraceServiceRequest} into spans. The requests look like those of instrumented
+ * services: several resources with a few scopes each, and spans whose attribute keys repeat across the request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OTelProtoDecoderBenchmark {
+    private static final int RESOURCE_COUNT = 4;
+    private static final int SCOPE_COUNT = 3;
+    private static final String[] SPAN_ATTRIBUTE_KEYS = {
+            "http.method", "http.url", "http.status_code", "http.route", "net.peer.name", "net.peer.port",
+            "db.system", "db.statement", "thread.id", "thread.name", "rpc.service", "messaging.system"
+    };
+
+    @Param({"10", "100"})
+    private int spansPerScope;
+
+    private OTelProtoCodec.OTelProtoDecoder decoder;
+    private ExportTraceServiceRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Random random = new Random(42);
+        final ExportTraceServiceRequest.Builder requestBuilder = ExportTraceServiceRequest.newBuilder();
+        for (int resourceIndex = 0; resourceIndex < RESOURCE_COUNT; resourceIndex++) {
+            final ResourceSpans.Builder resourceSpansBuilder = ResourceSpans.newBuilder()
+                    .setResource(Resource.newBuilder()
+                            .addAttributes(stringAttribute("service.name", "service-" + resourceIndex))
+                            .addAttributes(stringAttribute("service.version", "1.0." + resourceIndex))
+                            .addAttributes(stringAttribute("host.name", "host-" + resourceIndex))
+                            .addAttributes(stringAttribute("telemetry.sdk.language", "java"))
+                            .addAttributes(stringAttribute("telemetry.sdk.name", "opentelemetry"))
+                            .addAttributes(KeyValue.newBuilder().setKey("process.pid")
+                                    .setValue(AnyValue.newBuilder().setIntValue(1000 + resourceIndex)))
+                            .addAttributes(KeyValue.newBuilder().setKey("process.command_args")
+                                    .setValue(AnyValue.newBuilder().setArrayValue(ArrayValue.newBuilder()
+                                            .addValues(AnyValue.newBuilder().setStringValue("java"))
+                                            .addValues(AnyValue.newBuilder().setStringValue("-jar"))))));
+            for (int scopeIndex = 0; scopeIndex < SCOPE_COUNT; scopeIndex++) {
+                final ScopeSpans.Builder scopeSpansBuilder = ScopeSpans.newBuilder()
+                        .setScope(InstrumentationScope.newBuilder().setName("io.opentelemetry.scope-" + scopeIndex).setVersion("1.2.0"));
+                for (int spanIndex = 0; spanIndex < spansPerScope; spanIndex++) {
+                    scopeSpansBuilder.addSpans(createSpan(random, spanIndex));
+                }
+                resourceSpansBuilder.addScopeSpans(scopeSpansBuilder);
+            }
+            requestBuilder.addResourceSpans(resourceSpansBuilder);
+        }
+        request = requestBuilder.build();
+        decoder = new OTelProtoCodec.OTelProtoDecoder();
+    }
+
+    @Benchmark
+    public List<org.opensearch.dataprepper.model.trace.Span> parseExportTraceServiceRequest() {
+        return decoder.parseExportTraceServiceRequest(request);
+    }
+
+    private static Span createSpan(final Random random, final int spanIndex) {
+        final Span.Builder spanBuilder = Span.newBuilder()
+                .setTraceId(ByteString.copyFrom(randomBytes(random, 16)))
+                .setSpanId(ByteString.copyFrom(randomBytes(random, 8)))
+                .setName("span-" + spanIndex % 20)
+                .setKind(Span.SpanKind.SPAN_KIND_SERVER)
+                .setStartTimeUnixNano(1_600_000_000_000_000_000L + spanIndex)
+                .setEndTimeUnixNano(1_600_000_000_100_000_000L + spanIndex)
+                .setStatus(Status.newBuilder().setCode(Status.StatusCode.STATUS_CODE_OK));
+        if (spanIndex > 0) {
+            spanBuilder.setParentSpanId(ByteString.copyFrom(randomBytes(random, 8)));
+        }
+        for (int attributeIndex = 0; attributeIndex < SPAN_ATTRIBUTE_KEYS.length; attributeIndex++) {
+            final AnyValue.Builder value = AnyValue.newBuilder();
+            switch (attributeIndex % 4) {
+                case 0:
+                    value.setStringValue("value-" + random.nextInt(100));
+                    break;
+                case 1:
+                    value.setIntValue(random.nextInt(1000));
+                    break;
+                case 2:
+                    value.setBoolValue(random.nextBoolean());
+                    break;
+                default:
+                    value.setDoubleValue(random.nextDouble());
+            }
+            spanBuilder.addAttributes(KeyValue.newBuilder().setKey(SPAN_ATTRIBUTE_KEYS[attributeIndex]).setValue(value));
+        }
+        return spanBuilder.build();
+    }
+
+    private static KeyValue stringAttribute(final String key, final String value) {
+        return KeyValue.newBuilder().setKey(key).setValue(AnyValue.newBuilder().setStringValue(value)).build();
+    }
+
+    private static byte[] randomBytes(final Random random, final int length) {
+        final byte[] bytes = new byte[length];
+        random.nextBytes(bytes);
+        return bytes;
+    }
+}
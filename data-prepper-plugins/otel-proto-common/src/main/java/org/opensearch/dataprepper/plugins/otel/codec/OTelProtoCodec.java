@@ -6,7 +6,10 @@
 package org.opensearch.dataprepper.plugins.otel.codec;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.protobuf.ByteString;
 import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceRequest;
 import io.opentelemetry.proto.collector.trace.v1.ExportTraceServiceRequest;
@@ -90,18 +93,18 @@ public class OTelProtoCodec {
     static final String INSTRUMENTATION_SCOPE_NAME = "instrumentationScope.name";
     static final String INSTRUMENTATION_SCOPE_VERSION = "instrumentationScope.version";
 
-    public static final Function<String, String> REPLACE_DOT_WITH_AT = i -> i.replace(DOT, AT);
+    public static final Function<String, String> REPLACE_DOT_WITH_AT = new AttributeKeyCache(i -> i.replace(DOT, AT));
     /**
      * Span and Resource attributes are essential for OpenSearch so they should not be nested. SO we will prefix them with "span.attributes"
      * and "resource.attributes".
      *
      */
-    public static final Function<String, String> SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> SPAN_ATTRIBUTES + DOT + i.replace(DOT, AT);
-    public static final Function<String, String> RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> RESOURCE_ATTRIBUTES + DOT + i.replace(DOT, AT);
-    public static final Function<String, String> PREFIX_AND_LOG_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> LOG_ATTRIBUTES + DOT + i.replace(DOT, AT);
-    public static final Function<String, String> PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> METRIC_ATTRIBUTES + DOT + i.replace(DOT, AT);
-    public static final Function<String, String> PREFIX_AND_RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> RESOURCE_ATTRIBUTES + DOT + i.replace(DOT, AT);
-    public static final Function<String, String> PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT = i -> EXEMPLAR_ATTRIBUTES + DOT + i.replace(DOT, AT);
+    public static final Function<String, String> SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT = new AttributeKeyCache(i -> SPAN_ATTRIBUTES + DOT + i.replace(DOT, AT));
+    public static final Function<String, String> RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT = new AttributeKeyCache(i -> RESOURCE_ATTRIBUTES + DOT + i.replace(DOT, AT));
+    public static final Function<String, String> PREFIX_AND_LOG_ATTRIBUTES_REPLACE_DOT_WITH_AT = new AttributeKeyCache(i -> LOG_ATTRIBUTES + DOT + i.replace(DOT, AT));
+    public static final Function<String, String> PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT = new AttributeKeyCache(i -> METRIC_ATTRIBUTES + DOT + i.replace(DOT, AT));
+    public static final Function<String, String> PREFIX_AND_RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT = RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT;
+    public static final Function<String, String> PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT = new AttributeKeyCache(i -> EXEMPLAR_ATTRIBUTES + DOT + i.replace(DOT, AT));
 
     private static final Map<BoundsKey, double[]> EXPONENTIAL_BUCKET_BOUNDS = new ConcurrentHashMap<>();
 
@@ -137,6 +140,42 @@ public class OTelProtoCodec {
             return Objects.hash(scale, sign);
         }
     }
+
+    /**
+     * Rewrites attribute keys and caches the interned results, since the same few hundred keys repeat in every request.
+     * Once {@link #MAX_CACHED_KEYS} keys are cached, further keys are rewritten without being cached or interned so that
+     * requests with unbounded keys cannot grow the cache or the string pool without limit.
+     */
+    static class AttributeKeyCache implements Function<String, String> {
+        static final int MAX_CACHED_KEYS = 10_000;
+
+        private final Function<String, String> keyRewriter;
+        private final Map<String, String> rewrittenKeys = new ConcurrentHashMap<>();
+
+        AttributeKeyCache(final Function<String, String> keyRewriter) {
+            this.keyRewriter = keyRewriter;
+        }
+
+        @Override
+        public String apply(final String key) {
+            final String cachedKey = rewrittenKeys.get(key);
+            if (cachedKey != null) {
+                return cachedKey;
+            }
+            final String rewrittenKey = keyRewriter.apply(key);
+            if (rewrittenKeys.size() >= MAX_CACHED_KEYS) {
+                return rewrittenKey;
+            }
+            final String internedKey = rewrittenKey.intern();
+            final String existingKey = rewrittenKeys.putIfAbsent(key, internedKey);
+            return existingKey != null ? existingKey : internedKey;
+        }
+
+        int size() {
+            return rewrittenKeys.size();
+        }
+    }
+
     public static String convertUnixNanosToISO8601(final long unixNano) {
         return Instant.ofEpochSecond(0L, unixNano).toString();
     }
@@ -148,8 +187,11 @@ public class OTelProtoCodec {
 
     public static class OTelProtoDecoder {
         public List<Span> parseExportTraceServiceRequest(final ExportTraceServiceRequest exportTraceServiceRequest) {
-            return exportTraceServiceRequest.getResourceSpansList().stream()
-                    .flatMap(rs -> parseResourceSpans(rs).stream()).collect(Collectors.toList());
+            final List<Span> spans = new ArrayList<>();
+            for (final ResourceSpans resourceSpans : exportTraceServiceRequest.getResourceSpansList()) {
+                spans.addAll(parseResourceSpans(resourceSpans));
+            }
+            return spans;
         }
 
         public List<OpenTelemetryLog> parseExportLogsServiceRequest(final ExportLogsServiceRequest exportLogsServiceRequest) {
@@ -187,7 +229,7 @@ public class OTelProtoCodec {
 
         protected List<Span> parseResourceSpans(final ResourceSpans resourceSpans) {
             final String serviceName = getServiceName(resourceSpans.getResource()).orElse(null);
-            final Map<String, Object> resourceAttributes = getResourceAttributes(resourceSpans.getResource());
+            final ObjectNode resourceAttributes = getResourceAttributesNode(resourceSpans.getResource());
 
             if (resourceSpans.getScopeSpansList().size() > 0) {
                 return parseScopeSpans(resourceSpans.getScopeSpansList(), serviceName, resourceAttributes);
@@ -201,33 +243,35 @@ public class OTelProtoCodec {
             return Collections.emptyList();
         }
 
-        private List<Span> parseScopeSpans(final List<ScopeSpans> scopeSpansList, final String serviceName, final Map<String, Object> resourceAttributes) {
-            return scopeSpansList.stream()
-                    .map(scopeSpans -> parseSpans(scopeSpans.getSpansList(), scopeSpans.getScope(),
-                            OTelProtoCodec::getInstrumentationScopeAttributes, serviceName, resourceAttributes))
-                    .flatMap(Collection::stream)
-                    .collect(Collectors.toList());
+        private List<Span> parseScopeSpans(final List<ScopeSpans> scopeSpansList, final String serviceName, final ObjectNode resourceAttributes) {
+            final List<Span> spans = new ArrayList<>();
+            for (final ScopeSpans scopeSpans : scopeSpansList) {
+                final ObjectNode scopeAttributes = OBJECT_MAPPER.valueToTree(getInstrumentationScopeAttributes(scopeSpans.getScope()));
+                parseSpans(scopeSpans.getSpansList(), scopeAttributes, serviceName, resourceAttributes, spans);
+            }
+            return spans;
         }
 
         private List<Span> parseInstrumentationLibrarySpans(final List<InstrumentationLibrarySpans> instrumentationLibrarySpansList,
-                                                            final String serviceName, final Map<String, Object> resourceAttributes) {
-            return instrumentationLibrarySpansList.stream()
-                    .map(instrumentationLibrarySpans -> parseSpans(instrumentationLibrarySpans.getSpansList(),
-                            instrumentationLibrarySpans.getInstrumentationLibrary(), this::getInstrumentationLibraryAttributes,
-                            serviceName, resourceAttributes))
-                    .flatMap(Collection::stream)
-                    .collect(Collectors.toList());
+                                                            final String serviceName, final ObjectNode resourceAttributes) {
+            final List<Span> spans = new ArrayList<>();
+            for (final InstrumentationLibrarySpans instrumentationLibrarySpans : instrumentationLibrarySpansList) {
+                final ObjectNode scopeAttributes = OBJECT_MAPPER.valueToTree(
+                        getInstrumentationLibraryAttributes(instrumentationLibrarySpans.getInstrumentationLibrary()));
+                parseSpans(instrumentationLibrarySpans.getSpansList(), scopeAttributes, serviceName, resourceAttributes, spans);
+            }
+            return spans;
         }
 
-        private <T> List<Span> parseSpans(final List<io.opentelemetry.proto.trace.v1.Span> spans, final T scope,
-                                          final Function<T, Map<String, Object>> scopeAttributesGetter,
-                                          final String serviceName, final Map<String, Object> resourceAttributes) {
-            return spans.stream()
-                    .map(span -> {
-                        final Map<String, Object> scopeAttributes = scopeAttributesGetter.apply(scope);
-                        return parseSpan(span, scopeAttributes, serviceName, resourceAttributes);
-                    })
-                    .collect(Collectors.toList());
+        /**
+         * The resource and scope attributes are converted once and then shared by the attributes of all their spans.
+         * This is safe because the nodes of the attribute values are immutable.
+         */
+        private void parseSpans(final List<io.opentelemetry.proto.trace.v1.Span> spans, final ObjectNode scopeAttributes,
+                                final String serviceName, final ObjectNode resourceAttributes, final List<Span> parsedSpans) {
+            for (final io.opentelemetry.proto.trace.v1.Span span : spans) {
+                parsedSpans.add(parseSpan(span, scopeAttributes, serviceName, resourceAttributes));
+            }
         }
 
         protected List<OpenTelemetryLog> processLogsList(final List<LogRecord> logsList,
@@ -260,6 +304,27 @@ public class OTelProtoCodec {
 
         protected Span parseSpan(final io.opentelemetry.proto.trace.v1.Span sp, final Map<String, Object> instrumentationScopeAttributes,
                                      final String serviceName, final Map<String, Object> resourceAttributes) {
+            final ObjectNode instrumentationScopeAttributesNode = OBJECT_MAPPER.valueToTree(instrumentationScopeAttributes);
+            final ObjectNode resourceAttributesNode = OBJECT_MAPPER.valueToTree(resourceAttributes);
+            return parseSpan(sp, instrumentationScopeAttributesNode, serviceName, resourceAttributesNode);
+        }
+
+        /**
+         * Parses a span by streaming its attributes straight into the attributes node of the event, without building
+         * and merging intermediate maps.
+         *
+         * @param sp opentelemetry-protobuf span
+         * @param instrumentationScopeAttributes node with the attributes of the instrumentation scope of the span
+         * @param serviceName name of the service of the span
+         * @param resourceAttributes node with the attributes of the resource of the span
+         * @return the span
+         */
+        protected Span parseSpan(final io.opentelemetry.proto.trace.v1.Span sp, final ObjectNode instrumentationScopeAttributes,
+                                 final String serviceName, final ObjectNode resourceAttributes) {
+            final ObjectNode attributes = getSpanAttributesNode(sp);
+            attributes.setAll(resourceAttributes);
+            attributes.setAll(instrumentationScopeAttributes);
+            putSpanStatusAttributes(attributes, sp.getStatus());
             return JacksonSpan.builder()
                     .withSpanId(convertByteStringToString(sp.getSpanId()))
                     .withTraceId(convertByteStringToString(sp.getTraceId()))
@@ -270,14 +335,7 @@ public class OTelProtoCodec {
                     .withKind(sp.getKind().name())
                     .withStartTime(getStartTimeISO8601(sp))
                     .withEndTime(getEndTimeISO8601(sp))
-                    .withAttributes(mergeAllAttributes(
-                            Arrays.asList(
-                                    getSpanAttributes(sp),
-                                    resourceAttributes,
-                                    instrumentationScopeAttributes,
-                                    getSpanStatusAttributes(sp.getStatus())
-                            )
-                    ))
+                    .withAttributesNode(attributes)
                     .withDroppedAttributesCount(sp.getDroppedAttributesCount())
                     .withEvents(sp.getEventsList().stream().map(this::getSpanEvent).collect(Collectors.toList()))
                     .withDroppedEventsCount(sp.getDroppedEventsCount())
@@ -314,9 +372,11 @@ public class OTelProtoCodec {
                     }
                 case KVLIST_VALUE:
                     try {
-                        return OBJECT_MAPPER.writeValueAsString(value.getKvlistValue().getValuesList().stream()
-                                .collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()),
-                                        i ->convertAnyValue(i.getValue()))));
+                        final Map<String, Object> kvlist = new HashMap<>();
+                        for (final KeyValue keyValue : value.getKvlistValue().getValuesList()) {
+                            kvlist.put(REPLACE_DOT_WITH_AT.apply(keyValue.getKey()), convertAnyValue(keyValue.getValue()));
+                        }
+                        return OBJECT_MAPPER.writeValueAsString(kvlist);
                     } catch (JsonProcessingException e) {
                         throw new OTelDecodingException(e);
                     }
@@ -325,10 +385,34 @@ public class OTelProtoCodec {
             }
         }
 
+        /**
+         * Converts an {@link AnyValue} into the node which {@link ObjectMapper#valueToTree(Object)} produces for
+         * {@link #convertAnyValue(AnyValue)}, without boxing the value.
+         *
+         * @param value The value to convert
+         * @return the converted value as node
+         */
+        protected JsonNode convertAnyValueToJsonNode(final AnyValue value) {
+            switch (value.getValueCase()) {
+                case VALUE_NOT_SET:
+                case STRING_VALUE:
+                    return JsonNodeFactory.instance.textNode(value.getStringValue());
+                case BOOL_VALUE:
+                    return JsonNodeFactory.instance.booleanNode(value.getBoolValue());
+                case INT_VALUE:
+                    return JsonNodeFactory.instance.numberNode(value.getIntValue());
+                case DOUBLE_VALUE:
+                    return JsonNodeFactory.instance.numberNode(value.getDoubleValue());
+                case ARRAY_VALUE:
+                case KVLIST_VALUE:
+                    return JsonNodeFactory.instance.textNode((String) convertAnyValue(value));
+                default:
+                    throw new OTelDecodingException("Unknown case");
+            }
+        }
+
         protected Map<String, Object> mergeAllAttributes(final Collection<Map<String, Object>> attributes) {
-            return attributes.stream()
-                    .flatMap(map -> map.entrySet().stream())
-                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+            return OTelProtoCodec.mergeAllAttributes(attributes);
         }
 
         protected SpanEvent getSpanEvent(final io.opentelemetry.proto.trace.v1.Span.Event event) {
@@ -351,19 +435,42 @@ public class OTelProtoCodec {
         }
 
         protected Map<String, Object> getSpanAttributes(final io.opentelemetry.proto.trace.v1.Span span) {
-            return span.getAttributesList().stream().collect(Collectors.toMap(i -> SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return convertKeyValues(span.getAttributesList(), SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT);
         }
 
         protected Map<String, Object> getResourceAttributes(final Resource resource) {
-            return resource.getAttributesList().stream().collect(Collectors.toMap(i -> RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return convertKeyValues(resource.getAttributesList(), RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT);
         }
 
         protected Map<String, Object> getLinkAttributes(final io.opentelemetry.proto.trace.v1.Span.Link link) {
-            return link.getAttributesList().stream().collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return convertKeyValues(link.getAttributesList(), REPLACE_DOT_WITH_AT);
         }
 
         protected Map<String, Object> getEventAttributes(final io.opentelemetry.proto.trace.v1.Span.Event event) {
-            return event.getAttributesList().stream().collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+            return convertKeyValues(event.getAttributesList(), REPLACE_DOT_WITH_AT);
+        }
+
+        protected ObjectNode getSpanAttributesNode(final io.opentelemetry.proto.trace.v1.Span span) {
+            return putAttributes(JsonNodeFactory.instance.objectNode(), span.getAttributesList(), SPAN_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+        }
+
+        protected ObjectNode getResourceAttributesNode(final Resource resource) {
+            return putAttributes(JsonNodeFactory.instance.objectNode(), resource.getAttributesList(), RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT);
+        }
+
+        private Map<String, Object> convertKeyValues(final List<KeyValue> attributesList, final Function<String, String> keyRewriter) {
+            final Map<String, Object> attributes = new HashMap<>();
+            for (final KeyValue keyValue : attributesList) {
+                attributes.put(keyRewriter.apply(keyValue.getKey()), convertAnyValue(keyValue.getValue()));
+            }
+            return attributes;
+        }
+
+        private ObjectNode putAttributes(final ObjectNode node, final List<KeyValue> attributesList, final Function<String, String> keyRewriter) {
+            for (final KeyValue keyValue : attributesList) {
+                node.set(keyRewriter.apply(keyValue.getKey()), convertAnyValueToJsonNode(keyValue.getValue()));
+            }
+            return node;
         }
 
         /**
@@ -426,6 +533,13 @@ public class OTelProtoCodec {
             return statusAttr;
         }
 
+        private void putSpanStatusAttributes(final ObjectNode node, final Status status) {
+            node.put(STATUS_CODE, status.getCodeValue());
+            if (!status.getMessage().isEmpty()) {
+                node.put(STATUS_MESSAGE, status.getMessage());
+            }
+        }
+
         protected String getStartTimeISO8601(final io.opentelemetry.proto.trace.v1.Span span) {
             return convertUnixNanosToISO8601(span.getStartTimeUnixNano());
         }
@@ -652,8 +766,7 @@ public class OTelProtoCodec {
                 }
             case KVLIST_VALUE:
                 try {
-                    return OBJECT_MAPPER.writeValueAsString(value.getKvlistValue().getValuesList().stream()
-                            .collect(Collectors.toMap(i -> REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue()))));
+                    return OBJECT_MAPPER.writeValueAsString(unpackAttributes(value.getKvlistValue().getValuesList(), REPLACE_DOT_WITH_AT));
                 } catch (JsonProcessingException e) {
                     throw new RuntimeException(e);
                 }
@@ -670,8 +783,7 @@ public class OTelProtoCodec {
      * @return A Map containing all attributes of `numberDataPoint` with keys converted into an OS-friendly format
      */
     public static Map<String, Object> convertKeysOfDataPointAttributes(final NumberDataPoint numberDataPoint) {
-        return numberDataPoint.getAttributesList().stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return unpackAttributes(numberDataPoint.getAttributesList(), PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT);
     }
 
     /**
@@ -683,8 +795,7 @@ public class OTelProtoCodec {
      * @return A Map containing unpacked {@link KeyValue} data
      */
     public static Map<String, Object> unpackKeyValueList(List<KeyValue> attributesList) {
-        return attributesList.stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return unpackAttributes(attributesList, PREFIX_AND_METRIC_ATTRIBUTES_REPLACE_DOT_WITH_AT);
     }
 
     /**
@@ -696,8 +807,7 @@ public class OTelProtoCodec {
      * @return A Map containing unpacked {@link KeyValue} data
      */
     public static Map<String, Object> unpackKeyValueListLog(List<KeyValue> attributesList) {
-        return attributesList.stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_LOG_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return unpackAttributes(attributesList, PREFIX_AND_LOG_ATTRIBUTES_REPLACE_DOT_WITH_AT);
     }
 
 
@@ -710,8 +820,7 @@ public class OTelProtoCodec {
      * @return A Map containing unpacked {@link KeyValue} data
      */
     public static Map<String, Object> unpackExemplarValueList(List<KeyValue> attributesList) {
-        return attributesList.stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return unpackAttributes(attributesList, PREFIX_AND_EXEMPLAR_ATTRIBUTES_REPLACE_DOT_WITH_AT);
     }
 
 
@@ -752,8 +861,7 @@ public class OTelProtoCodec {
     }
 
     public static Map<String, Object> getResourceAttributes(final Resource resource) {
-        return resource.getAttributesList().stream()
-                .collect(Collectors.toMap(i -> PREFIX_AND_RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT.apply(i.getKey()), i -> convertAnyValue(i.getValue())));
+        return unpackAttributes(resource.getAttributesList(), PREFIX_AND_RESOURCE_ATTRIBUTES_REPLACE_DOT_WITH_AT);
     }
 
     /**
@@ -808,9 +916,19 @@ public class OTelProtoCodec {
 
 
     public static Map<String, Object> mergeAllAttributes(final Collection<Map<String, Object>> attributes) {
-        return attributes.stream()
-                .flatMap(map -> map.entrySet().stream())
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        final Map<String, Object> mergedAttributes = new HashMap<>();
+        for (final Map<String, Object> attributesMap : attributes) {
+            mergedAttributes.putAll(attributesMap);
+        }
+        return mergedAttributes;
+    }
+
+    private static Map<String, Object> unpackAttributes(final List<KeyValue> attributesList, final Function<String, String> keyRewriter) {
+        final Map<String, Object> attributes = new HashMap<>();
+        for (final KeyValue keyValue : attributesList) {
+            attributes.put(keyRewriter.apply(keyValue.getKey()), convertAnyValue(keyValue.getValue()));
+        }
+        return attributes;
     }
 
 
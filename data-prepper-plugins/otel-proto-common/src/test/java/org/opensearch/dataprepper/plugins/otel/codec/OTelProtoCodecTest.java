@@ -7,7 +7,9 @@ package org.opensearch.dataprepper.plugins.otel.codec;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.util.JsonFormat;
 import io.opentelemetry.proto.collector.logs.v1.ExportLogsServiceRequest;
@@ -68,8 +70,10 @@ import static org.assertj.core.api.Assertions.entry;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -365,6 +369,75 @@ public class OTelProtoCodecTest {
 
         }
 
+        @Test
+        public void testConvertAnyValueToJsonNode_producesTheNodesOfConvertAnyValue() {
+            final List<AnyValue> values = Arrays.asList(
+                    AnyValue.newBuilder().build(),
+                    AnyValue.newBuilder().setStringValue(UUID.randomUUID().toString()).build(),
+                    AnyValue.newBuilder().setBoolValue(true).build(),
+                    AnyValue.newBuilder().setIntValue(RANDOM.nextLong()).build(),
+                    AnyValue.newBuilder().setDoubleValue(RANDOM.nextDouble()).build(),
+                    AnyValue.newBuilder().setArrayValue(ArrayValue.newBuilder()
+                            .addValues(AnyValue.newBuilder().setStringValue("a").build())
+                            .addValues(AnyValue.newBuilder().setIntValue(1).build()).build()).build(),
+                    AnyValue.newBuilder().setKvlistValue(KeyValueList.newBuilder()
+                            .addValues(KeyValue.newBuilder().setKey("k.1").setValue(AnyValue.newBuilder().setBoolValue(false).build()).build())
+                            .build()).build());
+
+            for (final AnyValue value : values) {
+                final JsonNode expectedNode = OBJECT_MAPPER.valueToTree(decoderUnderTest.convertAnyValue(value));
+                assertThat(decoderUnderTest.convertAnyValueToJsonNode(value), equalTo(expectedNode));
+            }
+        }
+
+        @Test
+        public void testParseExportTraceServiceRequest_attributesEqualMergedAttributes() throws IOException {
+            final ExportTraceServiceRequest exportTraceServiceRequest = buildExportTraceServiceRequestFromJsonFile(TEST_REQUEST_TRACE_JSON_FILE);
+            final ResourceSpans resourceSpans = exportTraceServiceRequest.getResourceSpans(0);
+
+            final List<Span> spans = decoderUnderTest.parseResourceSpans(resourceSpans);
+
+            int spanIndex = 0;
+            for (final ScopeSpans scopeSpans : resourceSpans.getScopeSpansList()) {
+                for (final io.opentelemetry.proto.trace.v1.Span span : scopeSpans.getSpansList()) {
+                    final Map<String, Object> expectedAttributes = OBJECT_MAPPER.convertValue(decoderUnderTest.mergeAllAttributes(Arrays.asList(
+                            decoderUnderTest.getSpanAttributes(span),
+                            decoderUnderTest.getResourceAttributes(resourceSpans.getResource()),
+                            OTelProtoCodec.getInstrumentationScopeAttributes(scopeSpans.getScope()),
+                            decoderUnderTest.getSpanStatusAttributes(span.getStatus()))), new TypeReference<Map<String, Object>>() {});
+                    assertThat(spans.get(spanIndex++).getAttributes(), equalTo(expectedAttributes));
+                }
+            }
+            assertThat(spanIndex, equalTo(spans.size()));
+        }
+
+        @Test
+        public void testParseSpan_withAttributeMaps_equalsParseSpan_withAttributeNodes() throws IOException {
+            final ExportTraceServiceRequest exportTraceServiceRequest = buildExportTraceServiceRequestFromJsonFile(TEST_REQUEST_TRACE_JSON_FILE);
+            final ResourceSpans resourceSpans = exportTraceServiceRequest.getResourceSpans(0);
+            final ScopeSpans scopeSpans = resourceSpans.getScopeSpans(0);
+            final io.opentelemetry.proto.trace.v1.Span span = scopeSpans.getSpans(0);
+
+            final Span spanFromMaps = decoderUnderTest.parseSpan(span, OTelProtoCodec.getInstrumentationScopeAttributes(scopeSpans.getScope()),
+                    "service", decoderUnderTest.getResourceAttributes(resourceSpans.getResource()));
+            final ObjectNode scopeAttributesNode = OBJECT_MAPPER.valueToTree(OTelProtoCodec.getInstrumentationScopeAttributes(scopeSpans.getScope()));
+            final Span spanFromNodes = decoderUnderTest.parseSpan(span, scopeAttributesNode,
+                    "service", decoderUnderTest.getResourceAttributesNode(resourceSpans.getResource()));
+
+            assertThat(spanFromMaps.toJsonString(), equalTo(spanFromNodes.toJsonString()));
+        }
+
+        @Test
+        public void testGetSpanAttributes_withDuplicateKeys_keepsTheLastValue() {
+            final io.opentelemetry.proto.trace.v1.Span span = io.opentelemetry.proto.trace.v1.Span.newBuilder()
+                    .addAttributes(KeyValue.newBuilder().setKey("http.status").setValue(AnyValue.newBuilder().setStringValue("4xx").build()).build())
+                    .addAttributes(KeyValue.newBuilder().setKey("http.status").setValue(AnyValue.newBuilder().setStringValue("5xx").build()).build())
+                    .build();
+
+            assertThat(decoderUnderTest.getSpanAttributes(span).get("span.attributes.http@status"), equalTo("5xx"));
+            assertThat(decoderUnderTest.getSpanAttributesNode(span).get("span.attributes.http@status").asText(), equalTo("5xx"));
+        }
+
         @Test
         public void testISO8601() {
             final long NANO_MULTIPLIER = 1_000 * 1_000 * 1_000;
@@ -777,6 +850,43 @@ public class OTelProtoCodecTest {
         assertThat(stringCodecResult, equalTo(timeISO8601));
     }
 
+    @Test
+    public void testAttributeKeyCache_returnsTheSameRewrittenKeyInstance() {
+        final OTelProtoCodec.AttributeKeyCache attributeKeyCache = new OTelProtoCodec.AttributeKeyCache(key -> "prefix." + key.replace(".", "@"));
+
+        final String rewrittenKey = attributeKeyCache.apply(new String("http.status"));
+
+        assertThat(rewrittenKey, equalTo("prefix.http@status"));
+        assertThat(attributeKeyCache.apply(new String("http.status")), sameInstance(rewrittenKey));
+        assertThat(attributeKeyCache.size(), equalTo(1));
+    }
+
+    @Test
+    public void testAttributeKeyCache_stopsCachingAtTheMaximumNumberOfKeys() {
+        final OTelProtoCodec.AttributeKeyCache attributeKeyCache = new OTelProtoCodec.AttributeKeyCache(key -> key.replace(".", "@"));
+
+        for (int i = 0; i < OTelProtoCodec.AttributeKeyCache.MAX_CACHED_KEYS + 10; i++) {
+            assertThat(attributeKeyCache.apply("key." + i), equalTo("key@" + i));
+        }
+
+        assertThat(attributeKeyCache.size(), equalTo(OTelProtoCodec.AttributeKeyCache.MAX_CACHED_KEYS));
+    }
+
+    @Test
+    public void testAttributeKeyCache_doesNotInternKeysPastTheMaximumNumberOfKeys() {
+        final OTelProtoCodec.AttributeKeyCache attributeKeyCache = new OTelProtoCodec.AttributeKeyCache(key -> "prefix." + key);
+        assertThat(attributeKeyCache.apply(new String("status")), sameInstance("prefix.status"));
+
+        for (int i = 1; i < OTelProtoCodec.AttributeKeyCache.MAX_CACHED_KEYS; i++) {
+            attributeKeyCache.apply("key." + i);
+        }
+        final String uncachedKey = attributeKeyCache.apply(new String("code"));
+
+        assertThat(uncachedKey, equalTo("prefix.code"));
+        assertThat(uncachedKey, not(sameInstance("prefix.code")));
+        assertThat(attributeKeyCache.size(), equalTo(OTelProtoCodec.AttributeKeyCache.MAX_CACHED_KEYS));
+    }
+
     @Test
     public void testOTelProtoCodecConsistency() throws IOException, DecoderException {
         final ExportTraceServiceRequest request = buildExportTraceServiceRequestFromJsonFile(TEST_REQUEST_TRACE_JSON_FILE);
@@ -34,6 +34,7 @@ import java.time.Instant;
 import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
@@ -52,11 +53,17 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
     public static final String RECORDS_IN_MISSING_TRACE_GROUP = "recordsInMissingTraceGroup";
     public static final String RECORDS_OUT_FIXED_TRACE_GROUP = "recordsOutFixedTraceGroup";
     public static final String RECORDS_OUT_MISSING_TRACE_GROUP = "recordsOutMissingTraceGroup";
+    public static final String TRACE_GROUP_CACHE_HITS = "traceGroupCacheHits";
+    public static final String TRACE_GROUP_CACHE_MISSES = "traceGroupCacheMisses";
+    public static final String TRACE_GROUP_CACHE_HIT_RATIO = "traceGroupCacheHitRatio";
+    public static final String TRACE_GROUP_CACHE_SIZE = "traceGroupCacheSize";
+    public static final String TRACE_GROUP_LOOKUP_LATENCY = "traceGroupLookupLatency";
 
     private static final Logger LOG = LoggerFactory.getLogger(OTelTraceGroupProcessor.class);
 
     private final OTelTraceGroupProcessorConfig otelTraceGroupProcessorConfig;
     private final RestHighLevelClient restHighLevelClient;
+    private final TraceGroupLookup traceGroupLookup;
 
     private final Counter recordsInMissingTraceGroupCounter;
     private final Counter recordsOutFixedTraceGroupCounter;
@@ -67,6 +74,7 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
         super(pluginSetting);
         otelTraceGroupProcessorConfig = OTelTraceGroupProcessorConfig.buildConfig(pluginSetting);
         restHighLevelClient = otelTraceGroupProcessorConfig.getEsConnectionConfig().createClient(awsCredentialsSupplier);
+        traceGroupLookup = new TraceGroupLookup(this::searchTraceGroupByTraceIds, otelTraceGroupProcessorConfig, pluginMetrics);
 
         recordsInMissingTraceGroupCounter = pluginMetrics.counter(RECORDS_IN_MISSING_TRACE_GROUP);
         recordsOutFixedTraceGroupCounter = pluginMetrics.counter(RECORDS_OUT_FIXED_TRACE_GROUP);
@@ -91,7 +99,8 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
             }
         }
 
-        final Map<String, TraceGroup> traceIdToTraceGroup = searchTraceGroupByTraceIds(traceIdsToLookUp);
+        final Map<String, TraceGroup> traceIdToTraceGroup = traceIdsToLookUp.isEmpty() ?
+                Collections.emptyMap() : traceGroupLookup.lookUp(traceIdsToLookUp);
         for (final Record<Span> record: recordsMissingTraceGroupInfo) {
             final Span span = record.getData();
             final String traceId = span.getTraceId();
@@ -122,21 +131,16 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
         span.setTraceGroupFields(traceGroup.getTraceGroupFields());
     }
 
-    private Map<String, TraceGroup> searchTraceGroupByTraceIds(final Collection<String> traceIds) {
+    private Map<String, TraceGroup> searchTraceGroupByTraceIds(final Collection<String> traceIds) throws IOException {
         final Map<String, TraceGroup> traceIdToTraceGroup = new HashMap<>();
         final SearchRequest searchRequest = createSearchRequest(traceIds);
 
-        try {
-            final SearchResponse searchResponse = restHighLevelClient.search(searchRequest, RequestOptions.DEFAULT);
-            final SearchHit[] searchHits = searchResponse.getHits().getHits();
-            Arrays.asList(searchHits).forEach(searchHit -> {
-                final Optional<Map.Entry<String, TraceGroup>> optionalStringTraceGroupEntry = fromSearchHitToMapEntry(searchHit);
-                optionalStringTraceGroupEntry.ifPresent(entry -> traceIdToTraceGroup.put(entry.getKey(), entry.getValue()));
-            });
-        } catch (Exception e) {
-            // TODO: retry for status code 429 of OpenSearchException?
-            LOG.error("Search request for traceGroup failed for traceIds: {} due to {}", traceIds, e.getMessage());
-        }
+        final SearchResponse searchResponse = restHighLevelClient.search(searchRequest, RequestOptions.DEFAULT);
+        final SearchHit[] searchHits = searchResponse.getHits().getHits();
+        Arrays.asList(searchHits).forEach(searchHit -> {
+            final Optional<Map.Entry<String, TraceGroup>> optionalStringTraceGroupEntry = fromSearchHitToMapEntry(searchHit);
+            optionalStringTraceGroupEntry.ifPresent(entry -> traceIdToTraceGroup.put(entry.getKey(), entry.getValue()));
+        });
 
         return traceIdToTraceGroup;
     }
@@ -155,6 +159,7 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
         searchSourceBuilder.docValueField(TraceGroup.TRACE_GROUP_DURATION_IN_NANOS_FIELD);
         searchSourceBuilder.docValueField(TraceGroup.TRACE_GROUP_STATUS_CODE_FIELD);
         searchSourceBuilder.fetchSource(false);
+        searchSourceBuilder.size(traceIds.size());
         searchRequest.source(searchSourceBuilder);
 
         return searchRequest;
@@ -206,6 +211,7 @@ public class OTelTraceGroupProcessor extends AbstractProcessor<Record<Span>, Rec
 
     @Override
     public void shutdown() {
+        traceGroupLookup.shutdown();
         try {
             restHighLevelClient.close();
         } catch (IOException e) {
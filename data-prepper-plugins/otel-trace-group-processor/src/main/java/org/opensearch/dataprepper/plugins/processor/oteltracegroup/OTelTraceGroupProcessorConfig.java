@@ -10,25 +10,83 @@ import org.opensearch.dataprepper.plugins.sink.opensearch.ConnectionConfiguratio
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexConstants;
 import org.opensearch.dataprepper.plugins.sink.opensearch.index.IndexType;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 public class OTelTraceGroupProcessorConfig {
     protected static final String TRACE_ID_FIELD = "traceId";
     protected static final String SPAN_ID_FIELD = "spanId";
     protected static final String PARENT_SPAN_ID_FIELD = "parentSpanId";
     protected static final String RAW_INDEX_ALIAS = IndexConstants.TYPE_TO_DEFAULT_ALIAS.get(IndexType.TRACE_ANALYTICS_RAW);
     protected static final String STRICT_DATE_TIME = "strict_date_time";
+    static final String TRACE_GROUP_CACHE_TTL_SECONDS = "trace_group_cache_ttl_seconds";
+    static final String TRACE_GROUP_CACHE_MAX_SIZE = "trace_group_cache_max_size";
+    static final String MISSING_TRACE_GROUP_CACHE_TTL_SECONDS = "missing_trace_group_cache_ttl_seconds";
+    static final String LOOKUP_BATCH_DELAY_MILLIS = "lookup_batch_delay_ms";
+    static final String LOOKUP_MAX_BATCH_SIZE = "lookup_max_batch_size";
+    static final long DEFAULT_TRACE_GROUP_CACHE_TTL_SECONDS = 900L;
+    static final long DEFAULT_TRACE_GROUP_CACHE_MAX_SIZE = 100_000L;
+    static final long DEFAULT_MISSING_TRACE_GROUP_CACHE_TTL_SECONDS = 10L;
+    static final long DEFAULT_LOOKUP_BATCH_DELAY_MILLIS = 50L;
+    static final int DEFAULT_LOOKUP_MAX_BATCH_SIZE = 1_000;
 
     private final ConnectionConfiguration esConnectionConfig;
+    private final long traceGroupCacheTtlSeconds;
+    private final long traceGroupCacheMaxSize;
+    private final long missingTraceGroupCacheTtlSeconds;
+    private final long lookupBatchDelayMillis;
+    private final int lookupMaxBatchSize;
 
     public ConnectionConfiguration getEsConnectionConfig() {
         return esConnectionConfig;
     }
 
-    private OTelTraceGroupProcessorConfig(final ConnectionConfiguration esConnectionConfig) {
+    public long getTraceGroupCacheTtlSeconds() {
+        return traceGroupCacheTtlSeconds;
+    }
+
+    public long getTraceGroupCacheMaxSize() {
+        return traceGroupCacheMaxSize;
+    }
+
+    public long getMissingTraceGroupCacheTtlSeconds() {
+        return missingTraceGroupCacheTtlSeconds;
+    }
+
+    public long getLookupBatchDelayMillis() {
+        return lookupBatchDelayMillis;
+    }
+
+    public int getLookupMaxBatchSize() {
+        return lookupMaxBatchSize;
+    }
+
+    private OTelTraceGroupProcessorConfig(final ConnectionConfiguration esConnectionConfig,
+                                          final long traceGroupCacheTtlSeconds,
+                                          final long traceGroupCacheMaxSize,
+                                          final long missingTraceGroupCacheTtlSeconds,
+                                          final long lookupBatchDelayMillis,
+                                          final int lookupMaxBatchSize) {
+        checkArgument(traceGroupCacheTtlSeconds >= 0, TRACE_GROUP_CACHE_TTL_SECONDS + " must not be negative.");
+        checkArgument(traceGroupCacheMaxSize >= 0, TRACE_GROUP_CACHE_MAX_SIZE + " must not be negative.");
+        checkArgument(missingTraceGroupCacheTtlSeconds >= 0, MISSING_TRACE_GROUP_CACHE_TTL_SECONDS + " must not be negative.");
+        checkArgument(lookupBatchDelayMillis >= 0, LOOKUP_BATCH_DELAY_MILLIS + " must not be negative.");
+        checkArgument(lookupMaxBatchSize > 0, LOOKUP_MAX_BATCH_SIZE + " must be positive.");
         this.esConnectionConfig = esConnectionConfig;
+        this.traceGroupCacheTtlSeconds = traceGroupCacheTtlSeconds;
+        this.traceGroupCacheMaxSize = traceGroupCacheMaxSize;
+        this.missingTraceGroupCacheTtlSeconds = missingTraceGroupCacheTtlSeconds;
+        this.lookupBatchDelayMillis = lookupBatchDelayMillis;
+        this.lookupMaxBatchSize = lookupMaxBatchSize;
     }
 
     public static OTelTraceGroupProcessorConfig buildConfig(final PluginSetting pluginSetting) {
         final ConnectionConfiguration esConnectionConfig = ConnectionConfiguration.readConnectionConfiguration(pluginSetting);
-        return new OTelTraceGroupProcessorConfig(esConnectionConfig);
+        return new OTelTraceGroupProcessorConfig(
+                esConnectionConfig,
+                pluginSetting.getLongOrDefault(TRACE_GROUP_CACHE_TTL_SECONDS, DEFAULT_TRACE_GROUP_CACHE_TTL_SECONDS),
+                pluginSetting.getLongOrDefault(TRACE_GROUP_CACHE_MAX_SIZE, DEFAULT_TRACE_GROUP_CACHE_MAX_SIZE),
+                pluginSetting.getLongOrDefault(MISSING_TRACE_GROUP_CACHE_TTL_SECONDS, DEFAULT_MISSING_TRACE_GROUP_CACHE_TTL_SECONDS),
+                pluginSetting.getLongOrDefault(LOOKUP_BATCH_DELAY_MILLIS, DEFAULT_LOOKUP_BATCH_DELAY_MILLIS),
+                pluginSetting.getIntegerOrDefault(LOOKUP_MAX_BATCH_SIZE, DEFAULT_LOOKUP_MAX_BATCH_SIZE));
     }
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltracegroup;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Iterables;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.plugins.processor.oteltracegroup.model.TraceGroup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Looks up the trace groups of trace ids, caching the trace groups found and, for a shorter time, the trace ids without
+ * a trace group.
+ * <p>
+ * Trace ids which are not cached are looked up in batches: the trace ids requested by all callers within the batch
+ * delay are combined into one search of at most the max batch size, and each caller waits for the trace ids it
+ * requested.
+ */
+class TraceGroupLookup {
+    private static final Logger LOG = LoggerFactory.getLogger(TraceGroupLookup.class);
+
+    /**
+     * Searches for the trace groups of trace ids. Trace ids without a trace group are left out of the result.
+     */
+    @FunctionalInterface
+    interface TraceGroupSearch {
+        Map<String, TraceGroup> search(Collection<String> traceIds) throws Exception;
+    }
+
+    private final TraceGroupSearch traceGroupSearch;
+    private final Cache<String, TraceGroup> traceGroupCache;
+    private final Cache<String, Boolean> missingTraceGroupCache;
+    private final long batchDelayMillis;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final Counter cacheHitsCounter;
+    private final Counter cacheMissesCounter;
+    private final Timer lookupLatencyTimer;
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+
+    private final Object pendingLookupsLock = new Object();
+    private Map<String, CompletableFuture<TraceGroup>> pendingLookups = new HashMap<>();
+    private boolean isFlushScheduled = false;
+
+    TraceGroupLookup(final TraceGroupSearch traceGroupSearch,
+                     final OTelTraceGroupProcessorConfig otelTraceGroupProcessorConfig,
+                     final PluginMetrics pluginMetrics) {
+        this.traceGroupSearch = traceGroupSearch;
+        traceGroupCache = CacheBuilder.newBuilder()
+                .maximumSize(otelTraceGroupProcessorConfig.getTraceGroupCacheMaxSize())
+                .expireAfterWrite(otelTraceGroupProcessorConfig.getTraceGroupCacheTtlSeconds(), TimeUnit.SECONDS)
+                .build();
+        missingTraceGroupCache = CacheBuilder.newBuilder()
+                .maximumSize(otelTraceGroupProcessorConfig.getTraceGroupCacheMaxSize())
+                .expireAfterWrite(otelTraceGroupProcessorConfig.getMissingTraceGroupCacheTtlSeconds(), TimeUnit.SECONDS)
+                .build();
+        batchDelayMillis = otelTraceGroupProcessorConfig.getLookupBatchDelayMillis();
+        maxBatchSize = otelTraceGroupProcessorConfig.getLookupMaxBatchSize();
+        scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
+
+        cacheHitsCounter = pluginMetrics.counter(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_HITS);
+        cacheMissesCounter = pluginMetrics.counter(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_MISSES);
+        lookupLatencyTimer = pluginMetrics.timer(OTelTraceGroupProcessor.TRACE_GROUP_LOOKUP_LATENCY);
+        pluginMetrics.gauge(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_HIT_RATIO, this, TraceGroupLookup::getCacheHitRatio);
+        pluginMetrics.gauge(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_SIZE, traceGroupCache, cache -> (double) cache.size());
+    }
+
+    /**
+     * Looks up the trace groups of trace ids, waiting for the batched search of the trace ids which are not cached.
+     *
+     * @param traceIds trace ids to look up
+     * @return the trace groups found by trace id
+     */
+    Map<String, TraceGroup> lookUp(final Collection<String> traceIds) {
+        final Map<String, TraceGroup> traceIdToTraceGroup = new HashMap<>();
+        final List<String> uncachedTraceIds = new ArrayList<>();
+        for (final String traceId : traceIds) {
+            final TraceGroup traceGroup = traceGroupCache.getIfPresent(traceId);
+            if (traceGroup != null) {
+                traceIdToTraceGroup.put(traceId, traceGroup);
+            } else if (missingTraceGroupCache.getIfPresent(traceId) == null) {
+                uncachedTraceIds.add(traceId);
+            }
+        }
+        recordCacheLookups(traceIds.size() - uncachedTraceIds.size(), uncachedTraceIds.size());
+
+        if (!uncachedTraceIds.isEmpty()) {
+            final Map<String, CompletableFuture<TraceGroup>> lookups = enqueue(uncachedTraceIds);
+            lookups.forEach((traceId, lookup) -> {
+                final TraceGroup traceGroup = lookup.join();
+                if (traceGroup != null) {
+                    traceIdToTraceGroup.put(traceId, traceGroup);
+                }
+            });
+        }
+
+        return traceIdToTraceGroup;
+    }
+
+    private Map<String, CompletableFuture<TraceGroup>> enqueue(final Collection<String> traceIds) {
+        final Map<String, CompletableFuture<TraceGroup>> lookups = new HashMap<>();
+        Map<String, CompletableFuture<TraceGroup>> fullBatch = null;
+        synchronized (pendingLookupsLock) {
+            for (final String traceId : traceIds) {
+                lookups.put(traceId, pendingLookups.computeIfAbsent(traceId, key -> new CompletableFuture<>()));
+            }
+            if (pendingLookups.size() >= maxBatchSize) {
+                fullBatch = takePendingLookups();
+            } else if (!isFlushScheduled) {
+                isFlushScheduled = true;
+                scheduledExecutorService.schedule(this::flushPendingLookups, batchDelayMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            search(fullBatch);
+        }
+        return lookups;
+    }
+
+    private void flushPendingLookups() {
+        final Map<String, CompletableFuture<TraceGroup>> batch;
+        synchronized (pendingLookupsLock) {
+            isFlushScheduled = false;
+            batch = takePendingLookups();
+        }
+        search(batch);
+    }
+
+    private Map<String, CompletableFuture<TraceGroup>> takePendingLookups() {
+        final Map<String, CompletableFuture<TraceGroup>> batch = pendingLookups;
+        pendingLookups = new HashMap<>();
+        return batch;
+    }
+
+    /**
+     * Searches for a batch of trace ids in searches of at most the max batch size, and completes every lookup of the
+     * batch. Trace ids are cached as missing only when the search succeeded without finding them.
+     */
+    private void search(final Map<String, CompletableFuture<TraceGroup>> batch) {
+        for (final List<String> traceIds : Iterables.partition(batch.keySet(), maxBatchSize)) {
+            Map<String, TraceGroup> traceIdToTraceGroup = Collections.emptyMap();
+            boolean isSearchSuccessful = false;
+            final long startTime = System.nanoTime();
+            try {
+                traceIdToTraceGroup = traceGroupSearch.search(traceIds);
+                isSearchSuccessful = true;
+            } catch (final Exception e) {
+                // TODO: retry for status code 429 of OpenSearchException?
+                LOG.error("Search request for traceGroup failed for traceIds: {} due to {}", traceIds, e.getMessage());
+            } finally {
+                lookupLatencyTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                for (final String traceId : traceIds) {
+                    final TraceGroup traceGroup = traceIdToTraceGroup.get(traceId);
+                    if (traceGroup != null) {
+                        traceGroupCache.put(traceId, traceGroup);
+                    } else if (isSearchSuccessful) {
+                        missingTraceGroupCache.put(traceId, Boolean.TRUE);
+                    }
+                    batch.get(traceId).complete(traceGroup);
+                }
+            }
+        }
+    }
+
+    private void recordCacheLookups(final int hits, final int misses) {
+        cacheHits.addAndGet(hits);
+        cacheMisses.addAndGet(misses);
+        cacheHitsCounter.increment(hits);
+        cacheMissesCounter.increment(misses);
+    }
+
+    double getCacheHitRatio() {
+        final long hits = cacheHits.get();
+        final long lookups = hits + cacheMisses.get();
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    /**
+     * Stops the batched searches. Lookups which are still pending complete without a trace group.
+     */
+    void shutdown() {
+        scheduledExecutorService.shutdownNow();
+        synchronized (pendingLookupsLock) {
+            takePendingLookups().values().forEach(lookup -> lookup.complete(null));
+        }
+    }
+}
@@ -14,7 +14,9 @@ import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opensearch.dataprepper.plugins.sink.opensearch.ConnectionConfiguration;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +35,44 @@ public class OTelTraceGroupProcessorConfigTests {
             PluginSetting testPluginSetting = new PluginSetting("otel_trace_group", new HashMap<>());
             OTelTraceGroupProcessorConfig otelTraceGroupProcessorConfig = OTelTraceGroupProcessorConfig.buildConfig(testPluginSetting);
             assertEquals(connectionConfigurationMock, otelTraceGroupProcessorConfig.getEsConnectionConfig());
+            assertEquals(OTelTraceGroupProcessorConfig.DEFAULT_TRACE_GROUP_CACHE_TTL_SECONDS, otelTraceGroupProcessorConfig.getTraceGroupCacheTtlSeconds());
+            assertEquals(OTelTraceGroupProcessorConfig.DEFAULT_TRACE_GROUP_CACHE_MAX_SIZE, otelTraceGroupProcessorConfig.getTraceGroupCacheMaxSize());
+            assertEquals(OTelTraceGroupProcessorConfig.DEFAULT_MISSING_TRACE_GROUP_CACHE_TTL_SECONDS,
+                    otelTraceGroupProcessorConfig.getMissingTraceGroupCacheTtlSeconds());
+            assertEquals(OTelTraceGroupProcessorConfig.DEFAULT_LOOKUP_BATCH_DELAY_MILLIS, otelTraceGroupProcessorConfig.getLookupBatchDelayMillis());
+            assertEquals(OTelTraceGroupProcessorConfig.DEFAULT_LOOKUP_MAX_BATCH_SIZE, otelTraceGroupProcessorConfig.getLookupMaxBatchSize());
+        }
+    }
+
+    @Test
+    public void testInitializeWithTraceGroupLookupSettings() {
+        try (MockedStatic<ConnectionConfiguration> connectionConfigurationMockedStatic = Mockito.mockStatic(ConnectionConfiguration.class)) {
+            connectionConfigurationMockedStatic.when(() -> ConnectionConfiguration.readConnectionConfiguration(any(PluginSetting.class)))
+                    .thenReturn(connectionConfigurationMock);
+            final Map<String, Object> settings = new HashMap<>();
+            settings.put(OTelTraceGroupProcessorConfig.TRACE_GROUP_CACHE_TTL_SECONDS, 60);
+            settings.put(OTelTraceGroupProcessorConfig.TRACE_GROUP_CACHE_MAX_SIZE, 10);
+            settings.put(OTelTraceGroupProcessorConfig.MISSING_TRACE_GROUP_CACHE_TTL_SECONDS, 5);
+            settings.put(OTelTraceGroupProcessorConfig.LOOKUP_BATCH_DELAY_MILLIS, 20);
+            settings.put(OTelTraceGroupProcessorConfig.LOOKUP_MAX_BATCH_SIZE, 100);
+            PluginSetting testPluginSetting = new PluginSetting("otel_trace_group", settings);
+            OTelTraceGroupProcessorConfig otelTraceGroupProcessorConfig = OTelTraceGroupProcessorConfig.buildConfig(testPluginSetting);
+            assertEquals(60L, otelTraceGroupProcessorConfig.getTraceGroupCacheTtlSeconds());
+            assertEquals(10L, otelTraceGroupProcessorConfig.getTraceGroupCacheMaxSize());
+            assertEquals(5L, otelTraceGroupProcessorConfig.getMissingTraceGroupCacheTtlSeconds());
+            assertEquals(20L, otelTraceGroupProcessorConfig.getLookupBatchDelayMillis());
+            assertEquals(100, otelTraceGroupProcessorConfig.getLookupMaxBatchSize());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInitializeWithInvalidLookupMaxBatchSize() {
+        try (MockedStatic<ConnectionConfiguration> connectionConfigurationMockedStatic = Mockito.mockStatic(ConnectionConfiguration.class)) {
+            connectionConfigurationMockedStatic.when(() -> ConnectionConfiguration.readConnectionConfiguration(any(PluginSetting.class)))
+                    .thenReturn(connectionConfigurationMock);
+            PluginSetting testPluginSetting = new PluginSetting("otel_trace_group",
+                    Collections.singletonMap(OTelTraceGroupProcessorConfig.LOOKUP_MAX_BATCH_SIZE, 0));
+            OTelTraceGroupProcessorConfig.buildConfig(testPluginSetting);
         }
     }
 }
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -54,6 +55,9 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -155,6 +159,8 @@ public class OTelTraceGroupProcessorTests {
         final PluginSetting testPluginSetting = mock(PluginSetting.class);
         when(testPluginSetting.getName()).thenReturn(PLUGIN_NAME);
         when(testPluginSetting.getPipelineName()).thenReturn(TEST_PIPELINE_NAME);
+        when(testPluginSetting.getLongOrDefault(anyString(), anyLong())).thenAnswer(invocation -> invocation.getArgument(1));
+        when(testPluginSetting.getIntegerOrDefault(anyString(), anyInt())).thenAnswer(invocation -> invocation.getArgument(1));
         otelTraceGroupProcessor = new OTelTraceGroupProcessor(testPluginSetting, awsCredentialsSupplier);
         executorService = Executors.newFixedThreadPool(TEST_NUM_WORKERS);
     }
@@ -193,6 +199,40 @@ public class OTelTraceGroupProcessorTests {
         checkMeasurementValue(OTelTraceGroupProcessor.RECORDS_OUT_MISSING_TRACE_GROUP, 0.0);
     }
 
+    @Test
+    public void testTraceGroupLookUpIsCachedAcrossBatches() throws IOException {
+        // Arrange
+        final ArgumentCaptor<SearchRequest> searchRequestArgumentCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+
+        // Act
+        otelTraceGroupProcessor.doExecute(Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1)));
+        List<Record<Span>> recordsOut = (List<Record<Span>>) otelTraceGroupProcessor.doExecute(
+                Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1)));
+
+        // Assert
+        assertEquals(1, recordsOut.size());
+        assertEquals(TEST_TRACE_GROUP_1, extractTraceGroupFromRecord(recordsOut.get(0)));
+        verify(restHighLevelClient, times(1)).search(searchRequestArgumentCaptor.capture(), any(RequestOptions.class));
+        assertEquals(1, searchRequestArgumentCaptor.getValue().source().size());
+        checkMeasurementValue(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_HITS, 1.0);
+        checkMeasurementValue(OTelTraceGroupProcessor.TRACE_GROUP_CACHE_MISSES, 1.0);
+        checkMeasurementValue(OTelTraceGroupProcessor.RECORDS_OUT_FIXED_TRACE_GROUP, 2.0);
+    }
+
+    @Test
+    public void testMissingTraceGroupIsCachedAcrossBatches() throws IOException {
+        // Arrange
+        when(testSearchHits.getHits()).thenReturn(new SearchHit[] {});
+
+        // Act
+        otelTraceGroupProcessor.doExecute(Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1)));
+        otelTraceGroupProcessor.doExecute(Collections.singletonList(buildSpanRecordFromJsonFile(TEST_RAW_SPAN_MISSING_TRACE_GROUP_JSON_FILE_1)));
+
+        // Assert
+        verify(restHighLevelClient, times(1)).search(any(SearchRequest.class), any(RequestOptions.class));
+        checkMeasurementValue(OTelTraceGroupProcessor.RECORDS_OUT_MISSING_TRACE_GROUP, 2.0);
+    }
+
     @Test
     public void testTraceGroupFillFailDueToFailedRequest() throws IOException {
         // Arrange
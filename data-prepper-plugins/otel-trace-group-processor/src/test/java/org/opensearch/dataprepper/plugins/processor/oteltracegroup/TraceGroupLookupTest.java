@@ -0,0 +1,155 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltracegroup;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.metrics.MetricsTestUtil;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.plugins.processor.oteltracegroup.model.TraceGroup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TraceGroupLookupTest {
+    private static final TraceGroup TEST_TRACE_GROUP = new TraceGroup.TraceGroupBuilder()
+            .setTraceGroup("/test_trace_group")
+            .setTraceGroupFields(DefaultTraceGroupFields.builder()
+                    .withEndTime("2020-08-19T05:30:46.089556800Z")
+                    .withStatusCode(1)
+                    .withDurationInNanos(48545100L)
+                    .build())
+            .build();
+
+    private final Map<String, TraceGroup> indexedTraceGroups = new HashMap<>();
+    private final List<Collection<String>> searches = Collections.synchronizedList(new ArrayList<>());
+    private boolean isSearchFailing = false;
+    private long lookupBatchDelayMillis;
+    private int lookupMaxBatchSize;
+    private TraceGroupLookup traceGroupLookup;
+
+    @BeforeEach
+    void setUp() {
+        MetricsTestUtil.initMetrics();
+        lookupBatchDelayMillis = OTelTraceGroupProcessorConfig.DEFAULT_LOOKUP_BATCH_DELAY_MILLIS;
+        lookupMaxBatchSize = OTelTraceGroupProcessorConfig.DEFAULT_LOOKUP_MAX_BATCH_SIZE;
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (traceGroupLookup != null) {
+            traceGroupLookup.shutdown();
+        }
+    }
+
+    private TraceGroupLookup createObjectUnderTest() {
+        final OTelTraceGroupProcessorConfig otelTraceGroupProcessorConfig = mock(OTelTraceGroupProcessorConfig.class);
+        when(otelTraceGroupProcessorConfig.getTraceGroupCacheTtlSeconds()).thenReturn(OTelTraceGroupProcessorConfig.DEFAULT_TRACE_GROUP_CACHE_TTL_SECONDS);
+        when(otelTraceGroupProcessorConfig.getTraceGroupCacheMaxSize()).thenReturn(OTelTraceGroupProcessorConfig.DEFAULT_TRACE_GROUP_CACHE_MAX_SIZE);
+        when(otelTraceGroupProcessorConfig.getMissingTraceGroupCacheTtlSeconds())
+                .thenReturn(OTelTraceGroupProcessorConfig.DEFAULT_MISSING_TRACE_GROUP_CACHE_TTL_SECONDS);
+        when(otelTraceGroupProcessorConfig.getLookupBatchDelayMillis()).thenReturn(lookupBatchDelayMillis);
+        when(otelTraceGroupProcessorConfig.getLookupMaxBatchSize()).thenReturn(lookupMaxBatchSize);
+        traceGroupLookup = new TraceGroupLookup(this::search, otelTraceGroupProcessorConfig, PluginMetrics.fromNames("otel_trace_group", "pipeline"));
+        return traceGroupLookup;
+    }
+
+    private Map<String, TraceGroup> search(final Collection<String> traceIds) {
+        searches.add(new ArrayList<>(traceIds));
+        if (isSearchFailing) {
+            throw new RuntimeException("Failure due to search request");
+        }
+        final Map<String, TraceGroup> traceIdToTraceGroup = new HashMap<>();
+        traceIds.stream()
+                .filter(indexedTraceGroups::containsKey)
+                .forEach(traceId -> traceIdToTraceGroup.put(traceId, indexedTraceGroups.get(traceId)));
+        return traceIdToTraceGroup;
+    }
+
+    @Test
+    void lookUp_caches_found_and_missing_trace_groups() {
+        final String foundTraceId = UUID.randomUUID().toString();
+        final String missingTraceId = UUID.randomUUID().toString();
+        indexedTraceGroups.put(foundTraceId, TEST_TRACE_GROUP);
+        final TraceGroupLookup objectUnderTest = createObjectUnderTest();
+
+        final Map<String, TraceGroup> firstLookUp = objectUnderTest.lookUp(Arrays.asList(foundTraceId, missingTraceId));
+        final Map<String, TraceGroup> secondLookUp = objectUnderTest.lookUp(Arrays.asList(foundTraceId, missingTraceId));
+
+        assertThat(firstLookUp, equalTo(Collections.singletonMap(foundTraceId, TEST_TRACE_GROUP)));
+        assertThat(secondLookUp, equalTo(Collections.singletonMap(foundTraceId, TEST_TRACE_GROUP)));
+        assertThat(searches.size(), equalTo(1));
+        assertThat(objectUnderTest.getCacheHitRatio(), equalTo(0.5));
+    }
+
+    @Test
+    void lookUp_does_not_cache_trace_ids_of_a_failed_search() {
+        final String traceId = UUID.randomUUID().toString();
+        isSearchFailing = true;
+        final TraceGroupLookup objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.lookUp(Collections.singletonList(traceId)), equalTo(Collections.emptyMap()));
+
+        isSearchFailing = false;
+        indexedTraceGroups.put(traceId, TEST_TRACE_GROUP);
+
+        assertThat(objectUnderTest.lookUp(Collections.singletonList(traceId)), equalTo(Collections.singletonMap(traceId, TEST_TRACE_GROUP)));
+        assertThat(searches.size(), equalTo(2));
+    }
+
+    @Test
+    void lookUp_combines_the_trace_ids_of_concurrent_callers_into_one_search() throws Exception {
+        lookupBatchDelayMillis = 500L;
+        final String traceId1 = UUID.randomUUID().toString();
+        final String traceId2 = UUID.randomUUID().toString();
+        indexedTraceGroups.put(traceId1, TEST_TRACE_GROUP);
+        indexedTraceGroups.put(traceId2, TEST_TRACE_GROUP);
+        final TraceGroupLookup objectUnderTest = createObjectUnderTest();
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        try {
+            final Future<Map<String, TraceGroup>> lookUp1 = executorService.submit(() -> objectUnderTest.lookUp(Collections.singletonList(traceId1)));
+            final Future<Map<String, TraceGroup>> lookUp2 = executorService.submit(() -> objectUnderTest.lookUp(Collections.singletonList(traceId2)));
+
+            assertThat(lookUp1.get(), equalTo(Collections.singletonMap(traceId1, TEST_TRACE_GROUP)));
+            assertThat(lookUp2.get(), equalTo(Collections.singletonMap(traceId2, TEST_TRACE_GROUP)));
+        } finally {
+            executorService.shutdown();
+        }
+
+        assertThat(searches.size(), equalTo(1));
+        assertThat(searches.get(0), containsInAnyOrder(traceId1, traceId2));
+    }
+
+    @Test
+    void lookUp_splits_searches_at_the_max_batch_size() {
+        lookupMaxBatchSize = 2;
+        final List<String> traceIds = Arrays.asList(UUID.randomUUID().toString(), UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        traceIds.forEach(traceId -> indexedTraceGroups.put(traceId, TEST_TRACE_GROUP));
+
+        final Map<String, TraceGroup> traceIdToTraceGroup = createObjectUnderTest().lookUp(traceIds);
+
+        assertThat(traceIdToTraceGroup.keySet(), containsInAnyOrder(traceIds.toArray()));
+        assertThat(searches.size(), equalTo(2));
+    }
+}
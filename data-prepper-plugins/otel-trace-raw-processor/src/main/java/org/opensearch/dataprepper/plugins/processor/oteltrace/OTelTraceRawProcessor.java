@@ -16,6 +16,7 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.trace.Span;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.util.StringUtils;
 import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
 import org.opensearch.dataprepper.plugins.processor.oteltrace.model.TraceGroup;
@@ -24,13 +25,11 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
@@ -42,10 +41,15 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
     private static final Logger LOG = LoggerFactory.getLogger(OTelTraceRawProcessor.class);
     public static final String TRACE_GROUP_CACHE_COUNT_METRIC_NAME = "traceGroupCacheCount";
     public static final String SPAN_SET_COUNT_METRIC_NAME = "spanSetCount";
+    public static final String SPANS_HELD_COUNT_METRIC_NAME = "spansHeldCount";
+    public static final String SPANS_HELD_BYTES_METRIC_NAME = "spansHeldBytes";
+    public static final String SPANS_EVICTED_METRIC_NAME = "spansEvicted";
 
     private final long traceFlushInterval;
 
-    private final Map<String, SpanSet> traceIdSpanSetMap = new ConcurrentHashMap<>();
+    private final SpanSetStore spanSetStore;
+
+    private final Counter spansEvictedCounter;
 
     private final Cache<String, TraceGroup> traceIdTraceGroupCache;
 
@@ -68,9 +72,13 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
                 .maximumSize(otelTraceRawProcessorConfig.getTraceGroupCacheMaxSize())
                 .expireAfterWrite(otelTraceRawProcessorConfig.getTraceGroupCacheTimeToLive().toMillis(), TimeUnit.MILLISECONDS)
                 .build();
+        spanSetStore = new SpanSetStore(numProcessWorkers, otelTraceRawProcessorConfig.getSpanBufferMemoryLimit().getBytes());
 
         pluginMetrics.gauge(TRACE_GROUP_CACHE_COUNT_METRIC_NAME, traceIdTraceGroupCache, cache -> (double) cache.size());
-        pluginMetrics.gauge(SPAN_SET_COUNT_METRIC_NAME, traceIdSpanSetMap, cache -> (double) cache.size());
+        pluginMetrics.gauge(SPAN_SET_COUNT_METRIC_NAME, spanSetStore, store -> (double) store.size());
+        pluginMetrics.gauge(SPANS_HELD_COUNT_METRIC_NAME, spanSetStore, store -> (double) store.getSpanCount());
+        pluginMetrics.gauge(SPANS_HELD_BYTES_METRIC_NAME, spanSetStore, store -> (double) store.getSizeInBytes());
+        spansEvictedCounter = pluginMetrics.counter(SPANS_EVICTED_METRIC_NAME);
 
         LOG.info("Configured Trace Raw Processor with a trace flush interval of {} ms.", traceFlushInterval);
     }
@@ -92,6 +100,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
         }
 
         processedSpans.addAll(getTracesToFlushByGarbageCollection());
+        processedSpans.addAll(getTracesToFlushByEviction());
 
         return processedSpans.stream().map(Record::new).collect(Collectors.toList());
     }
@@ -131,14 +140,12 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
         final List<Span> recordsToFlush = new LinkedList<>();
         recordsToFlush.add(parentSpan);
 
-        final SpanSet spanSet = traceIdSpanSetMap.get(parentSpanTraceId);
+        final SpanSet spanSet = spanSetStore.remove(parentSpanTraceId);
         if (spanSet != null) {
             for (final Span span : spanSet.getSpans()) {
                 fillInTraceGroupInfo(span, traceGroup);
                 recordsToFlush.add(span);
             }
-
-            traceIdSpanSetMap.remove(parentSpanTraceId);
         }
 
         return recordsToFlush;
@@ -159,13 +166,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
             fillInTraceGroupInfo(childSpan, traceGroup);
             return Optional.of(childSpan);
         } else {
-            traceIdSpanSetMap.compute(childSpanTraceId, (traceId, spanSet) -> {
-                if (spanSet == null) {
-                    spanSet = new SpanSet();
-                }
-                spanSet.addSpan(childSpan);
-                return spanSet;
-            });
+            spanSetStore.addSpan(childSpanTraceId, childSpan);
 
             return Optional.empty();
         }
@@ -175,6 +176,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
      * Periodically flush spans from memory. Typically all spans of a trace are written
      * once the trace's root span arrives, however some child spans my arrive after the root span.
      * This method ensures "orphaned" child spans are eventually flushed from memory.
+     * Only the span sets which expired are visited.
      * @return List of RawSpans to be sent down the pipeline
      */
     private List<Span> getTracesToFlushByGarbageCollection() {
@@ -188,30 +190,8 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
                     final long now = System.currentTimeMillis();
                     lastTraceFlushTime = now;
 
-                    final Iterator<Map.Entry<String, SpanSet>> entryIterator = traceIdSpanSetMap.entrySet().iterator();
-                    while (entryIterator.hasNext()) {
-                        final Map.Entry<String, SpanSet> entry = entryIterator.next();
-                        final String traceId = entry.getKey();
-                        final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(traceId);
-                        final SpanSet spanSet = entry.getValue();
-                        final long traceTime = spanSet.getTimeSeen();
-                        if (now - traceTime >= traceFlushInterval || isShuttingDown) {
-                            final Set<Span> spans = spanSet.getSpans();
-                            if (traceGroup != null) {
-                                spans.forEach(span -> {
-                                    fillInTraceGroupInfo(span, traceGroup);
-                                    recordsToFlush.add(span);
-                                });
-                            } else {
-                                LOG.warn("There are {} spans with missing trace groups. Unable to populate with trace group information.", spans.size());
-                                spans.forEach(span -> {
-                                    recordsToFlush.add(span);
-                                    LOG.debug("Missing trace group for SpanId: {}", span.getSpanId());
-                                });
-                            }
-                            entryIterator.remove();
-                        }
-                    }
+                    final long expiryTime = isShuttingDown ? Long.MAX_VALUE : now - traceFlushInterval;
+                    flushSpanSets(spanSetStore.removeExpired(expiryTime), recordsToFlush);
                     if (recordsToFlush.size() > 0) {
                         LOG.info("Flushing {} records", recordsToFlush.size());
                     }
@@ -224,6 +204,44 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
         return recordsToFlush;
     }
 
+    /**
+     * Flushes the oldest span sets early when the spans in memory exceed the span buffer memory limit. Their spans are
+     * sent down the pipeline without trace group information unless their trace group is in the cache by then.
+     * @return List of RawSpans to be sent down the pipeline
+     */
+    private List<Span> getTracesToFlushByEviction() {
+        final List<Span> recordsToFlush = new LinkedList<>();
+
+        if (spanSetStore.isOverMemoryLimit()) {
+            flushSpanSets(spanSetStore.evictOldest(), recordsToFlush);
+            if (recordsToFlush.size() > 0) {
+                spansEvictedCounter.increment(recordsToFlush.size());
+                LOG.warn("Spans in memory exceeded the span buffer memory limit. Flushing {} records early", recordsToFlush.size());
+            }
+        }
+
+        return recordsToFlush;
+    }
+
+    private void flushSpanSets(final List<Map.Entry<String, SpanSet>> spanSets, final List<Span> recordsToFlush) {
+        for (final Map.Entry<String, SpanSet> entry : spanSets) {
+            final TraceGroup traceGroup = traceIdTraceGroupCache.getIfPresent(entry.getKey());
+            final Set<Span> spans = entry.getValue().getSpans();
+            if (traceGroup != null) {
+                spans.forEach(span -> {
+                    fillInTraceGroupInfo(span, traceGroup);
+                    recordsToFlush.add(span);
+                });
+            } else {
+                LOG.warn("There are {} spans with missing trace groups. Unable to populate with trace group information.", spans.size());
+                spans.forEach(span -> {
+                    recordsToFlush.add(span);
+                    LOG.debug("Missing trace group for SpanId: {}", span.getSpanId());
+                });
+            }
+        }
+    }
+
     private void fillInTraceGroupInfo(final Span span, final TraceGroup traceGroup) {
         span.setTraceGroup(traceGroup.getTraceGroup());
         span.setTraceGroupFields(traceGroup.getTraceGroupFields());
@@ -242,7 +260,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
 
         if (isLockAcquired) {
             try {
-                LOG.info("Preparing for shutdown, will attempt to flush {} spans", traceIdSpanSetMap.size());
+                LOG.info("Preparing for shutdown, will attempt to flush {} spans", spanSetStore.getSpanCount());
                 isShuttingDown = true;
             } finally {
                 prepareForShutdownLock.unlock();
@@ -252,7 +270,7 @@ public class OTelTraceRawProcessor extends AbstractProcessor<Record<Span>, Recor
 
     @Override
     public boolean isReadyForShutdown() {
-        return traceIdSpanSetMap.isEmpty();
+        return spanSetStore.isEmpty();
     }
 
     @Override
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.processor.oteltrace;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import org.opensearch.dataprepper.model.types.ByteCount;
 
 import java.time.Duration;
 
@@ -13,6 +14,7 @@ public class OtelTraceRawProcessorConfig {
     static final long DEFAULT_TG_FLUSH_INTERVAL_SEC = 180L;
     static final Duration DEFAULT_TRACE_ID_TTL = Duration.ofSeconds(15L);
     static final long MAX_TRACE_ID_CACHE_SIZE = 1_000_000L;
+    static final String DEFAULT_SPAN_BUFFER_MEMORY_LIMIT = "512mb";
     @JsonProperty("trace_flush_interval")
     private long traceFlushInterval = DEFAULT_TG_FLUSH_INTERVAL_SEC;
 
@@ -22,6 +24,9 @@ public class OtelTraceRawProcessorConfig {
     @JsonProperty("trace_group_cache_max_size")
     private long traceGroupCacheMaxSize = MAX_TRACE_ID_CACHE_SIZE;
 
+    @JsonProperty("span_buffer_memory_limit")
+    private String spanBufferMemoryLimit = DEFAULT_SPAN_BUFFER_MEMORY_LIMIT;
+
     public long getTraceFlushIntervalSeconds() {
         return traceFlushInterval;
     }
@@ -33,4 +38,8 @@ public class OtelTraceRawProcessorConfig {
     public long getTraceGroupCacheMaxSize() {
         return traceGroupCacheMaxSize;
     }
+
+    public ByteCount getSpanBufferMemoryLimit() {
+        return ByteCount.parse(spanBufferMemoryLimit);
+    }
 }
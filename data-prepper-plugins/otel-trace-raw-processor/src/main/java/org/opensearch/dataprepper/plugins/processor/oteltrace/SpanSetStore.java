@@ -0,0 +1,257 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Holds the child spans of traces whose root span has not arrived yet, and accounts for the bytes they hold.
+ * <p>
+ * The span sets are striped by trace id. Each stripe keeps its span sets in the order they were first seen, so that
+ * {@link #removeExpired(long)} only visits the span sets which expired, and {@link #evictOldest()} removes the oldest
+ * span sets first when the store holds more than its memory limit.
+ */
+class SpanSetStore {
+    private static final long NODE_OVERHEAD_BYTES = 16;
+    private static final long STRING_OVERHEAD_BYTES = 40;
+    private static final long FIELD_OVERHEAD_BYTES = 32;
+
+    private final Stripe[] stripes;
+    private final long memoryLimitBytes;
+    private final AtomicLong sizeInBytes = new AtomicLong();
+    private final AtomicLong spanCount = new AtomicLong();
+    private final AtomicInteger spanSetCount = new AtomicInteger();
+    private final AtomicInteger nextStripeToEvict = new AtomicInteger();
+
+    SpanSetStore(final int stripeCount, final long memoryLimitBytes) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("The stripe count must be at least 1.");
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.memoryLimitBytes = memoryLimitBytes;
+    }
+
+    /**
+     * Adds a span to the span set of its trace, creating the span set if it is the first span of the trace.
+     *
+     * @param traceId trace id of the span
+     * @param span    span to add
+     */
+    void addSpan(final String traceId, final Span span) {
+        final long spanSizeInBytes = estimateSizeInBytes(span);
+        final Stripe stripe = getStripe(traceId);
+        stripe.lock.lock();
+        try {
+            HeldSpanSet heldSpanSet = stripe.spanSets.get(traceId);
+            if (heldSpanSet == null) {
+                heldSpanSet = new HeldSpanSet();
+                stripe.spanSets.put(traceId, heldSpanSet);
+                spanSetCount.incrementAndGet();
+            }
+            heldSpanSet.spanSet.addSpan(span);
+            heldSpanSet.sizeInBytes += spanSizeInBytes;
+            heldSpanSet.spanCount++;
+        } finally {
+            stripe.lock.unlock();
+        }
+        sizeInBytes.addAndGet(spanSizeInBytes);
+        spanCount.incrementAndGet();
+    }
+
+    /**
+     * Removes the span set of a trace.
+     *
+     * @param traceId trace id
+     * @return the removed span set, or null if the store has no span set for the trace
+     */
+    SpanSet remove(final String traceId) {
+        final Stripe stripe = getStripe(traceId);
+        final HeldSpanSet heldSpanSet;
+        stripe.lock.lock();
+        try {
+            heldSpanSet = stripe.spanSets.remove(traceId);
+        } finally {
+            stripe.lock.unlock();
+        }
+        if (heldSpanSet == null) {
+            return null;
+        }
+        release(heldSpanSet);
+        return heldSpanSet.spanSet;
+    }
+
+    /**
+     * Removes the span sets which were first seen at or before a time. Only the expired span sets are visited.
+     *
+     * @param expiryTimeMillis span sets first seen at or before this time are removed
+     * @return the removed span sets by trace id
+     */
+    List<Map.Entry<String, SpanSet>> removeExpired(final long expiryTimeMillis) {
+        final List<Map.Entry<String, SpanSet>> expiredSpanSets = new ArrayList<>();
+        for (final Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                final Iterator<Map.Entry<String, HeldSpanSet>> iterator = stripe.spanSets.entrySet().iterator();
+                while (iterator.hasNext()) {
+                    final Map.Entry<String, HeldSpanSet> entry = iterator.next();
+                    if (entry.getValue().spanSet.getTimeSeen() > expiryTimeMillis) {
+                        break;
+                    }
+                    iterator.remove();
+                    release(entry.getValue());
+                    expiredSpanSets.add(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), entry.getValue().spanSet));
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return expiredSpanSets;
+    }
+
+    /**
+     * Removes the oldest span sets, one stripe after another, until the store holds no more than its memory limit.
+     *
+     * @return the removed span sets by trace id
+     */
+    List<Map.Entry<String, SpanSet>> evictOldest() {
+        final List<Map.Entry<String, SpanSet>> evictedSpanSets = new ArrayList<>();
+        int emptyStripesInARow = 0;
+        while (sizeInBytes.get() > memoryLimitBytes && emptyStripesInARow < stripes.length) {
+            final Stripe stripe = stripes[Math.floorMod(nextStripeToEvict.getAndIncrement(), stripes.length)];
+            Map.Entry<String, HeldSpanSet> oldestEntry = null;
+            stripe.lock.lock();
+            try {
+                final Iterator<Map.Entry<String, HeldSpanSet>> iterator = stripe.spanSets.entrySet().iterator();
+                if (iterator.hasNext()) {
+                    oldestEntry = iterator.next();
+                    iterator.remove();
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+            if (oldestEntry == null) {
+                emptyStripesInARow++;
+            } else {
+                emptyStripesInARow = 0;
+                release(oldestEntry.getValue());
+                evictedSpanSets.add(new AbstractMap.SimpleImmutableEntry<>(oldestEntry.getKey(), oldestEntry.getValue().spanSet));
+            }
+        }
+        return evictedSpanSets;
+    }
+
+    boolean isOverMemoryLimit() {
+        return sizeInBytes.get() > memoryLimitBytes;
+    }
+
+    boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * @return the number of span sets in the store
+     */
+    int size() {
+        return spanSetCount.get();
+    }
+
+    /**
+     * @return the number of spans in the store
+     */
+    long getSpanCount() {
+        return spanCount.get();
+    }
+
+    /**
+     * @return the estimated number of bytes held by the spans in the store
+     */
+    long getSizeInBytes() {
+        return sizeInBytes.get();
+    }
+
+    private void release(final HeldSpanSet heldSpanSet) {
+        sizeInBytes.addAndGet(-heldSpanSet.sizeInBytes);
+        spanCount.addAndGet(-heldSpanSet.spanCount);
+        spanSetCount.decrementAndGet();
+    }
+
+    private Stripe getStripe(final String traceId) {
+        return stripes[Math.floorMod(traceId.hashCode(), stripes.length)];
+    }
+
+    /**
+     * Estimates the bytes which a span holds on the heap from the nodes of its data. Nodes shared with other events
+     * are counted for each span, so this over-estimates rather than under-estimates.
+     *
+     * @param span span
+     * @return the estimated number of bytes
+     */
+    static long estimateSizeInBytes(final Span span) {
+        if (span instanceof JacksonEvent) {
+            try (final JsonParser parser = ((JacksonEvent) span).traverseData()) {
+                return estimateSizeInBytes(parser);
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return STRING_OVERHEAD_BYTES + span.toJsonString().length();
+    }
+
+    private static long estimateSizeInBytes(final JsonParser parser) throws IOException {
+        long size = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != null) {
+            if (token == JsonToken.END_OBJECT || token == JsonToken.END_ARRAY) {
+                continue;
+            }
+            if (token == JsonToken.FIELD_NAME) {
+                size += FIELD_OVERHEAD_BYTES + STRING_OVERHEAD_BYTES + parser.currentName().length();
+                continue;
+            }
+            final JsonStreamContext containerContext = token.isStructStart()
+                    ? parser.getParsingContext().getParent()
+                    : parser.getParsingContext();
+            if (containerContext != null && containerContext.inArray()) {
+                size += Long.BYTES;
+            }
+            size += token == JsonToken.VALUE_STRING
+                    ? STRING_OVERHEAD_BYTES + parser.getText().length()
+                    : NODE_OVERHEAD_BYTES;
+        }
+        return size;
+    }
+
+    private static class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, HeldSpanSet> spanSets = new LinkedHashMap<>();
+    }
+
+    private static class HeldSpanSet {
+        private final SpanSet spanSet = new SpanSet();
+        private long sizeInBytes;
+        private long spanCount;
+    }
+}
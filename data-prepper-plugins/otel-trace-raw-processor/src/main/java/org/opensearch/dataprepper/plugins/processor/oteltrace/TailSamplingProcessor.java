@@ -0,0 +1,170 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
+import org.opensearch.dataprepper.model.peerforwarder.RequiresPeerForwarding;
+import org.opensearch.dataprepper.model.processor.AbstractProcessor;
+import org.opensearch.dataprepper.model.processor.Processor;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Holds the spans of each trace for a decision window and then keeps or drops the whole trace, so that only the
+ * sampled traces reach the sinks. Peer forwarding on the trace id brings all the spans of a trace to the same node.
+ *
+ * @since 2.5
+ */
+@DataPrepperPlugin(name = "tail_sampling", pluginType = Processor.class, pluginConfigurationType = TailSamplingProcessorConfig.class)
+public class TailSamplingProcessor extends AbstractProcessor<Record<Span>, Record<Span>> implements RequiresPeerForwarding {
+    private static final Logger LOG = LoggerFactory.getLogger(TailSamplingProcessor.class);
+    public static final String SPAN_SET_COUNT_METRIC_NAME = "spanSetCount";
+    public static final String SPANS_HELD_BYTES_METRIC_NAME = "spansHeldBytes";
+    public static final String TRACES_KEPT_METRIC_NAME = "tracesKept";
+    public static final String TRACES_DROPPED_METRIC_NAME = "tracesDropped";
+    public static final String SPANS_DROPPED_METRIC_NAME = "spansDropped";
+    public static final String TRACES_DECIDED_EARLY_METRIC_NAME = "tracesDecidedEarly";
+
+    private final long decisionWaitMillis;
+    private final SpanSetStore spanSetStore;
+    private final Cache<String, Boolean> traceIdDecisionCache;
+    private final TraceSampler traceSampler;
+    private final Counter tracesKeptCounter;
+    private final Counter tracesDroppedCounter;
+    private final Counter spansDroppedCounter;
+    private final Counter tracesDecidedEarlyCounter;
+
+    private volatile boolean isShuttingDown = false;
+
+    @DataPrepperPluginConstructor
+    public TailSamplingProcessor(final TailSamplingProcessorConfig tailSamplingProcessorConfig,
+                                 final PipelineDescription pipelineDescription,
+                                 final PluginMetrics pluginMetrics,
+                                 final ExpressionEvaluator expressionEvaluator) {
+        super(pluginMetrics);
+        decisionWaitMillis = tailSamplingProcessorConfig.getDecisionWait().toMillis();
+        final int numProcessWorkers = pipelineDescription.getNumberOfProcessWorkers();
+        spanSetStore = new SpanSetStore(numProcessWorkers, tailSamplingProcessorConfig.getSpanBufferMemoryLimit().getBytes());
+        traceIdDecisionCache = CacheBuilder.newBuilder()
+                .concurrencyLevel(numProcessWorkers)
+                .maximumSize(tailSamplingProcessorConfig.getDecisionCacheMaxSize())
+                .expireAfterWrite(tailSamplingProcessorConfig.getDecisionCacheTimeToLive().toMillis(), TimeUnit.MILLISECONDS)
+                .build();
+        traceSampler = new TraceSampler(tailSamplingProcessorConfig, expressionEvaluator);
+
+        pluginMetrics.gauge(SPAN_SET_COUNT_METRIC_NAME, spanSetStore, store -> (double) store.size());
+        pluginMetrics.gauge(SPANS_HELD_BYTES_METRIC_NAME, spanSetStore, store -> (double) store.getSizeInBytes());
+        tracesKeptCounter = pluginMetrics.counter(TRACES_KEPT_METRIC_NAME);
+        tracesDroppedCounter = pluginMetrics.counter(TRACES_DROPPED_METRIC_NAME);
+        spansDroppedCounter = pluginMetrics.counter(SPANS_DROPPED_METRIC_NAME);
+        tracesDecidedEarlyCounter = pluginMetrics.counter(TRACES_DECIDED_EARLY_METRIC_NAME);
+
+        LOG.info("Configured Tail Sampling Processor with a decision wait of {} ms.", decisionWaitMillis);
+    }
+
+    /**
+     * Holds the spans of undecided traces and sends down the spans of traces which were decided to be kept. Spans
+     * arriving after the decision on their trace follow that decision.
+     *
+     * @param records Input records
+     * @return Spans of the kept traces
+     */
+    @Override
+    public Collection<Record<Span>> doExecute(final Collection<Record<Span>> records) {
+        final List<Span> keptSpans = new LinkedList<>();
+
+        for (final Record<Span> record : records) {
+            final Span span = record.getData();
+            final String traceId = span.getTraceId();
+            final Boolean decision = traceIdDecisionCache.getIfPresent(traceId);
+            if (decision == null) {
+                spanSetStore.addSpan(traceId, span);
+            } else if (decision) {
+                keptSpans.add(span);
+            } else {
+                spansDroppedCounter.increment();
+            }
+        }
+
+        final long expiryTime = isShuttingDown ? Long.MAX_VALUE : System.currentTimeMillis() - decisionWaitMillis;
+        decide(spanSetStore.removeExpired(expiryTime), keptSpans);
+
+        if (spanSetStore.isOverMemoryLimit()) {
+            final List<Map.Entry<String, SpanSet>> evictedSpanSets = spanSetStore.evictOldest();
+            if (!evictedSpanSets.isEmpty()) {
+                tracesDecidedEarlyCounter.increment(evictedSpanSets.size());
+                LOG.warn("Spans in memory exceeded the span buffer memory limit. Deciding on {} traces early", evictedSpanSets.size());
+            }
+            decide(evictedSpanSets, keptSpans);
+        }
+
+        return keptSpans.stream().map(Record::new).collect(Collectors.toList());
+    }
+
+    private void decide(final List<Map.Entry<String, SpanSet>> spanSets, final List<Span> keptSpans) {
+        for (final Map.Entry<String, SpanSet> entry : spanSets) {
+            final String traceId = entry.getKey();
+            final Collection<Span> spans = entry.getValue().getSpans();
+            Boolean decision = traceIdDecisionCache.getIfPresent(traceId);
+            if (decision == null) {
+                decision = traceSampler.shouldKeep(traceId, spans);
+                traceIdDecisionCache.put(traceId, decision);
+                if (decision) {
+                    tracesKeptCounter.increment();
+                } else {
+                    tracesDroppedCounter.increment();
+                }
+            }
+            if (decision) {
+                keptSpans.addAll(spans);
+            } else {
+                spansDroppedCounter.increment(spans.size());
+            }
+        }
+    }
+
+    /**
+     * Makes the decision on all held traces on the next call to {@link #doExecute(Collection)}.
+     */
+    @Override
+    public void prepareForShutdown() {
+        LOG.info("Preparing for shutdown, will attempt to decide on {} spans", spanSetStore.getSpanCount());
+        isShuttingDown = true;
+    }
+
+    @Override
+    public boolean isReadyForShutdown() {
+        return spanSetStore.isEmpty();
+    }
+
+    @Override
+    public void shutdown() {
+        traceIdDecisionCache.cleanUp();
+    }
+
+    @Override
+    public Collection<String> getIdentificationKeys() {
+        return Collections.singleton("traceId");
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+import java.time.Duration;
+
+/**
+ * @since 2.5
+ */
+public class TailSamplingProcessorConfig {
+    static final Duration DEFAULT_DECISION_WAIT = Duration.ofSeconds(30L);
+    static final Duration DEFAULT_DECISION_CACHE_TTL = Duration.ofMinutes(5L);
+    static final long DEFAULT_DECISION_CACHE_MAX_SIZE = 1_000_000L;
+    static final String DEFAULT_SPAN_BUFFER_MEMORY_LIMIT = "512mb";
+
+    @JsonProperty("decision_wait")
+    @NotNull
+    private Duration decisionWait = DEFAULT_DECISION_WAIT;
+
+    @JsonProperty("keep_errors")
+    private boolean keepErrors = true;
+
+    @JsonProperty("latency_threshold")
+    private Duration latencyThreshold;
+
+    @JsonProperty("keep_when")
+    private String keepWhen;
+
+    @JsonProperty("sampling_percentage")
+    @DecimalMin("0.0")
+    @DecimalMax("100.0")
+    private double samplingPercentage = 0.0;
+
+    @JsonProperty("max_sampled_traces_per_second_per_service")
+    @Min(1)
+    private Integer maxSampledTracesPerSecondPerService;
+
+    @JsonProperty("decision_cache_ttl")
+    @NotNull
+    private Duration decisionCacheTimeToLive = DEFAULT_DECISION_CACHE_TTL;
+
+    @JsonProperty("decision_cache_max_size")
+    @Min(1)
+    private long decisionCacheMaxSize = DEFAULT_DECISION_CACHE_MAX_SIZE;
+
+    @JsonProperty("span_buffer_memory_limit")
+    private String spanBufferMemoryLimit = DEFAULT_SPAN_BUFFER_MEMORY_LIMIT;
+
+    public Duration getDecisionWait() {
+        return decisionWait;
+    }
+
+    public boolean getKeepErrors() {
+        return keepErrors;
+    }
+
+    public Duration getLatencyThreshold() {
+        return latencyThreshold;
+    }
+
+    public String getKeepWhen() {
+        return keepWhen;
+    }
+
+    public double getSamplingPercentage() {
+        return samplingPercentage;
+    }
+
+    public Integer getMaxSampledTracesPerSecondPerService() {
+        return maxSampledTracesPerSecondPerService;
+    }
+
+    public Duration getDecisionCacheTimeToLive() {
+        return decisionCacheTimeToLive;
+    }
+
+    public long getDecisionCacheMaxSize() {
+        return decisionCacheMaxSize;
+    }
+
+    public ByteCount getSpanBufferMemoryLimit() {
+        return ByteCount.parse(spanBufferMemoryLimit);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.util.StringUtils;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.EventKey;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.model.trace.TraceGroupFields;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides whether to keep a trace from all of its spans.
+ * <p>
+ * A trace is kept if any of its spans has an error status, lasts at least the latency threshold or matches the keep
+ * condition. Otherwise, it is kept with the sampling percentage, limited to a number of traces per second for the
+ * service of its root span. The probabilistic decision is a function of the trace id, so that every Data Prepper node
+ * makes the same decision for the same trace.
+ */
+class TraceSampler {
+    static final String STATUS_CODE_ATTRIBUTE = "status.code";
+    static final int STATUS_CODE_ERROR = 2;
+    private static final EventKey STATUS_CODE_ATTRIBUTE_KEY = EventKey.of("attributes/" + STATUS_CODE_ATTRIBUTE);
+    private static final String UNKNOWN_SERVICE_NAME = "";
+    private static final long SAMPLING_BUCKETS = 10_000L;
+    private static final HashFunction TRACE_ID_HASH_FUNCTION = Hashing.murmur3_128();
+
+    private final boolean keepErrors;
+    private final Long latencyThresholdNanos;
+    private final String keepWhen;
+    private final long sampledBuckets;
+    private final Integer maxSampledTracesPerSecondPerService;
+    private final ExpressionEvaluator expressionEvaluator;
+    private final Map<String, RateLimiter> serviceRateLimiters = new ConcurrentHashMap<>();
+
+    TraceSampler(final TailSamplingProcessorConfig tailSamplingProcessorConfig, final ExpressionEvaluator expressionEvaluator) {
+        this.keepErrors = tailSamplingProcessorConfig.getKeepErrors();
+        final Duration latencyThreshold = tailSamplingProcessorConfig.getLatencyThreshold();
+        this.latencyThresholdNanos = latencyThreshold == null ? null : latencyThreshold.toNanos();
+        this.keepWhen = tailSamplingProcessorConfig.getKeepWhen();
+        this.sampledBuckets = Math.round(tailSamplingProcessorConfig.getSamplingPercentage() * SAMPLING_BUCKETS / 100.0);
+        this.maxSampledTracesPerSecondPerService = tailSamplingProcessorConfig.getMaxSampledTracesPerSecondPerService();
+        this.expressionEvaluator = expressionEvaluator;
+    }
+
+    /**
+     * @param traceId trace id of the spans
+     * @param spans   spans of the trace held by this node
+     * @return true if the trace should be kept
+     */
+    boolean shouldKeep(final String traceId, final Collection<Span> spans) {
+        for (final Span span : spans) {
+            if (keepErrors && isError(span)) {
+                return true;
+            }
+            if (latencyThresholdNanos != null && span.getDurationInNanos() != null && span.getDurationInNanos() >= latencyThresholdNanos) {
+                return true;
+            }
+            if (keepWhen != null && expressionEvaluator.evaluateConditional(keepWhen, span)) {
+                return true;
+            }
+        }
+        return isSampled(traceId) && tryAcquireForService(getServiceName(spans));
+    }
+
+    private boolean isSampled(final String traceId) {
+        if (sampledBuckets <= 0) {
+            return false;
+        }
+        final long bucket = Math.floorMod(TRACE_ID_HASH_FUNCTION.hashString(traceId, StandardCharsets.UTF_8).asLong(), SAMPLING_BUCKETS);
+        return bucket < sampledBuckets;
+    }
+
+    private boolean tryAcquireForService(final String serviceName) {
+        if (maxSampledTracesPerSecondPerService == null) {
+            return true;
+        }
+        return serviceRateLimiters
+                .computeIfAbsent(serviceName, name -> RateLimiter.create(maxSampledTracesPerSecondPerService))
+                .tryAcquire();
+    }
+
+    private static boolean isError(final Span span) {
+        final Number statusCode = span.get(STATUS_CODE_ATTRIBUTE_KEY, Number.class);
+        if (statusCode != null && statusCode.intValue() == STATUS_CODE_ERROR) {
+            return true;
+        }
+        final TraceGroupFields traceGroupFields = span.getTraceGroupFields();
+        return traceGroupFields != null && traceGroupFields.getStatusCode() != null && traceGroupFields.getStatusCode() == STATUS_CODE_ERROR;
+    }
+
+    /**
+     * @return the service name of the root span, or of any span when the root span is not held by this node
+     */
+    private static String getServiceName(final Collection<Span> spans) {
+        String serviceName = UNKNOWN_SERVICE_NAME;
+        for (final Span span : spans) {
+            if (StringUtils.isBlank(span.getParentSpanId()) && span.getServiceName() != null) {
+                return span.getServiceName();
+            }
+            if (serviceName.equals(UNKNOWN_SERVICE_NAME) && span.getServiceName() != null) {
+                serviceName = span.getServiceName();
+            }
+        }
+        return serviceName;
+    }
+}
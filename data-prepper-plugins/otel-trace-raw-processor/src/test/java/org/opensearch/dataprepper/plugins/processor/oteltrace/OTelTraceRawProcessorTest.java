@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.processor.oteltrace;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
 import org.assertj.core.api.Assertions;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.AfterEach;
@@ -22,6 +23,7 @@ import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
 import org.opensearch.dataprepper.model.trace.JacksonSpan;
 import org.opensearch.dataprepper.model.trace.Span;
 import org.opensearch.dataprepper.model.trace.TraceGroupFields;
+import org.opensearch.dataprepper.model.types.ByteCount;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -47,6 +49,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -82,6 +85,7 @@ class OTelTraceRawProcessorTest {
 
     private OtelTraceRawProcessorConfig config;
     private PluginMetrics pluginMetrics;
+    private Counter spansEvictedCounter;
     public OTelTraceRawProcessor oTelTraceRawProcessor;
     public ExecutorService executorService;
     private PipelineDescription pipelineDescription;
@@ -119,10 +123,13 @@ class OTelTraceRawProcessorTest {
         pipelineDescription = mock(PipelineDescription.class);
         when(pipelineDescription.getNumberOfProcessWorkers()).thenReturn(TEST_CONCURRENCY_SCALE);
         pluginMetrics = mock(PluginMetrics.class);
+        spansEvictedCounter = mock(Counter.class);
+        when(pluginMetrics.counter(OTelTraceRawProcessor.SPANS_EVICTED_METRIC_NAME)).thenReturn(spansEvictedCounter);
 
         when(config.getTraceFlushIntervalSeconds()).thenReturn(TEST_TRACE_FLUSH_INTERVAL);
         when(config.getTraceGroupCacheMaxSize()).thenReturn(OtelTraceRawProcessorConfig.MAX_TRACE_ID_CACHE_SIZE);
         when(config.getTraceGroupCacheTimeToLive()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_TRACE_ID_TTL);
+        when(config.getSpanBufferMemoryLimit()).thenReturn(ByteCount.parse(OtelTraceRawProcessorConfig.DEFAULT_SPAN_BUFFER_MEMORY_LIMIT));
 
         oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
         executorService = Executors.newFixedThreadPool(TEST_CONCURRENCY_SCALE);
@@ -250,6 +257,44 @@ class OTelTraceRawProcessorTest {
         assertThat(actualFunction.applyAsDouble(actualMeasuredObject), equalTo(1.0));
     }
 
+    @Test
+    void testMetricsOnSpansHeld() {
+        final ToDoubleFunction spansHeldCountFunction = captureGaugeFunction(OTelTraceRawProcessor.SPANS_HELD_COUNT_METRIC_NAME);
+        final ToDoubleFunction spansHeldBytesFunction = captureGaugeFunction(OTelTraceRawProcessor.SPANS_HELD_BYTES_METRIC_NAME);
+        final Object spanSetStore = captureGaugeObject(OTelTraceRawProcessor.SPANS_HELD_COUNT_METRIC_NAME);
+
+        assertThat(spansHeldCountFunction.applyAsDouble(spanSetStore), equalTo(0.0));
+        assertThat(spansHeldBytesFunction.applyAsDouble(spanSetStore), equalTo(0.0));
+
+        oTelTraceRawProcessor.doExecute(TEST_ONE_TRACE_GROUP_MISSING_ROOT_RECORDS);
+
+        assertThat(spansHeldCountFunction.applyAsDouble(spanSetStore), equalTo(2.0));
+        assertThat(spansHeldBytesFunction.applyAsDouble(spanSetStore) > 0.0, equalTo(true));
+
+        oTelTraceRawProcessor.doExecute(Collections.singletonList(new Record<>(TEST_TRACE_GROUP_2_ROOT_SPAN)));
+
+        assertThat(spansHeldCountFunction.applyAsDouble(spanSetStore), equalTo(0.0));
+        assertThat(spansHeldBytesFunction.applyAsDouble(spanSetStore), equalTo(0.0));
+    }
+
+    @Test
+    void spanBufferMemoryLimit_causes_early_flush_without_trace_groups() {
+        reset(config);
+        when(config.getTraceFlushIntervalSeconds()).thenReturn(TEST_TRACE_FLUSH_INTERVAL);
+        when(config.getTraceGroupCacheMaxSize()).thenReturn(OtelTraceRawProcessorConfig.MAX_TRACE_ID_CACHE_SIZE);
+        when(config.getTraceGroupCacheTimeToLive()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_TRACE_ID_TTL);
+        when(config.getSpanBufferMemoryLimit()).thenReturn(ByteCount.parse("1b"));
+
+        oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
+
+        final Collection<Record<Span>> processedRecords = oTelTraceRawProcessor.doExecute(TEST_TWO_TRACE_GROUP_MISSING_ROOT_RECORDS);
+
+        MatcherAssert.assertThat(processedRecords.size(), equalTo(4));
+        MatcherAssert.assertThat(getMissingTraceGroupFieldsSpanCount(processedRecords), equalTo(4));
+        assertTrue(oTelTraceRawProcessor.isReadyForShutdown());
+        verify(spansEvictedCounter).increment(4);
+    }
+
     @ParameterizedTest
     @CsvSource({
             "1, 4",
@@ -260,6 +305,7 @@ class OTelTraceRawProcessorTest {
         when(config.getTraceFlushIntervalSeconds()).thenReturn(TEST_TRACE_FLUSH_INTERVAL);
         when(config.getTraceGroupCacheMaxSize()).thenReturn(cacheMaxSize);
         when(config.getTraceGroupCacheTimeToLive()).thenReturn(OtelTraceRawProcessorConfig.DEFAULT_TRACE_ID_TTL);
+        when(config.getSpanBufferMemoryLimit()).thenReturn(ByteCount.parse(OtelTraceRawProcessorConfig.DEFAULT_SPAN_BUFFER_MEMORY_LIMIT));
 
         oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
 
@@ -281,6 +327,7 @@ class OTelTraceRawProcessorTest {
         when(config.getTraceFlushIntervalSeconds()).thenReturn(TEST_TRACE_FLUSH_INTERVAL);
         when(config.getTraceGroupCacheMaxSize()).thenReturn(OtelTraceRawProcessorConfig.MAX_TRACE_ID_CACHE_SIZE);
         when(config.getTraceGroupCacheTimeToLive()).thenReturn(Duration.ofMillis(traceIdTtlMillis));
+        when(config.getSpanBufferMemoryLimit()).thenReturn(ByteCount.parse(OtelTraceRawProcessorConfig.DEFAULT_SPAN_BUFFER_MEMORY_LIMIT));
 
         oTelTraceRawProcessor = new OTelTraceRawProcessor(config, pipelineDescription, pluginMetrics);
 
@@ -293,6 +340,18 @@ class OTelTraceRawProcessorTest {
         MatcherAssert.assertThat(getMissingTraceGroupFieldsSpanCount(processedRecords), equalTo(0));
     }
 
+    private ToDoubleFunction captureGaugeFunction(final String metricName) {
+        final ArgumentCaptor<ToDoubleFunction> gaugeFunctionArgumentCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        verify(pluginMetrics).gauge(eq(metricName), any(), gaugeFunctionArgumentCaptor.capture());
+        return gaugeFunctionArgumentCaptor.getValue();
+    }
+
+    private Object captureGaugeObject(final String metricName) {
+        final ArgumentCaptor<Object> gaugeObjectArgumentCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(pluginMetrics).gauge(eq(metricName), gaugeObjectArgumentCaptor.capture(), any(ToDoubleFunction.class));
+        return gaugeObjectArgumentCaptor.getValue();
+    }
+
     private static Span buildSpanFromJsonFile(final String jsonFileName) {
         JacksonSpan.Builder spanBuilder = JacksonSpan.builder();
         try (final InputStream inputStream = Objects.requireNonNull(
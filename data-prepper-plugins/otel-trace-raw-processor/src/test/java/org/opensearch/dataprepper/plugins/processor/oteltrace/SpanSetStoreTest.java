@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.plugins.processor.oteltrace.model.SpanSet;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SpanSetStoreTest {
+    private static final long MEMORY_LIMIT_BYTES = 1024 * 1024;
+
+    @Test
+    void constructor_with_less_than_one_stripe_throws_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SpanSetStore(0, MEMORY_LIMIT_BYTES));
+    }
+
+    @Test
+    void addSpan_and_remove_account_for_spans_and_bytes() {
+        final SpanSetStore spanSetStore = new SpanSetStore(2, MEMORY_LIMIT_BYTES);
+        final String traceId = UUID.randomUUID().toString();
+        final Span span1 = buildSpan(traceId);
+        final Span span2 = buildSpan(traceId);
+
+        spanSetStore.addSpan(traceId, span1);
+        spanSetStore.addSpan(traceId, span2);
+
+        assertThat(spanSetStore.size(), equalTo(1));
+        assertThat(spanSetStore.getSpanCount(), equalTo(2L));
+        assertThat(spanSetStore.getSizeInBytes(),
+                equalTo(SpanSetStore.estimateSizeInBytes(span1) + SpanSetStore.estimateSizeInBytes(span2)));
+
+        final SpanSet spanSet = spanSetStore.remove(traceId);
+
+        assertThat(spanSet.getSpans(), containsInAnyOrder(span1, span2));
+        assertThat(spanSetStore.isEmpty(), equalTo(true));
+        assertThat(spanSetStore.getSpanCount(), equalTo(0L));
+        assertThat(spanSetStore.getSizeInBytes(), equalTo(0L));
+        assertThat(spanSetStore.remove(traceId), nullValue());
+    }
+
+    @Test
+    void removeExpired_removes_only_the_span_sets_seen_before_the_expiry_time() {
+        final SpanSetStore spanSetStore = new SpanSetStore(2, MEMORY_LIMIT_BYTES);
+        final String traceId1 = UUID.randomUUID().toString();
+        final String traceId2 = UUID.randomUUID().toString();
+        spanSetStore.addSpan(traceId1, buildSpan(traceId1));
+        spanSetStore.addSpan(traceId2, buildSpan(traceId2));
+
+        assertThat(spanSetStore.removeExpired(System.currentTimeMillis() - 60_000), empty());
+        assertThat(spanSetStore.size(), equalTo(2));
+
+        final List<String> expiredTraceIds = spanSetStore.removeExpired(Long.MAX_VALUE).stream()
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        assertThat(expiredTraceIds, containsInAnyOrder(traceId1, traceId2));
+        assertThat(spanSetStore.isEmpty(), equalTo(true));
+        assertThat(spanSetStore.getSizeInBytes(), equalTo(0L));
+    }
+
+    @Test
+    void evictOldest_removes_the_oldest_span_sets_until_below_the_memory_limit() {
+        final String traceId1 = UUID.randomUUID().toString();
+        final String traceId2 = UUID.randomUUID().toString();
+        final Span span1 = buildSpan(traceId1);
+        final Span span2 = buildSpan(traceId2);
+        final SpanSetStore spanSetStore = new SpanSetStore(1, SpanSetStore.estimateSizeInBytes(span2));
+        spanSetStore.addSpan(traceId1, span1);
+
+        assertThat(spanSetStore.isOverMemoryLimit(), equalTo(false));
+        assertThat(spanSetStore.evictOldest(), empty());
+
+        spanSetStore.addSpan(traceId2, span2);
+
+        assertThat(spanSetStore.isOverMemoryLimit(), equalTo(true));
+        final List<Map.Entry<String, SpanSet>> evictedSpanSets = spanSetStore.evictOldest();
+
+        assertThat(evictedSpanSets.size(), equalTo(1));
+        assertThat(evictedSpanSets.get(0).getKey(), equalTo(traceId1));
+        assertThat(evictedSpanSets.get(0).getValue().getSpans(), containsInAnyOrder(span1));
+        assertThat(spanSetStore.isOverMemoryLimit(), equalTo(false));
+        assertThat(spanSetStore.getSpanCount(), equalTo(1L));
+    }
+
+    @Test
+    void estimateSizeInBytes_grows_with_the_attributes_of_the_span() {
+        final String traceId = UUID.randomUUID().toString();
+
+        final long sizeWithoutAttributes = SpanSetStore.estimateSizeInBytes(buildSpan(traceId));
+        final long sizeWithAttributes = SpanSetStore.estimateSizeInBytes(buildSpan(traceId,
+                Collections.singletonMap("span.attributes.key", UUID.randomUUID().toString())));
+
+        assertThat(sizeWithoutAttributes, greaterThan(0L));
+        assertThat(sizeWithAttributes, greaterThan(sizeWithoutAttributes));
+    }
+
+    private static Span buildSpan(final String traceId) {
+        return buildSpan(traceId, Collections.emptyMap());
+    }
+
+    private static Span buildSpan(final String traceId, final Map<String, Object> attributes) {
+        return JacksonSpan.builder()
+                .withTraceId(traceId)
+                .withSpanId(UUID.randomUUID().toString())
+                .withParentSpanId(UUID.randomUUID().toString())
+                .withTraceState("")
+                .withName("name")
+                .withKind("SPAN_KIND_INTERNAL")
+                .withStartTime("2020-05-24T14:00:00Z")
+                .withEndTime("2020-05-24T14:01:00Z")
+                .withDurationInNanos(60_000_000_000L)
+                .withTraceGroup(null)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .withAttributes(attributes)
+                .build();
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.model.types.ByteCount;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TailSamplingProcessorTest {
+    private static final Duration LONG_DECISION_WAIT = Duration.ofHours(1);
+
+    @Mock
+    private TailSamplingProcessorConfig tailSamplingProcessorConfig;
+
+    @Mock
+    private PipelineDescription pipelineDescription;
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    @Mock
+    private ExpressionEvaluator expressionEvaluator;
+
+    @Mock
+    private Counter tracesKeptCounter;
+
+    @Mock
+    private Counter tracesDroppedCounter;
+
+    @Mock
+    private Counter spansDroppedCounter;
+
+    @Mock
+    private Counter tracesDecidedEarlyCounter;
+
+    @BeforeEach
+    void setUp() {
+        when(pipelineDescription.getNumberOfProcessWorkers()).thenReturn(2);
+        when(tailSamplingProcessorConfig.getDecisionWait()).thenReturn(Duration.ZERO);
+        when(tailSamplingProcessorConfig.getKeepErrors()).thenReturn(true);
+        when(tailSamplingProcessorConfig.getDecisionCacheMaxSize()).thenReturn(TailSamplingProcessorConfig.DEFAULT_DECISION_CACHE_MAX_SIZE);
+        when(tailSamplingProcessorConfig.getDecisionCacheTimeToLive()).thenReturn(TailSamplingProcessorConfig.DEFAULT_DECISION_CACHE_TTL);
+        when(tailSamplingProcessorConfig.getSpanBufferMemoryLimit())
+                .thenReturn(ByteCount.parse(TailSamplingProcessorConfig.DEFAULT_SPAN_BUFFER_MEMORY_LIMIT));
+        when(pluginMetrics.counter(TailSamplingProcessor.TRACES_KEPT_METRIC_NAME)).thenReturn(tracesKeptCounter);
+        when(pluginMetrics.counter(TailSamplingProcessor.TRACES_DROPPED_METRIC_NAME)).thenReturn(tracesDroppedCounter);
+        when(pluginMetrics.counter(TailSamplingProcessor.SPANS_DROPPED_METRIC_NAME)).thenReturn(spansDroppedCounter);
+        when(pluginMetrics.counter(TailSamplingProcessor.TRACES_DECIDED_EARLY_METRIC_NAME)).thenReturn(tracesDecidedEarlyCounter);
+    }
+
+    private TailSamplingProcessor createObjectUnderTest() {
+        return new TailSamplingProcessor(tailSamplingProcessorConfig, pipelineDescription, pluginMetrics, expressionEvaluator);
+    }
+
+    @Test
+    void doExecute_keeps_the_spans_of_traces_with_errors_and_drops_the_others() {
+        final String keptTraceId = UUID.randomUUID().toString();
+        final String droppedTraceId = UUID.randomUUID().toString();
+        final Span keptRootSpan = buildSpan(keptTraceId, null, Collections.emptyMap());
+        final Span keptErrorSpan = buildErrorSpan(keptTraceId);
+        final Span droppedRootSpan = buildSpan(droppedTraceId, null, Collections.emptyMap());
+
+        final Collection<Record<Span>> records = createObjectUnderTest().doExecute(toRecords(keptRootSpan, keptErrorSpan, droppedRootSpan));
+
+        assertThat(toSpans(records), containsInAnyOrder(keptRootSpan, keptErrorSpan));
+        verify(tracesKeptCounter).increment();
+        verify(tracesDroppedCounter).increment();
+        verify(spansDroppedCounter).increment(1);
+    }
+
+    @Test
+    void doExecute_holds_spans_until_the_decision_wait_is_over() {
+        when(tailSamplingProcessorConfig.getDecisionWait()).thenReturn(LONG_DECISION_WAIT);
+        final TailSamplingProcessor objectUnderTest = createObjectUnderTest();
+        final Span errorSpan = buildErrorSpan(UUID.randomUUID().toString());
+
+        assertThat(objectUnderTest.doExecute(toRecords(errorSpan)), empty());
+        assertThat(objectUnderTest.isReadyForShutdown(), equalTo(false));
+
+        objectUnderTest.prepareForShutdown();
+
+        assertThat(toSpans(objectUnderTest.doExecute(Collections.emptyList())), containsInAnyOrder(errorSpan));
+        assertThat(objectUnderTest.isReadyForShutdown(), equalTo(true));
+    }
+
+    @Test
+    void doExecute_applies_the_decision_on_a_trace_to_spans_arriving_later() {
+        final TailSamplingProcessor objectUnderTest = createObjectUnderTest();
+        final String keptTraceId = UUID.randomUUID().toString();
+        final String droppedTraceId = UUID.randomUUID().toString();
+        objectUnderTest.doExecute(toRecords(buildErrorSpan(keptTraceId), buildSpan(droppedTraceId, null, Collections.emptyMap())));
+        final Span lateKeptSpan = buildSpan(keptTraceId, UUID.randomUUID().toString(), Collections.emptyMap());
+        final Span lateDroppedSpan = buildErrorSpan(droppedTraceId);
+
+        final Collection<Record<Span>> records = objectUnderTest.doExecute(toRecords(lateKeptSpan, lateDroppedSpan));
+
+        assertThat(toSpans(records), containsInAnyOrder(lateKeptSpan));
+        assertThat(objectUnderTest.isReadyForShutdown(), equalTo(true));
+        verify(tracesKeptCounter).increment();
+        verify(tracesDroppedCounter).increment();
+        verify(spansDroppedCounter).increment();
+    }
+
+    @Test
+    void doExecute_decides_early_on_the_oldest_traces_over_the_span_buffer_memory_limit() {
+        when(tailSamplingProcessorConfig.getDecisionWait()).thenReturn(LONG_DECISION_WAIT);
+        when(tailSamplingProcessorConfig.getSpanBufferMemoryLimit()).thenReturn(ByteCount.parse("1b"));
+        final TailSamplingProcessor objectUnderTest = createObjectUnderTest();
+        final Span errorSpan = buildErrorSpan(UUID.randomUUID().toString());
+        final Span droppedSpan = buildSpan(UUID.randomUUID().toString(), null, Collections.emptyMap());
+
+        final Collection<Record<Span>> records = objectUnderTest.doExecute(toRecords(errorSpan, droppedSpan));
+
+        assertThat(toSpans(records), containsInAnyOrder(errorSpan));
+        assertThat(objectUnderTest.isReadyForShutdown(), equalTo(true));
+        verify(tracesDecidedEarlyCounter).increment(2);
+    }
+
+    @Test
+    void getIdentificationKeys_returns_traceId() {
+        assertThat(createObjectUnderTest().getIdentificationKeys(), equalTo(Collections.singleton("traceId")));
+    }
+
+    private static Span buildErrorSpan(final String traceId) {
+        return buildSpan(traceId, UUID.randomUUID().toString(),
+                Collections.singletonMap(TraceSampler.STATUS_CODE_ATTRIBUTE, TraceSampler.STATUS_CODE_ERROR));
+    }
+
+    private static Span buildSpan(final String traceId, final String parentSpanId, final Map<String, Object> attributes) {
+        return JacksonSpan.builder()
+                .withTraceId(traceId)
+                .withSpanId(UUID.randomUUID().toString())
+                .withParentSpanId(parentSpanId)
+                .withServiceName("service")
+                .withName("name")
+                .withKind("SPAN_KIND_SERVER")
+                .withStartTime("2020-05-24T14:00:00Z")
+                .withEndTime("2020-05-24T14:00:01Z")
+                .withDurationInNanos(1_000_000_000L)
+                .withTraceGroup(null)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .withAttributes(attributes)
+                .build();
+    }
+
+    private static List<Record<Span>> toRecords(final Span... spans) {
+        return Arrays.stream(spans).map(Record::new).collect(Collectors.toList());
+    }
+
+    private static List<Span> toSpans(final Collection<Record<Span>> records) {
+        return records.stream().map(Record::getData).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.oteltrace;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TraceSamplerTest {
+    private static final long ONE_SECOND_IN_NANOS = 1_000_000_000L;
+
+    @Mock
+    private TailSamplingProcessorConfig tailSamplingProcessorConfig;
+
+    @Mock
+    private ExpressionEvaluator expressionEvaluator;
+
+    private String traceId;
+
+    @BeforeEach
+    void setUp() {
+        traceId = UUID.randomUUID().toString();
+        when(tailSamplingProcessorConfig.getKeepErrors()).thenReturn(true);
+    }
+
+    private TraceSampler createObjectUnderTest() {
+        return new TraceSampler(tailSamplingProcessorConfig, expressionEvaluator);
+    }
+
+    @Test
+    void shouldKeep_returns_false_for_a_trace_without_errors_when_nothing_is_sampled() {
+        final List<Span> spans = Arrays.asList(buildRootSpan("service", ONE_SECOND_IN_NANOS), buildChildSpan("service", Collections.emptyMap()));
+
+        assertThat(createObjectUnderTest().shouldKeep(traceId, spans), equalTo(false));
+    }
+
+    @Test
+    void shouldKeep_returns_true_for_a_trace_with_a_span_with_an_error_status_attribute() {
+        final List<Span> spans = Arrays.asList(buildRootSpan("service", ONE_SECOND_IN_NANOS),
+                buildChildSpan("service", Collections.singletonMap(TraceSampler.STATUS_CODE_ATTRIBUTE, TraceSampler.STATUS_CODE_ERROR)));
+
+        assertThat(createObjectUnderTest().shouldKeep(traceId, spans), equalTo(true));
+    }
+
+    @Test
+    void shouldKeep_returns_false_for_a_trace_with_a_span_with_an_ok_status_attribute() {
+        final List<Span> spans = Arrays.asList(buildRootSpan("service", ONE_SECOND_IN_NANOS),
+                buildChildSpan("service", Collections.singletonMap(TraceSampler.STATUS_CODE_ATTRIBUTE, 1)));
+
+        assertThat(createObjectUnderTest().shouldKeep(traceId, spans), equalTo(false));
+    }
+
+    @Test
+    void shouldKeep_returns_true_for_a_trace_with_a_root_span_with_an_error_status() {
+        final Span rootSpan = JacksonSpan.builder()
+                .withTraceId(traceId)
+                .withSpanId(UUID.randomUUID().toString())
+                .withName("name")
+                .withKind("SPAN_KIND_SERVER")
+                .withStartTime("2020-05-24T14:00:00Z")
+                .withEndTime("2020-05-24T14:00:01Z")
+                .withDurationInNanos(ONE_SECOND_IN_NANOS)
+                .withTraceGroup("name")
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().withStatusCode(TraceSampler.STATUS_CODE_ERROR).build())
+                .build();
+
+        assertThat(createObjectUnderTest().shouldKeep(traceId, Collections.singletonList(rootSpan)), equalTo(true));
+    }
+
+    @Test
+    void shouldKeep_returns_false_for_a_trace_with_an_error_when_keep_errors_is_false() {
+        when(tailSamplingProcessorConfig.getKeepErrors()).thenReturn(false);
+        final List<Span> spans = Collections.singletonList(
+                buildChildSpan("service", Collections.singletonMap(TraceSampler.STATUS_CODE_ATTRIBUTE, TraceSampler.STATUS_CODE_ERROR)));
+
+        assertThat(createObjectUnderTest().shouldKeep(traceId, spans), equalTo(false));
+    }
+
+    @Test
+    void shouldKeep_returns_true_only_for_a_trace_with_a_span_over_the_latency_threshold() {
+        when(tailSamplingProcessorConfig.getLatencyThreshold()).thenReturn(Duration.ofMillis(500));
+        final TraceSampler objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.shouldKeep(traceId, Collections.singletonList(buildRootSpan("service", ONE_SECOND_IN_NANOS))), equalTo(true));
+        assertThat(objectUnderTest.shouldKeep(traceId, Collections.singletonList(buildRootSpan("service", ONE_SECOND_IN_NANOS / 10))), equalTo(false));
+    }
+
+    @Test
+    void shouldKeep_returns_true_for_a_trace_with_a_span_matching_keep_when() {
+        final String keepWhen = "/name == \"name\"";
+        final Span rootSpan = buildRootSpan("service", ONE_SECOND_IN_NANOS);
+        final Span childSpan = buildChildSpan("service", Collections.emptyMap());
+        when(tailSamplingProcessorConfig.getKeepWhen()).thenReturn(keepWhen);
+        when(expressionEvaluator.evaluateConditional(keepWhen, rootSpan)).thenReturn(false);
+        when(expressionEvaluator.evaluateConditional(keepWhen, childSpan)).thenReturn(true);
+
+        assertThat(createObjectUnderTest().shouldKeep(traceId, Arrays.asList(rootSpan, childSpan)), equalTo(true));
+    }
+
+    @Test
+    void shouldKeep_does_not_evaluate_expressions_without_keep_when() {
+        createObjectUnderTest().shouldKeep(traceId, Collections.singletonList(buildRootSpan("service", ONE_SECOND_IN_NANOS)));
+
+        verifyNoInteractions(expressionEvaluator);
+    }
+
+    @Test
+    void shouldKeep_returns_true_for_every_trace_when_sampling_percentage_is_100() {
+        when(tailSamplingProcessorConfig.getSamplingPercentage()).thenReturn(100.0);
+        final TraceSampler objectUnderTest = createObjectUnderTest();
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(objectUnderTest.shouldKeep(UUID.randomUUID().toString(),
+                    Collections.singletonList(buildRootSpan("service", ONE_SECOND_IN_NANOS))), equalTo(true));
+        }
+    }
+
+    @Test
+    void shouldKeep_makes_the_same_probabilistic_decision_for_the_same_trace_id() {
+        when(tailSamplingProcessorConfig.getSamplingPercentage()).thenReturn(50.0);
+        final List<Span> spans = Collections.singletonList(buildRootSpan("service", ONE_SECOND_IN_NANOS));
+        final boolean decision = createObjectUnderTest().shouldKeep(traceId, spans);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(createObjectUnderTest().shouldKeep(traceId, spans), equalTo(decision));
+        }
+    }
+
+    @Test
+    void shouldKeep_samples_about_the_sampling_percentage_of_traces() {
+        when(tailSamplingProcessorConfig.getSamplingPercentage()).thenReturn(25.0);
+        final TraceSampler objectUnderTest = createObjectUnderTest();
+        final List<Span> spans = Collections.singletonList(buildRootSpan("service", ONE_SECOND_IN_NANOS));
+
+        int keptTraces = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (objectUnderTest.shouldKeep(UUID.randomUUID().toString(), spans)) {
+                keptTraces++;
+            }
+        }
+
+        assertThat(keptTraces > 2_000 && keptTraces < 3_000, equalTo(true));
+    }
+
+    @Test
+    void shouldKeep_limits_the_sampled_traces_per_second_for_each_service() {
+        when(tailSamplingProcessorConfig.getSamplingPercentage()).thenReturn(100.0);
+        when(tailSamplingProcessorConfig.getMaxSampledTracesPerSecondPerService()).thenReturn(1);
+        final TraceSampler objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.shouldKeep(traceId, Collections.singletonList(buildRootSpan("service-1", ONE_SECOND_IN_NANOS))), equalTo(true));
+        assertThat(objectUnderTest.shouldKeep(traceId, Collections.singletonList(buildRootSpan("service-1", ONE_SECOND_IN_NANOS))), equalTo(false));
+        assertThat(objectUnderTest.shouldKeep(traceId, Arrays.asList(
+                buildChildSpan("service-1", Collections.emptyMap()), buildRootSpan("service-2", ONE_SECOND_IN_NANOS))), equalTo(true));
+    }
+
+    @Test
+    void shouldKeep_does_not_rate_limit_traces_with_errors() {
+        when(tailSamplingProcessorConfig.getSamplingPercentage()).thenReturn(100.0);
+        when(tailSamplingProcessorConfig.getMaxSampledTracesPerSecondPerService()).thenReturn(1);
+        final TraceSampler objectUnderTest = createObjectUnderTest();
+        final List<Span> spans = Collections.singletonList(
+                buildChildSpan("service", Collections.singletonMap(TraceSampler.STATUS_CODE_ATTRIBUTE, TraceSampler.STATUS_CODE_ERROR)));
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(objectUnderTest.shouldKeep(traceId, spans), equalTo(true));
+        }
+    }
+
+    private Span buildRootSpan(final String serviceName, final long durationInNanos) {
+        return buildSpan(null, serviceName, durationInNanos, Collections.emptyMap());
+    }
+
+    private Span buildChildSpan(final String serviceName, final Map<String, Object> attributes) {
+        return buildSpan(UUID.randomUUID().toString(), serviceName, ONE_SECOND_IN_NANOS / 100, attributes);
+    }
+
+    private Span buildSpan(final String parentSpanId, final String serviceName, final long durationInNanos, final Map<String, Object> attributes) {
+        return JacksonSpan.builder()
+                .withTraceId(traceId)
+                .withSpanId(UUID.randomUUID().toString())
+                .withParentSpanId(parentSpanId)
+                .withServiceName(serviceName)
+                .withName("name")
+                .withKind("SPAN_KIND_SERVER")
+                .withStartTime("2020-05-24T14:00:00Z")
+                .withEndTime("2020-05-24T14:00:01Z")
+                .withDurationInNanos(durationInNanos)
+                .withTraceGroup(null)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder().build())
+                .withAttributes(attributes)
+                .build();
+    }
+}
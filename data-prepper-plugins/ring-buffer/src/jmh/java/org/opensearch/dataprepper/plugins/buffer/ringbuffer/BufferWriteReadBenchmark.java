@@ -0,0 +1,116 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.plugins.buffer.blockingbuffer.BlockingBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of the {@link RingBuffer} with the {@link BlockingBuffer} when several writer threads
+ * write into the buffer while a single reader reads and checkpoints batches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BufferWriteReadBenchmark {
+    private static final int RECORDS_PER_OPERATION = 48_000;
+    private static final int BUFFER_SIZE = 12_800;
+    private static final int BATCH_SIZE = 200;
+    private static final int WRITE_BATCH_SIZE = 25;
+    private static final int TIMEOUT_MILLIS = 10_000;
+    private static final String PIPELINE_NAME = "benchmark";
+
+    private static final String RING_BUFFER_PREFIX = "ring_buffer_";
+
+    @Param({"ring_buffer_park", "ring_buffer_yield", "ring_buffer_spin", "bounded_blocking"})
+    private String bufferType;
+
+    @Param({"1", "4", "16"})
+    private int writerThreads;
+
+    @Param({"false", "true"})
+    private boolean writeAll;
+
+    private Buffer<Record<String>> buffer;
+    private ExecutorService writerExecutor;
+    private List<Record<String>> records;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (bufferType.startsWith(RING_BUFFER_PREFIX)) {
+            final WaitStrategy waitStrategy = WaitStrategy.fromOptionValue(bufferType.substring(RING_BUFFER_PREFIX.length()));
+            buffer = new RingBuffer<>(BUFFER_SIZE, BATCH_SIZE, waitStrategy, PIPELINE_NAME);
+        } else {
+            buffer = new BlockingBuffer<>(BUFFER_SIZE, BATCH_SIZE, PIPELINE_NAME);
+        }
+        writerExecutor = Executors.newFixedThreadPool(writerThreads);
+        records = new ArrayList<>(RECORDS_PER_OPERATION / writerThreads);
+        for (int i = 0; i < RECORDS_PER_OPERATION / writerThreads; i++) {
+            records.add(new Record<>("record-" + i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        writerExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(RECORDS_PER_OPERATION)
+    public int writeAndRead() throws Exception {
+        final List<Future<?>> writerFutures = new ArrayList<>(writerThreads);
+        for (int i = 0; i < writerThreads; i++) {
+            writerFutures.add(writerExecutor.submit(this::writeRecords));
+        }
+
+        int recordsRead = 0;
+        while (recordsRead < RECORDS_PER_OPERATION) {
+            final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(0);
+            recordsRead += readResult.getKey().size();
+            buffer.checkpoint(readResult.getValue());
+        }
+
+        for (final Future<?> writerFuture : writerFutures) {
+            writerFuture.get();
+        }
+        return recordsRead;
+    }
+
+    private Void writeRecords() throws Exception {
+        if (writeAll) {
+            for (int i = 0; i < records.size(); i += WRITE_BATCH_SIZE) {
+                buffer.writeAll(records.subList(i, Math.min(i + WRITE_BATCH_SIZE, records.size())), TIMEOUT_MILLIS);
+            }
+        } else {
+            for (final Record<String> record : records) {
+                buffer.write(record, TIMEOUT_MILLIS);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import com.google.common.util.concurrent.AtomicDouble;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A bounded RingBuffer is an implementation of {@link Buffer} over a preallocated ring of slots. Writers and
+ * readers claim slots with compare-and-set operations on shared sequence counters rather than locks, and wait
+ * using the configured {@link WaitStrategy} when the ring is full or empty.
+ * <p>
+ * Like {@link org.opensearch.dataprepper.model.buffer.Buffer} implementations based on queues, the capacity
+ * {@link #ATTRIBUTE_BUFFER_CAPACITY} bounds the number of unchecked records, which are the records written into the
+ * buffer plus the records read but not yet checked by {@link #checkpoint(CheckpointState)}.
+ * {@link #writeAll(Collection, int)} claims a contiguous range of slots for the whole collection at once.
+ *
+ * @since 2.5
+ */
+@DataPrepperPlugin(name = "ring_buffer", pluginType = Buffer.class)
+public class RingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(RingBuffer.class);
+    private static final int DEFAULT_BUFFER_CAPACITY = 12_800;
+    private static final int DEFAULT_BATCH_SIZE = 200;
+    private static final String PLUGIN_NAME = "ring_buffer";
+    private static final String ATTRIBUTE_BUFFER_CAPACITY = "buffer_size";
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_WAIT_STRATEGY = "wait_strategy";
+    private static final String RING_BUFFER = "RingBuffer";
+    private static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final WaitStrategy waitStrategy;
+    private final AtomicDouble bufferUsage;
+    private final String pipelineName;
+
+    private final int mask;
+    private final AtomicReferenceArray<T> slots;
+    /**
+     * The sequence of each slot. A slot at index {@code i} with sequence {@code s} is free for the write at
+     * position {@code s} when {@code s == position}, and holds the record written at position {@code s - 1}
+     * when {@code s == position + 1}.
+     */
+    private final AtomicLongArray slotSequences;
+    private final AtomicLong writePosition;
+    private final AtomicLong readPosition;
+    private final AtomicInteger availableCapacity;
+
+    /**
+     * Creates a RingBuffer with the given (fixed) capacity.
+     *
+     * @param bufferCapacity the capacity of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param waitStrategy   how to wait for slots or records
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public RingBuffer(final int bufferCapacity, final int batchSize, final WaitStrategy waitStrategy, final String pipelineName) {
+        super(RING_BUFFER, pipelineName);
+        checkArgument(bufferCapacity > 0, "buffer_size must be greater than 0");
+        checkArgument(batchSize > 0, "batch_size must be greater than 0");
+        bufferUsage = pluginMetrics.gauge(BUFFER_USAGE_METRIC, new AtomicDouble());
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.waitStrategy = checkNotNull(waitStrategy, "waitStrategy cannot be null");
+        this.pipelineName = pipelineName;
+
+        final int ringSize = ringSizeFor(bufferCapacity);
+        this.mask = ringSize - 1;
+        this.slots = new AtomicReferenceArray<>(ringSize);
+        this.slotSequences = new AtomicLongArray(ringSize);
+        for (int i = 0; i < ringSize; i++) {
+            slotSequences.set(i, i);
+        }
+        this.writePosition = new AtomicLong();
+        this.readPosition = new AtomicLong();
+        this.availableCapacity = new AtomicInteger(bufferCapacity);
+    }
+
+    /**
+     * Mandatory constructor for Data Prepper Component - This constructor is used by Data Prepper runtime engine to construct an
+     * instance of {@link RingBuffer} using an instance of {@link PluginSetting} which has access to
+     * pluginSetting metadata from pipeline pluginSetting file. Buffer settings like `buffer_size`, `batch_size`
+     * and `wait_strategy` are optional and can be passed via {@link PluginSetting}, if not present default values will
+     * be used to create the buffer.
+     *
+     * @param pluginSetting instance with metadata information from pipeline pluginSetting file.
+     */
+    public RingBuffer(final PluginSetting pluginSetting) {
+        this(checkNotNull(pluginSetting, "PluginSetting cannot be null")
+                        .getIntegerOrDefault(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY),
+                pluginSetting.getIntegerOrDefault(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                WaitStrategy.fromOptionValue(
+                        pluginSetting.getStringOrDefault(ATTRIBUTE_WAIT_STRATEGY, WaitStrategy.PARK.getOption())),
+                pluginSetting.getPipelineName());
+    }
+
+    public RingBuffer(final String pipelineName) {
+        this(DEFAULT_BUFFER_CAPACITY, DEFAULT_BATCH_SIZE, WaitStrategy.PARK, pipelineName);
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record, "record cannot be null");
+        if (!acquireCapacity(1, timeoutInMillis)) {
+            throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
+                    pipelineName));
+        }
+        publish(writePosition.getAndIncrement(), record);
+    }
+
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final int size = records.size();
+        if (size > bufferCapacity) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the number of records: %d", size));
+        }
+        if (size == 0) {
+            return;
+        }
+        if (!acquireCapacity(size, timeoutInMillis)) {
+            throw new TimeoutException(
+                    format("Pipeline [%s] - Buffer does not have enough capacity left for the number of records: %d, " +
+                                    "timed out waiting for slots.",
+                            pipelineName, size));
+        }
+        long position = writePosition.getAndAdd(size);
+        for (final T record : records) {
+            publish(position++, record);
+        }
+    }
+
+    /**
+     * Retrieves and removes the batch of records from the head of the ring. The batch size is defined/determined by
+     * the configuration attribute {@link #ATTRIBUTE_BATCH_SIZE} or the @param timeoutInMillis. With a timeout of 0,
+     * the reader waits once using the {@link WaitStrategy} if no records are available.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        final List<T> records = new ArrayList<>(batchSize);
+
+        if (timeoutInMillis == 0) {
+            if (claimRecords(records, batchSize) == 0) {
+                idle();
+                claimRecords(records, batchSize);
+            }
+        } else {
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+            while (records.size() < batchSize) {
+                if (claimRecords(records, batchSize - records.size()) == 0) {
+                    if (System.nanoTime() - deadline >= 0) {
+                        break;
+                    }
+                    idle();
+                }
+            }
+        }
+
+        final CheckpointState checkpointState = new CheckpointState(records.size());
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    /**
+     * Returns the default PluginSetting object with default values.
+     * @return PluginSetting
+     */
+    public static PluginSetting getDefaultPluginSettings() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_BUFFER_CAPACITY, DEFAULT_BUFFER_CAPACITY);
+        settings.put(ATTRIBUTE_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        settings.put(ATTRIBUTE_WAIT_STRATEGY, WaitStrategy.PARK.getOption());
+        return new PluginSetting(PLUGIN_NAME, settings);
+    }
+
+    @Override
+    protected void postProcess(final Long recordsInBuffer) {
+        // adding bounds to address race conditions and reporting negative buffer usage
+        final Double nonNegativeTotalRecords = recordsInBuffer.doubleValue() < 0 ? 0 : recordsInBuffer.doubleValue();
+        final Double boundedTotalRecords = nonNegativeTotalRecords > bufferCapacity ? bufferCapacity : nonNegativeTotalRecords;
+        final Double usage = boundedTotalRecords / bufferCapacity * 100;
+        bufferUsage.set(usage);
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        availableCapacity.addAndGet(checkpointState.getNumRecordsToBeChecked());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return writePosition.get() == readPosition.get() && getRecordsInFlight() == 0;
+    }
+
+    private boolean acquireCapacity(final int permits, final int timeoutInMillis) throws TimeoutException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        while (true) {
+            final int available = availableCapacity.get();
+            if (available >= permits) {
+                if (availableCapacity.compareAndSet(available, available - permits)) {
+                    return true;
+                }
+                continue;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write {} records", pipelineName, permits);
+                throw new TimeoutException("Buffer is full, timed out waiting for a slot");
+            }
+            waitStrategy.idle();
+        }
+    }
+
+    /**
+     * Writes a record into the slot for a claimed position. The capacity check bounds the unchecked records, not
+     * the occupied slots, so the slot may still hold a record which a reader has claimed but not yet taken. In that
+     * case the writer waits for the reader to free it. The position is already claimed, so this wait is not
+     * interruptible.
+     */
+    private void publish(final long position, final T record) {
+        final int index = (int) position & mask;
+        while (slotSequences.get(index) != position) {
+            waitStrategy.idle();
+        }
+        slots.lazySet(index, record);
+        slotSequences.set(index, position + 1);
+    }
+
+    /**
+     * Claims up to {@code maximum} contiguous published records from the head of the ring, and adds them to
+     * {@code records}.
+     *
+     * @return the number of records claimed
+     */
+    private int claimRecords(final List<T> records, final int maximum) {
+        while (true) {
+            final long start = readPosition.get();
+            int available = 0;
+            while (available < maximum && slotSequences.get((int) (start + available) & mask) == start + available + 1) {
+                available++;
+            }
+            if (available == 0) {
+                return 0;
+            }
+            if (readPosition.compareAndSet(start, start + available)) {
+                for (long position = start; position < start + available; position++) {
+                    final int index = (int) position & mask;
+                    records.add(slots.get(index));
+                    slots.lazySet(index, null);
+                    slotSequences.set(index, position + mask + 1);
+                }
+                return available;
+            }
+        }
+    }
+
+    private void idle() {
+        waitStrategy.idle();
+        if (Thread.interrupted()) {
+            LOG.info("Pipeline [{}] - Interrupt received while waiting on buffer", pipelineName);
+            throw new RuntimeException(new InterruptedException());
+        }
+    }
+
+    static int ringSizeFor(final int bufferCapacity) {
+        checkArgument(bufferCapacity <= 1 << 30, "buffer_size must not be greater than 2^30");
+        return bufferCapacity == 1 ? 1 : Integer.highestOneBit(bufferCapacity - 1) << 1;
+    }
+}
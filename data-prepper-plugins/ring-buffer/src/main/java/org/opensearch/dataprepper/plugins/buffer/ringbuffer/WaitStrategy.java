@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * How a thread waits on the {@link RingBuffer} while there are no free slots to write to, or no
+ * records to read.
+ */
+public enum WaitStrategy {
+    /**
+     * Busy-spins on the CPU. This has the lowest latency, but keeps a core busy while waiting.
+     */
+    SPIN("spin") {
+        @Override
+        void idle() {
+            Thread.onSpinWait();
+        }
+    },
+    /**
+     * Yields the CPU to other threads between attempts.
+     */
+    YIELD("yield") {
+        @Override
+        void idle() {
+            Thread.yield();
+        }
+    },
+    /**
+     * Parks the thread for a short time between attempts.
+     */
+    PARK("park") {
+        @Override
+        void idle() {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    };
+
+    private static final long PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private static final Map<String, WaitStrategy> OPTIONS_MAP = Arrays.stream(WaitStrategy.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    Function.identity()
+            ));
+
+    private final String option;
+
+    WaitStrategy(final String option) {
+        this.option = option;
+    }
+
+    abstract void idle();
+
+    public String getOption() {
+        return option;
+    }
+
+    public static WaitStrategy fromOptionValue(final String option) {
+        final WaitStrategy waitStrategy = OPTIONS_MAP.get(option);
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException(String.format("Unrecognized wait_strategy \"%s\". Valid values are %s.",
+                    option, OPTIONS_MAP.keySet()));
+        }
+        return waitStrategy;
+    }
+}
@@ -0,0 +1,401 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.metrics.MetricNames;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RingBufferTests {
+    private static final String ATTRIBUTE_BATCH_SIZE = "batch_size";
+    private static final String ATTRIBUTE_BUFFER_SIZE = "buffer_size";
+    private static final String ATTRIBUTE_WAIT_STRATEGY = "wait_strategy";
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final String PLUGIN_NAME = "RingBuffer";
+    private static final int TEST_BATCH_SIZE = 3;
+    private static final int TEST_BUFFER_SIZE = 13;
+    private static final int TEST_WRITE_TIMEOUT = 1_00;
+    private static final int TEST_BATCH_READ_TIMEOUT = 5_000;
+    private static final int TEST_EMPTY_READ_TIMEOUT = 1_00;
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool();
+
+    @BeforeEach
+    void setup() {
+        Metrics.globalRegistry.getRegistries().forEach(Metrics.globalRegistry::remove);
+        Metrics.globalRegistry.getMeters().forEach(Metrics.globalRegistry::remove);
+        Metrics.addRegistry(new SimpleMeterRegistry());
+    }
+
+    @AfterAll
+    static void shutdownExecutor() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    void testCreationUsingPluginSetting() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+        assertThat(ringBuffer, notNullValue());
+    }
+
+    @Test
+    void testCreationUsingNullPluginSetting() {
+        final NullPointerException ex = assertThrows(NullPointerException.class,
+                () -> new RingBuffer<Record<String>>((PluginSetting) null));
+        assertThat(ex.getMessage(), is(equalTo("PluginSetting cannot be null")));
+    }
+
+    @Test
+    void testCreationUsingDefaultPluginSettings() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(RingBuffer.getDefaultPluginSettings());
+        assertThat(ringBuffer, notNullValue());
+    }
+
+    @Test
+    void testCreationUsingPipelineName() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_PIPELINE_NAME);
+        assertThat(ringBuffer, notNullValue());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void testCreationUsingUnknownWaitStrategy() {
+        final PluginSetting pluginSetting = completePluginSettingForRingBuffer();
+        pluginSetting.getSettings().put(ATTRIBUTE_WAIT_STRATEGY, UUID.randomUUID().toString());
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Record<String>>(pluginSetting));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testCreationUsingInvalidBufferSize(final int bufferSize) {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RingBuffer<Record<String>>(bufferSize, TEST_BATCH_SIZE, WaitStrategy.PARK, TEST_PIPELINE_NAME));
+    }
+
+    @Test
+    void testCreationUsingInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new RingBuffer<Record<String>>(TEST_BUFFER_SIZE, 0, WaitStrategy.PARK, TEST_PIPELINE_NAME));
+    }
+
+    @Test
+    void testInsertNull() {
+        final RingBuffer<Record<String>> ringBuffer = createRingBuffer(TEST_BUFFER_SIZE);
+        assertThrows(NullPointerException.class, () -> ringBuffer.write(null, TEST_WRITE_TIMEOUT));
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void testWriteAllSizeOverflow() {
+        final RingBuffer<Record<String>> ringBuffer = createRingBuffer(TEST_BUFFER_SIZE);
+        final Collection<Record<String>> testRecords = generateBatchRecords(TEST_BUFFER_SIZE + 1);
+        assertThrows(SizeOverflowException.class, () -> ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+        verifyBufferUsageMetric(0);
+    }
+
+    @Test
+    void testNoEmptySpaceWriteOnly() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = createRingBuffer(1);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> ringBuffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void testNoAvailSpaceWriteAllOnly() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = createRingBuffer(2);
+        final Collection<Record<String>> testRecords = generateBatchRecords(2);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void testNoEmptySpaceAfterUncheckedRead() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = createRingBuffer(1);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        final Record<String> timeoutRecord = new Record<>("TIMEOUT");
+        assertThrows(TimeoutException.class, () -> ringBuffer.write(timeoutRecord, TEST_WRITE_TIMEOUT));
+        assertThrows(
+                TimeoutException.class, () -> ringBuffer.writeAll(Collections.singletonList(timeoutRecord), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void testWriteInterruptedWhileFull() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = createRingBuffer(1);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThrows(TimeoutException.class, () -> ringBuffer.write(new Record<>("INTERRUPTED"), TEST_BATCH_READ_TIMEOUT));
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void testWriteIntoEmptySpaceAfterCheckedRead() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = createRingBuffer(1);
+
+        for (int i = 0; i < 5; i++) {
+            final Record<String> record = new Record<>("RECORD" + i);
+            ringBuffer.write(record, TEST_WRITE_TIMEOUT);
+
+            final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+            assertThat(readResult.getKey(), equalTo(Collections.singletonList(record)));
+            ringBuffer.checkpoint(readResult.getValue());
+        }
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void testWriteAllIntoEmptySpaceAfterCheckedRead() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = createRingBuffer(2);
+        final Collection<Record<String>> testRecords = generateBatchRecords(2);
+        ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        verifyBufferUsageMetric(100.0);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        ringBuffer.checkpoint(readResult.getValue());
+        verifyBufferUsageMetric(0.0);
+
+        ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readCheckResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertEquals(2, readCheckResult.getKey().size());
+    }
+
+    @Test
+    void testWriteAllEmptyCollection() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = createRingBuffer(TEST_BUFFER_SIZE);
+        ringBuffer.writeAll(Collections.emptyList(), TEST_WRITE_TIMEOUT);
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, TEST_EMPTY_READ_TIMEOUT})
+    void testReadEmptyBuffer(final int readTimeout) {
+        final RingBuffer<Record<String>> ringBuffer = createRingBuffer(TEST_BUFFER_SIZE);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(readTimeout);
+        assertThat(readResult.getKey().size(), is(0));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, TEST_BATCH_READ_TIMEOUT})
+    void testBatchRead(final int readTimeout) throws Exception {
+        final PluginSetting completePluginSetting = completePluginSettingForRingBuffer();
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSetting);
+        final int testSize = 5;
+        for (int i = 0; i < testSize; i++) {
+            ringBuffer.write(new Record<>("TEST" + i), TEST_WRITE_TIMEOUT);
+        }
+        verifyBufferUsageMetric(38.46153846153847);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> partialReadResult = ringBuffer.read(readTimeout);
+        final Collection<Record<String>> partialRecords = partialReadResult.getKey();
+        assertThat(partialRecords.size(), is(TEST_BATCH_SIZE));
+        assertEquals(TEST_BATCH_SIZE, partialReadResult.getValue().getNumRecordsToBeChecked());
+        int i = 0;
+        for (Record<String> record : partialRecords) {
+            assertThat(record.getData(), equalTo("TEST" + i));
+            i++;
+        }
+        verifyBufferUsageMetric(15.384615384615385);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> finalReadResult = ringBuffer.read(readTimeout);
+        final Collection<Record<String>> finalBatch = finalReadResult.getKey();
+        assertThat(finalBatch.size(), is(testSize - TEST_BATCH_SIZE));
+        assertEquals(testSize - TEST_BATCH_SIZE, finalReadResult.getValue().getNumRecordsToBeChecked());
+        for (Record<String> record : finalBatch) {
+            assertThat(record.getData(), equalTo("TEST" + i));
+            i++;
+        }
+        verifyBufferUsageMetric(0.0);
+    }
+
+    @Test
+    void testBufferIsEmpty() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+
+        assertTrue(ringBuffer.isEmpty());
+        verifyBufferUsageMetric(0);
+    }
+
+    @Test
+    void testBufferIsNotEmpty() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+
+        ringBuffer.write(new Record<>("TEST"), TEST_WRITE_TIMEOUT);
+
+        assertFalse(ringBuffer.isEmpty());
+        verifyBufferUsageMetric(7.6923076923076925);
+    }
+
+    @Test
+    void testBufferIsNotEmptyWithUncheckedRecords() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+
+        ringBuffer.write(new Record<>("TEST"), TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        assertFalse(ringBuffer.isEmpty());
+
+        ringBuffer.checkpoint(readResult.getValue());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void testNonZeroBatchDelayReturnsAllRecords() throws Exception {
+        final RingBuffer<Record<String>> buffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+
+        buffer.writeAll(generateBatchRecords(1), TEST_WRITE_TIMEOUT);
+
+        final Collection<Record<String>> testRecords2 = generateBatchRecords(1);
+        EXECUTOR.submit(() -> {
+            Thread.sleep(1000);
+            buffer.writeAll(testRecords2, TEST_WRITE_TIMEOUT);
+            return null;
+        });
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(2));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(2));
+    }
+
+    @Test
+    void testZeroBatchDelayReturnsAvailableRecords() throws Exception {
+        final RingBuffer<Record<String>> buffer = new RingBuffer<>(completePluginSettingForRingBuffer());
+
+        buffer.writeAll(generateBatchRecords(1), TEST_WRITE_TIMEOUT);
+
+        final Collection<Record<String>> testRecords2 = generateBatchRecords(1);
+        EXECUTOR.submit(() -> {
+            Thread.sleep(1000);
+            buffer.writeAll(testRecords2, TEST_WRITE_TIMEOUT);
+            return null;
+        });
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = buffer.read(0);
+        assertThat(readResult.getKey().size(), is(1));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(1));
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void testConcurrentWritersAndReadersDeliverEveryRecordInWriterOrder(final WaitStrategy waitStrategy) throws Exception {
+        final int writers = 4;
+        final int recordsPerWriter = 2_000;
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(64, 16, waitStrategy, TEST_PIPELINE_NAME);
+
+        final List<Future<?>> writerFutures = new ArrayList<>();
+        for (int writer = 0; writer < writers; writer++) {
+            final int writerId = writer;
+            writerFutures.add(EXECUTOR.submit(() -> {
+                for (int i = 0; i < recordsPerWriter; i += 2) {
+                    ringBuffer.write(new Record<>(writerId + ":" + i), TEST_BATCH_READ_TIMEOUT);
+                    ringBuffer.writeAll(Collections.singletonList(new Record<>(writerId + ":" + (i + 1))), TEST_BATCH_READ_TIMEOUT);
+                }
+                return null;
+            }));
+        }
+
+        final int[] nextExpected = new int[writers];
+        int received = 0;
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received < writers * recordsPerWriter && System.nanoTime() < deadline) {
+            final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(10);
+            for (final Record<String> record : readResult.getKey()) {
+                final String[] parts = record.getData().split(":");
+                final int writerId = Integer.parseInt(parts[0]);
+                assertThat(Integer.parseInt(parts[1]), equalTo(nextExpected[writerId]));
+                nextExpected[writerId]++;
+                received++;
+            }
+            ringBuffer.checkpoint(readResult.getValue());
+        }
+
+        for (final Future<?> writerFuture : writerFutures) {
+            writerFuture.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(received, equalTo(writers * recordsPerWriter));
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, 1", "2, 2", "3, 4", "13, 16", "16, 16", "12800, 16384"})
+    void ringSizeFor_returns_next_power_of_two(final int bufferCapacity, final int expectedRingSize) {
+        assertThat(RingBuffer.ringSizeFor(bufferCapacity), equalTo(expectedRingSize));
+    }
+
+    @Test
+    void ringSizeFor_throws_when_too_large() {
+        assertThrows(IllegalArgumentException.class, () -> RingBuffer.ringSizeFor((1 << 30) + 1));
+    }
+
+    private RingBuffer<Record<String>> createRingBuffer(final int bufferSize) {
+        return new RingBuffer<>(bufferSize, TEST_BATCH_SIZE, WaitStrategy.PARK, TEST_PIPELINE_NAME);
+    }
+
+    private PluginSetting completePluginSettingForRingBuffer() {
+        final Map<String, Object> settings = new HashMap<>();
+        settings.put(ATTRIBUTE_BUFFER_SIZE, TEST_BUFFER_SIZE);
+        settings.put(ATTRIBUTE_BATCH_SIZE, TEST_BATCH_SIZE);
+        settings.put(ATTRIBUTE_WAIT_STRATEGY, WaitStrategy.YIELD.getOption());
+        final PluginSetting testSettings = new PluginSetting(PLUGIN_NAME, settings);
+        testSettings.setPipelineName(TEST_PIPELINE_NAME);
+        return testSettings;
+    }
+
+    private Collection<Record<String>> generateBatchRecords(final int numRecords) {
+        final Collection<Record<String>> results = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            results.add(new Record<>(UUID.randomUUID().toString()));
+        }
+        return results;
+    }
+
+    private void verifyBufferUsageMetric(final double expectedBufferUsage) {
+        final Gauge bufferUsage = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                        .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME)
+                        .add("bufferUsage").toString()).gauge();
+
+        assertThat(bufferUsage, is(notNullValue()));
+        assertThat(bufferUsage.value(), is(expectedBufferUsage));
+    }
+}
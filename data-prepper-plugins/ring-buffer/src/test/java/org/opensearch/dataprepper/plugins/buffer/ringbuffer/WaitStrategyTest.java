@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.ringbuffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WaitStrategyTest {
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void fromOptionValue_returns_the_WaitStrategy(final WaitStrategy waitStrategy) {
+        assertThat(WaitStrategy.fromOptionValue(waitStrategy.getOption()), equalTo(waitStrategy));
+    }
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategy.class)
+    void idle_returns(final WaitStrategy waitStrategy) {
+        waitStrategy.idle();
+    }
+
+    @Test
+    void fromOptionValue_throws_for_unknown_option() {
+        assertThrows(IllegalArgumentException.class, () -> WaitStrategy.fromOptionValue(UUID.randomUUID().toString()));
+    }
+}
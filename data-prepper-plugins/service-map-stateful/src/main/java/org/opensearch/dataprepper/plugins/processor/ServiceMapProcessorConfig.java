@@ -8,5 +8,4 @@ package org.opensearch.dataprepper.plugins.processor;
 public class ServiceMapProcessorConfig {
     static final String WINDOW_DURATION = "window_duration";
     static final int DEFAULT_WINDOW_DURATION = 180;
-    static final String DEFAULT_DB_PATH = "data/service-map/";
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The data of a span which is kept in the service map windows.
+ */
+class ServiceMapStateData {
+    static final WindowStateCodec<ServiceMapStateData> CODEC = new Codec();
+
+    public String serviceName;
+    public byte[] parentSpanId;
+    public byte[] traceId;
+    public String spanKind;
+    public String name;
+
+    public ServiceMapStateData() {
+    }
+
+    public ServiceMapStateData(final String serviceName, final byte[] parentSpanId,
+                               final byte[] traceId,
+                               final String spanKind,
+                               final String name) {
+        this.serviceName = serviceName;
+        this.parentSpanId = parentSpanId;
+        this.traceId = traceId;
+        this.spanKind = spanKind;
+        this.name = name;
+    }
+
+    /**
+     * Encodes each field as its length followed by its bytes, with strings in UTF-8.
+     */
+    private static class Codec implements WindowStateCodec<ServiceMapStateData> {
+        @Override
+        public byte[] encode(final ServiceMapStateData value) {
+            final byte[] serviceName = WindowStateCodec.toBytes(value.serviceName);
+            final byte[] spanKind = WindowStateCodec.toBytes(value.spanKind);
+            final byte[] name = WindowStateCodec.toBytes(value.name);
+            final ByteBuffer buffer = ByteBuffer.allocate(WindowStateCodec.sizeOfBytes(serviceName)
+                    + WindowStateCodec.sizeOfBytes(value.parentSpanId)
+                    + WindowStateCodec.sizeOfBytes(value.traceId)
+                    + WindowStateCodec.sizeOfBytes(spanKind)
+                    + WindowStateCodec.sizeOfBytes(name));
+            WindowStateCodec.putBytes(buffer, serviceName);
+            WindowStateCodec.putBytes(buffer, value.parentSpanId);
+            WindowStateCodec.putBytes(buffer, value.traceId);
+            WindowStateCodec.putBytes(buffer, spanKind);
+            WindowStateCodec.putBytes(buffer, name);
+            return buffer.array();
+        }
+
+        @Override
+        public ServiceMapStateData decode(final byte[] encodedValue) {
+            final ByteBuffer buffer = ByteBuffer.wrap(encodedValue);
+            return new ServiceMapStateData(
+                    WindowStateCodec.getString(buffer),
+                    WindowStateCodec.getBytes(buffer),
+                    WindowStateCodec.getBytes(buffer),
+                    WindowStateCodec.getString(buffer),
+                    WindowStateCodec.getString(buffer));
+        }
+    }
+}
@@ -18,26 +18,21 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.trace.Span;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Sets;
-import com.google.common.primitives.SignedBytes;
 import org.apache.commons.codec.binary.Hex;
-import org.opensearch.dataprepper.plugins.processor.state.MapDbProcessorState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.File;
 import java.io.Serializable;
 import java.time.Clock;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeMap;
-import java.util.concurrent.BrokenBarrierException;
-import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 @SingleThread
 @DataPrepperPlugin(name = "service_map", deprecatedName = "service_map_stateful", pluginType = Processor.class)
@@ -50,7 +45,6 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     static final String RELATIONSHIP_COUNT = "relationshipCount";
 
     private static final Logger LOG = LoggerFactory.getLogger(ServiceMapStatefulProcessor.class);
-    private static final String EMPTY_SUFFIX = "-empty";
     private static final String EVENT_TYPE = "event";
     private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
     private static final Collection<Record<Event>> EMPTY_COLLECTION = Collections.emptySet();
@@ -58,33 +52,32 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
 
     // TODO: This should not be tracked in this class, move it up to the creator
     private static final AtomicInteger processorsCreated = new AtomicInteger(0);
-    private static long previousTimestamp;
+    /**
+     * Number of windows which are kept. A worker reads the windows of the two epochs before its own epoch, and one more
+     * window gives a worker which falls behind by an epoch the time to finish reading before its windows are replaced.
+     */
+    private static final int WINDOW_RING_SIZE = 4;
+    private static long windowStartMillis;
     private static long windowDurationMillis;
-    private static CyclicBarrier allThreadsCyclicBarrier;
-
-    private static volatile MapDbProcessorState<ServiceMapStateData> previousWindow;
-    private static volatile MapDbProcessorState<ServiceMapStateData> currentWindow;
-    private static volatile MapDbProcessorState<String> previousTraceGroupWindow;
-    private static volatile MapDbProcessorState<String> currentTraceGroupWindow;
-    private static volatile Set<ServiceNodeData> previousIsolatedServiceNodes;
-    private static volatile Set<ServiceNodeData> currentIsolatedServiceNodes;
+    private static int processWorkers;
+    private static AtomicLong minimumEpoch;
+    private static AtomicReferenceArray<ServiceMapWindow> windows;
+
     //TODO: Consider keeping this state in a db
     private static final Set<ServiceMapRelationship> RELATIONSHIP_STATE = Sets.newConcurrentHashSet();
-    private static File dbPath;
     private static Clock clock;
 
     private final int thisProcessorId;
+    private long thisProcessorEpoch;
 
     public ServiceMapStatefulProcessor(final PluginSetting pluginSetting) {
         this(pluginSetting.getIntegerOrDefault(ServiceMapProcessorConfig.WINDOW_DURATION, ServiceMapProcessorConfig.DEFAULT_WINDOW_DURATION) * TO_MILLIS,
-                new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH),
                 Clock.systemUTC(),
                 pluginSetting.getNumberOfProcessWorkers(),
                 pluginSetting);
     }
 
     public ServiceMapStatefulProcessor(final long windowDurationMillis,
-                                       final File databasePath,
                                        final Clock clock,
                                        final int processWorkers,
                                        final PluginSetting pluginSetting) {
@@ -94,19 +87,13 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         this.thisProcessorId = processorsCreated.getAndIncrement();
 
         if (isMasterInstance()) {
-            previousTimestamp = ServiceMapStatefulProcessor.clock.millis();
+            windowStartMillis = ServiceMapStatefulProcessor.clock.millis();
             ServiceMapStatefulProcessor.windowDurationMillis = windowDurationMillis;
-            ServiceMapStatefulProcessor.dbPath = createPath(databasePath);
-
-            currentWindow = new MapDbProcessorState<>(dbPath, getNewDbName(), processWorkers);
-            previousWindow = new MapDbProcessorState<>(dbPath, getNewDbName() + EMPTY_SUFFIX, processWorkers);
-            currentTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName(), processWorkers);
-            previousTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName() + EMPTY_SUFFIX, processWorkers);
-            currentIsolatedServiceNodes = Sets.newConcurrentHashSet();
-            previousIsolatedServiceNodes = Sets.newConcurrentHashSet();
-
-            allThreadsCyclicBarrier = new CyclicBarrier(processWorkers);
+            ServiceMapStatefulProcessor.processWorkers = processWorkers;
+            minimumEpoch = new AtomicLong();
+            windows = new AtomicReferenceArray<>(WINDOW_RING_SIZE);
         }
+        this.thisProcessorEpoch = currentEpoch();
 
         pluginMetrics.gauge(SPANS_DB_SIZE, this, serviceMapStateful -> serviceMapStateful.getSpansDbSize());
         pluginMetrics.gauge(TRACE_GROUP_DB_SIZE, this, serviceMapStateful -> serviceMapStateful.getTraceGroupDbSize());
@@ -115,22 +102,6 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         pluginMetrics.gauge(RELATIONSHIP_COUNT, this, serviceMapStateful -> serviceMapStateful.getRelationshipCount());
     }
 
-    /**
-     * This function creates the directory if it doesn't exists and returns the File.
-     *
-     * @param path
-     * @return path
-     * @throws RuntimeException if the directory can not be created.
-     */
-    private static File createPath(File path) {
-        if (!path.exists()) {
-            if (!path.mkdirs()) {
-                throw new RuntimeException(String.format("Unable to create the directory at the provided path: %s", path.getName()));
-            }
-        }
-        return path;
-    }
-
     /**
      * Adds the data for spans from the ResourceSpans object to the current window
      *
@@ -140,18 +111,14 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
      */
     @Override
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
-        final Collection<Record<Event>> relationships = windowDurationHasPassed() ? evaluateEdges() : EMPTY_COLLECTION;
-        final Map<byte[], ServiceMapStateData> batchStateData = new TreeMap<>(SignedBytes.lexicographicalComparator());
-        records.forEach(i -> processSpan((Span) i.getData(), batchStateData));
-        try {
-            currentWindow.putAll(batchStateData);
-        } catch (RuntimeException e) {
-            LOG.error("Caught exception trying to put batch state data", e);
-        }
+        final long epoch = currentEpoch();
+        final Collection<Record<Event>> relationships = epoch > thisProcessorEpoch ? evaluateEdges(epoch) : EMPTY_COLLECTION;
+        final ServiceMapWindow currentWindow = getOrCreateWindow(epoch);
+        records.forEach(i -> processSpan((Span) i.getData(), currentWindow));
         return relationships;
     }
 
-    private void processSpan(final Span span, final Map<byte[], ServiceMapStateData> batchStateData) {
+    private void processSpan(final Span span, final ServiceMapWindow currentWindow) {
         if (span.getServiceName() != null) {
             final String serviceName = span.getServiceName();
             final String spanId = span.getSpanId();
@@ -164,9 +131,9 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
                 LOG.error("Caught DecoderException when decoding the traceId.", e);
                 return;
             }
-            currentIsolatedServiceNodes.add(new ServiceNodeData(traceId, serviceName));
+            currentWindow.isolatedServiceNodes.add(new ServiceNodeData(traceId, serviceName));
             try {
-                batchStateData.put(
+                currentWindow.spans.put(
                         Hex.decodeHex(spanId),
                         new ServiceMapStateData(
                                 serviceName,
@@ -175,11 +142,11 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
                                 spanKind,
                                 span.getName()));
             } catch (Exception e) {
-                LOG.error("Caught exception trying to put service map state data into batch", e);
+                LOG.error("Caught exception trying to put service map state data", e);
             }
             if (parentSpanId.isEmpty()) {
                 try {
-                    currentTraceGroupWindow.put(traceId, span.getName());
+                    currentWindow.traceGroups.put(traceId, span.getName());
                 } catch (Exception e) {
                     LOG.error("Caught exception trying to put trace group name", e);
                 }
@@ -188,61 +155,69 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     }
 
     /**
-     * This function parses the current and previous windows to find the edges, and rotates the window state objects.
+     * This function moves this worker to the given epoch, and parses its segment of the windows of the two previous
+     * epochs to find the edges. Other workers keep adding spans to the window of their own epoch in the meantime.
+     * <p>
+     * The last worker to evaluate the edges for an epoch adds the isolated service nodes of the window which is no
+     * longer evaluated, after every worker had the chance to find edges for its nodes.
      *
+     * @param epoch The new epoch of this worker
      * @return Set of Record<Event> containing json representation of ServiceMapRelationships found
      */
-    private Collection<Record<Event>> evaluateEdges() {
-        LOG.debug("Evaluating service map edges");
-        try {
-            final Collection<Record<Event>> serviceDependencyRecords = new HashSet<>();
-
-            serviceDependencyRecords.addAll(iterateProcessorState(previousWindow));
-            serviceDependencyRecords.addAll(iterateProcessorState(currentWindow));
-            LOG.debug("Done evaluating service map edges");
+    private Collection<Record<Event>> evaluateEdges(final long epoch) {
+        LOG.debug("Evaluating service map edges for epoch {}", epoch);
+        final Collection<Record<Event>> serviceDependencyRecords = new HashSet<>();
+        final ServiceMapWindow previousWindow = getWindow(epoch - 2);
+        final ServiceMapWindow currentWindow = getWindow(epoch - 1);
 
-            // Wait for all workers before rotating windows
-            allThreadsCyclicBarrier.await();
+        serviceDependencyRecords.addAll(iterateProcessorState(previousWindow, previousWindow, currentWindow));
+        serviceDependencyRecords.addAll(iterateProcessorState(currentWindow, previousWindow, currentWindow));
+        LOG.debug("Done evaluating service map edges");
 
-            if (isMasterInstance()) {
-                processIsolatedServiceMapNodes(serviceDependencyRecords);
-                rotateWindows();
-            }
+        // A worker which skipped epochs still counts towards them, so that their isolated service nodes are added
+        for (long skippedEpoch = Math.max(thisProcessorEpoch + 1, epoch - WINDOW_RING_SIZE + 1); skippedEpoch < epoch; skippedEpoch++) {
+            completeEvaluation(skippedEpoch, serviceDependencyRecords);
+        }
+        completeEvaluation(epoch, serviceDependencyRecords);
+        thisProcessorEpoch = epoch;
 
-            // Wait for all workers before exiting this method
-            allThreadsCyclicBarrier.await();
+        return serviceDependencyRecords;
+    }
 
-            return serviceDependencyRecords;
-        } catch (InterruptedException | BrokenBarrierException e) {
-            throw new RuntimeException(e);
+    private void completeEvaluation(final long epoch, final Collection<Record<Event>> serviceDependencyRecords) {
+        final ServiceMapWindow window = getOrCreateWindow(epoch);
+        if (window.epoch == epoch && window.evaluatedWorkers.incrementAndGet() == processWorkers) {
+            processIsolatedServiceMapNodes(serviceDependencyRecords, getWindow(epoch - 2), getWindow(epoch - 1));
         }
     }
 
-    private Collection<Record<Event>> iterateProcessorState(final MapDbProcessorState<ServiceMapStateData> processorState) {
+    private Collection<Record<Event>> iterateProcessorState(final ServiceMapWindow window,
+                                                            final ServiceMapWindow previousWindow,
+                                                            final ServiceMapWindow currentWindow) {
         final Collection<Record<Event>> serviceDependencyRecords = new HashSet<>();
 
-        if (processorState.getAll() != null && !processorState.getAll().isEmpty()) {
-            processorState.getIterator(processorsCreated.get(), thisProcessorId).forEachRemaining(entry -> {
+        if (window.spans.size() > 0) {
+            window.spans.getIterator(processorsCreated.get(), thisProcessorId).forEachRemaining(entry -> {
                 final ServiceMapStateData child = entry.getValue();
 
                 if (child.parentSpanId == null) {
                     return;
                 }
 
-                ServiceMapStateData parent = currentWindow.get(child.parentSpanId);
+                ServiceMapStateData parent = currentWindow.spans.get(child.parentSpanId);
                 if (parent == null) {
-                    parent = previousWindow.get(child.parentSpanId);
+                    parent = previousWindow.spans.get(child.parentSpanId);
                 }
 
-                final String traceGroupName = getTraceGroupName(child.traceId);
+                final String traceGroupName = getTraceGroupName(child.traceId, previousWindow, currentWindow);
                 if (traceGroupName == null || parent == null || parent.serviceName.equals(child.serviceName)) {
                     return;
                 }
 
-                previousIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, parent.serviceName));
-                currentIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, parent.serviceName));
-                previousIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, child.serviceName));
-                currentIsolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, child.serviceName));
+                previousWindow.isolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, parent.serviceName));
+                currentWindow.isolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, parent.serviceName));
+                previousWindow.isolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, child.serviceName));
+                currentWindow.isolatedServiceNodes.remove(new ServiceNodeData(parent.traceId, child.serviceName));
 
                 final ServiceMapRelationship destinationRelationship =
                         ServiceMapRelationship.newDestinationRelationship(parent.serviceName,
@@ -262,14 +237,13 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
 
     private void addServiceMapRelationship(
             final Collection<Record<Event>> serviceDependencyRecords, final ServiceMapRelationship serviceMapRelationship) {
-        if (!RELATIONSHIP_STATE.contains(serviceMapRelationship)) {
+        if (RELATIONSHIP_STATE.add(serviceMapRelationship)) {
             try {
                 final Event destinationRelationshipEvent = JacksonEvent.builder()
                         .withEventType(EVENT_TYPE)
                         .withData(serviceMapRelationship)
                         .build();
                 serviceDependencyRecords.add(new Record<>(destinationRelationshipEvent));
-                RELATIONSHIP_STATE.add(serviceMapRelationship);
             } catch (Exception e) {
                 throw new RuntimeException(e);
             }
@@ -282,10 +256,10 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
      * @param traceId
      * @return Trace group name for the given trace if it exists. Otherwise null.
      */
-    private String getTraceGroupName(final byte[] traceId) {
+    private String getTraceGroupName(final byte[] traceId, final ServiceMapWindow previousWindow, final ServiceMapWindow currentWindow) {
         try {
-            final String traceGroupName = currentTraceGroupWindow.get(traceId);
-            return traceGroupName != null ? traceGroupName : previousTraceGroupWindow.get(traceId);
+            final String traceGroupName = currentWindow.traceGroups.get(traceId);
+            return traceGroupName != null ? traceGroupName : previousWindow.traceGroups.get(traceId);
         } catch (RuntimeException e) {
             LOG.error("Caught exception trying to get trace group name", e);
             return null;
@@ -295,29 +269,36 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
 
     @Override
     public void prepareForShutdown() {
-        previousTimestamp = 0L;
+        minimumEpoch.accumulateAndGet(clockEpoch() + 1, Math::max);
     }
 
+    /**
+     * This worker is ready once it has moved to the epoch raised by {@link #prepareForShutdown()}, which evaluates the
+     * edges of the last windows, and no spans were added to the window of that epoch since.
+     */
     @Override
     public boolean isReadyForShutdown() {
-        return currentWindow.size() == 0;
+        final long epoch = currentEpoch();
+        return thisProcessorEpoch >= epoch && getWindow(epoch).spans.size() == 0;
     }
 
     @Override
     public void shutdown() {
-        previousWindow.delete();
-        currentWindow.delete();
-        previousTraceGroupWindow.delete();
-        currentTraceGroupWindow.delete();
-        previousIsolatedServiceNodes.clear();
-        currentIsolatedServiceNodes.clear();
+        for (int i = 0; i < WINDOW_RING_SIZE; i++) {
+            final ServiceMapWindow window = windows.getAndSet(i, null);
+            if (window != null) {
+                window.delete();
+            }
+        }
     }
 
-    private void processIsolatedServiceMapNodes(final Collection<Record<Event>> serviceDependencyRecords) {
+    private void processIsolatedServiceMapNodes(final Collection<Record<Event>> serviceDependencyRecords,
+                                                final ServiceMapWindow previousWindow,
+                                                final ServiceMapWindow currentWindow) {
         LOG.debug("Add isolated service nodes into service-map relationships.");
-        previousIsolatedServiceNodes.forEach(serviceNodeData -> {
+        previousWindow.isolatedServiceNodes.forEach(serviceNodeData -> {
             final String traceGroupName;
-            traceGroupName = getTraceGroupName(serviceNodeData.traceId);
+            traceGroupName = getTraceGroupName(serviceNodeData.traceId, previousWindow, currentWindow);
             final ServiceMapRelationship serviceMapRelationship = ServiceMapRelationship.newIsolatedService(
                     serviceNodeData.serviceName, traceGroupName);
             addServiceMapRelationship(serviceDependencyRecords, serviceMapRelationship);
@@ -328,81 +309,75 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     }
 
     /**
-     * Rotate windows for processor state
+     * Gets the window of the given epoch, or an empty window if it was not created or was already replaced.
      */
-    private void rotateWindows() throws InterruptedException {
-        LOG.debug("Rotating service map windows at " + clock.instant().toString());
-
-        MapDbProcessorState tempWindow = previousWindow;
-        previousWindow = currentWindow;
-        currentWindow = tempWindow;
-        currentWindow.clear();
-
-        tempWindow = previousTraceGroupWindow;
-        previousTraceGroupWindow = currentTraceGroupWindow;
-        currentTraceGroupWindow = tempWindow;
-        currentTraceGroupWindow.clear();
-
-        Set<ServiceNodeData> tempNodesWindow = previousIsolatedServiceNodes;
-        previousIsolatedServiceNodes = currentIsolatedServiceNodes;
-        currentIsolatedServiceNodes = tempNodesWindow;
-        currentIsolatedServiceNodes.clear();
-
-        previousTimestamp = clock.millis();
-        LOG.debug("Done rotating service map windows");
+    private static ServiceMapWindow getWindow(final long epoch) {
+        final ServiceMapWindow window = windows.get(Math.floorMod(epoch, WINDOW_RING_SIZE));
+        return window != null && window.epoch == epoch ? window : new ServiceMapWindow(epoch, processWorkers);
     }
 
+    /**
+     * Gets the window of the given epoch, replacing the window of an older epoch in the ring if needed. The replaced
+     * window is not cleared, so that a worker which is still reading it is not affected. If the window was already
+     * replaced by the window of a newer epoch, the newer window is returned.
+     */
+    private static ServiceMapWindow getOrCreateWindow(final long epoch) {
+        final int windowIndex = Math.floorMod(epoch, WINDOW_RING_SIZE);
+        while (true) {
+            final ServiceMapWindow window = windows.get(windowIndex);
+            if (window != null && window.epoch >= epoch) {
+                return window;
+            }
+            final ServiceMapWindow newWindow = new ServiceMapWindow(epoch, processWorkers);
+            if (windows.compareAndSet(windowIndex, window, newWindow)) {
+                LOG.debug("Rotated service map window to epoch {} at {}", epoch, clock.instant());
+                return newWindow;
+            }
+        }
+    }
 
     /**
      * @return Spans database size in bytes
      */
     public double getSpansDbSize() {
-        return currentWindow.sizeInBytes() + previousWindow.sizeInBytes();
+        final long epoch = currentEpoch();
+        return getWindow(epoch).spans.sizeInBytes() + getWindow(epoch - 1).spans.sizeInBytes();
     }
 
     public double getSpansDbCount() {
-        return currentWindow.size() + previousWindow.size();
+        final long epoch = currentEpoch();
+        return getWindow(epoch).spans.size() + getWindow(epoch - 1).spans.size();
     }
 
     /**
      * @return Trace group database size in bytes
      */
     public double getTraceGroupDbSize() {
-        return currentTraceGroupWindow.sizeInBytes() + previousTraceGroupWindow.sizeInBytes();
+        final long epoch = currentEpoch();
+        return getWindow(epoch).traceGroups.sizeInBytes() + getWindow(epoch - 1).traceGroups.sizeInBytes();
     }
     public double getTraceGroupDbCount() {
-        return currentTraceGroupWindow.size() + previousTraceGroupWindow.size();
+        final long epoch = currentEpoch();
+        return getWindow(epoch).traceGroups.size() + getWindow(epoch - 1).traceGroups.size();
     }
     public double getRelationshipCount() {
         return RELATIONSHIP_STATE.size();
     }
 
     /**
-     * @return Next database name
+     * @return The epoch of the window which is current according to the clock, or a later epoch after
+     * {@link #prepareForShutdown()}
      */
-    private String getNewDbName() {
-        return "db-" + clock.millis();
+    private static long currentEpoch() {
+        return Math.max(clockEpoch(), minimumEpoch.get());
     }
 
-    /**
-     * @return Next database name
-     */
-    private String getNewTraceDbName() {
-        return "trace-db-" + clock.millis();
+    private static long clockEpoch() {
+        return (clock.millis() - windowStartMillis) / windowDurationMillis;
     }
 
     /**
-     * @return Boolean indicating whether the window duration has lapsed
-     */
-    private boolean windowDurationHasPassed() {
-        if ((clock.millis() - previousTimestamp) >= windowDurationMillis) {
-            return true;
-        }
-        return false;
-    }
-
-    /**
-     * Master instance is needed to do things like window rotation that should only be done once
+     * Master instance is needed to do things like initializing the shared state that should only be done once
      *
      * @return Boolean indicating whether this object is the master ServiceMapStatefulProcessor instance
      */
@@ -415,25 +390,26 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         return Collections.singleton("traceId");
     }
 
-    private static class ServiceMapStateData implements Serializable {
-        public String serviceName;
-        public byte[] parentSpanId;
-        public byte[] traceId;
-        public String spanKind;
-        public String name;
-
-        public ServiceMapStateData() {
+    /**
+     * The spans, trace groups and isolated service nodes received in one epoch.
+     */
+    private static class ServiceMapWindow {
+        private final long epoch;
+        private final ServiceMapWindowState<ServiceMapStateData> spans;
+        private final ServiceMapWindowState<String> traceGroups;
+        private final Set<ServiceNodeData> isolatedServiceNodes = Sets.newConcurrentHashSet();
+        private final AtomicInteger evaluatedWorkers = new AtomicInteger();
+
+        private ServiceMapWindow(final long epoch, final int processWorkers) {
+            this.epoch = epoch;
+            this.spans = new ServiceMapWindowState<>(processWorkers, ServiceMapStateData.CODEC);
+            this.traceGroups = new ServiceMapWindowState<>(processWorkers, WindowStateCodec.STRING);
         }
 
-        public ServiceMapStateData(final String serviceName, final byte[] parentSpanId,
-                                   final byte[] traceId,
-                                   final String spanKind,
-                                   final String name) {
-            this.serviceName = serviceName;
-            this.parentSpanId = parentSpanId;
-            this.traceId = traceId;
-            this.spanKind = spanKind;
-            this.name = name;
+        private void delete() {
+            spans.delete();
+            traceGroups.delete();
+            isolatedServiceNodes.clear();
         }
     }
 
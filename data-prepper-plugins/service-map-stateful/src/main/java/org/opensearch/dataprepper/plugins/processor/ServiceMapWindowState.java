@@ -0,0 +1,202 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import com.google.common.primitives.SignedBytes;
+import org.opensearch.dataprepper.processor.state.ProcessorState;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+/**
+ * Holds the state of one service map window in memory.
+ * <p>
+ * Entries are partitioned by the hash of their key, with one partition per worker, so that
+ * {@link #iterate(BiFunction, int, int)} visits exactly the entries of one segment and every entry is in exactly one
+ * segment. Values are held as compact byte arrays encoded by a {@link WindowStateCodec}, and
+ * {@link #sizeInBytes()} reports the bytes held by the keys and the encoded values.
+ *
+ * @param <V> Type of the values
+ */
+class ServiceMapWindowState<V> implements ProcessorState<byte[], V> {
+
+    private final ConcurrentHashMap<WindowKey, byte[]>[] partitions;
+    private final WindowStateCodec<V> codec;
+    private final AtomicLong sizeInBytes = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    ServiceMapWindowState(final int partitionCount, final WindowStateCodec<V> codec) {
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("The partition count must be at least 1.");
+        }
+        this.partitions = new ConcurrentHashMap[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new ConcurrentHashMap<>();
+        }
+        this.codec = codec;
+    }
+
+    @Override
+    public void put(final byte[] key, final V value) {
+        final WindowKey windowKey = new WindowKey(key);
+        final byte[] encodedValue = codec.encode(value);
+        final byte[] previousValue = partitions[windowKey.segment(partitions.length)].put(windowKey, encodedValue);
+        sizeInBytes.addAndGet(previousValue == null ? key.length + encodedValue.length : encodedValue.length - previousValue.length);
+    }
+
+    @Override
+    public V get(final byte[] key) {
+        final WindowKey windowKey = new WindowKey(key);
+        final byte[] encodedValue = partitions[windowKey.segment(partitions.length)].get(windowKey);
+        return encodedValue == null ? null : codec.decode(encodedValue);
+    }
+
+    /**
+     * @return A copy of all the data in the window, sorted by key
+     */
+    @Override
+    public Map<byte[], V> getAll() {
+        final Map<byte[], V> all = new TreeMap<>(SignedBytes.lexicographicalComparator());
+        getIterator(1, 0).forEachRemaining(entry -> all.put(entry.getKey(), entry.getValue()));
+        return all;
+    }
+
+    @Override
+    public <R> List<R> iterate(final BiFunction<byte[], V, R> fn) {
+        return iterate(fn, 1, 0);
+    }
+
+    @Override
+    public <R> List<R> iterate(final BiFunction<byte[], V, R> fn, final int segments, final int index) {
+        final List<R> returnList = new ArrayList<>();
+        getIterator(segments, index).forEachRemaining(entry -> returnList.add(fn.apply(entry.getKey(), entry.getValue())));
+        return returnList;
+    }
+
+    /**
+     * Gets an iterator over the entries of one segment. When the number of segments is the number of partitions, the
+     * segment is a single partition. Otherwise, the partitions are filtered by the hash of the keys.
+     *
+     * @param segments Number of segments
+     * @param index    Index of the segment to iterate over
+     * @return Iterator over the decoded entries of the segment
+     */
+    Iterator<Map.Entry<byte[], V>> getIterator(final int segments, final int index) {
+        if (segments == partitions.length) {
+            return new SegmentIterator(Collections.singletonList(partitions[index]).iterator(), segments, index);
+        }
+        return new SegmentIterator(Arrays.asList(partitions).iterator(), segments, index);
+    }
+
+    @Override
+    public long size() {
+        long size = 0;
+        for (final Map<WindowKey, byte[]> partition : partitions) {
+            size += partition.size();
+        }
+        return size;
+    }
+
+    /**
+     * @return Bytes held by the keys and the encoded values, without the overhead of the maps
+     */
+    @Override
+    public long sizeInBytes() {
+        return sizeInBytes.get();
+    }
+
+    /**
+     * Clears the window. This is not atomic with concurrent puts, which the service map processor does not make while
+     * rotating windows.
+     */
+    @Override
+    public void clear() {
+        for (final Map<WindowKey, byte[]> partition : partitions) {
+            partition.clear();
+        }
+        sizeInBytes.set(0);
+    }
+
+    @Override
+    public void delete() {
+        clear();
+    }
+
+    private class SegmentIterator implements Iterator<Map.Entry<byte[], V>> {
+        private final Iterator<ConcurrentHashMap<WindowKey, byte[]>> partitionIterator;
+        private final int segments;
+        private final int index;
+        private Iterator<Map.Entry<WindowKey, byte[]>> entryIterator = Collections.emptyIterator();
+        private Map.Entry<WindowKey, byte[]> next;
+
+        private SegmentIterator(final Iterator<ConcurrentHashMap<WindowKey, byte[]>> partitionIterator, final int segments, final int index) {
+            this.partitionIterator = partitionIterator;
+            this.segments = segments;
+            this.index = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                if (entryIterator.hasNext()) {
+                    final Map.Entry<WindowKey, byte[]> entry = entryIterator.next();
+                    if (segments == partitions.length || entry.getKey().segment(segments) == index) {
+                        next = entry;
+                    }
+                } else if (partitionIterator.hasNext()) {
+                    entryIterator = partitionIterator.next().entrySet().iterator();
+                } else {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Map.Entry<byte[], V> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Map.Entry<WindowKey, byte[]> entry = next;
+            next = null;
+            return new AbstractMap.SimpleImmutableEntry<>(entry.getKey().bytes, codec.decode(entry.getValue()));
+        }
+    }
+
+    private static class WindowKey {
+        private final byte[] bytes;
+        private final int hash;
+
+        private WindowKey(final byte[] bytes) {
+            this.bytes = bytes;
+            this.hash = Arrays.hashCode(bytes);
+        }
+
+        private int segment(final int segments) {
+            return Math.floorMod(hash, segments);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof WindowKey && Arrays.equals(bytes, ((WindowKey) o).bytes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes the values of a {@link ServiceMapWindowState} into compact byte arrays.
+ *
+ * @param <V> Type of the values
+ */
+interface WindowStateCodec<V> {
+
+    WindowStateCodec<String> STRING = new WindowStateCodec<String>() {
+        @Override
+        public byte[] encode(final String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(final byte[] encodedValue) {
+            return new String(encodedValue, StandardCharsets.UTF_8);
+        }
+    };
+
+    byte[] encode(V value);
+
+    V decode(byte[] encodedValue);
+
+    /**
+     * @return Number of bytes used by {@link #putBytes(ByteBuffer, byte[])} for the given bytes
+     */
+    static int sizeOfBytes(final byte[] bytes) {
+        return Integer.BYTES + (bytes == null ? 0 : bytes.length);
+    }
+
+    /**
+     * Puts the length of the bytes followed by the bytes. A null value is put as the length -1.
+     */
+    static void putBytes(final ByteBuffer buffer, final byte[] bytes) {
+        if (bytes == null) {
+            buffer.putInt(-1);
+        } else {
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+        }
+    }
+
+    static byte[] getBytes(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    static byte[] toBytes(final String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String getString(final ByteBuffer buffer) {
+        final byte[] bytes = getBytes(buffer);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -18,7 +18,6 @@ import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.trace.Span;
 
-import java.io.File;
 import java.lang.reflect.Field;
 import java.time.Clock;
 import java.time.Instant;
@@ -33,6 +32,7 @@ import java.util.StringJoiner;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
@@ -67,15 +67,12 @@ public class ServiceMapStatefulProcessorTest {
     public void resetServiceMapStatefulProcessorStatic() throws NoSuchFieldException, IllegalAccessException {
         reflectivelySetField(ServiceMapStatefulProcessor.class, "RELATIONSHIP_STATE", Sets.newConcurrentHashSet());
         reflectivelySetField(ServiceMapStatefulProcessor.class, "processorsCreated", new AtomicInteger(0));
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "previousTimestamp", 0);
+        reflectivelySetField(ServiceMapStatefulProcessor.class, "windowStartMillis", 0);
         reflectivelySetField(ServiceMapStatefulProcessor.class, "windowDurationMillis", 0);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "dbPath", null);
+        reflectivelySetField(ServiceMapStatefulProcessor.class, "processWorkers", 0);
         reflectivelySetField(ServiceMapStatefulProcessor.class, "clock", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "currentWindow", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "previousWindow", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "currentTraceGroupWindow", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "previousTraceGroupWindow", null);
-        reflectivelySetField(ServiceMapStatefulProcessor.class, "allThreadsCyclicBarrier", null);
+        reflectivelySetField(ServiceMapStatefulProcessor.class, "minimumEpoch", null);
+        reflectivelySetField(ServiceMapStatefulProcessor.class, "windows", null);
     }
 
     private void reflectivelySetField(final Class<?> clazz, final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
@@ -131,9 +128,8 @@ public class ServiceMapStatefulProcessorTest {
         Mockito.when(clock.millis()).thenReturn(1L);
         Mockito.when(clock.instant()).thenReturn(Instant.now());
         ExecutorService threadpool = Executors.newCachedThreadPool();
-        final File path = new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
-        final ServiceMapStatefulProcessor serviceMapStateful1 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginSetting);
-        final ServiceMapStatefulProcessor serviceMapStateful2 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginSetting);
+        final ServiceMapStatefulProcessor serviceMapStateful1 = new ServiceMapStatefulProcessor(100, clock, 2, pluginSetting);
+        final ServiceMapStatefulProcessor serviceMapStateful2 = new ServiceMapStatefulProcessor(100, clock, 2, pluginSetting);
 
         final byte[] rootSpanId1Bytes = ServiceMapTestUtils.getRandomBytes(8);
         final byte[] rootSpanId2Bytes = ServiceMapTestUtils.getRandomBytes(8);
@@ -326,9 +322,8 @@ public class ServiceMapStatefulProcessorTest {
         Mockito.when(clock.millis()).thenReturn(1L);
         Mockito.when(clock.instant()).thenReturn(Instant.now());
         ExecutorService threadpool = Executors.newCachedThreadPool();
-        final File path = new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
-        final ServiceMapStatefulProcessor serviceMapStateful1 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginSetting);
-        final ServiceMapStatefulProcessor serviceMapStateful2 = new ServiceMapStatefulProcessor(100, path, clock, 2, pluginSetting);
+        final ServiceMapStatefulProcessor serviceMapStateful1 = new ServiceMapStatefulProcessor(100, clock, 2, pluginSetting);
+        final ServiceMapStatefulProcessor serviceMapStateful2 = new ServiceMapStatefulProcessor(100, clock, 2, pluginSetting);
 
         final byte[] rootSpanIdBytes = ServiceMapTestUtils.getRandomBytes(8);
         final byte[] traceIdBytes = ServiceMapTestUtils.getRandomBytes(16);
@@ -381,9 +376,59 @@ public class ServiceMapStatefulProcessorTest {
     }
 
     @Test
-    public void testPrepareForShutdownWithEventRecordData() {
-        final File path = new File(ServiceMapProcessorConfig.DEFAULT_DB_PATH);
-        final ServiceMapStatefulProcessor serviceMapStateful = new ServiceMapStatefulProcessor(100, path, Clock.systemUTC(), 1, pluginSetting);
+    public void testWorkersRotateWindowsWithoutWaitingForEachOther() throws Exception {
+        final Clock clock = Mockito.mock(Clock.class);
+        Mockito.when(clock.millis()).thenReturn(1L);
+        Mockito.when(clock.instant()).thenReturn(Instant.now());
+        ExecutorService threadpool = Executors.newCachedThreadPool();
+        final ServiceMapStatefulProcessor serviceMapStateful1 = new ServiceMapStatefulProcessor(100, clock, 2, pluginSetting);
+        final ServiceMapStatefulProcessor serviceMapStateful2 = new ServiceMapStatefulProcessor(100, clock, 2, pluginSetting);
+
+        final String traceId = Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(16));
+        final String traceGroup = "checkout";
+        final Span frontendSpans = ServiceMapTestUtils.getSpan(FRONTEND_SERVICE, traceGroup,
+                Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)), "", traceId, SPAN_KIND_CLIENT);
+        final Span checkoutSpans = ServiceMapTestUtils.getSpan(CHECKOUT_SERVICE, "checkout",
+                Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)), frontendSpans.getSpanId(), traceId,
+                io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER);
+        final Span isolatedSpans = ServiceMapTestUtils.getSpan(PAYMENT_SERVICE, "charge",
+                Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)), "", Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(16)),
+                SPAN_KIND_CLIENT);
+
+        final Set<ServiceMapRelationship> relationshipsFound = new HashSet<>();
+        relationshipsFound.addAll(ServiceMapTestUtils.startExecuteAsync(threadpool, serviceMapStateful1,
+                Arrays.asList(new Record<>(frontendSpans), new Record<>(checkoutSpans), new Record<>(isolatedSpans))).get());
+
+        // The first worker moves through the next windows while the second worker does not process any batch
+        Mockito.when(clock.millis()).thenReturn(110L);
+        relationshipsFound.addAll(ServiceMapTestUtils.startExecuteAsync(threadpool, serviceMapStateful1, Collections.emptyList())
+                .get(5, TimeUnit.SECONDS));
+        Mockito.when(clock.millis()).thenReturn(220L);
+        relationshipsFound.addAll(ServiceMapTestUtils.startExecuteAsync(threadpool, serviceMapStateful1, Collections.emptyList())
+                .get(5, TimeUnit.SECONDS));
+        assertFalse(relationshipsFound.contains(ServiceMapRelationship.newIsolatedService(PAYMENT_SERVICE, "charge")));
+
+        // The second worker catches up, and is the last worker to evaluate the window with the isolated service
+        relationshipsFound.addAll(ServiceMapTestUtils.startExecuteAsync(threadpool, serviceMapStateful2, Collections.emptyList())
+                .get(5, TimeUnit.SECONDS));
+
+        assertThat(relationshipsFound, equalTo(new HashSet<>(Arrays.asList(
+                ServiceMapRelationship.newDestinationRelationship(
+                        FRONTEND_SERVICE, SPAN_KIND_CLIENT.name(), CHECKOUT_SERVICE, "checkout", traceGroup),
+                ServiceMapRelationship.newTargetRelationship(
+                        CHECKOUT_SERVICE, io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER.name(), CHECKOUT_SERVICE, "checkout", traceGroup),
+                ServiceMapRelationship.newIsolatedService(PAYMENT_SERVICE, "charge")
+        ))));
+        serviceMapStateful1.shutdown();
+        serviceMapStateful2.shutdown();
+    }
+
+    @Test
+    public void testPrepareForShutdownWithEventRecordData() throws Exception {
+        final Clock clock = Mockito.mock(Clock.class);
+        Mockito.when(clock.millis()).thenReturn(1L);
+        Mockito.when(clock.instant()).thenReturn(Instant.now());
+        final ServiceMapStatefulProcessor serviceMapStateful = new ServiceMapStatefulProcessor(100, clock, 1, pluginSetting);
 
         final byte[] rootSpanId1Bytes = ServiceMapTestUtils.getRandomBytes(8);
         final byte[] traceId1Bytes = ServiceMapTestUtils.getRandomBytes(16);
@@ -397,13 +442,27 @@ public class ServiceMapStatefulProcessorTest {
                 AUTHENTICATION_SERVICE, "reset", Hex.encodeHexString(ServiceMapTestUtils.getRandomBytes(8)),
                 frontendSpans1.getSpanId(), traceId1, io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER);
 
-        serviceMapStateful.execute(Arrays.asList(new Record<>(frontendSpans1), new Record<>(authenticationSpansServer)));
+        final ExecutorService threadpool = Executors.newCachedThreadPool();
+        final Set<ServiceMapRelationship> relationshipsFound = new HashSet<>();
+        relationshipsFound.addAll(ServiceMapTestUtils.startExecuteAsync(threadpool, serviceMapStateful,
+                Arrays.asList(new Record<>(frontendSpans1), new Record<>(authenticationSpansServer))).get());
 
         assertFalse(serviceMapStateful.isReadyForShutdown());
 
         serviceMapStateful.prepareForShutdown();
-        serviceMapStateful.execute(Collections.emptyList());
 
+        // The edges of the last window are only evaluated by the next execute
+        assertFalse(serviceMapStateful.isReadyForShutdown());
+
+        relationshipsFound.addAll(ServiceMapTestUtils.startExecuteAsync(threadpool, serviceMapStateful,
+                Collections.emptyList()).get(5, TimeUnit.SECONDS));
+
+        assertThat(relationshipsFound, equalTo(new HashSet<>(Arrays.asList(
+                ServiceMapRelationship.newDestinationRelationship(
+                        FRONTEND_SERVICE, SPAN_KIND_CLIENT.name(), AUTHENTICATION_SERVICE, "reset", traceGroup1),
+                ServiceMapRelationship.newTargetRelationship(
+                        AUTHENTICATION_SERVICE, io.opentelemetry.proto.trace.v1.Span.SpanKind.SPAN_KIND_SERVER.name(), AUTHENTICATION_SERVICE, "reset", traceGroup1)
+        ))));
         assertTrue(serviceMapStateful.isReadyForShutdown());
 
         serviceMapStateful.shutdown();
@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ServiceMapWindowStateTest {
+
+    private static final int PARTITION_COUNT = 4;
+
+    private ServiceMapWindowState<String> createObjectUnderTest() {
+        return new ServiceMapWindowState<>(PARTITION_COUNT, WindowStateCodec.STRING);
+    }
+
+    @Test
+    void constructor_with_less_than_one_partition_throws_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ServiceMapWindowState<>(0, WindowStateCodec.STRING));
+    }
+
+    @Test
+    void put_and_get_use_the_contents_of_the_key() {
+        final ServiceMapWindowState<String> objectUnderTest = createObjectUnderTest();
+        final byte[] key = ServiceMapTestUtils.getRandomBytes(8);
+        final String value = UUID.randomUUID().toString();
+
+        objectUnderTest.put(key, value);
+
+        assertThat(objectUnderTest.get(key.clone()), equalTo(value));
+        assertThat(objectUnderTest.get(ServiceMapTestUtils.getRandomBytes(9)), nullValue());
+        assertThat(objectUnderTest.size(), equalTo(1L));
+    }
+
+    @Test
+    void sizeInBytes_accounts_for_keys_and_encoded_values() {
+        final ServiceMapWindowState<String> objectUnderTest = createObjectUnderTest();
+        final byte[] key = ServiceMapTestUtils.getRandomBytes(8);
+
+        objectUnderTest.put(key, "value");
+        assertThat(objectUnderTest.sizeInBytes(), equalTo(13L));
+
+        objectUnderTest.put(key, "longer value");
+        assertThat(objectUnderTest.sizeInBytes(), equalTo(20L));
+        assertThat(objectUnderTest.size(), equalTo(1L));
+
+        objectUnderTest.clear();
+        assertThat(objectUnderTest.sizeInBytes(), equalTo(0L));
+        assertThat(objectUnderTest.size(), equalTo(0L));
+        assertThat(objectUnderTest.get(key), nullValue());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, PARTITION_COUNT, 7})
+    void iterate_segments_visit_every_entry_exactly_once(final int segments) {
+        final ServiceMapWindowState<String> objectUnderTest = createObjectUnderTest();
+        final Set<String> values = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            final String value = UUID.randomUUID().toString();
+            objectUnderTest.put(value.getBytes(StandardCharsets.UTF_8), value);
+            values.add(value);
+        }
+
+        final List<String> iteratedValues = new ArrayList<>();
+        for (int index = 0; index < segments; index++) {
+            final List<String> segmentValues = objectUnderTest.iterate((key, value) -> {
+                assertThat(new String(key, StandardCharsets.UTF_8), equalTo(value));
+                return value;
+            }, segments, index);
+            iteratedValues.addAll(segmentValues);
+        }
+
+        assertThat(iteratedValues.size(), equalTo(values.size()));
+        assertThat(new HashSet<>(iteratedValues), equalTo(values));
+        assertThat(objectUnderTest.iterate((key, value) -> value), containsInAnyOrder(values.toArray()));
+    }
+
+    @Test
+    void getAll_returns_a_copy_which_can_be_looked_up_by_key_contents() {
+        final ServiceMapWindowState<String> objectUnderTest = createObjectUnderTest();
+        final byte[] key = ServiceMapTestUtils.getRandomBytes(8);
+        objectUnderTest.put(key, "value");
+
+        final Map<byte[], String> all = objectUnderTest.getAll();
+        objectUnderTest.delete();
+
+        assertThat(all.size(), equalTo(1));
+        assertThat(all.get(key.clone()), equalTo("value"));
+        assertThat(objectUnderTest.size(), equalTo(0L));
+    }
+
+    @Test
+    void getIterator_throws_NoSuchElementException_after_the_last_entry() {
+        final ServiceMapWindowState<String> objectUnderTest = createObjectUnderTest();
+        final Iterator<Map.Entry<byte[], String>> iterator = objectUnderTest.getIterator(PARTITION_COUNT, 0);
+
+        assertThat(iterator.hasNext(), equalTo(false));
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    void ServiceMapStateData_codec_round_trips_values_with_null_fields() {
+        final byte[] traceId = ServiceMapTestUtils.getRandomBytes(16);
+        final ServiceMapStateData stateData = new ServiceMapStateData("service", null, traceId, null, "name");
+
+        final ServiceMapStateData decoded = ServiceMapStateData.CODEC.decode(ServiceMapStateData.CODEC.encode(stateData));
+
+        assertThat(decoded.serviceName, equalTo("service"));
+        assertThat(decoded.parentSpanId, nullValue());
+        assertThat(decoded.traceId, equalTo(traceId));
+        assertThat(decoded.spanKind, nullValue());
+        assertThat(decoded.name, equalTo("name"));
+    }
+}